@@ -34,8 +34,11 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.function.Predicate;
 
 import net.imagej.ops.OpCandidate.StatusCode;
@@ -43,13 +46,16 @@ import net.imagej.ops.OpCandidate.StatusCode;
 import org.scijava.Context;
 import org.scijava.InstantiableException;
 import org.scijava.convert.ConvertService;
+import org.scijava.event.EventHandler;
 import org.scijava.log.LogService;
 import org.scijava.module.Module;
 import org.scijava.module.ModuleInfo;
 import org.scijava.module.ModuleItem;
 import org.scijava.module.ModuleService;
+import org.scijava.module.event.ModulesListEvent;
 import org.scijava.plugin.Parameter;
 import org.scijava.plugin.Plugin;
+import org.scijava.plugin.event.PluginsListEvent;
 import org.scijava.service.AbstractService;
 import org.scijava.service.Service;
 import org.scijava.util.ConversionUtils;
@@ -77,6 +83,15 @@ public class DefaultOpMatchingService extends AbstractService implements
 	@Parameter
 	private LogService log;
 
+	/** Op lookup tables, one per op environment. */
+	private final Map<OpEnvironment, OpInfoIndex> indices = new WeakHashMap<>();
+
+	/**
+	 * Generation of the available ops, incremented whenever plugins or modules
+	 * are added or removed. Lookup tables of older generations are rebuilt.
+	 */
+	private long generation;
+
 	// -- OpMatchingService methods --
 
 	@Override
@@ -88,14 +103,24 @@ public class DefaultOpMatchingService extends AbstractService implements
 	public OpCandidate findMatch(final OpEnvironment ops,
 		final List<OpRef> refs)
 	{
+		final OpInfoIndex index = index(ops);
+
+		// reuse the op resolved previously for the same signature, if it still fits
+		final OpCandidate resolved = resolvedMatch(ops, index, refs);
+		if (resolved != null) return resolved;
+
 		// find candidates with matching name & type
-		final List<OpCandidate> candidates = findCandidates(ops, refs);
+		final List<OpCandidate> candidates = findCandidates(ops, index, refs);
 		assertCandidates(candidates, refs.get(0));
 
 		// narrow down candidates to the exact matches
 		final List<OpCandidate> matches = filterMatches(candidates);
 
-		return singleMatch(candidates, matches);
+		final OpCandidate match = singleMatch(candidates, matches);
+		if (isResolvable(candidates)) {
+			index.putMatch(refs, match.opInfo(), refIndex(refs, match.getRef()));
+		}
+		return match;
 	}
 
 	@Override
@@ -109,15 +134,7 @@ public class DefaultOpMatchingService extends AbstractService implements
 	public List<OpCandidate> findCandidates(final OpEnvironment ops,
 		final List<OpRef> refs)
 	{
-		final ArrayList<OpCandidate> candidates = new ArrayList<>();
-		for (final OpInfo info : ops.infos()) {
-			for (final OpRef ref : refs) {
-				if (isCandidate(info, ref)) {
-					candidates.add(new OpCandidate(ops, ref, info));
-				}
-			}
-		}
-		return candidates;
+		return findCandidates(ops, index(ops), refs);
 	}
 
 	@Override
@@ -206,25 +223,124 @@ public class DefaultOpMatchingService extends AbstractService implements
 		return paddedArgs;
 	}
 
+	// -- Event handlers --
+
+	@EventHandler
+	protected synchronized void onEvent(final PluginsListEvent evt) {
+		generation++;
+	}
+
+	@EventHandler
+	protected synchronized void onEvent(final ModulesListEvent evt) {
+		generation++;
+	}
+
 	// -- Helper methods --
 
-	/** Helper method of {@link #findCandidates}. */
-	private boolean isCandidate(final OpInfo info, final OpRef ref) {
-		if (!info.nameMatches(ref.getName())) return false;
+	/**
+	 * Gets the lookup table for the given op environment, rebuilding it if the
+	 * environment's available ops have changed since it was last used.
+	 */
+	private synchronized OpInfoIndex index(final OpEnvironment ops) {
+		final long current = generation;
+		OpInfoIndex index = indices.get(ops);
+		if (index == null || !index.isCurrent(current)) {
+			index = new OpInfoIndex(ops.infos(), current);
+			indices.put(ops, index);
+		}
+		return index;
+	}
 
-		// the name matches; now check the class
-		final Class<?> opClass;
-		try {
-			opClass = info.cInfo().loadClass();
+	/** Helper method of {@link #findCandidates} and {@link #findMatch}. */
+	private List<OpCandidate> findCandidates(final OpEnvironment ops,
+		final OpInfoIndex index, final List<OpRef> refs)
+	{
+		final ArrayList<OpCandidate> candidates = new ArrayList<>();
+		for (final OpRef ref : refs) {
+			if (ref.getName() == null) {
+				// no name given; look up the ops by type
+				for (final OpInfo info : index.typed(ref, this::logInvalid)) {
+					candidates.add(new OpCandidate(ops, ref, info));
+				}
+				continue;
+			}
+			for (final OpInfo info : index.named(ref)) {
+				if (isCandidate(index, info, ref)) {
+					candidates.add(new OpCandidate(ops, ref, info));
+				}
+			}
 		}
-		catch (final InstantiableException exc) {
-			final String msg = "Invalid op: " + info.cInfo().getClassName();
-			if (log.isDebug()) log.debug(msg, exc);
-			else log.error(msg);
-			return false;
+		if (refs.size() > 1) {
+			// NB: Keep the candidates in the order of the environment's ops. The sort
+			// is stable, so candidates of the same op remain in order of the refs.
+			candidates.sort(Comparator.comparingInt(c -> index.position(c
+				.opInfo())));
 		}
+		return candidates;
+	}
+
+	/** Helper method of {@link #findCandidates}. */
+	private boolean isCandidate(final OpInfoIndex index, final OpInfo info,
+		final OpRef ref)
+	{
+		// the name matches; now check the class
+		final Class<?> opClass = index.opClass(info, this::logInvalid);
+		return opClass != null && ref.typesMatch(opClass);
+	}
+
+	/** Helper method of {@link #isCandidate}. */
+	private void logInvalid(final OpInfo info, final InstantiableException exc) {
+		final String msg = "Invalid op: " + info.cInfo().getClassName();
+		if (log.isDebug()) log.debug(msg, exc);
+		else log.error(msg);
+	}
+
+	/**
+	 * Re-validates the op which was previously resolved for the same signature
+	 * as the given references, if any.
+	 * <p>
+	 * Helper method of {@link #findMatch}.
+	 * </p>
+	 * 
+	 * @return The matching candidate, with its module initialized, or null if
+	 *         no op was resolved before or it does not match the new arguments.
+	 */
+	private OpCandidate resolvedMatch(final OpEnvironment ops,
+		final OpInfoIndex index, final List<OpRef> refs)
+	{
+		final OpInfoIndex.Match resolved = index.match(refs);
+		if (resolved == null) return null;
+		final OpRef ref = refs.get(resolved.refIndex());
+		final List<OpCandidate> candidates = Collections.singletonList(
+			new OpCandidate(ops, ref, resolved.info()));
+		final List<OpCandidate> matches = filterMatches(candidates);
+		return matches.size() == 1 ? singleMatch(candidates, matches) : null;
+	}
 
-		return ref.typesMatch(opClass);
+	/**
+	 * Determines whether the outcome of a match depended only on the classes of
+	 * the arguments, in which case it can be reused for later requests with the
+	 * same signature. This is not the case if some {@link Contingent} op
+	 * rejected the argument values.
+	 * <p>
+	 * Helper method of {@link #findMatch}.
+	 * </p>
+	 */
+	private boolean isResolvable(final List<OpCandidate> candidates) {
+		for (final OpCandidate candidate : candidates) {
+			if (candidate.getStatusCode() == StatusCode.DOES_NOT_CONFORM) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/** Helper method of {@link #findMatch}. */
+	private int refIndex(final List<OpRef> refs, final OpRef ref) {
+		for (int i = 0; i < refs.size(); i++) {
+			if (refs.get(i) == ref) return i;
+		}
+		throw new IllegalArgumentException("Unknown op reference: " + ref);
 	}
 
 	/** Helper method of {@link #findMatch}. */
@@ -0,0 +1,317 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.scijava.InstantiableException;
+import org.scijava.util.GenericUtils;
+
+/**
+ * Lookup structure over the {@link OpInfo}s of an {@link OpEnvironment}, used
+ * by {@link DefaultOpMatchingService} to avoid scanning every available op for
+ * every {@link OpRef}.
+ * <p>
+ * Ops are indexed by name (fully qualified, simple and aliases) and lazily by
+ * the op types requested in {@link OpRef#getTypes()}. In addition, the index
+ * remembers which op won a previous match for a given combination of op name,
+ * op types, output types and argument classes, so that subsequent requests
+ * with the same signature can skip straight to the winning op.
+ * </p>
+ * <p>
+ * An index is a snapshot of a particular collection of op infos, taken at a
+ * given generation of the available ops; see {@link #isCurrent(long)}.
+ * </p>
+ */
+class OpInfoIndex {
+
+	/** Maximum number of resolved matches to remember. */
+	static final int MAX_MATCHES = 1024;
+
+	/** The indexed op infos, in the order of the environment. */
+	private final OpInfo[] infos;
+
+	/** Generation of the available ops at which the index was built. */
+	private final long generation;
+
+	/** Position of each {@link OpInfo} within {@link #infos}. */
+	private final Map<OpInfo, Integer> positions = new IdentityHashMap<>();
+
+	/** Table from (qualified or simple) op name or alias to op infos. */
+	private final Map<String, List<OpInfo>> byName = new HashMap<>();
+
+	/** Table from requested op types to compatible op infos. */
+	private final Map<List<Class<?>>, List<OpInfo>> byType = new HashMap<>();
+
+	/** Loaded op class of each {@link OpInfo}; {@code Void} if invalid. */
+	private final Map<OpInfo, Class<?>> opClasses = new IdentityHashMap<>();
+
+	/** Bounded table of previously resolved matches, in LRU order. */
+	private final Map<MatchKey, Match> matches = new LinkedHashMap<MatchKey, Match>(
+		16, 0.75f, true)
+	{
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<MatchKey, Match> eldest) {
+			return size() > MAX_MATCHES;
+		}
+	};
+
+	public OpInfoIndex(final Collection<OpInfo> infos, final long generation) {
+		this.generation = generation;
+		this.infos = infos.toArray(new OpInfo[infos.size()]);
+		for (int i = 0; i < this.infos.length; i++) {
+			final OpInfo info = this.infos[i];
+			positions.put(info, i);
+			final String name = info.getName();
+			if (name != null) addName(name, info);
+			final String[] aliases = info.getAliases();
+			if (aliases != null) {
+				for (final String alias : aliases) addName(alias, info);
+			}
+		}
+	}
+
+	// -- OpInfoIndex methods --
+
+	/**
+	 * Checks whether this index was built at the given generation of the
+	 * available ops, i.e., whether no ops have been added or removed since.
+	 */
+	public boolean isCurrent(final long current) {
+		return generation == current;
+	}
+
+	/**
+	 * Gets the op infos whose name matches the given {@link OpRef}, in
+	 * environment order. Op types are <em>not</em> checked.
+	 */
+	public List<OpInfo> named(final OpRef ref) {
+		if (ref.getName() == null) return Arrays.asList(infos);
+		final List<OpInfo> named = byName.get(ref.getName());
+		return named == null ? Collections.<OpInfo> emptyList() : named;
+	}
+
+	/**
+	 * Gets the op infos of the given {@link OpRef}'s types, in environment order.
+	 * Op names are <em>not</em> checked.
+	 */
+	public synchronized List<OpInfo> typed(final OpRef ref,
+		final InvalidOpHandler handler)
+	{
+		final List<Class<?>> key = rawTypes(ref.getTypes());
+		List<OpInfo> typed = byType.get(key);
+		if (typed == null) {
+			typed = new ArrayList<>();
+			for (final OpInfo info : infos) {
+				final Class<?> opClass = opClass(info, handler);
+				if (opClass != null && ref.typesMatch(opClass)) typed.add(info);
+			}
+			byType.put(key, typed);
+		}
+		return typed;
+	}
+
+	/**
+	 * Gets the loaded class of the given op, or null if it cannot be loaded. The
+	 * class is loaded only once per index.
+	 */
+	public synchronized Class<?> opClass(final OpInfo info,
+		final InvalidOpHandler handler)
+	{
+		Class<?> opClass = opClasses.get(info);
+		if (opClass == null) {
+			try {
+				opClass = info.cInfo().loadClass();
+			}
+			catch (final InstantiableException exc) {
+				handler.invalid(info, exc);
+				opClass = Void.class;
+			}
+			opClasses.put(info, opClass);
+		}
+		return opClass == Void.class ? null : opClass;
+	}
+
+	/** Gets the position of the given op info within the environment. */
+	public int position(final OpInfo info) {
+		final Integer pos = positions.get(info);
+		return pos == null ? Integer.MAX_VALUE : pos;
+	}
+
+	/** Gets the op previously resolved for the given references, if any. */
+	public synchronized Match match(final List<OpRef> refs) {
+		return matches.get(new MatchKey(refs));
+	}
+
+	/** Remembers the op resolved for the given references. */
+	public synchronized void putMatch(final List<OpRef> refs,
+		final OpInfo info, final int refIndex)
+	{
+		matches.put(new MatchKey(refs), new Match(info, refIndex));
+	}
+
+	/** Gets the number of remembered resolved matches. */
+	public synchronized int matchCount() {
+		return matches.size();
+	}
+
+	// -- Helper methods --
+
+	private void addName(final String name, final OpInfo info) {
+		add(name, info);
+		// NB: Names also match without namespace (e.g., 'add' matches 'math.add').
+		final int dot = name.lastIndexOf(".");
+		if (dot >= 0) add(name.substring(dot + 1), info);
+	}
+
+	private void add(final String name, final OpInfo info) {
+		List<OpInfo> list = byName.get(name);
+		if (list == null) {
+			list = new ArrayList<>();
+			byName.put(name, list);
+		}
+		// NB: Infos are added in order, so duplicates are always consecutive.
+		if (list.isEmpty() || list.get(list.size() - 1) != info) list.add(info);
+	}
+
+	private static List<Class<?>> rawTypes(final Collection<Type> types) {
+		if (types == null) return null;
+		final ArrayList<Class<?>> raw = new ArrayList<>(types.size());
+		for (final Type t : types) raw.add(GenericUtils.getClass(t));
+		return raw;
+	}
+
+	// -- Helper classes --
+
+	/** Callback for ops whose class cannot be loaded. */
+	interface InvalidOpHandler {
+
+		void invalid(OpInfo info, InstantiableException exc);
+	}
+
+	/** The op which was resolved for a particular signature. */
+	static class Match {
+
+		private final OpInfo info;
+		private final int refIndex;
+
+		private Match(final OpInfo info, final int refIndex) {
+			this.info = info;
+			this.refIndex = refIndex;
+		}
+
+		/** Gets the op which won the match. */
+		public OpInfo info() {
+			return info;
+		}
+
+		/** Gets the index of the {@link OpRef} which was matched. */
+		public int refIndex() {
+			return refIndex;
+		}
+	}
+
+	/**
+	 * Signature of a list of {@link OpRef}s: names, op types, output types and
+	 * argument classes, but not the argument values themselves.
+	 */
+	private static class MatchKey {
+
+		private final Object[] signature;
+		private final int hash;
+
+		public MatchKey(final List<OpRef> refs) {
+			final ArrayList<Object> sig = new ArrayList<>();
+			for (final OpRef ref : refs) {
+				sig.add(ref.getName());
+				sig.add(ref.getTypes());
+				sig.add(ref.getOutTypes());
+				final Object[] args = ref.getArgs();
+				sig.add(args.length);
+				for (final Object arg : args) sig.add(argKey(arg));
+			}
+			signature = sig.toArray();
+			hash = Arrays.hashCode(signature);
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			if (!(o instanceof MatchKey)) return false;
+			final MatchKey that = (MatchKey) o;
+			return hash == that.hash && Arrays.equals(signature, that.signature);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		private static Object argKey(final Object arg) {
+			if (arg == null) return null;
+			// NB: Class arguments are typed placeholders, which are treated
+			// differently from instances of the same class during matching.
+			if (arg instanceof Class) return new Placeholder((Class<?>) arg);
+			return arg.getClass();
+		}
+	}
+
+	/** Key for a {@link Class} passed as typed null placeholder argument. */
+	private static class Placeholder {
+
+		private final Class<?> c;
+
+		public Placeholder(final Class<?> c) {
+			this.c = c;
+		}
+
+		@Override
+		public boolean equals(final Object o) {
+			return o instanceof Placeholder && c == ((Placeholder) o).c;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hashCode(c) ^ 0x5bd1e995;
+		}
+	}
+
+}
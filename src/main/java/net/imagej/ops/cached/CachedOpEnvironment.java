@@ -33,6 +33,7 @@ package net.imagej.ops.cached;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.function.Supplier;
 
 import net.imagej.ops.AbstractOp;
 import net.imagej.ops.CustomOpEnvironment;
@@ -40,27 +41,57 @@ import net.imagej.ops.Op;
 import net.imagej.ops.OpEnvironment;
 import net.imagej.ops.OpInfo;
 import net.imagej.ops.OpRef;
+import net.imagej.ops.Ops;
+import net.imagej.ops.special.SpecialOp;
+import net.imagej.ops.special.computer.BinaryComputerOp;
+import net.imagej.ops.special.computer.UnaryComputerOp;
+import net.imagej.ops.special.function.BinaryFunctionOp;
+import net.imagej.ops.special.function.NullaryFunctionOp;
 import net.imagej.ops.special.function.UnaryFunctionOp;
+import net.imagej.ops.special.hybrid.BinaryHybridCF;
 import net.imagej.ops.special.hybrid.UnaryHybridCF;
+import net.imglib2.IterableInterval;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.neighborhood.Neighborhood;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
 
 import org.scijava.Priority;
-import org.scijava.cache.CacheService;
 import org.scijava.command.CommandInfo;
 import org.scijava.module.Module;
 import org.scijava.module.ModuleItem;
-import org.scijava.plugin.Parameter;
 import org.scijava.util.GenericUtils;
 
 /**
  * Creates {@link CachedFunctionOp}s which know how to cache their outputs.
+ * The outputs are kept in a size-bounded {@link OpCache}, see {@link #cache()}.
+ * <p>
+ * Computers are only memoized if asked for, see {@link #memoizeComputers}:
+ * their inputs are often buffers which are updated in place under the same
+ * identity, in which case a memoized result would be stale.
+ * </p>
+ * <p>
+ * Ops which allocate outputs for the caller to fill, such as
+ * {@link Ops.Create.Img} or {@link Ops.Create.NativeType}, are never cached:
+ * callers sharing one cached instance would overwrite each other's data.
+ * Read-only results such as those of {@link Ops.Create.KernelGauss} are.
+ * </p>
  * 
  * @author Christian Dietz (University of Konstanz)
  */
 public class CachedOpEnvironment extends CustomOpEnvironment {
 
-	@Parameter
-	private CacheService cs;
+	/** Types of ops whose outputs are mutable, freshly allocated objects. */
+	private static final Class<?>[] ALLOCATING_OPS = { Ops.Create.Img.class,
+		Ops.Create.ImgFactory.class, Ops.Create.ImgLabeling.class,
+		Ops.Create.ImgPlus.class, Ops.Create.IntegerType.class,
+		Ops.Create.LabelingMapping.class, Ops.Create.NativeImg.class,
+		Ops.Create.NativeType.class, Ops.Create.Object.class,
+		Ops.Create.Type.class, Ops.Filter.CreateFFTOutput.class };
+
+	private final OpCache cache = new OpCache();
 	private Collection<Class<?>> ignoredOps;
+	private final Collection<Class<?>> memoizedOps = new ArrayList<>();
 
 	public CachedOpEnvironment(final OpEnvironment parent) {
 		this(parent, null, new ArrayList<>());
@@ -99,21 +130,75 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 			}
 		}
 
+		if (isAllocating(op)) return op;
+
 		final Op cachedOp;
-		if (op instanceof UnaryHybridCF) {
+		if (op instanceof BinaryHybridCF) {
+			cachedOp = wrapBinaryHybrid((BinaryHybridCF<?, ?, ?>) op);
+		}
+		else if (op instanceof UnaryHybridCF) {
 			cachedOp = wrapUnaryHybrid((UnaryHybridCF<?, ?>) op);
 		}
+		else if (op instanceof BinaryFunctionOp) {
+			cachedOp = wrapBinaryFunction((BinaryFunctionOp<?, ?, ?>) op);
+		}
 		else if (op instanceof UnaryFunctionOp) {
 			cachedOp = wrapUnaryFunction((UnaryFunctionOp<?, ?>) op);
 		}
+		else if (op instanceof NullaryFunctionOp) {
+			cachedOp = wrapNullaryFunction((NullaryFunctionOp<?>) op);
+		}
+		else if (op instanceof BinaryComputerOp && isMemoized(op)) {
+			cachedOp = wrapBinaryComputer((BinaryComputerOp<?, ?, ?>) op);
+		}
+		else if (op instanceof UnaryComputerOp && isMemoized(op)) {
+			cachedOp = wrapUnaryComputer((UnaryComputerOp<?, ?>) op);
+		}
 		else return op;
 
+		// NB: Do not wrap ops requested as a special op kind the wrapper lacks,
+		// e.g. a UnaryHybridCFI requested as UnaryInplaceOp.
+		for (final Type t : ref.getTypes()) {
+			final Class<?> raw = GenericUtils.getClass(t);
+			if (SpecialOp.class.isAssignableFrom(raw) && !raw.isInstance(cachedOp)) {
+				return op;
+			}
+		}
+
 		getContext().inject(cachedOp);
 		return cachedOp;
 	}
 
+	// -- CachedOpEnvironment methods --
+
+	/**
+	 * Gets the cache holding the outputs of the ops created by this environment,
+	 * e.g. to bound its size or query its statistics.
+	 */
+	public OpCache cache() {
+		return cache;
+	}
+
+	/**
+	 * Enables memoization for computers (and hybrids used as computers) which
+	 * are instances of any of the given op types. Results are identified by the
+	 * identity of the inputs, so only use this for ops whose inputs are never
+	 * modified in place between calls.
+	 */
+	public void memoizeComputers(final Class<?>... opTypes) {
+		for (final Class<?> opType : opTypes) {
+			memoizedOps.add(opType);
+		}
+	}
+
 	// -- Helper methods --
 
+	private <O> CachedNullaryFunctionOp<O> wrapNullaryFunction(
+		final NullaryFunctionOp<O> op)
+	{
+		return new CachedNullaryFunctionOp<>(op, otherArgs(op, 0));
+	}
+
 	private <I, O> CachedFunctionOp<I, O> wrapUnaryFunction(
 		final UnaryFunctionOp<I, O> op)
 	{
@@ -126,6 +211,30 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 		return new CachedHybridOp<>(op, otherArgs(op, 2));
 	}
 
+	private <I, O> CachedComputerOp<I, O> wrapUnaryComputer(
+		final UnaryComputerOp<I, O> op)
+	{
+		return new CachedComputerOp<>(op, otherArgs(op, 2));
+	}
+
+	private <I1, I2, O> CachedBinaryFunctionOp<I1, I2, O> wrapBinaryFunction(
+		final BinaryFunctionOp<I1, I2, O> op)
+	{
+		return new CachedBinaryFunctionOp<>(op, otherArgs(op, 2));
+	}
+
+	private <I1, I2, O> CachedBinaryHybridOp<I1, I2, O> wrapBinaryHybrid(
+		final BinaryHybridCF<I1, I2, O> op)
+	{
+		return new CachedBinaryHybridOp<>(op, otherArgs(op, 3));
+	}
+
+	private <I1, I2, O> CachedBinaryComputerOp<I1, I2, O> wrapBinaryComputer(
+		final BinaryComputerOp<I1, I2, O> op)
+	{
+		return new CachedBinaryComputerOp<>(op, otherArgs(op, 3));
+	}
+
 	/**
 	 * Gets the given {@link Op} instance's argument value, starting at the
 	 * specified offset.
@@ -141,8 +250,185 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 		return args.toArray();
 	}
 
+	/**
+	 * Gets the cached result of the given function, if any. Otherwise,
+	 * calculates and caches it.
+	 */
+	private <O> O lookup(final Op function, final Object[] inputs,
+		final Object[] args, final Supplier<O> calculate)
+	{
+		if (!isCacheable(inputs)) return calculate.get();
+
+		@SuppressWarnings("unchecked")
+		O output = (O) cache.get(function.getClass(), inputs, args);
+
+		if (output == null) {
+			output = calculate.get();
+			cache.put(function.getClass(), inputs, args, output);
+		}
+		return output;
+	}
+
+	/**
+	 * Fills the given output with the cached result of the given computer, if
+	 * any. Otherwise, computes the output and caches a copy of it.
+	 */
+	private void memoize(final Op computer, final Object[] inputs,
+		final Object[] args, final Object output, final Runnable compute)
+	{
+		if (!isMemoized(computer) || !isCacheable(inputs)) {
+			compute.run();
+			return;
+		}
+
+		// NB: A cached output which cannot be restored is no hit.
+		final Object cached = cache.peek(computer.getClass(), inputs, args);
+		if (cached != null && restore(cached, output)) {
+			cache.recordHit(computer.getClass(), inputs, args);
+			return;
+		}
+		cache.recordMiss();
+
+		compute.run();
+		final Object snapshot = snapshot(output);
+		if (snapshot != null) cache.put(computer.getClass(), inputs, args,
+			snapshot);
+	}
+
+	/** Determines whether the given op allocates outputs for the caller. */
+	private boolean isAllocating(final Op op) {
+		for (final Class<?> opType : ALLOCATING_OPS) {
+			if (opType.isInstance(op)) return true;
+		}
+		return false;
+	}
+
+	/** Determines whether computer results of the given op may be memoized. */
+	private boolean isMemoized(final Op op) {
+		for (final Class<?> opType : memoizedOps) {
+			if (opType.isInstance(op)) return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Determines whether results for the given inputs may be cached. Inputs are
+	 * identified by reference, which does not work for scalar {@link
+	 * net.imglib2.type.Type} inputs and {@link Neighborhood}s: these are
+	 * typically recycled by cursors, so their content changes while their
+	 * identity stays the same.
+	 */
+	private boolean isCacheable(final Object[] inputs) {
+		for (final Object input : inputs) {
+			if (input instanceof net.imglib2.type.Type) return false;
+			if (input instanceof Neighborhood) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Copies the given computer output, so that it can be cached independently
+	 * of the buffer it was computed into.
+	 * 
+	 * @return The copy, or null if outputs of this kind cannot be copied.
+	 */
+	private Object snapshot(final Object output) {
+		// NB: Copy in the parent environment, so the copy ops are not cached.
+		if (output instanceof net.imglib2.type.Type) {
+			return ((net.imglib2.type.Type<?>) output).copy();
+		}
+		if (output instanceof RandomAccessibleInterval) {
+			return parent().run(Ops.Copy.RAI.class, output);
+		}
+		if (output instanceof IterableInterval) {
+			return parent().run(Ops.Copy.IterableInterval.class, output);
+		}
+		return null;
+	}
+
+	/**
+	 * Copies the given cached output into the given computer output.
+	 * 
+	 * @return False if the two are incompatible, e.g. because the computer was
+	 *         called with an output of a different type or size than before.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private boolean restore(final Object cached, final Object output) {
+		if (output instanceof net.imglib2.type.Type) {
+			if (cached.getClass() != output.getClass()) return false;
+			((net.imglib2.type.Type) output).set((net.imglib2.type.Type) cached);
+			return true;
+		}
+		if (output instanceof RandomAccessibleInterval &&
+			cached instanceof RandomAccessibleInterval)
+		{
+			final RandomAccessibleInterval<?> out = (RandomAccessibleInterval<?>) output;
+			final RandomAccessibleInterval<?> in = (RandomAccessibleInterval<?>) cached;
+			if (!Intervals.equalDimensions(in, out) || Util.getTypeFromInterval(in)
+				.getClass() != Util.getTypeFromInterval(out).getClass()) return false;
+			parent().run(Ops.Copy.RAI.class, out, in);
+			return true;
+		}
+		if (output instanceof IterableInterval && cached instanceof IterableInterval) {
+			final IterableInterval<?> out = (IterableInterval<?>) output;
+			final IterableInterval<?> in = (IterableInterval<?>) cached;
+			if (!Intervals.equalDimensions(in, out) || in.firstElement()
+				.getClass() != out.firstElement().getClass()) return false;
+			parent().run(Ops.Copy.IterableInterval.class, out, in);
+			return true;
+		}
+		return false;
+	}
+
 	// -- Helper classes --
 
+	/**
+	 * Wraps a {@link NullaryFunctionOp} and caches the results.
+	 * 
+	 * @param <O>
+	 */
+	class CachedNullaryFunctionOp<O> extends AbstractOp implements
+		NullaryFunctionOp<O>
+	{
+
+		private final NullaryFunctionOp<O> delegate;
+
+		private final Object[] args;
+
+		public CachedNullaryFunctionOp(final NullaryFunctionOp<O> delegate,
+			final Object[] args)
+		{
+			this.delegate = delegate;
+			this.args = args;
+		}
+
+		@Override
+		public O calculate() {
+			return lookup(delegate, new Object[0], args, () -> delegate.calculate());
+		}
+
+		@Override
+		public void run() {
+			delegate.run();
+		}
+
+		@Override
+		public O out() {
+			return delegate.out();
+		}
+
+		@Override
+		public void initialize() {
+			delegate.initialize();
+		}
+
+		@Override
+		public CachedNullaryFunctionOp<O> getIndependentInstance() {
+			return this;
+		}
+
+	}
+
 	/**
 	 * Wraps a {@link UnaryFunctionOp} and caches the results. New inputs will
 	 * result in re-computation of the result.
@@ -155,9 +441,6 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 		UnaryFunctionOp<I, O>
 	{
 
-		@Parameter
-		private CacheService cache;
-
 		private final UnaryFunctionOp<I, O> delegate;
 
 		private final Object[] args;
@@ -171,17 +454,8 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 
 		@Override
 		public O calculate(final I input) {
-
-			final Hash hash = new Hash(input, delegate, args);
-
-			@SuppressWarnings("unchecked")
-			O output = (O) cache.get(hash);
-
-			if (output == null) {
-				output = delegate.calculate(input);
-				cache.put(hash, output);
-			}
-			return output;
+			return lookup(delegate, new Object[] { input }, args, () -> delegate
+				.calculate(input));
 		}
 
 		@Override
@@ -219,7 +493,8 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 	/**
 	 * Wraps a {@link UnaryHybridCF} and caches the results. New inputs will
 	 * result in re-computation if {@link UnaryHybridCF} is used as
-	 * {@link UnaryFunctionOp}.
+	 * {@link UnaryFunctionOp}. If used as {@link UnaryComputerOp}, a cached
+	 * result is copied into the given output.
 	 * 
 	 * @author Christian Dietz (University of Konstanz)
 	 * @param <I>
@@ -229,9 +504,6 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 		UnaryHybridCF<I, O>
 	{
 
-		@Parameter
-		private CacheService cache;
-
 		private final UnaryHybridCF<I, O> delegate;
 
 		private final Object[] args;
@@ -246,17 +518,11 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 
 		@Override
 		public O calculate(final I input) {
-			final Hash hash = new Hash(input, delegate, args);
-
-			@SuppressWarnings("unchecked")
-			O output = (O) cache.get(hash);
-
-			if (output == null) {
-				output = createOutput(input);
-				compute(input, output);
-				cache.put(hash, output);
-			}
-			return output;
+			return lookup(delegate, new Object[] { input }, args, () -> {
+				final O output = createOutput(input);
+				delegate.compute(input, output);
+				return output;
+			});
 		}
 
 		@Override
@@ -266,7 +532,8 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 
 		@Override
 		public void compute(final I input, final O output) {
-			delegate.compute(input, output);
+			memoize(delegate, new Object[] { input }, args, output, //
+				() -> delegate.compute(input, output));
 		}
 
 		@Override
@@ -281,33 +548,270 @@ public class CachedOpEnvironment extends CustomOpEnvironment {
 	}
 
 	/**
-	 * Simple utility class to wrap two objects and an array of objects in a
-	 * single object which combines their hashes.
+	 * Wraps a {@link UnaryComputerOp} and caches copies of the results. If
+	 * the same input is computed again, the cached result is copied into the
+	 * given output.
+	 * 
+	 * @param <I>
+	 * @param <O>
 	 */
-	private class Hash {
+	class CachedComputerOp<I, O> extends AbstractOp implements
+		UnaryComputerOp<I, O>
+	{
 
-		private final int hash;
+		private final UnaryComputerOp<I, O> delegate;
 
-		public Hash(final Object o1, final Object o2, final Object[] args) {
-			long h = o1.hashCode() ^ o2.getClass().getSimpleName().hashCode();
+		private final Object[] args;
 
-			for (final Object o : args) {
-				h ^= o.hashCode();
-			}
+		public CachedComputerOp(final UnaryComputerOp<I, O> delegate,
+			final Object[] args)
+		{
+			this.delegate = delegate;
+			this.args = args;
+		}
 
-			hash = (int) h;
+		@Override
+		public void compute(final I input, final O output) {
+			memoize(delegate, new Object[] { input }, args, output, //
+				() -> delegate.compute(input, output));
 		}
 
 		@Override
-		public int hashCode() {
-			return hash;
+		public void run() {
+			delegate.run();
 		}
 
 		@Override
-		public boolean equals(final Object obj) {
-			if (obj == this) return true;
-			if (obj instanceof Hash) return hash == ((Hash) obj).hash;
-			return false;
+		public I in() {
+			return delegate.in();
 		}
+
+		@Override
+		public void setInput(final I input) {
+			delegate.setInput(input);
+		}
+
+		@Override
+		public O out() {
+			return delegate.out();
+		}
+
+		@Override
+		public void setOutput(final O output) {
+			delegate.setOutput(output);
+		}
+
+		@Override
+		public void initialize() {
+			delegate.initialize();
+		}
+
+		@Override
+		public CachedComputerOp<I, O> getIndependentInstance() {
+			return this;
+		}
+	}
+
+	/**
+	 * Wraps a {@link BinaryFunctionOp} and caches the results. New inputs will
+	 * result in re-computation of the result.
+	 * 
+	 * @param <I1>
+	 * @param <I2>
+	 * @param <O>
+	 */
+	class CachedBinaryFunctionOp<I1, I2, O> extends AbstractOp implements
+		BinaryFunctionOp<I1, I2, O>
+	{
+
+		private final BinaryFunctionOp<I1, I2, O> delegate;
+
+		private final Object[] args;
+
+		public CachedBinaryFunctionOp(final BinaryFunctionOp<I1, I2, O> delegate,
+			final Object[] args)
+		{
+			this.delegate = delegate;
+			this.args = args;
+		}
+
+		@Override
+		public O calculate(final I1 input1, final I2 input2) {
+			return lookup(delegate, new Object[] { input1, input2 }, args,
+				() -> delegate.calculate(input1, input2));
+		}
+
+		@Override
+		public void run() {
+			delegate.run();
+		}
+
+		@Override
+		public I1 in1() {
+			return delegate.in1();
+		}
+
+		@Override
+		public I2 in2() {
+			return delegate.in2();
+		}
+
+		@Override
+		public void setInput1(final I1 input1) {
+			delegate.setInput1(input1);
+		}
+
+		@Override
+		public void setInput2(final I2 input2) {
+			delegate.setInput2(input2);
+		}
+
+		@Override
+		public O out() {
+			return delegate.out();
+		}
+
+		@Override
+		public void initialize() {
+			delegate.initialize();
+		}
+
+		@Override
+		public CachedBinaryFunctionOp<I1, I2, O> getIndependentInstance() {
+			return this;
+		}
+
 	}
+
+	/**
+	 * Wraps a {@link BinaryHybridCF} and caches the results. If used as
+	 * {@link BinaryComputerOp}, a cached result is copied into the given output.
+	 * 
+	 * @param <I1>
+	 * @param <I2>
+	 * @param <O>
+	 */
+	class CachedBinaryHybridOp<I1, I2, O> extends
+		CachedBinaryFunctionOp<I1, I2, O> implements BinaryHybridCF<I1, I2, O>
+	{
+
+		private final BinaryHybridCF<I1, I2, O> delegate;
+
+		private final Object[] args;
+
+		public CachedBinaryHybridOp(final BinaryHybridCF<I1, I2, O> delegate,
+			final Object[] args)
+		{
+			super(delegate, args);
+			this.delegate = delegate;
+			this.args = args;
+		}
+
+		@Override
+		public O calculate(final I1 input1, final I2 input2) {
+			return lookup(delegate, new Object[] { input1, input2 }, args, () -> {
+				final O output = createOutput(input1, input2);
+				delegate.compute(input1, input2, output);
+				return output;
+			});
+		}
+
+		@Override
+		public O createOutput(final I1 input1, final I2 input2) {
+			return delegate.createOutput(input1, input2);
+		}
+
+		@Override
+		public void compute(final I1 input1, final I2 input2, final O output) {
+			memoize(delegate, new Object[] { input1, input2 }, args, output,
+				() -> delegate.compute(input1, input2, output));
+		}
+
+		@Override
+		public void setOutput(final O output) {
+			delegate.setOutput(output);
+		}
+
+		@Override
+		public CachedBinaryHybridOp<I1, I2, O> getIndependentInstance() {
+			return this;
+		}
+	}
+
+	/**
+	 * Wraps a {@link BinaryComputerOp} and caches copies of the results. If the
+	 * same inputs are computed again, the cached result is copied into the given
+	 * output.
+	 * 
+	 * @param <I1>
+	 * @param <I2>
+	 * @param <O>
+	 */
+	class CachedBinaryComputerOp<I1, I2, O> extends AbstractOp implements
+		BinaryComputerOp<I1, I2, O>
+	{
+
+		private final BinaryComputerOp<I1, I2, O> delegate;
+
+		private final Object[] args;
+
+		public CachedBinaryComputerOp(final BinaryComputerOp<I1, I2, O> delegate,
+			final Object[] args)
+		{
+			this.delegate = delegate;
+			this.args = args;
+		}
+
+		@Override
+		public void compute(final I1 input1, final I2 input2, final O output) {
+			memoize(delegate, new Object[] { input1, input2 }, args, output,
+				() -> delegate.compute(input1, input2, output));
+		}
+
+		@Override
+		public void run() {
+			delegate.run();
+		}
+
+		@Override
+		public I1 in1() {
+			return delegate.in1();
+		}
+
+		@Override
+		public I2 in2() {
+			return delegate.in2();
+		}
+
+		@Override
+		public void setInput1(final I1 input1) {
+			delegate.setInput1(input1);
+		}
+
+		@Override
+		public void setInput2(final I2 input2) {
+			delegate.setInput2(input2);
+		}
+
+		@Override
+		public O out() {
+			return delegate.out();
+		}
+
+		@Override
+		public void setOutput(final O output) {
+			delegate.setOutput(output);
+		}
+
+		@Override
+		public void initialize() {
+			delegate.initialize();
+		}
+
+		@Override
+		public CachedBinaryComputerOp<I1, I2, O> getIndependentInstance() {
+			return this;
+		}
+	}
+
 }
@@ -0,0 +1,377 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.cached;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.imglib2.IterableInterval;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.numeric.ComplexType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
+
+/**
+ * Bounded cache of op outputs, as used by {@link CachedOpEnvironment}.
+ * <p>
+ * Outputs are keyed by the class of the op which computed them, the identity
+ * of the op inputs and the values of the remaining op arguments. Inputs are
+ * only weakly referenced, so that cached outputs never keep their inputs
+ * alive; entries whose inputs were garbage collected are purged.
+ * </p>
+ * <p>
+ * The total size of the cache is bounded by the estimated memory footprint of
+ * the cached outputs (see {@link #weigh(Object)}). When the bound is
+ * exceeded, entries are evicted according to the {@link EvictionPolicy}.
+ * </p>
+ */
+public class OpCache {
+
+	/** Strategy for choosing the entries to evict from a full cache. */
+	public enum EvictionPolicy {
+			/** Evicts the least recently used entries first. */
+			LRU,
+			/**
+			 * Evicts the least frequently used entries first, and the least recently
+			 * used one among those equally frequently used.
+			 */
+			LFU
+	}
+
+	/** Assumed footprint of outputs whose size cannot be estimated. */
+	private static final long DEFAULT_WEIGHT = 64;
+
+	private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f,
+		true);
+
+	private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+
+	private long maxWeight;
+
+	private EvictionPolicy policy;
+
+	private long weight;
+
+	private long hits, misses, evictions;
+
+	/**
+	 * Creates an LRU cache bounded to a quarter of the maximum heap size.
+	 */
+	public OpCache() {
+		this(Runtime.getRuntime().maxMemory() / 4, EvictionPolicy.LRU);
+	}
+
+	/**
+	 * Creates a cache.
+	 * 
+	 * @param maxWeight maximum estimated footprint of all cached outputs, in
+	 *          bytes
+	 * @param policy strategy for evicting entries once the cache is full
+	 */
+	public OpCache(final long maxWeight, final EvictionPolicy policy) {
+		this.maxWeight = maxWeight;
+		this.policy = policy;
+	}
+
+	// -- OpCache methods --
+
+	/**
+	 * Gets the cached output of the given op type for the given inputs and
+	 * arguments.
+	 * 
+	 * @return the cached output, or null if there is none
+	 */
+	public synchronized Object get(final Class<?> opType, final Object[] inputs,
+		final Object[] args)
+	{
+		final Object value = peek(opType, inputs, args);
+		if (value == null) recordMiss();
+		else recordHit(opType, inputs, args);
+		return value;
+	}
+
+	/**
+	 * Gets the cached output like {@link #get}, but without counting the lookup
+	 * as a hit or a miss. Callers which can only tell afterwards whether the
+	 * output was usable count the lookup via {@link #recordHit} or
+	 * {@link #recordMiss}.
+	 * 
+	 * @return the cached output, or null if there is none
+	 */
+	public synchronized Object peek(final Class<?> opType, final Object[] inputs,
+		final Object[] args)
+	{
+		purge();
+		final Entry entry = entries.get(new Key(opType, inputs, args, null));
+		return entry == null ? null : entry.value;
+	}
+
+	/** Counts a lookup of the given entry which found a usable output. */
+	public synchronized void recordHit(final Class<?> opType,
+		final Object[] inputs, final Object[] args)
+	{
+		hits++;
+		final Entry entry = entries.get(new Key(opType, inputs, args, null));
+		if (entry != null) entry.uses++;
+	}
+
+	/** Counts a lookup which found no usable output. */
+	public synchronized void recordMiss() {
+		misses++;
+	}
+
+	/**
+	 * Caches the output of the given op type for the given inputs and arguments,
+	 * evicting other entries as needed. Outputs larger than the whole cache are
+	 * not cached.
+	 */
+	public synchronized void put(final Class<?> opType, final Object[] inputs,
+		final Object[] args, final Object output)
+	{
+		purge();
+		final long w = weigh(output);
+		if (w > maxWeight) return;
+		final Key key = new Key(opType, inputs, args, collected);
+		final Entry old = entries.put(key, new Entry(output, w));
+		if (old != null) weight -= old.weight;
+		weight += w;
+		evict();
+	}
+
+	/** Removes all entries from the cache. */
+	public synchronized void clear() {
+		entries.clear();
+		weight = 0;
+	}
+
+	/** Gets the number of cached outputs. */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/** Gets the estimated footprint of all cached outputs, in bytes. */
+	public synchronized long getWeight() {
+		return weight;
+	}
+
+	/** Gets the maximum estimated footprint of all cached outputs. */
+	public synchronized long getMaxWeight() {
+		return maxWeight;
+	}
+
+	/** Sets the maximum footprint of all cached outputs, in bytes. */
+	public synchronized void setMaxWeight(final long maxWeight) {
+		this.maxWeight = maxWeight;
+		evict();
+	}
+
+	/** Gets the strategy for evicting entries once the cache is full. */
+	public synchronized EvictionPolicy getEvictionPolicy() {
+		return policy;
+	}
+
+	/** Sets the strategy for evicting entries once the cache is full. */
+	public synchronized void setEvictionPolicy(final EvictionPolicy policy) {
+		this.policy = policy;
+	}
+
+	/** Gets the number of lookups which found a cached output. */
+	public synchronized long getHitCount() {
+		return hits;
+	}
+
+	/** Gets the number of lookups which did not find a cached output. */
+	public synchronized long getMissCount() {
+		return misses;
+	}
+
+	/** Gets the number of entries evicted because the cache was full. */
+	public synchronized long getEvictionCount() {
+		return evictions;
+	}
+
+	// -- Utility methods --
+
+	/**
+	 * Estimates the memory footprint of the given op output, in bytes. Images
+	 * weigh their number of elements times the size of their element type;
+	 * primitive arrays their length times the size of their component type.
+	 * Empty images weigh nothing; their element type is never accessed.
+	 */
+	public static long weigh(final Object o) {
+		if (o instanceof RandomAccessibleInterval) {
+			final RandomAccessibleInterval<?> rai = (RandomAccessibleInterval<?>) o;
+			final long size = Intervals.numElements(rai);
+			if (size == 0) return 0;
+			return size * bytesPerElement(Util.getTypeFromInterval(rai));
+		}
+		if (o instanceof IterableInterval) {
+			final IterableInterval<?> ii = (IterableInterval<?>) o;
+			final long size = ii.size();
+			if (size == 0) return 0;
+			return size * bytesPerElement(ii.firstElement());
+		}
+		if (o instanceof double[]) return 8L * ((double[]) o).length;
+		if (o instanceof float[]) return 4L * ((float[]) o).length;
+		if (o instanceof long[]) return 8L * ((long[]) o).length;
+		if (o instanceof int[]) return 4L * ((int[]) o).length;
+		if (o instanceof short[]) return 2L * ((short[]) o).length;
+		if (o instanceof byte[]) return ((byte[]) o).length;
+		if (o instanceof double[][]) {
+			long w = 0;
+			for (final double[] row : (double[][]) o) w += weigh(row);
+			return w;
+		}
+		return DEFAULT_WEIGHT;
+	}
+
+	// -- Helper methods --
+
+	private static long bytesPerElement(final Object type) {
+		if (type instanceof RealType) {
+			return Math.max(1, ((RealType<?>) type).getBitsPerPixel() / 8);
+		}
+		if (type instanceof ComplexType) return 16;
+		return 8;
+	}
+
+	/** Removes the entries whose inputs have been garbage collected. */
+	private void purge() {
+		InputReference ref;
+		while ((ref = (InputReference) collected.poll()) != null) {
+			final Entry entry = entries.remove(ref.key);
+			if (entry != null) weight -= entry.weight;
+		}
+	}
+
+	/** Evicts entries until the cache is no longer over its bound. */
+	private void evict() {
+		while (weight > maxWeight && !entries.isEmpty()) {
+			// NB: Entries are iterated from least to most recently used.
+			final Iterator<Map.Entry<Key, Entry>> iter = entries.entrySet()
+				.iterator();
+			Map.Entry<Key, Entry> victim = iter.next();
+			if (policy == EvictionPolicy.LFU) {
+				while (iter.hasNext()) {
+					final Map.Entry<Key, Entry> e = iter.next();
+					if (e.getValue().uses < victim.getValue().uses) victim = e;
+				}
+			}
+			entries.remove(victim.getKey());
+			weight -= victim.getValue().weight;
+			evictions++;
+		}
+	}
+
+	// -- Helper classes --
+
+	/** A cached output, with its footprint and number of uses. */
+	private static class Entry {
+
+		private final Object value;
+		private final long weight;
+		private long uses;
+
+		public Entry(final Object value, final long weight) {
+			this.value = value;
+			this.weight = weight;
+		}
+	}
+
+	/** Weak reference to an op input, which knows the key it belongs to. */
+	private static class InputReference extends WeakReference<Object> {
+
+		private final Key key;
+		private final boolean isNull;
+
+		public InputReference(final Object referent, final Key key,
+			final ReferenceQueue<Object> queue)
+		{
+			super(referent, queue);
+			this.key = key;
+			isNull = referent == null;
+		}
+	}
+
+	/**
+	 * Key of a cached output. Inputs are compared by identity, arguments by
+	 * value.
+	 */
+	private static class Key {
+
+		private final Class<?> opType;
+		private final InputReference[] inputs;
+		private final Object[] args;
+		private final int hash;
+
+		public Key(final Class<?> opType, final Object[] inputs,
+			final Object[] args, final ReferenceQueue<Object> queue)
+		{
+			this.opType = opType;
+			this.inputs = new InputReference[inputs.length];
+			int h = opType.hashCode();
+			for (int i = 0; i < inputs.length; i++) {
+				this.inputs[i] = new InputReference(inputs[i], this, queue);
+				h = 31 * h + System.identityHashCode(inputs[i]);
+			}
+			this.args = args;
+			hash = 31 * h + Arrays.deepHashCode(args);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			if (obj == this) return true;
+			if (!(obj instanceof Key)) return false;
+			final Key that = (Key) obj;
+			if (hash != that.hash || opType != that.opType) return false;
+			if (inputs.length != that.inputs.length) return false;
+			for (int i = 0; i < inputs.length; i++) {
+				if (inputs[i].isNull != that.inputs[i].isNull) return false;
+				if (inputs[i].isNull) continue;
+				final Object input = inputs[i].get();
+				// NB: Keys of collected inputs are only equal to themselves.
+				if (input == null || input != that.inputs[i].get()) return false;
+			}
+			return Arrays.deepEquals(args, that.args);
+		}
+	}
+
+}
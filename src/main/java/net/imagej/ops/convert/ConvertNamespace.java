@@ -90,8 +90,8 @@ public class ConvertNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(
-		op = net.imagej.ops.convert.imageType.ConvertIIs.class)
+	@OpMethod(ops = { net.imagej.ops.convert.imageType.ConvertIIs.class,
+		net.imagej.ops.convert.imageType.ConvertNativeImgs.class })
 	public <I extends RealType<I>, O extends RealType<O>> IterableInterval<O>
 		imageType(final IterableInterval<O> out, final IterableInterval<I> in,
 			final RealTypeConverter<I, O> typeConverter)
@@ -32,6 +32,7 @@ package net.imagej.ops.convert.clip;
 
 import net.imagej.ops.Ops;
 import net.imagej.ops.convert.RealTypeConverter;
+import net.imagej.ops.convert.RealValueConverter;
 import net.imglib2.IterableInterval;
 import net.imglib2.type.numeric.RealType;
 
@@ -42,7 +43,8 @@ import org.scijava.plugin.Plugin;
  */
 @Plugin(type = Ops.Convert.Clip.class)
 public class ClipRealTypes<I extends RealType<I>, O extends RealType<O>>
-	extends RealTypeConverter<I, O> implements Ops.Convert.Clip
+	extends RealTypeConverter<I, O> implements Ops.Convert.Clip,
+	RealValueConverter
 {
 
 	private double outMax;
@@ -51,16 +53,18 @@ public class ClipRealTypes<I extends RealType<I>, O extends RealType<O>>
 
 	@Override
 	public void compute(final I input, final O output) {
-		final double v = input.getRealDouble();
-		if (v > outMax) {
-			output.setReal(outMax);
-		}
-		else if (v < outMin) {
-			output.setReal(outMin);
+		output.setReal(convert(input.getRealDouble()));
+	}
+
+	@Override
+	public double convert(final double value) {
+		if (value > outMax) {
+			return outMax;
 		}
-		else {
-			output.setReal(v);
+		else if (value < outMin) {
+			return outMin;
 		}
+		return value;
 	}
 
 	@Override
@@ -32,6 +32,7 @@ package net.imagej.ops.convert.copy;
 
 import net.imagej.ops.Ops;
 import net.imagej.ops.convert.RealTypeConverter;
+import net.imagej.ops.convert.RealValueConverter;
 import net.imglib2.IterableInterval;
 import net.imglib2.type.numeric.RealType;
 
@@ -42,12 +43,18 @@ import org.scijava.plugin.Plugin;
  */
 @Plugin(type = Ops.Convert.Copy.class)
 public class CopyRealTypes<I extends RealType<I>, O extends RealType<O>>
-	extends RealTypeConverter<I, O> implements Ops.Convert.Copy
+	extends RealTypeConverter<I, O> implements Ops.Convert.Copy,
+	RealValueConverter
 {
 
 	@Override
 	public void compute(final I input, final O output) {
-		output.setReal(input.getRealDouble());
+		output.setReal(convert(input.getRealDouble()));
+	}
+
+	@Override
+	public double convert(final double value) {
+		return value;
 	}
 
 	@Override
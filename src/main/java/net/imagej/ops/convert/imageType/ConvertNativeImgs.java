@@ -0,0 +1,205 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.convert.imageType;
+
+import java.util.List;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.Parallel;
+import net.imagej.ops.convert.RealTypeConverter;
+import net.imagej.ops.convert.RealValueConverter;
+import net.imagej.ops.copy.NativeImgUtils;
+import net.imagej.ops.special.computer.AbstractUnaryComputerOp;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imglib2.IterableInterval;
+import net.imglib2.img.Img;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.integer.ByteType;
+import net.imglib2.type.numeric.integer.IntType;
+import net.imglib2.type.numeric.integer.LongType;
+import net.imglib2.type.numeric.integer.ShortType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+import net.imglib2.type.numeric.integer.UnsignedIntType;
+import net.imglib2.type.numeric.integer.UnsignedShortType;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.type.numeric.real.FloatType;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Converts native images of the same storage layout (see
+ * {@link NativeImgUtils#storageArrays}) into {@link FloatType} or
+ * {@link DoubleType} images directly on their primitive arrays, converting
+ * the planes or cells in parallel. Only applies to converters which are
+ * {@link RealValueConverter}s; the result is the same as with
+ * {@link ConvertIIs}.
+ */
+@Plugin(type = Ops.Convert.ImageType.class, priority = Priority.HIGH_PRIORITY)
+public class ConvertNativeImgs<I extends RealType<I>, O extends RealType<O>>
+	extends AbstractUnaryComputerOp<IterableInterval<I>, IterableInterval<O>>
+	implements Ops.Convert.ImageType, Contingent, Parallel
+{
+
+	/** Number of elements converted at once when splitting single arrays. */
+	private static final int BLOCK_SIZE = 1 << 16;
+
+	private static final int BYTE = 0, UNSIGNED_BYTE = 1, SHORT = 2,
+			UNSIGNED_SHORT = 3, INT = 4, UNSIGNED_INT = 5, LONG = 6, FLOAT = 7,
+			DOUBLE = 8;
+
+	@Parameter
+	private RealTypeConverter<I, O> pixConvert;
+
+	@Override
+	public void initialize() {
+		pixConvert.checkInput(in().firstElement().createVariable(), out()
+			.firstElement().createVariable());
+		pixConvert.checkInput(in());
+	}
+
+	@Override
+	public void compute(final IterableInterval<I> input,
+		final IterableInterval<O> output)
+	{
+		final List<Object[]> arrays = NativeImgUtils.storageArrays((Img<I>) input,
+			(Img<O>) output);
+		final int kind = kind(input.firstElement());
+		final RealValueConverter converter = (RealValueConverter) pixConvert;
+
+		// split the arrays into blocks, such that single arrays are converted in
+		// parallel too
+		final int[] firstBlock = new int[arrays.size() + 1];
+		for (int i = 0; i < arrays.size(); i++) {
+			firstBlock[i + 1] = firstBlock[i] + (length(arrays.get(i)[1]) +
+				BLOCK_SIZE - 1) / BLOCK_SIZE;
+		}
+
+		ops().thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				int block = (int) startIndex;
+				int array = 0;
+				for (long i = 0; i < numSteps; i++) {
+					while (firstBlock[array + 1] <= block) {
+						array++;
+					}
+					final Object[] pair = arrays.get(array);
+					final int from = (block - firstBlock[array]) * BLOCK_SIZE;
+					final int to = Math.min(from + BLOCK_SIZE, length(pair[1]));
+					convert(pair[0], kind, pair[1], from, to, converter);
+					block += stepSize;
+				}
+			}
+		}, firstBlock[arrays.size()]);
+	}
+
+	@Override
+	public boolean conforms() {
+		if (!(pixConvert instanceof RealValueConverter)) return false;
+		if (!(in() instanceof Img) || !(out() instanceof Img)) return false;
+		if (kind(in().firstElement()) < 0) return false;
+		final Class<?> outClass = out().firstElement().getClass();
+		if (outClass != FloatType.class && outClass != DoubleType.class) {
+			return false;
+		}
+		return NativeImgUtils.storageArrays((Img<?>) in(), (Img<?>) out()) != null;
+	}
+
+	// -- Helper methods --
+
+	private static int kind(final Object type) {
+		final Class<?> c = type.getClass();
+		if (c == ByteType.class) return BYTE;
+		if (c == UnsignedByteType.class) return UNSIGNED_BYTE;
+		if (c == ShortType.class) return SHORT;
+		if (c == UnsignedShortType.class) return UNSIGNED_SHORT;
+		if (c == IntType.class) return INT;
+		if (c == UnsignedIntType.class) return UNSIGNED_INT;
+		if (c == LongType.class) return LONG;
+		if (c == FloatType.class) return FLOAT;
+		if (c == DoubleType.class) return DOUBLE;
+		return -1;
+	}
+
+	private static int length(final Object array) {
+		return array instanceof float[] ? ((float[]) array).length
+			: ((double[]) array).length;
+	}
+
+	private static void convert(final Object in, final int kind,
+		final Object out, final int from, final int to,
+		final RealValueConverter converter)
+	{
+		if (out instanceof float[]) {
+			final float[] o = (float[]) out;
+			for (int i = from; i < to; i++) {
+				o[i] = (float) converter.convert(get(in, kind, i));
+			}
+		}
+		else {
+			final double[] o = (double[]) out;
+			for (int i = from; i < to; i++) {
+				o[i] = converter.convert(get(in, kind, i));
+			}
+		}
+	}
+
+	/** Gets the value of a pixel as returned by its getRealDouble(). */
+	private static double get(final Object in, final int kind, final int i) {
+		switch (kind) {
+			case BYTE:
+				return ((byte[]) in)[i];
+			case UNSIGNED_BYTE:
+				return ((byte[]) in)[i] & 0xff;
+			case SHORT:
+				return ((short[]) in)[i];
+			case UNSIGNED_SHORT:
+				return ((short[]) in)[i] & 0xffff;
+			case INT:
+				return ((int[]) in)[i];
+			case UNSIGNED_INT:
+				return ((int[]) in)[i] & 0xffffffffL;
+			case LONG:
+				return ((long[]) in)[i];
+			case FLOAT:
+				return ((float[]) in)[i];
+			default:
+				return ((double[]) in)[i];
+		}
+	}
+
+}
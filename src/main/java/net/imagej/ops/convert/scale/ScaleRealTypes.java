@@ -32,6 +32,7 @@ package net.imagej.ops.convert.scale;
 
 import net.imagej.ops.Ops;
 import net.imagej.ops.convert.RealTypeConverter;
+import net.imagej.ops.convert.RealValueConverter;
 import net.imglib2.IterableInterval;
 import net.imglib2.type.numeric.RealType;
 
@@ -42,7 +43,8 @@ import org.scijava.plugin.Plugin;
  */
 @Plugin(type = Ops.Convert.Scale.class)
 public class ScaleRealTypes<I extends RealType<I>, O extends RealType<O>>
-	extends RealTypeConverter<I, O> implements Ops.Convert.Scale
+	extends RealTypeConverter<I, O> implements Ops.Convert.Scale,
+	RealValueConverter
 {
 
 	protected double inMin;
@@ -53,7 +55,12 @@ public class ScaleRealTypes<I extends RealType<I>, O extends RealType<O>>
 
 	@Override
 	public void compute(final I input, final O output) {
-		output.setReal((input.getRealDouble() - inMin) / factor + outMin);
+		output.setReal(convert(input.getRealDouble()));
+	}
+
+	@Override
+	public double convert(final double value) {
+		return (value - inMin) / factor + outMin;
 	}
 
 	@Override
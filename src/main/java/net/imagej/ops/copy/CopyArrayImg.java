@@ -81,7 +81,10 @@ public class CopyArrayImg<T extends NativeType<T>, A extends ArrayDataAccess<A>>
 
 	@Override
 	public boolean conforms() {
+		// NB: Off-heap array images are not backed by primitive arrays.
+		if (!(in().update(null) instanceof ArrayDataAccess)) return false;
 		if (out() == null) return true;
-		return Intervals.equalDimensions(in(), out());
+		return out().update(null) instanceof ArrayDataAccess && Intervals
+			.equalDimensions(in(), out());
 	}
 }
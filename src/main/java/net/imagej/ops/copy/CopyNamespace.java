@@ -37,6 +37,10 @@ import net.imglib2.IterableInterval;
 import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.img.Img;
 import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.basictypeaccess.array.ArrayDataAccess;
+import net.imglib2.img.cell.AbstractCell;
+import net.imglib2.img.cell.CellImg;
+import net.imglib2.img.planar.PlanarImg;
 import net.imglib2.roi.labeling.ImgLabeling;
 import net.imglib2.roi.labeling.LabelingMapping;
 import net.imglib2.type.NativeType;
@@ -95,6 +99,46 @@ public class CopyNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(op = net.imagej.ops.copy.CopyPlanarImg.class)
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		img(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			net.imagej.ops.copy.CopyPlanarImg.class, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.copy.CopyPlanarImg.class)
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		img(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			net.imagej.ops.copy.CopyPlanarImg.class, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.copy.CopyCellImg.class)
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>, C extends AbstractCell<A>>
+		CellImg<T, A, C> img(final CellImg<T, A, C> in)
+	{
+		@SuppressWarnings("unchecked")
+		final CellImg<T, A, C> result = (CellImg<T, A, C>) ops().run(
+			net.imagej.ops.copy.CopyCellImg.class, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.copy.CopyCellImg.class)
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>, C extends AbstractCell<A>>
+		CellImg<T, A, C> img(final CellImg<T, A, C> out, final CellImg<T, A, C> in)
+	{
+		@SuppressWarnings("unchecked")
+		final CellImg<T, A, C> result = (CellImg<T, A, C>) ops().run(
+			net.imagej.ops.copy.CopyCellImg.class, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.copy.CopyImgLabeling.class)
 	public <L, I extends IntegerType<I>> ImgLabeling<L, I> imgLabeling(
 			final ImgLabeling<L, I> in) {
@@ -0,0 +1,104 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.copy;
+
+import java.lang.reflect.Array;
+import java.util.List;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.Parallel;
+import net.imagej.ops.special.hybrid.AbstractUnaryHybridCF;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imglib2.img.basictypeaccess.array.ArrayDataAccess;
+import net.imglib2.img.planar.PlanarImg;
+import net.imglib2.type.NativeType;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Copying {@link PlanarImg} into another {@link PlanarImg} of the same layout,
+ * plane by plane with {@link System#arraycopy}, copying the planes in
+ * parallel.
+ * 
+ * @param <T>
+ */
+@Plugin(type = Ops.Copy.Img.class, priority = Priority.VERY_HIGH_PRIORITY)
+public class CopyPlanarImg<T extends NativeType<T>, A extends ArrayDataAccess<A>>
+	extends AbstractUnaryHybridCF<PlanarImg<T, A>, PlanarImg<T, A>> implements
+	Ops.Copy.Img, Contingent, Parallel
+{
+
+	@Override
+	public PlanarImg<T, A> createOutput(final PlanarImg<T, A> input) {
+		// NB: PlanarImgFactory creates images with the same access type as
+		// the input.
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> copy = (PlanarImg<T, A>) input.factory().create(
+			input, input.firstElement().createVariable());
+		return copy;
+	}
+
+	@Override
+	public void compute(final PlanarImg<T, A> input,
+		final PlanarImg<T, A> output)
+	{
+		final List<Object[]> arrays = NativeImgUtils.storageArrays(input, output);
+		// each plane costs about its number of elements
+		final double cost = Array.getLength(arrays.get(0)[0]);
+
+		ops().thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				int index = (int) startIndex;
+				for (long i = 0; i < numSteps; i++) {
+					final Object[] pair = arrays.get(index);
+					System.arraycopy(pair[0], 0, pair[1], 0, Array.getLength(pair[0]));
+					index += stepSize;
+				}
+			}
+		}, arrays.size(), 0, cost);
+	}
+
+	@Override
+	public boolean conforms() {
+		// NB: Copying the arrays of another type would reinterpret the values.
+		if (out() != null && in().firstElement().getClass() != out()
+			.firstElement().getClass()) return false;
+		// NB: A created output has the storage layout of the input.
+		return NativeImgUtils.storageArrays(in(), out() == null ? in()
+			: out()) != null;
+	}
+}
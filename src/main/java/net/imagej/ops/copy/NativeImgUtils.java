@@ -0,0 +1,126 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.copy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.imglib2.Cursor;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.basictypeaccess.array.ArrayDataAccess;
+import net.imglib2.img.cell.AbstractCell;
+import net.imglib2.img.cell.CellImg;
+import net.imglib2.img.cell.Cells;
+import net.imglib2.img.planar.PlanarImg;
+import net.imglib2.util.Intervals;
+
+/**
+ * Utility methods giving access to the primitive storage of native images, so
+ * that ops can copy or convert them array by array.
+ */
+public final class NativeImgUtils {
+
+	private NativeImgUtils() {
+		// NB: Prevent instantiation of utility class.
+	}
+
+	/**
+	 * Gets the primitive arrays backing two images of the same storage layout:
+	 * two {@link ArrayImg}s, two {@link PlanarImg}s or two {@link CellImg}s
+	 * with the same cell dimensions, all of equal dimensions. Corresponding
+	 * arrays hold the same pixels in the same order.
+	 * 
+	 * @return the pairs {input array, output array} (one per plane or cell), or
+	 *         null if the layouts differ or are not supported
+	 */
+	public static List<Object[]> storageArrays(final Img<?> in,
+		final Img<?> out)
+	{
+		if (!Intervals.equalDimensions(in, out)) return null;
+
+		final List<Object[]> arrays = new ArrayList<>();
+
+		if (in instanceof ArrayImg && out instanceof ArrayImg) {
+			arrays.add(new Object[] { storage(((ArrayImg<?, ?>) in).update(null)),
+				storage(((ArrayImg<?, ?>) out).update(null)) });
+			return complete(arrays);
+		}
+
+		if (in instanceof PlanarImg && out instanceof PlanarImg) {
+			final PlanarImg<?, ?> planarIn = (PlanarImg<?, ?>) in;
+			final PlanarImg<?, ?> planarOut = (PlanarImg<?, ?>) out;
+			if (planarIn.numSlices() != planarOut.numSlices()) return null;
+			for (int i = 0; i < planarIn.numSlices(); i++) {
+				arrays.add(new Object[] { storage(planarIn.getPlane(i)), storage(
+					planarOut.getPlane(i)) });
+			}
+			return complete(arrays);
+		}
+
+		if (in instanceof CellImg && out instanceof CellImg) {
+			final Cells<?, ?> cellsIn = ((CellImg<?, ?, ?>) in).getCells();
+			final Cells<?, ?> cellsOut = ((CellImg<?, ?, ?>) out).getCells();
+			final int[] cellDimsIn = new int[in.numDimensions()];
+			final int[] cellDimsOut = new int[out.numDimensions()];
+			cellsIn.cellDimensions(cellDimsIn);
+			cellsOut.cellDimensions(cellDimsOut);
+			for (int d = 0; d < cellDimsIn.length; d++) {
+				if (cellDimsIn[d] != cellDimsOut[d]) return null;
+			}
+			final Cursor<? extends AbstractCell<?>> cursorIn = cellsIn.cursor();
+			final Cursor<? extends AbstractCell<?>> cursorOut = cellsOut.cursor();
+			while (cursorIn.hasNext()) {
+				arrays.add(new Object[] { storage(cursorIn.next().getData()), storage(
+					cursorOut.next().getData()) });
+			}
+			return complete(arrays);
+		}
+
+		return null;
+	}
+
+	// -- Helper methods --
+
+	private static Object storage(final Object access) {
+		// NB: Off-heap accesses are not backed by primitive arrays.
+		return access instanceof ArrayDataAccess ? ((ArrayDataAccess<?>) access)
+			.getCurrentStorageArray() : null;
+	}
+
+	private static List<Object[]> complete(final List<Object[]> arrays) {
+		for (final Object[] pair : arrays) {
+			if (pair[0] == null || pair[1] == null) return null;
+		}
+		return arrays;
+	}
+
+}
@@ -31,17 +31,20 @@
 package net.imagej.ops.create.img;
 
 import net.imagej.ops.Ops;
+import net.imagej.ops.create.imgFactory.ImgStorageService;
 import net.imagej.ops.special.function.AbstractUnaryFunctionOp;
 import net.imglib2.img.Img;
 import net.imglib2.img.ImgFactory;
 import net.imglib2.type.Type;
 
 import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
 import org.scijava.plugin.Plugin;
 
 /**
  * Create an {@link Img} from another {@link Img} implementation using its
- * {@link Type} and {@link ImgFactory}.
+ * {@link Type} and {@link ImgFactory}, honoring the
+ * {@link ImgStorageService} of the context.
  *
  * @author Christian Dietz (University of Konstanz)
  * @author Curtis Rueden
@@ -52,9 +55,14 @@ public class CreateImgFromImg<T extends Type<T>> extends
 	AbstractUnaryFunctionOp<Img<T>, Img<T>> implements Ops.Create.Img
 {
 
+	@Parameter(required = false)
+	private ImgStorageService storage;
+
 	@Override
 	public Img<T> calculate(final Img<T> input) {
-		return Imgs.create(input.factory(), input, input.firstElement());
+		final ImgFactory<T> factory = storage == null ? input.factory() : storage
+			.factory(input);
+		return Imgs.create(factory, input, input.firstElement());
 	}
 
 }
@@ -0,0 +1,503 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.create.imgFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+
+import net.imglib2.exception.IncompatibleTypeException;
+import net.imglib2.img.Img;
+import net.imglib2.img.ImgFactory;
+import net.imglib2.img.NativeImg;
+import net.imglib2.img.NativeImgFactory;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.array.ArrayImgFactory;
+import net.imglib2.img.basictypeaccess.BitAccess;
+import net.imglib2.img.basictypeaccess.ByteAccess;
+import net.imglib2.img.basictypeaccess.CharAccess;
+import net.imglib2.img.basictypeaccess.DoubleAccess;
+import net.imglib2.img.basictypeaccess.FloatAccess;
+import net.imglib2.img.basictypeaccess.IntAccess;
+import net.imglib2.img.basictypeaccess.LongAccess;
+import net.imglib2.img.basictypeaccess.ShortAccess;
+import net.imglib2.type.NativeType;
+import net.imglib2.util.Fraction;
+import net.imglib2.util.Intervals;
+
+/**
+ * {@link NativeImgFactory} creating {@link ArrayImg}s whose pixels live
+ * outside of the Java heap, either in direct {@link ByteBuffer}s or in
+ * {@link java.nio.MappedByteBuffer memory-mapped} temporary files.
+ * <p>
+ * The storage of an image is released once the image is garbage collected,
+ * or right away with {@link #close(Img)}. Temporary files are deleted as soon
+ * as they are mapped, so no file outlives the image creation, even if the JVM
+ * is killed. On platforms which do not allow deleting a mapped file, the file
+ * is deleted when the image is closed, or on exit at the latest.
+ * </p>
+ * <p>
+ * Like {@link ArrayImgFactory}, this factory is limited to images of at most
+ * {@link Integer#MAX_VALUE} entities. {@link ArrayImg#factory()} of the created
+ * images is a plain {@link ArrayImgFactory}, and their accesses are not
+ * {@link net.imglib2.img.basictypeaccess.array.ArrayDataAccess}es.
+ * </p>
+ *
+ * @param <T>
+ * @see ImgStorageService
+ */
+public class BufferImgFactory<T extends NativeType<T>> extends
+	NativeImgFactory<T>
+{
+
+	/** Each buffer segment holds 2^30 bytes. */
+	private static final int SEGMENT_SHIFT = 30;
+
+	private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+
+	private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+	private final File directory;
+
+	/** Creates a factory allocating direct (off-heap) buffers. */
+	public BufferImgFactory() {
+		this(null);
+	}
+
+	/**
+	 * Creates a factory backing images by memory-mapped temporary files in the
+	 * given directory, or by direct buffers if the directory is null.
+	 */
+	public BufferImgFactory(final File directory) {
+		this.directory = directory;
+	}
+
+	/**
+	 * Gets the directory of the memory-mapped files, or null if images are
+	 * backed by direct buffers.
+	 */
+	public File getDirectory() {
+		return directory;
+	}
+
+	@Override
+	public NativeImg<T, ?> create(final long[] dim, final T type) {
+		return type.createSuitableNativeImg(this, dim);
+	}
+
+	@Override
+	public NativeImg<T, ? extends BitAccess> createBitInstance(
+		final long[] dimensions, final Fraction entitiesPerPixel)
+	{
+		// NB: Bit accesses are only used by legacy types; keep them on the heap.
+		return new ArrayImgFactory<T>().createBitInstance(dimensions,
+			entitiesPerPixel);
+	}
+
+	@Override
+	public NativeImg<T, ? extends ByteAccess> createByteInstance(
+		final long[] dimensions, final Fraction entitiesPerPixel)
+	{
+		return new ArrayImg<T, ByteBufferAccess>(new ByteBufferAccess(allocate(
+			dimensions, entitiesPerPixel, 0)), dimensions, entitiesPerPixel);
+	}
+
+	@Override
+	public NativeImg<T, ? extends CharAccess> createCharInstance(
+		final long[] dimensions, final Fraction entitiesPerPixel)
+	{
+		return new ArrayImg<T, CharBufferAccess>(new CharBufferAccess(allocate(
+			dimensions, entitiesPerPixel, 1)), dimensions, entitiesPerPixel);
+	}
+
+	@Override
+	public NativeImg<T, ? extends ShortAccess> createShortInstance(
+		final long[] dimensions, final Fraction entitiesPerPixel)
+	{
+		return new ArrayImg<T, ShortBufferAccess>(new ShortBufferAccess(allocate(
+			dimensions, entitiesPerPixel, 1)), dimensions, entitiesPerPixel);
+	}
+
+	@Override
+	public NativeImg<T, ? extends IntAccess> createIntInstance(
+		final long[] dimensions, final Fraction entitiesPerPixel)
+	{
+		return new ArrayImg<T, IntBufferAccess>(new IntBufferAccess(allocate(
+			dimensions, entitiesPerPixel, 2)), dimensions, entitiesPerPixel);
+	}
+
+	@Override
+	public NativeImg<T, ? extends LongAccess> createLongInstance(
+		final long[] dimensions, final Fraction entitiesPerPixel)
+	{
+		return new ArrayImg<T, LongBufferAccess>(new LongBufferAccess(allocate(
+			dimensions, entitiesPerPixel, 3)), dimensions, entitiesPerPixel);
+	}
+
+	@Override
+	public NativeImg<T, ? extends FloatAccess> createFloatInstance(
+		final long[] dimensions, final Fraction entitiesPerPixel)
+	{
+		return new ArrayImg<T, FloatBufferAccess>(new FloatBufferAccess(allocate(
+			dimensions, entitiesPerPixel, 2)), dimensions, entitiesPerPixel);
+	}
+
+	@Override
+	public NativeImg<T, ? extends DoubleAccess> createDoubleInstance(
+		final long[] dimensions, final Fraction entitiesPerPixel)
+	{
+		return new ArrayImg<T, DoubleBufferAccess>(new DoubleBufferAccess(allocate(
+			dimensions, entitiesPerPixel, 3)), dimensions, entitiesPerPixel);
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Override
+	public <S> ImgFactory<S> imgFactory(final S type)
+		throws IncompatibleTypeException
+	{
+		if (NativeType.class.isInstance(type)) return new BufferImgFactory(
+			directory);
+		throw new IncompatibleTypeException(this, type.getClass()
+			.getCanonicalName() + " does not implement NativeType.");
+	}
+
+	// -- Utility methods --
+
+	/**
+	 * Releases the storage of an image created by a {@link BufferImgFactory}
+	 * without waiting for the garbage collector: direct buffers are freed, and
+	 * memory-mapped files unmapped and deleted. The image must neither be used
+	 * afterwards nor while it is being closed.
+	 *
+	 * @return true if the storage of the image was released; false if the image
+	 *         was not created by a {@link BufferImgFactory}, or the JVM does not
+	 *         allow releasing buffers explicitly
+	 */
+	public static boolean close(final Img<?> img) {
+		if (!(img instanceof ArrayImg)) return false;
+		final Object access = ((ArrayImg<?, ?>) img).update(null);
+		if (!(access instanceof BufferAccess)) return false;
+		return ((BufferAccess) access).close();
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Allocates zeroed segments for the entities of an image, each entity taking
+	 * {@code 1 << shift} bytes.
+	 */
+	private Storage allocate(final long[] dimensions,
+		final Fraction entitiesPerPixel, final int shift)
+	{
+		final long numEntities = entitiesPerPixel.mulCeil(Intervals.numElements(
+			dimensions));
+		if (numEntities > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Number of elements in Container " +
+				"too big, use for example CellImg instead: " + numEntities + " > " +
+				Integer.MAX_VALUE);
+		}
+		final long numBytes = numEntities << shift;
+		final int numSegments = (int) Math.max(1, (numBytes + SEGMENT_MASK) >>>
+			SEGMENT_SHIFT);
+		final ByteBuffer[] segments = new ByteBuffer[numSegments];
+
+		if (directory == null) {
+			for (int i = 0; i < numSegments; i++) {
+				segments[i] = ByteBuffer.allocateDirect((int) segmentSize(numBytes, i))
+					.order(ByteOrder.nativeOrder());
+			}
+			return new Storage(segments, null);
+		}
+
+		File file = null;
+		try {
+			file = File.createTempFile("imagej-ops-", ".img", directory);
+			try (final RandomAccessFile raf = new RandomAccessFile(file, "rw");
+					final FileChannel channel = raf.getChannel())
+			{
+				// NB: Extending the file fills it with zeros.
+				raf.setLength(numBytes);
+				for (int i = 0; i < numSegments; i++) {
+					segments[i] = channel.map(MapMode.READ_WRITE, i * SEGMENT_SIZE,
+						segmentSize(numBytes, i)).order(ByteOrder.nativeOrder());
+				}
+			}
+		}
+		catch (final IOException exc) {
+			// NB: Free what was mapped already, so that the file can be deleted.
+			for (final ByteBuffer segment : segments) {
+				if (segment != null) unmap(segment);
+			}
+			throw new UncheckedIOException(exc);
+		}
+		finally {
+			if (file != null && !file.delete()) file.deleteOnExit();
+		}
+		// NB: The file still exists only if it cannot be deleted while mapped.
+		return new Storage(segments, file.exists() ? file : null);
+	}
+
+	private static long segmentSize(final long numBytes, final int segment) {
+		return Math.min(SEGMENT_SIZE, numBytes - segment * SEGMENT_SIZE);
+	}
+
+	/**
+	 * Frees the memory of a direct or memory-mapped buffer.
+	 *
+	 * @return false if the JVM does not allow freeing buffers explicitly
+	 */
+	private static boolean unmap(final ByteBuffer buffer) {
+		try {
+			try {
+				// NB: Java 9 and later.
+				final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+				final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner",
+					ByteBuffer.class);
+				final Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+				theUnsafe.setAccessible(true);
+				invokeCleaner.invoke(theUnsafe.get(null), buffer);
+			}
+			catch (final NoSuchMethodException exc) {
+				// NB: Java 8.
+				final Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+				cleanerMethod.setAccessible(true);
+				final Object cleaner = cleanerMethod.invoke(buffer);
+				if (cleaner != null) cleaner.getClass().getMethod("clean").invoke(
+					cleaner);
+			}
+			return true;
+		}
+		catch (final ReflectiveOperationException | RuntimeException exc) {
+			return false;
+		}
+	}
+
+	// -- Helper classes --
+
+	/** Buffer segments of an image, and the file they map, if any. */
+	private static final class Storage {
+
+		private final ByteBuffer[] segments;
+		private final File file;
+
+		public Storage(final ByteBuffer[] segments, final File file) {
+			this.segments = segments;
+			this.file = file;
+		}
+	}
+
+	/** Base class of accesses to entities spread over buffer segments. */
+	private abstract static class BufferAccess {
+
+		private ByteBuffer[] segments;
+		private File file;
+
+		public BufferAccess(final Storage storage) {
+			segments = storage.segments;
+			file = storage.file;
+		}
+
+		protected ByteBuffer segment(final long position) {
+			return segments[(int) (position >>> SEGMENT_SHIFT)];
+		}
+
+		/** Frees the segments and deletes the file; see {@link #close(Img)}. */
+		public synchronized boolean close() {
+			boolean released = true;
+			if (segments != null) {
+				for (final ByteBuffer segment : segments) {
+					released &= unmap(segment);
+				}
+				// NB: Accesses to freed segments must fail rather than crash the JVM.
+				segments = null;
+			}
+			if (file != null && file.delete()) file = null;
+			return released && file == null;
+		}
+
+		protected static int offset(final long position) {
+			return (int) (position & SEGMENT_MASK);
+		}
+	}
+
+	private static final class ByteBufferAccess extends BufferAccess implements
+		ByteAccess
+	{
+
+		public ByteBufferAccess(final Storage storage) {
+			super(storage);
+		}
+
+		@Override
+		public byte getValue(final int index) {
+			return segment(index).get(offset(index));
+		}
+
+		@Override
+		public void setValue(final int index, final byte value) {
+			segment(index).put(offset(index), value);
+		}
+	}
+
+	private static final class CharBufferAccess extends BufferAccess implements
+		CharAccess
+	{
+
+		public CharBufferAccess(final Storage storage) {
+			super(storage);
+		}
+
+		@Override
+		public char getValue(final int index) {
+			final long position = (long) index << 1;
+			return segment(position).getChar(offset(position));
+		}
+
+		@Override
+		public void setValue(final int index, final char value) {
+			final long position = (long) index << 1;
+			segment(position).putChar(offset(position), value);
+		}
+	}
+
+	private static final class ShortBufferAccess extends BufferAccess implements
+		ShortAccess
+	{
+
+		public ShortBufferAccess(final Storage storage) {
+			super(storage);
+		}
+
+		@Override
+		public short getValue(final int index) {
+			final long position = (long) index << 1;
+			return segment(position).getShort(offset(position));
+		}
+
+		@Override
+		public void setValue(final int index, final short value) {
+			final long position = (long) index << 1;
+			segment(position).putShort(offset(position), value);
+		}
+	}
+
+	private static final class IntBufferAccess extends BufferAccess implements
+		IntAccess
+	{
+
+		public IntBufferAccess(final Storage storage) {
+			super(storage);
+		}
+
+		@Override
+		public int getValue(final int index) {
+			final long position = (long) index << 2;
+			return segment(position).getInt(offset(position));
+		}
+
+		@Override
+		public void setValue(final int index, final int value) {
+			final long position = (long) index << 2;
+			segment(position).putInt(offset(position), value);
+		}
+	}
+
+	private static final class LongBufferAccess extends BufferAccess implements
+		LongAccess
+	{
+
+		public LongBufferAccess(final Storage storage) {
+			super(storage);
+		}
+
+		@Override
+		public long getValue(final int index) {
+			final long position = (long) index << 3;
+			return segment(position).getLong(offset(position));
+		}
+
+		@Override
+		public void setValue(final int index, final long value) {
+			final long position = (long) index << 3;
+			segment(position).putLong(offset(position), value);
+		}
+	}
+
+	private static final class FloatBufferAccess extends BufferAccess implements
+		FloatAccess
+	{
+
+		public FloatBufferAccess(final Storage storage) {
+			super(storage);
+		}
+
+		@Override
+		public float getValue(final int index) {
+			final long position = (long) index << 2;
+			return segment(position).getFloat(offset(position));
+		}
+
+		@Override
+		public void setValue(final int index, final float value) {
+			final long position = (long) index << 2;
+			segment(position).putFloat(offset(position), value);
+		}
+	}
+
+	private static final class DoubleBufferAccess extends BufferAccess implements
+		DoubleAccess
+	{
+
+		public DoubleBufferAccess(final Storage storage) {
+			super(storage);
+		}
+
+		@Override
+		public double getValue(final int index) {
+			final long position = (long) index << 3;
+			return segment(position).getDouble(offset(position));
+		}
+
+		@Override
+		public void setValue(final int index, final double value) {
+			final long position = (long) index << 3;
+			segment(position).putDouble(offset(position), value);
+		}
+	}
+
+}
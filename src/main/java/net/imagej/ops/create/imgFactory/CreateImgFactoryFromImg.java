@@ -36,10 +36,12 @@ import net.imglib2.img.Img;
 import net.imglib2.img.ImgFactory;
 
 import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
 import org.scijava.plugin.Plugin;
 
 /**
- * Gets an {@link ImgFactory} for the given {@link Img}.
+ * Gets an {@link ImgFactory} for the given {@link Img}, honoring the
+ * {@link ImgStorageService} of the context for array images.
  *
  *@author Curtis Rueden
  * @param <T>
@@ -50,9 +52,12 @@ public class CreateImgFactoryFromImg<T> extends
 	Ops.Create.ImgFactory
 {
 
+	@Parameter(required = false)
+	private ImgStorageService storage;
+
 	@Override
 	public ImgFactory<T> calculate(final Img<T> input) {
-		return input.factory();
+		return storage == null ? input.factory() : storage.factory(input);
 	}
 
 }
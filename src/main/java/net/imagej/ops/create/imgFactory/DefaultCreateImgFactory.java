@@ -43,7 +43,9 @@ import org.scijava.plugin.Parameter;
 import org.scijava.plugin.Plugin;
 
 /**
- * Default implementation of the "create.imgFactory" op.
+ * Default implementation of the "create.imgFactory" op. Large images are kept
+ * off the heap according to the {@link ImgStorageService} of the context, if
+ * there is one.
  *
  * @author Daniel Seebacher (University of Konstanz)
  * @author Tim-Oliver Buchholz (University of Konstanz)
@@ -57,10 +59,18 @@ public class DefaultCreateImgFactory<T extends NativeType<T>> extends
 	@Parameter(required = false)
 	private Dimensions dims;
 
+	@Parameter(required = false)
+	private ImgStorageService storage;
+
 	@Override
 	public ImgFactory<T> calculate() {
-		return (dims == null || Intervals.numElements(dims) <= Integer.MAX_VALUE)
-			? new ArrayImgFactory<>() : new CellImgFactory<>();
+		if (dims == null) return new ArrayImgFactory<>();
+		final long numElements = Intervals.numElements(dims);
+		final ImgFactory<T> offHeap = storage == null ? null : storage.factory(
+			numElements);
+		if (offHeap != null) return offHeap;
+		return numElements <= Integer.MAX_VALUE ? new ArrayImgFactory<>()
+			: new CellImgFactory<>();
 	}
 
 }
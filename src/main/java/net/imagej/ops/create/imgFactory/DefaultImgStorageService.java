@@ -0,0 +1,171 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.create.imgFactory;
+
+import java.io.File;
+
+import net.imglib2.img.Img;
+import net.imglib2.img.ImgFactory;
+import net.imglib2.img.array.ArrayImgFactory;
+import net.imglib2.type.NativeType;
+import net.imglib2.util.Intervals;
+
+import org.scijava.log.LogService;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+import org.scijava.service.AbstractService;
+import org.scijava.service.Service;
+
+/**
+ * Default service deciding where the pixels of created images are kept.
+ * <p>
+ * The initial policy can be set with the system properties
+ * {@value #MODE_PROPERTY} ({@code heap}, {@code direct} or {@code mapped}),
+ * {@value #THRESHOLD_PROPERTY} (number of elements) and
+ * {@value #DIRECTORY_PROPERTY} (directory of the memory-mapped files, defaults
+ * to {@code java.io.tmpdir}). Invalid values are logged and ignored.
+ * </p>
+ */
+@Plugin(type = Service.class)
+public class DefaultImgStorageService extends AbstractService implements
+	ImgStorageService
+{
+
+	public static final String MODE_PROPERTY = "imagej.ops.imgStorage";
+
+	public static final String THRESHOLD_PROPERTY =
+		"imagej.ops.imgStorage.threshold";
+
+	public static final String DIRECTORY_PROPERTY =
+		"imagej.ops.imgStorage.directory";
+
+	@Parameter
+	private LogService log;
+
+	private volatile Mode mode = Mode.HEAP;
+
+	private volatile long threshold = 1L << 26;
+
+	private volatile File directory = new File(System.getProperty(
+		"java.io.tmpdir"));
+
+	// -- ImgStorageService methods --
+
+	@Override
+	public Mode getMode() {
+		return mode;
+	}
+
+	@Override
+	public void setMode(final Mode mode) {
+		if (mode == null) throw new NullPointerException("mode");
+		this.mode = mode;
+	}
+
+	@Override
+	public long getThreshold() {
+		return threshold;
+	}
+
+	@Override
+	public void setThreshold(final long threshold) {
+		this.threshold = threshold;
+	}
+
+	@Override
+	public File getDirectory() {
+		return directory;
+	}
+
+	@Override
+	public void setDirectory(final File directory) {
+		if (directory == null) throw new NullPointerException("directory");
+		this.directory = directory;
+	}
+
+	@Override
+	public <T extends NativeType<T>> ImgFactory<T> factory(
+		final long numElements)
+	{
+		if (numElements < threshold || numElements > Integer.MAX_VALUE) {
+			return null;
+		}
+		switch (mode) {
+			case DIRECT:
+				return new BufferImgFactory<>();
+			case MAPPED:
+				return new BufferImgFactory<>(directory);
+			default:
+				return null;
+		}
+	}
+
+	@Override
+	public <T> ImgFactory<T> factory(final Img<T> img) {
+		final ImgFactory<T> factory = img.factory();
+		if (factory instanceof ArrayImgFactory) {
+			@SuppressWarnings({ "rawtypes", "unchecked" })
+			final ImgFactory<T> offHeap = (ImgFactory) factory(Intervals.numElements(
+				img));
+			if (offHeap != null) return offHeap;
+		}
+		return factory;
+	}
+
+	// -- Service methods --
+
+	@Override
+	public void initialize() {
+		final String modeName = System.getProperty(MODE_PROPERTY);
+		if (modeName != null) {
+			try {
+				mode = Mode.valueOf(modeName.trim().toUpperCase());
+			}
+			catch (final IllegalArgumentException exc) {
+				log.warn("Invalid " + MODE_PROPERTY + " '" + modeName +
+					"', using " + Mode.HEAP.name().toLowerCase());
+			}
+		}
+		final String thresholdValue = System.getProperty(THRESHOLD_PROPERTY);
+		if (thresholdValue != null) {
+			try {
+				threshold = Long.parseLong(thresholdValue.trim());
+			}
+			catch (final NumberFormatException exc) {
+				log.warn("Invalid " + THRESHOLD_PROPERTY + " '" + thresholdValue +
+					"', using " + threshold);
+			}
+		}
+		final String directoryName = System.getProperty(DIRECTORY_PROPERTY);
+		if (directoryName != null) directory = new File(directoryName);
+	}
+
+}
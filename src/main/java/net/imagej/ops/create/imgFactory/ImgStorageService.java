@@ -0,0 +1,91 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.create.imgFactory;
+
+import java.io.File;
+
+import net.imagej.ImageJService;
+import net.imagej.ops.Ops;
+import net.imglib2.img.Img;
+import net.imglib2.img.ImgFactory;
+import net.imglib2.img.array.ArrayImgFactory;
+import net.imglib2.type.NativeType;
+
+/**
+ * Interface for services deciding where the images created by
+ * {@link Ops.Create.ImgFactory} (and hence by {@link Ops.Create.Img}) keep their
+ * pixels: images of at least {@link #getThreshold()} elements are created by a
+ * {@link BufferImgFactory} instead of on the Java heap. Without such a service
+ * in the context, all images are created on the heap.
+ */
+public interface ImgStorageService extends ImageJService {
+
+	/** Where the pixels of large images are kept. */
+	enum Mode {
+			/** On the Java heap. */
+			HEAP,
+			/** In direct buffers, outside of the Java heap. */
+			DIRECT,
+			/** In memory-mapped temporary files. */
+			MAPPED
+	}
+
+	Mode getMode();
+
+	void setMode(Mode mode);
+
+	/** Gets the number of elements from which images are kept off the heap. */
+	long getThreshold();
+
+	void setThreshold(long threshold);
+
+	/** Gets the directory of the memory-mapped files. */
+	File getDirectory();
+
+	void setDirectory(File directory);
+
+	/**
+	 * Gets the factory for images of the given number of elements according to
+	 * the current policy.
+	 *
+	 * @return a {@link BufferImgFactory}, or null if such images belong on the
+	 *         heap
+	 */
+	<T extends NativeType<T>> ImgFactory<T> factory(long numElements);
+
+	/**
+	 * Gets the factory for images like the given one according to the current
+	 * policy. Since off-heap array images report a plain {@link ArrayImgFactory},
+	 * the policy applies to all images with such a factory.
+	 */
+	<T> ImgFactory<T> factory(Img<T> img);
+
+}
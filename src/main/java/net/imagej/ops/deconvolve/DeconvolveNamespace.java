@@ -355,6 +355,91 @@ public class DeconvolveNamespace extends AbstractNamespace {
 		return result;
 	}
 
+//-- DeconvolveOps.RichardsonLucyTiled
+
+	@OpMethod(op = net.imagej.ops.deconvolve.RichardsonLucyTiled.class)
+	public <I extends RealType<I>, O extends RealType<O>, K extends RealType<K>>
+		RandomAccessibleInterval<O> richardsonLucyTiled(
+			final RandomAccessibleInterval<I> in,
+			final RandomAccessibleInterval<K> kernel, final int maxIterations,
+			final long[] blockSize)
+	{
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<O> result =
+			(RandomAccessibleInterval<O>) ops().run(
+				net.imagej.ops.deconvolve.RichardsonLucyTiled.class, in, kernel,
+				maxIterations, blockSize);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.deconvolve.RichardsonLucyTiled.class)
+	public <I extends RealType<I>, O extends RealType<O>, K extends RealType<K>>
+		RandomAccessibleInterval<O> richardsonLucyTiled(
+			final RandomAccessibleInterval<I> in,
+			final RandomAccessibleInterval<K> kernel, final int maxIterations,
+			final long[] blockSize, final long[] overlap)
+	{
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<O> result =
+			(RandomAccessibleInterval<O>) ops().run(
+				net.imagej.ops.deconvolve.RichardsonLucyTiled.class, in, kernel,
+				maxIterations, blockSize, overlap);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.deconvolve.RichardsonLucyTiled.class)
+	public <I extends RealType<I>, O extends RealType<O>, K extends RealType<K>>
+		RandomAccessibleInterval<O> richardsonLucyTiled(
+			final RandomAccessibleInterval<I> in,
+			final RandomAccessibleInterval<K> kernel, final int maxIterations,
+			final long[] blockSize, final long[] overlap, final long memoryBudget)
+	{
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<O> result =
+			(RandomAccessibleInterval<O>) ops().run(
+				net.imagej.ops.deconvolve.RichardsonLucyTiled.class, in, kernel,
+				maxIterations, blockSize, overlap, memoryBudget);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.deconvolve.RichardsonLucyTiled.class)
+	public <I extends RealType<I>, O extends RealType<O>, K extends RealType<K>>
+		RandomAccessibleInterval<O> richardsonLucyTiled(
+			final RandomAccessibleInterval<I> in,
+			final RandomAccessibleInterval<K> kernel, final int maxIterations,
+			final long[] blockSize, final long[] overlap, final long memoryBudget,
+			final OutOfBoundsFactory<I, RandomAccessibleInterval<I>> obfInput,
+			final Type<O> outType, final boolean nonCirculant,
+			final boolean accelerate)
+	{
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<O> result =
+			(RandomAccessibleInterval<O>) ops().run(
+				net.imagej.ops.deconvolve.RichardsonLucyTiled.class, in, kernel,
+				maxIterations, blockSize, overlap, memoryBudget, obfInput, outType,
+				nonCirculant, accelerate);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.deconvolve.RichardsonLucyTiled.class)
+	public <I extends RealType<I>, O extends RealType<O>, K extends RealType<K>>
+		RandomAccessibleInterval<O> richardsonLucyTiled(
+			final RandomAccessibleInterval<I> in,
+			final RandomAccessibleInterval<K> kernel, final int maxIterations,
+			final long[] blockSize, final long[] overlap, final long memoryBudget,
+			final OutOfBoundsFactory<I, RandomAccessibleInterval<I>> obfInput,
+			final Type<O> outType, final boolean nonCirculant,
+			final boolean accelerate, final RandomAccessibleInterval<O> outImg)
+	{
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<O> result =
+			(RandomAccessibleInterval<O>) ops().run(
+				net.imagej.ops.deconvolve.RichardsonLucyTiled.class, in, kernel,
+				maxIterations, blockSize, overlap, memoryBudget, obfInput, outType,
+				nonCirculant, accelerate, outImg);
+		return result;
+	}
+
 //-- DeconvolveOps.RichardsonLucyTV
 
 	@OpMethod(op = net.imagej.ops.deconvolve.RichardsonLucyTVF.class)
@@ -0,0 +1,65 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.deconvolve;
+
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.basictypeaccess.array.FloatArray;
+import net.imglib2.type.numeric.real.FloatType;
+
+/**
+ * Utility methods shared by the iterative deconvolution ops.
+ */
+public final class DeconvolveUtils {
+
+	private DeconvolveUtils() {
+		// NB: Prevent instantiation of utility class.
+	}
+
+	/**
+	 * Returns the primitive array backing a {@link FloatType} {@link ArrayImg},
+	 * so that pointwise stages can sweep it directly.
+	 * 
+	 * @param rai the image to inspect
+	 * @return the backing {@code float[]} in flat iteration order, or
+	 *         {@code null} if {@code rai} is not a {@link FloatType}
+	 *         {@link ArrayImg}
+	 */
+	public static float[] floatData(final RandomAccessibleInterval<?> rai) {
+		if (!(rai instanceof ArrayImg)) return null;
+		final ArrayImg<?, ?> img = (ArrayImg<?, ?>) rai;
+		if (!(img.firstElement() instanceof FloatType)) return null;
+		final Object access = img.update(null);
+		if (!(access instanceof FloatArray)) return null;
+		return ((FloatArray) access).getCurrentStorageArray();
+	}
+
+}
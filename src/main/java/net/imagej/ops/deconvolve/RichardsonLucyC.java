@@ -57,6 +57,7 @@ import net.imglib2.view.Views;
 
 import org.scijava.Priority;
 import org.scijava.app.StatusService;
+import org.scijava.log.LogService;
 import org.scijava.plugin.Parameter;
 import org.scijava.plugin.Plugin;
 
@@ -64,6 +65,11 @@ import org.scijava.plugin.Plugin;
  * Richardson Lucy algorithm for (@link RandomAccessibleInterval) (Lucy, L. B.
  * (1974).
  * "An iterative technique for the rectification of observed distributions".)
+ * <p>
+ * The FFT buffers and the reblurred image are allocated once and reused by
+ * every iteration. The wall-clock time of each iteration is recorded (see
+ * {@link #getIterationTimes()}) and logged at debug level.
+ * </p>
  * 
  * @author Brian Northan
  * @param <I>
@@ -82,6 +88,9 @@ public class RichardsonLucyC<I extends RealType<I>, O extends RealType<O>, K ext
 	@Parameter(required = false)
 	private StatusService status;
 
+	@Parameter(required = false)
+	private LogService log;
+
 	/**
 	 * Op that computes Richardson Lucy update, can be overridden to implement
 	 * variations of the algorithm (like RichardsonLucyTV)
@@ -121,6 +130,8 @@ public class RichardsonLucyC<I extends RealType<I>, O extends RealType<O>, K ext
 
 	private RandomAccessibleInterval<O> raiExtendedReblurred;
 
+	private long[] iterationTimes;
+
 	@Override
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public void initialize() {
@@ -169,16 +180,23 @@ public class RichardsonLucyC<I extends RealType<I>, O extends RealType<O>, K ext
 			copy.compute(in, raiExtendedEstimate);
 		}
 
-		// create image for the reblurred
-		raiExtendedReblurred = create.calculate(getImgConvolutionInterval());
+		// create image for the reblurred (once, it is overwritten by every
+		// iteration)
+		if (raiExtendedReblurred == null) {
+			raiExtendedReblurred = create.calculate(getImgConvolutionInterval());
+		}
 
 		// perform fft of psf
 		fftKernel.compute(kernel, getFFTKernel());
 
 		// -- perform iterations --
 
+		iterationTimes = new long[getMaxIterations()];
+
 		for (int i = 0; i < getMaxIterations(); i++) {
 
+			final long start = System.nanoTime();
+
 			if (status != null) {
 				status.showProgress(i, getMaxIterations());
 			}
@@ -206,6 +224,13 @@ public class RichardsonLucyC<I extends RealType<I>, O extends RealType<O>, K ext
 			if (getAccelerator() != null) {
 				getAccelerator().mutate(raiExtendedEstimate);
 			}
+
+			iterationTimes[i] = System.nanoTime() - start;
+
+			if (log != null && log.isDebug()) {
+				log.debug("Richardson Lucy iteration " + (i + 1) + "/" +
+					getMaxIterations() + ": " + iterationTimes[i] / 1e6 + " ms");
+			}
 		}
 
 		// -- copy crop padded back to original size
@@ -222,4 +247,12 @@ public class RichardsonLucyC<I extends RealType<I>, O extends RealType<O>, K ext
 			end)), out);
 	}
 
+	/**
+	 * @return the wall-clock time of each iteration of the last call to
+	 *         {@link #compute}, in nanoseconds
+	 */
+	public long[] getIterationTimes() {
+		return iterationTimes;
+	}
+
 }
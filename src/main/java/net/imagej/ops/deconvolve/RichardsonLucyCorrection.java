@@ -31,16 +31,18 @@
 package net.imagej.ops.deconvolve;
 
 import net.imagej.ops.Ops;
+import net.imagej.ops.Parallel;
 import net.imagej.ops.filter.correlate.CorrelateFFTC;
-import net.imagej.ops.math.divide.DivideHandleZeroMap1;
 import net.imagej.ops.special.computer.AbstractBinaryComputerOp;
 import net.imagej.ops.special.computer.BinaryComputerOp;
 import net.imagej.ops.special.computer.Computers;
-import net.imagej.ops.special.inplace.BinaryInplace1Op;
-import net.imagej.ops.special.inplace.Inplaces;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imglib2.Cursor;
 import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.type.numeric.ComplexType;
 import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
+import net.imglib2.view.Views;
 
 import org.scijava.Priority;
 import org.scijava.plugin.Parameter;
@@ -50,6 +52,13 @@ import org.scijava.plugin.Plugin;
  * Computes Richardson Lucy correction factor for (@link
  * RandomAccessibleInterval) (Lucy, L. B. (1974).
  * "An iterative technique for the rectification of observed distributions".)
+ * <p>
+ * The division of the observed image by the reblurred estimate (see
+ * {@link net.imagej.ops.math.divide.DivideHandleZeroOp1}) runs as a single
+ * multithreaded sweep, directly over the primitive arrays where the images
+ * are backed by them, and the correlation reuses the preallocated FFT buffers
+ * on every call.
+ * </p>
  * 
  * @author Brian Northan
  * @param <I>
@@ -61,7 +70,7 @@ import org.scijava.plugin.Plugin;
 public class RichardsonLucyCorrection<I extends RealType<I>, O extends RealType<O>, C extends ComplexType<C>>
 	extends
 	AbstractBinaryComputerOp<RandomAccessibleInterval<I>, RandomAccessibleInterval<O>, RandomAccessibleInterval<O>>
-	implements Ops.Deconvolve.RichardsonLucyCorrection
+	implements Ops.Deconvolve.RichardsonLucyCorrection, Parallel
 {
 
 	/** fft of reblurred (will be computed) **/
@@ -72,18 +81,12 @@ public class RichardsonLucyCorrection<I extends RealType<I>, O extends RealType<
 	@Parameter
 	private RandomAccessibleInterval<C> fftKernel;
 
-	private BinaryInplace1Op<RandomAccessibleInterval<O>, RandomAccessibleInterval<I>, RandomAccessibleInterval<O>> divide;
-
 	private BinaryComputerOp<RandomAccessibleInterval<O>, RandomAccessibleInterval<O>, RandomAccessibleInterval<O>> correlate;
 
 	@Override
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public void initialize() {
 
-		divide = (BinaryInplace1Op) Inplaces.binary1(ops(),
-			DivideHandleZeroMap1.class, RandomAccessibleInterval.class,
-			RandomAccessibleInterval.class);
-
 		correlate = (BinaryComputerOp) Computers.binary(ops(), CorrelateFFTC.class,
 			RandomAccessibleInterval.class, RandomAccessibleInterval.class,
 			RandomAccessibleInterval.class, fftBuffer, fftKernel, true, false);
@@ -99,7 +102,7 @@ public class RichardsonLucyCorrection<I extends RealType<I>, O extends RealType<
 		RandomAccessibleInterval<O> correction)
 	{
 		// divide observed image by reblurred
-		divide.mutate1(reblurred, observed);
+		divide(observed, reblurred);
 
 		// correlate with psf to compute the correction factor
 		// Note: FFT of psf is pre-computed and set as an input parameter of the op
@@ -107,4 +110,72 @@ public class RichardsonLucyCorrection<I extends RealType<I>, O extends RealType<
 
 	}
 
+	/**
+	 * Divides observed by reblurred in place, setting the quotient to zero
+	 * wherever reblurred is not positive.
+	 */
+	private void divide(final RandomAccessibleInterval<I> observed,
+		final RandomAccessibleInterval<O> reblurred)
+	{
+		final float[] r = DeconvolveUtils.floatData(reblurred);
+
+		if (r != null) {
+			final float[] o = DeconvolveUtils.floatData(observed);
+			ops().thread().chunker(new CursorBasedChunk() {
+
+				@Override
+				public void execute(final long startIndex, final long stepSize,
+					final long numSteps)
+				{
+					int index = (int) startIndex;
+					if (o != null && o.length == r.length) {
+						for (long i = 0; i < numSteps; i++) {
+							r[index] = r[index] > 0 ? o[index] / r[index] : 0f;
+							index += stepSize;
+						}
+						return;
+					}
+					final Cursor<I> observedCursor = Views.flatIterable(observed)
+						.cursor();
+					setToStart(observedCursor, startIndex);
+					for (long i = 0; i < numSteps; i++) {
+						r[index] = r[index] > 0 ? observedCursor.get().getRealFloat() /
+							r[index] : 0f;
+						observedCursor.jumpFwd(stepSize);
+						index += stepSize;
+					}
+				}
+			}, r.length);
+			return;
+		}
+
+		ops().thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				final Cursor<I> observedCursor = Views.flatIterable(observed).cursor();
+				final Cursor<O> reblurredCursor = Views.flatIterable(reblurred)
+					.cursor();
+				setToStart(observedCursor, startIndex);
+				setToStart(reblurredCursor, startIndex);
+				final O quotient = reblurredCursor.get().createVariable();
+				for (long i = 0; i < numSteps; i++) {
+					final O value = reblurredCursor.get();
+					if (value.getRealFloat() > 0) {
+						quotient.setReal(observedCursor.get().getRealFloat());
+						quotient.div(value);
+						value.set(quotient);
+					}
+					else {
+						value.setReal(0.0);
+					}
+					observedCursor.jumpFwd(stepSize);
+					reblurredCursor.jumpFwd(stepSize);
+				}
+			}
+		}, Intervals.numElements(reblurred));
+	}
+
 }
@@ -31,12 +31,14 @@
 package net.imagej.ops.deconvolve;
 
 import net.imagej.ops.Ops;
-import net.imagej.ops.math.IIToIIOutputII;
+import net.imagej.ops.Parallel;
 import net.imagej.ops.special.computer.AbstractUnaryComputerOp;
-import net.imagej.ops.special.hybrid.BinaryHybridCF;
-import net.imagej.ops.special.hybrid.Hybrids;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imglib2.Cursor;
 import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
+import net.imglib2.view.Views;
 
 import org.scijava.Priority;
 import org.scijava.plugin.Plugin;
@@ -46,6 +48,11 @@ import org.scijava.plugin.Plugin;
  * {@link RandomAccessibleInterval}. See: <blockquote>Lucy, L. B. (1974).
  * "An iterative technique for the rectification of observed distributions"
  * </blockquote>
+ * <p>
+ * The estimate is multiplied by the correction in a single multithreaded
+ * sweep, directly over the primitive arrays when both images are
+ * {@link net.imglib2.type.numeric.real.FloatType} array images.
+ * </p>
  * 
  * @author Brian Northan
  * @param <T> Type of {@link RandomAccessibleInterval} upon which to operate.
@@ -54,39 +61,54 @@ import org.scijava.plugin.Plugin;
 	priority = Priority.HIGH_PRIORITY)
 public class RichardsonLucyUpdate<T extends RealType<T>> extends
 	AbstractUnaryComputerOp<RandomAccessibleInterval<T>, RandomAccessibleInterval<T>>
-	implements Ops.Deconvolve.RichardsonLucyUpdate
+	implements Ops.Deconvolve.RichardsonLucyUpdate, Parallel
 {
 
-	private BinaryHybridCF<RandomAccessibleInterval<T>, RandomAccessibleInterval<T>, RandomAccessibleInterval<T>> mul =
-		null;
-
-	@Override
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	public void initialize() {
-
-		// TODO: comment in when problem with initialize is fixed
-		// mul = (BinaryHybridCF)Hybrids.binaryCF(ops(),
-		// IIToIIOutputII.Multiply.class,
-		// RandomAccessibleInterval.class, RandomAccessibleInterval.class,
-		// RandomAccessibleInterval.class);
-	}
-
 	/**
 	 * performs update step of the Richardson Lucy Algorithm
 	 */
 	@Override
-	public void compute(RandomAccessibleInterval<T> correction,
-		RandomAccessibleInterval<T> estimate)
+	public void compute(final RandomAccessibleInterval<T> correction,
+		final RandomAccessibleInterval<T> estimate)
 	{
+		final float[] c = DeconvolveUtils.floatData(correction);
+		final float[] e = DeconvolveUtils.floatData(estimate);
 
-		// TODO: delte these lines when problem in initialization is fixed
-		if (mul == null) {
+		if (c != null && e != null && c.length == e.length) {
+			ops().thread().chunker(new CursorBasedChunk() {
 
-			mul = Hybrids.binaryCF(ops(), IIToIIOutputII.Multiply.class, estimate,
-				correction, estimate);
+				@Override
+				public void execute(final long startIndex, final long stepSize,
+					final long numSteps)
+				{
+					int index = (int) startIndex;
+					for (long i = 0; i < numSteps; i++) {
+						e[index] *= c[index];
+						index += stepSize;
+					}
+				}
+			}, e.length);
+			return;
 		}
 
-		mul.compute(estimate, correction, estimate);
+		ops().thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				final Cursor<T> correctionCursor = Views.flatIterable(correction)
+					.cursor();
+				final Cursor<T> estimateCursor = Views.flatIterable(estimate).cursor();
+				setToStart(correctionCursor, startIndex);
+				setToStart(estimateCursor, startIndex);
+				for (long i = 0; i < numSteps; i++) {
+					estimateCursor.get().mul(correctionCursor.get());
+					correctionCursor.jumpFwd(stepSize);
+					estimateCursor.jumpFwd(stepSize);
+				}
+			}
+		}, Intervals.numElements(estimate));
 	}
 
 }
@@ -31,9 +31,12 @@
 package net.imagej.ops.deconvolve.accelerate;
 
 import net.imagej.ops.Ops;
+import net.imagej.ops.Parallel;
+import net.imagej.ops.deconvolve.DeconvolveUtils;
 import net.imagej.ops.special.function.Functions;
 import net.imagej.ops.special.function.UnaryFunctionOp;
 import net.imagej.ops.special.inplace.AbstractUnaryInplaceOp;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
 import net.imglib2.Cursor;
 import net.imglib2.Dimensions;
 import net.imglib2.FinalDimensions;
@@ -42,6 +45,7 @@ import net.imglib2.img.Img;
 import net.imglib2.img.array.ArrayImgFactory;
 import net.imglib2.type.NativeType;
 import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
 import net.imglib2.util.Util;
 import net.imglib2.view.Views;
 
@@ -52,6 +56,14 @@ import org.scijava.plugin.Plugin;
  * Vector Accelerator implements acceleration scheme described in Acceleration
  * of iterative image restoration algorithms David S.C. Biggs and Mark Andrews
  * Applied Optics, Vol. 36, Issue 8, pp. 1766-1775 (1997)
+ * <p>
+ * All buffers are allocated on the first call and reused afterwards. Each
+ * call makes at most two multithreaded sweeps: one computing the gradient
+ * together with both dot products of the acceleration factor, and one
+ * computing the change vector, the new prediction and the copies. Since the
+ * dot products are summed per chunk, the acceleration factor may differ from
+ * a sequential sum in the last bits.
+ * </p>
  * 
  * @author bnorthan
  * @param <T>
@@ -60,16 +72,18 @@ import org.scijava.plugin.Plugin;
 	priority = Priority.NORMAL_PRIORITY)
 public class VectorAccelerator<T extends RealType<T> & NativeType<T>> extends
 	AbstractUnaryInplaceOp<RandomAccessibleInterval<T>> implements
-	Ops.Deconvolve.Accelerate
+	Ops.Deconvolve.Accelerate, Parallel
 {
 
 	Img<T> xkm1_previous = null;
 	Img<T> yk_prediction = null;
-	Img<T> hk_vector = null;
 
 	Img<T> gk;
 	Img<T> gkm1;
 
+	/** whether gkm1 holds the gradient of the previous iteration */
+	boolean gkm1Valid = false;
+
 	private UnaryFunctionOp<Dimensions, Img<T>> create;
 
 	double accelerationFactor = 0.0f;
@@ -102,10 +116,8 @@ public class VectorAccelerator<T extends RealType<T> & NativeType<T>> extends
 
 			yk_prediction = create.calculate(dims);
 			xkm1_previous = create.calculate(dims);
-			yk_prediction = create.calculate(dims);
 			gk = create.calculate(dims);
-			hk_vector = create.calculate(dims);
-
+			gkm1 = create.calculate(dims);
 		}
 
 	}
@@ -119,7 +131,7 @@ public class VectorAccelerator<T extends RealType<T> & NativeType<T>> extends
 			accelerationFactor = computeAccelerationFactor(yk_iterated);
 
 			if ((accelerationFactor < 0)) {
-				gkm1 = null;
+				gkm1Valid = false;
 				accelerationFactor = 0.0;
 			}
 
@@ -127,133 +139,183 @@ public class VectorAccelerator<T extends RealType<T> & NativeType<T>> extends
 				accelerationFactor = 1.0f;
 			}
 		}
-
-		// current estimate for x is yk_iterated
-		RandomAccessibleInterval<T> xk_estimate = yk_iterated;
-
-		// calculate the change vector between x and x previous
-		if (accelerationFactor > 0) {
-			Subtract(xk_estimate, xkm1_previous, hk_vector);
-
-			// make the next prediction
-			yk_prediction = AddAndScale(xk_estimate, hk_vector,
-				(float) accelerationFactor);
-		}
 		else {
-
-			// TODO: Revisit where initialization should be done
 			initialize(yk_iterated);
-
-			Copy(xk_estimate, yk_prediction);
 		}
 
-		// make a copy of the estimate to use as previous next time
-		Copy(xk_estimate, xkm1_previous);
-
-		// HACK: TODO: look over how to transfer the memory
-		Copy(yk_prediction, yk_iterated);
+		// make the next prediction (or take the estimate as the prediction when
+		// not accelerating), remember the estimate as previous and write the
+		// prediction back, all in one sweep
+		predict(yk_iterated, (float) accelerationFactor, accelerationFactor > 0);
 	}
 
 	double computeAccelerationFactor(RandomAccessibleInterval<T> yk_iterated) {
-		// gk=StaticFunctions.Subtract(yk_iterated, yk_prediction);
-		Subtract(yk_iterated, yk_prediction, gk);
+		final double[] dots = gradient(yk_iterated, gkm1Valid);
 
-		if (gkm1 != null) {
-			double numerator = DotProduct(gk, gkm1);
-			double denominator = DotProduct(gkm1, gkm1);
-
-			gkm1 = gk.copy();
-			return numerator / denominator;
+		// the current gradient becomes the previous one
+		final Img<T> temp = gkm1;
+		gkm1 = gk;
+		gk = temp;
 
+		if (gkm1Valid) {
+			return dots[0] / dots[1];
 		}
 
-		gkm1 = gk.copy();
+		gkm1Valid = true;
 
 		return 0.0;
-
 	}
 
-	/*
-	 * multiply inputOutput by input and place the result in input
+	/**
+	 * Computes gk = yk_iterated - yk_prediction and, if requested, the dot
+	 * products (gk, gkm1) and (gkm1, gkm1).
 	 */
-	public double DotProduct(final Img<T> image1, final Img<T> image2) {
-		final Cursor<T> cursorImage1 = image1.cursor();
-		final Cursor<T> cursorImage2 = image2.cursor();
-
-		double dotProduct = 0.0d;
-
-		while (cursorImage1.hasNext()) {
-			cursorImage1.fwd();
-			cursorImage2.fwd();
-
-			float val1 = cursorImage1.get().getRealFloat();
-			float val2 = cursorImage2.get().getRealFloat();
-
-			dotProduct += val1 * val2;
-		}
-
-		return dotProduct;
-	}
-
-	// TODO replace with Op
-	// copy a into b
-	protected void Copy(RandomAccessibleInterval<T> a,
-		RandomAccessibleInterval<T> b)
+	private double[] gradient(final RandomAccessibleInterval<T> yk_iterated,
+		final boolean dot)
 	{
-
-		final Cursor<T> cursorA = Views.iterable(a).cursor();
-		final Cursor<T> cursorB = Views.iterable(b).cursor();
-
-		while (cursorA.hasNext()) {
-			cursorA.fwd();
-			cursorB.fwd();
-
-			cursorB.get().set(cursorA.get());
+		final double[] dots = new double[2];
+
+		final float[] y = DeconvolveUtils.floatData(yk_iterated);
+		final float[] p = DeconvolveUtils.floatData(yk_prediction);
+		final float[] g = DeconvolveUtils.floatData(gk);
+		final float[] g1 = DeconvolveUtils.floatData(gkm1);
+
+		if (y != null && p != null && g != null && g1 != null &&
+			y.length == p.length)
+		{
+			ops().thread().chunker(new CursorBasedChunk() {
+
+				@Override
+				public void execute(final long startIndex, final long stepSize,
+					final long numSteps)
+				{
+					double numerator = 0.0d;
+					double denominator = 0.0d;
+					int index = (int) startIndex;
+					for (long i = 0; i < numSteps; i++) {
+						final float value = y[index] - p[index];
+						g[index] = value;
+						if (dot) {
+							numerator += value * g1[index];
+							denominator += g1[index] * g1[index];
+						}
+						index += stepSize;
+					}
+					synchronized (dots) {
+						dots[0] += numerator;
+						dots[1] += denominator;
+					}
+				}
+			}, y.length);
+			return dots;
 		}
-	}
-
-	// TODO replace with op.
-	protected void Subtract(RandomAccessibleInterval<T> a,
-		RandomAccessibleInterval<T> input, RandomAccessibleInterval<T> output)
-	{
-
-		final Cursor<T> cursorA = Views.iterable(a).cursor();
-		final Cursor<T> cursorInput = Views.iterable(input).cursor();
-		final Cursor<T> cursorOutput = Views.iterable(output).cursor();
-
-		while (cursorA.hasNext()) {
-			cursorA.fwd();
-			cursorInput.fwd();
-			cursorOutput.fwd();
 
-			cursorOutput.get().set(cursorA.get());
-			cursorOutput.get().sub(cursorInput.get());
-		}
+		ops().thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				final Cursor<T> yCursor = Views.flatIterable(yk_iterated).cursor();
+				final Cursor<T> pCursor = Views.flatIterable(yk_prediction).cursor();
+				final Cursor<T> gCursor = Views.flatIterable(gk).cursor();
+				final Cursor<T> g1Cursor = Views.flatIterable(gkm1).cursor();
+				setToStart(yCursor, startIndex);
+				setToStart(pCursor, startIndex);
+				setToStart(gCursor, startIndex);
+				setToStart(g1Cursor, startIndex);
+				double numerator = 0.0d;
+				double denominator = 0.0d;
+				for (long i = 0; i < numSteps; i++) {
+					final T value = gCursor.get();
+					value.set(yCursor.get());
+					value.sub(pCursor.get());
+					if (dot) {
+						final float previous = g1Cursor.get().getRealFloat();
+						numerator += value.getRealFloat() * previous;
+						denominator += previous * previous;
+					}
+					yCursor.jumpFwd(stepSize);
+					pCursor.jumpFwd(stepSize);
+					gCursor.jumpFwd(stepSize);
+					g1Cursor.jumpFwd(stepSize);
+				}
+				synchronized (dots) {
+					dots[0] += numerator;
+					dots[1] += denominator;
+				}
+			}
+		}, Intervals.numElements(yk_iterated));
+		return dots;
 	}
 
-	// TODO: replace with op
-	public Img<T> AddAndScale(final RandomAccessibleInterval<T> img1,
-		final Img<T> img2, final float a)
+	/**
+	 * Computes the next prediction yk = max(xk + a * (xk - xkm1), 0.0001) (or
+	 * yk = xk if not accelerating), stores xk as xkm1 and writes yk back into
+	 * yk_iterated.
+	 */
+	private void predict(final RandomAccessibleInterval<T> yk_iterated,
+		final float a, final boolean accelerating)
 	{
-		Img<T> out = create.calculate(img1);
-
-		final Cursor<T> cursor1 = Views.iterable(img1).cursor();
-		final Cursor<T> cursor2 = img2.cursor();
-		final Cursor<T> cursorOut = out.cursor();
-
-		while (cursor1.hasNext()) {
-			cursor1.fwd();
-			cursor2.fwd();
-			cursorOut.fwd();
-
-			float val1 = cursor1.get().getRealFloat();
-			float val2 = cursor2.get().getRealFloat();
-
-			float val3 = Math.max(val1 + a * val2, 0.0001f);
-
-			cursorOut.get().setReal(val3);
+		final float[] x = DeconvolveUtils.floatData(yk_iterated);
+		final float[] p = DeconvolveUtils.floatData(yk_prediction);
+		final float[] x1 = DeconvolveUtils.floatData(xkm1_previous);
+
+		if (x != null && p != null && x1 != null && x.length == p.length) {
+			ops().thread().chunker(new CursorBasedChunk() {
+
+				@Override
+				public void execute(final long startIndex, final long stepSize,
+					final long numSteps)
+				{
+					int index = (int) startIndex;
+					for (long i = 0; i < numSteps; i++) {
+						final float estimate = x[index];
+						final float prediction = accelerating ? Math.max(estimate + a *
+							(estimate - x1[index]), 0.0001f) : estimate;
+						p[index] = prediction;
+						x1[index] = estimate;
+						x[index] = prediction;
+						index += stepSize;
+					}
+				}
+			}, x.length);
+			return;
 		}
 
-		return out;
+		ops().thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				final Cursor<T> xCursor = Views.flatIterable(yk_iterated).cursor();
+				final Cursor<T> pCursor = Views.flatIterable(yk_prediction).cursor();
+				final Cursor<T> x1Cursor = Views.flatIterable(xkm1_previous)
+					.cursor();
+				setToStart(xCursor, startIndex);
+				setToStart(pCursor, startIndex);
+				setToStart(x1Cursor, startIndex);
+				final T change = xCursor.get().createVariable();
+				for (long i = 0; i < numSteps; i++) {
+					final T estimate = xCursor.get();
+					final T prediction = pCursor.get();
+					if (accelerating) {
+						change.set(estimate);
+						change.sub(x1Cursor.get());
+						prediction.setReal(Math.max(estimate.getRealFloat() + a * change
+							.getRealFloat(), 0.0001f));
+					}
+					else {
+						prediction.set(estimate);
+					}
+					x1Cursor.get().set(estimate);
+					estimate.set(prediction);
+					xCursor.jumpFwd(stepSize);
+					pCursor.jumpFwd(stepSize);
+					x1Cursor.jumpFwd(stepSize);
+				}
+			}
+		}, Intervals.numElements(yk_iterated));
 	}
 }
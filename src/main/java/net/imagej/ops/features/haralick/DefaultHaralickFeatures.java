@@ -0,0 +1,228 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.features.haralick;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.image.cooccurrenceMatrix.MatrixOrientation;
+import net.imagej.ops.special.function.AbstractUnaryFunctionOp;
+import net.imagej.ops.special.function.Functions;
+import net.imagej.ops.special.function.UnaryFunctionOp;
+import net.imglib2.IterableInterval;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.real.DoubleType;
+
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Computes all {@link HaralickFeature}s at once.
+ * <p>
+ * The cooccurrence matrix and its marginal distributions are computed only
+ * once and all features are evaluated from them in two passes over the
+ * matrix, instead of once per feature as done by the individual feature ops.
+ * The results are equal to those of the individual feature ops and are
+ * returned in a map from the feature op names (e.g.
+ * {@link Ops.Haralick.ASM#NAME}) to their values.
+ * </p>
+ * 
+ * @param <T> input type
+ */
+@Plugin(type = Ops.Haralick.Features.class,
+	label = "Haralick: All Features")
+public class DefaultHaralickFeatures<T extends RealType<T>> extends
+	AbstractUnaryFunctionOp<IterableInterval<T>, Map<String, DoubleType>>
+	implements Ops.Haralick.Features, Contingent
+{
+
+	// Avoid log 0
+	private static final double EPSILON = 0.00000001f;
+
+	@Parameter
+	private int numGreyLevels = 32;
+
+	@Parameter
+	private int distance = 1;
+
+	@Parameter
+	private MatrixOrientation orientation;
+
+	private UnaryFunctionOp<IterableInterval<T>, double[][]> coocFunc;
+
+	@Override
+	public void initialize() {
+		coocFunc = Functions.unary(ops(), Ops.Image.CooccurrenceMatrix.class,
+			double[][].class, in(), numGreyLevels, distance, orientation);
+	}
+
+	@Override
+	public Map<String, DoubleType> calculate(final IterableInterval<T> input) {
+		final double[][] matrix = coocFunc.calculate(input);
+		final int nrGreyLevels = matrix.length;
+
+		// marginals and features of the matrix alone
+		final double[] px = new double[nrGreyLevels];
+		final double[] py = new double[nrGreyLevels];
+		final double[] pxplusy = new double[2 * nrGreyLevels + 1];
+		final double[] pxminusy = new double[nrGreyLevels];
+		double asm = 0;
+		double entropy = 0;
+		double ifdm = 0;
+		double maxProbability = 0;
+		double homogeneity = 0;
+		for (int i = 0; i < nrGreyLevels; i++) {
+			for (int j = 0; j < nrGreyLevels; j++) {
+				final double p = matrix[i][j];
+				px[j] += p;
+				py[i] += p;
+				pxplusy[i + j + 2] += p;
+				pxminusy[Math.abs(i - j)] += p;
+
+				asm += p * p;
+				entropy += p * Math.log10(p + EPSILON);
+				if (i != j) {
+					ifdm += p / (Math.abs(i - j));
+				}
+				if (p > maxProbability) {
+					maxProbability = p;
+				}
+				homogeneity += p / (1 + Math.abs(i - j));
+			}
+		}
+		entropy = -entropy;
+
+		double meanx = 0;
+		double meany = 0;
+		for (int i = 0; i < nrGreyLevels; i++) {
+			meanx += i * px[i];
+			meany += i * py[i];
+		}
+		double stdx = 0;
+		double stdy = 0;
+		double hx = 0;
+		double hy = 0;
+		for (int i = 0; i < nrGreyLevels; i++) {
+			stdx += ((i - meanx) * (i - meanx)) * px[i];
+			stdy += ((i - meany) * (i - meany)) * py[i];
+			hx += px[i] * Math.log(px[i] + EPSILON);
+			hy += py[i] * Math.log(py[i] + EPSILON);
+		}
+		hx = -hx;
+		hy = -hy;
+
+		// features depending on the marginals
+		double clusterPromenence = 0;
+		double clusterShade = 0;
+		double correlation = 0;
+		double variance = 0;
+		double hxy1 = 0;
+		double hxy2 = 0;
+		for (int i = 0; i < nrGreyLevels; i++) {
+			for (int j = 0; j < nrGreyLevels; j++) {
+				final double p = matrix[i][j];
+				clusterPromenence += Math.pow(i + j - meanx - meany, 4) * p;
+				clusterShade += (Math.pow((i + j - meanx - meany), 3) * p);
+				correlation += ((i - meanx) * (j - meany)) * (p / (stdx * stdy));
+				variance += (((i - meanx) * (i - meanx)) * p + ((j - meany) * (j -
+					meany)) * p);
+				hxy1 += p * Math.log(px[i] * py[j] + EPSILON);
+				hxy2 += px[i] * py[j] * Math.log(px[i] * py[j] + EPSILON);
+			}
+		}
+		hxy1 = -hxy1;
+		hxy2 = -hxy2;
+
+		// features of the sum and difference distributions
+		double contrast = 0;
+		double differenceEntropy = 0;
+		double differenceMean = 0;
+		for (int k = 0; k < nrGreyLevels; k++) {
+			contrast += k * k * pxminusy[k];
+			differenceEntropy += pxminusy[k] * Math.log(pxminusy[k] + EPSILON);
+			differenceMean += k * pxminusy[k];
+		}
+		double differenceVariance = 0;
+		for (int k = 0; k < nrGreyLevels; k++) {
+			differenceVariance += (k - differenceMean) * pxminusy[k];
+		}
+		double sumAverage = 0;
+		double sumEntropy = 0;
+		for (int i = 2; i <= 2 * nrGreyLevels; i++) {
+			sumAverage += i * pxplusy[i];
+			sumEntropy += pxplusy[i] * Math.log10(pxplusy[i] + EPSILON);
+		}
+		double sumVariance = 0;
+		for (int i = 2; i <= 2 * nrGreyLevels; i++) {
+			sumVariance += (i - sumAverage) * (i - sumAverage) * pxplusy[i];
+		}
+
+		final double icm1 = (entropy - hxy1) / (hx > hy ? hx : hy);
+		final double icm2 = Math.sqrt(1 - Math.exp(-2 * (hxy2 - entropy)));
+
+		final Map<String, DoubleType> features = new LinkedHashMap<>();
+		put(features, Ops.Haralick.ASM.NAME, asm);
+		put(features, Ops.Haralick.ClusterPromenence.NAME, clusterPromenence);
+		put(features, Ops.Haralick.ClusterShade.NAME, clusterShade);
+		put(features, Ops.Haralick.Contrast.NAME, contrast);
+		put(features, Ops.Haralick.Correlation.NAME, Double.isNaN(correlation) ? 0
+			: correlation);
+		put(features, Ops.Haralick.DifferenceEntropy.NAME, -differenceEntropy);
+		put(features, Ops.Haralick.DifferenceVariance.NAME, differenceVariance);
+		put(features, Ops.Haralick.Entropy.NAME, entropy);
+		put(features, Ops.Haralick.ICM1.NAME, icm1);
+		put(features, Ops.Haralick.ICM2.NAME, Double.isNaN(icm2) ? 0 : icm2);
+		put(features, Ops.Haralick.IFDM.NAME, ifdm);
+		put(features, Ops.Haralick.MaxProbability.NAME, maxProbability);
+		put(features, Ops.Haralick.SumAverage.NAME, sumAverage);
+		put(features, Ops.Haralick.SumEntropy.NAME, -sumEntropy);
+		put(features, Ops.Haralick.SumVariance.NAME, sumVariance);
+		put(features, Ops.Haralick.TextureHomogeneity.NAME, homogeneity);
+		put(features, Ops.Haralick.Variance.NAME, variance / 2);
+		return features;
+	}
+
+	@Override
+	public boolean conforms() {
+		return orientation.numDims() == in().numDimensions();
+	}
+
+	// -- Helper methods --
+
+	private static void put(final Map<String, DoubleType> features,
+		final String name, final double value)
+	{
+		features.put(name, new DoubleType(value));
+	}
+
+}
@@ -30,6 +30,8 @@
 
 package net.imagej.ops.features.haralick;
 
+import java.util.Map;
+
 import net.imagej.ops.AbstractNamespace;
 import net.imagej.ops.Namespace;
 import net.imagej.ops.OpMethod;
@@ -235,6 +237,18 @@ public class HaralickNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(op = net.imagej.ops.features.haralick.DefaultHaralickFeatures.class)
+	public <T extends RealType<T>> Map<String, DoubleType> features(
+		final IterableInterval<T> in, final int numGreyLevels, final int distance,
+		final MatrixOrientation orientation)
+	{
+		@SuppressWarnings("unchecked")
+		final Map<String, DoubleType> result = (Map<String, DoubleType>) ops()
+			.run(net.imagej.ops.Ops.Haralick.Features.class, in, numGreyLevels,
+				distance, orientation);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.features.haralick.DefaultICM1.class)
 	public <T extends RealType<T>> DoubleType icm1(final IterableInterval<T> in,
 		final int numGreyLevels, final int distance,
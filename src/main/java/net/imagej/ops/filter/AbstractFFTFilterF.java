@@ -31,9 +31,13 @@
 package net.imagej.ops.filter;
 
 import net.imagej.ops.filter.fft.CreateOutputFFTMethods;
+import net.imagej.ops.filter.fft.FFTCacheService;
+import net.imagej.ops.filter.fft.FFTMethodsOpC;
 import net.imagej.ops.filter.pad.PadInputFFTMethods;
 import net.imagej.ops.filter.pad.PadShiftKernelFFTMethods;
 import net.imagej.ops.special.computer.BinaryComputerOp;
+import net.imagej.ops.special.computer.Computers;
+import net.imagej.ops.special.computer.UnaryComputerOp;
 import net.imagej.ops.special.function.AbstractBinaryFunctionOp;
 import net.imagej.ops.special.function.BinaryFunctionOp;
 import net.imagej.ops.special.function.Functions;
@@ -58,6 +62,11 @@ import org.scijava.plugin.Parameter;
 /**
  * Abstract class for binary filter that performs operations using an image and
  * kernel in the frequency domain.
+ * <p>
+ * Filters which return true from {@link #useFFTCache()} take the kernel FFT
+ * from the {@link FFTCacheService} of the context, if there is one (computing
+ * and caching it on a miss), and the input FFT buffer from its pool.
+ * </p>
  * 
  * @author Brian Northan
  * @param <I>
@@ -101,6 +110,9 @@ public abstract class AbstractFFTFilterF<I extends RealType<I>, O extends RealTy
 	@Parameter(required = false)
 	private ComplexType<C> fftType;
 
+	@Parameter(required = false)
+	private FFTCacheService fftCache;
+
 	/**
 	 * Op used to pad the input
 	 */
@@ -121,6 +133,12 @@ public abstract class AbstractFFTFilterF<I extends RealType<I>, O extends RealTy
 	 */
 	private BinaryComputerOp<RandomAccessibleInterval<I>, RandomAccessibleInterval<K>, RandomAccessibleInterval<O>> filter;
 
+	/**
+	 * boolean indicating that the kernel FFT still has to be computed by the
+	 * filter
+	 */
+	private boolean performKernelFFT = true;
+
 	@Override
 	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public void initialize() {
@@ -226,11 +244,35 @@ public abstract class AbstractFFTFilterF<I extends RealType<I>, O extends RealTy
 		RandomAccessibleInterval<K> paddedKernel = padKernelOp.calculate(kernel,
 			new FinalDimensions(paddedSize));
 
-		RandomAccessibleInterval<C> fftImage = createOp.calculate(
-			new FinalDimensions(paddedSize));
+		final Dimensions paddedDimensions = new FinalDimensions(paddedSize);
 
-		RandomAccessibleInterval<C> fftKernel = createOp.calculate(
-			new FinalDimensions(paddedSize));
+		RandomAccessibleInterval<C> fftImage = null;
+		RandomAccessibleInterval<C> fftKernel = null;
+		Object[] kernelKey = null;
+
+		final boolean cached = fftCache != null && useFFTCache();
+
+		if (cached) {
+			fftImage = fftCache.takeBuffer(paddedDimensions, fftType);
+			kernelKey = fftCache.kernelKey(kernel, paddedSize, fftType);
+			fftKernel = fftCache.getKernelFFT(kernel, kernelKey);
+		}
+
+		if (fftImage == null) {
+			fftImage = createOp.calculate(paddedDimensions);
+		}
+
+		performKernelFFT = fftKernel == null;
+
+		if (fftKernel == null) {
+			fftKernel = createOp.calculate(paddedDimensions);
+
+			if (kernelKey != null) {
+				computeKernelFFT(paddedKernel, fftKernel);
+				fftCache.putKernelFFT(kernel, kernelKey, fftKernel);
+				performKernelFFT = false;
+			}
+		}
 
 		// TODO: in this case it is difficult to match the filter op in the
 		// 'initialize' as we don't know the size yet, thus we can't create memory
@@ -240,6 +282,10 @@ public abstract class AbstractFFTFilterF<I extends RealType<I>, O extends RealTy
 
 		filter.compute(paddedInput, paddedKernel, output);
 
+		if (cached) {
+			fftCache.releaseBuffer(paddedDimensions, fftType, fftImage);
+		}
+
 		return output;
 
 	}
@@ -262,6 +308,35 @@ public abstract class AbstractFFTFilterF<I extends RealType<I>, O extends RealTy
 			RandomAccessibleInterval<C> fftImg, RandomAccessibleInterval<C> fftKernel,
 			RandomAccessibleInterval<O> output, Interval imgConvolutionInterval);
 
+	/**
+	 * Whether to take the kernel FFT and the input FFT buffer from the
+	 * {@link FFTCacheService}. Only filters which do not modify the kernel FFT
+	 * and do not keep the input FFT buffer beyond {@link #calculate} may return
+	 * true; they must pass {@link #getPerformKernelFFT()} on to their filter
+	 * computer.
+	 */
+	protected boolean useFFTCache() {
+		return false;
+	}
+
+	/**
+	 * @return false if the kernel FFT passed to
+	 *         {@link #createFilterComputer} has already been computed
+	 */
+	protected boolean getPerformKernelFFT() {
+		return performKernelFFT;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void computeKernelFFT(final RandomAccessibleInterval<K> paddedKernel,
+		final RandomAccessibleInterval<C> fftKernel)
+	{
+		final UnaryComputerOp<RandomAccessibleInterval<K>, RandomAccessibleInterval<C>> fftKernelOp =
+			(UnaryComputerOp) Computers.unary(ops(), FFTMethodsOpC.class, fftKernel,
+				paddedKernel);
+		fftKernelOp.compute(paddedKernel, fftKernel);
+	}
+
 	protected long[] getBorderSize() {
 		return borderSize;
 	}
@@ -998,27 +998,28 @@ public class FilterNamespace extends AbstractNamespace {
 	}
 
 	/** Executes the "median" filter operation on the given arguments. */
-	@OpMethod(op = net.imagej.ops.filter.median.DefaultMedianFilter.class)
+	@OpMethod(ops = { net.imagej.ops.filter.median.HistogramMedianFilter.class,
+		net.imagej.ops.filter.median.DefaultMedianFilter.class })
 	public <T extends RealType<T>> IterableInterval<T> median(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in,
 		final Shape shape)
 	{
 		@SuppressWarnings("unchecked")
 		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
-			net.imagej.ops.filter.median.DefaultMedianFilter.class, out, in, shape);
+			Ops.Filter.Median.class, out, in, shape);
 		return result;
 	}
 
 	/** Executes the "median" filter operation on the given arguments. */
-	@OpMethod(op = net.imagej.ops.filter.median.DefaultMedianFilter.class)
+	@OpMethod(ops = { net.imagej.ops.filter.median.HistogramMedianFilter.class,
+		net.imagej.ops.filter.median.DefaultMedianFilter.class })
 	public <T extends RealType<T>> IterableInterval<T> median(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in,
 		final Shape shape, final OutOfBoundsFactory<T, T> outOfBoundsFactory)
 	{
 		@SuppressWarnings("unchecked")
 		final IterableInterval<T> result = (IterableInterval<T>) ops().run(
-			net.imagej.ops.filter.median.DefaultMedianFilter.class, out, in, shape,
-			outOfBoundsFactory);
+			Ops.Filter.Median.class, out, in, shape, outOfBoundsFactory);
 		return result;
 	}
 
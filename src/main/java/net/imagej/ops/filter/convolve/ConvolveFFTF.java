@@ -43,6 +43,7 @@ import net.imglib2.type.numeric.RealType;
 import net.imglib2.util.Util;
 
 import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
 import org.scijava.plugin.Plugin;
 
 /**
@@ -59,6 +60,12 @@ public class ConvolveFFTF<I extends RealType<I> & NativeType<I>, O extends RealT
 	extends AbstractFFTFilterF<I, O, K, C> implements Ops.Filter.Convolve
 {
 
+	/**
+	 * whether to take the kernel FFT from (and put it into) the FFT cache
+	 */
+	@Parameter(required = false)
+	private boolean useFFTCache = true;
+
 	@Override
 	public void initialize() {
 
@@ -73,6 +80,11 @@ public class ConvolveFFTF<I extends RealType<I> & NativeType<I>, O extends RealT
 
 	}
 
+	@Override
+	protected boolean useFFTCache() {
+		return useFFTCache;
+	}
+
 	/**
 	 * create a convolve filter computer
 	 */
@@ -85,7 +97,7 @@ public class ConvolveFFTF<I extends RealType<I> & NativeType<I>, O extends RealT
 			RandomAccessibleInterval<O> output, Interval imgConvolutionInterval)
 	{
 		return Computers.binary(ops(), ConvolveFFTC.class, output, raiExtendedInput,
-			raiExtendedKernel, fftImg, fftKernel);
+			raiExtendedKernel, fftImg, fftKernel, true, getPerformKernelFFT());
 	}
 
 }
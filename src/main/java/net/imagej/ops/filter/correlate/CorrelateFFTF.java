@@ -45,6 +45,7 @@ import net.imglib2.type.numeric.RealType;
 import net.imglib2.util.Intervals;
 
 import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
 import org.scijava.plugin.Plugin;
 
 /**
@@ -63,6 +64,12 @@ public class CorrelateFFTF<I extends RealType<I> & NativeType<I>, O extends Real
 	Ops.Filter.Correlate
 {
 
+	/**
+	 * whether to take the kernel FFT from (and put it into) the FFT cache
+	 */
+	@Parameter(required = false)
+	private boolean useFFTCache = true;
+
 	@Override
 	public void initialize() {
 
@@ -76,6 +83,11 @@ public class CorrelateFFTF<I extends RealType<I> & NativeType<I>, O extends Real
 
 	}
 
+	@Override
+	protected boolean useFFTCache() {
+		return useFFTCache;
+	}
+
 	/**
 	 * create a correlation filter computer
 	 */
@@ -88,7 +100,8 @@ public class CorrelateFFTF<I extends RealType<I> & NativeType<I>, O extends Real
 			RandomAccessibleInterval<O> output, Interval imgConvolutionInterval)
 	{
 		return Computers.binary(ops(), CorrelateFFTC.class, output,
-			raiExtendedInput, raiExtendedKernel, fftImg, fftKernel);
+			raiExtendedInput, raiExtendedKernel, fftImg, fftKernel, true,
+			getPerformKernelFFT());
 	}
 
 	@Override
@@ -0,0 +1,174 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.filter.fft;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.imagej.ops.cached.OpCache;
+import net.imagej.ops.cached.OpCache.EvictionPolicy;
+import net.imglib2.Cursor;
+import net.imglib2.Dimensions;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
+import net.imglib2.view.Views;
+
+import org.scijava.plugin.Plugin;
+import org.scijava.service.AbstractService;
+import org.scijava.service.Service;
+
+/**
+ * Default service for caching kernel FFTs and pooling FFT buffers. The kernel
+ * FFTs of a context take up at most a sixteenth of the maximum heap size;
+ * pooled buffers are only softly referenced.
+ */
+@Plugin(type = Service.class)
+public class DefaultFFTCacheService extends AbstractService implements
+	FFTCacheService
+{
+
+	/** Maximum number of pooled buffers per size and type. */
+	private static final int MAX_POOLED_BUFFERS = Runtime.getRuntime()
+		.availableProcessors();
+
+	private final OpCache kernelFFTs = new OpCache(Runtime.getRuntime()
+		.maxMemory() / 16, EvictionPolicy.LRU);
+
+	private final Map<List<Object>, Deque<SoftReference<RandomAccessibleInterval<?>>>> buffers =
+		new HashMap<>();
+
+	// -- FFTCacheService methods --
+
+	@Override
+	public OpCache kernelFFTs() {
+		return kernelFFTs;
+	}
+
+	@Override
+	public <K extends RealType<K>> Object[] kernelKey(
+		final RandomAccessibleInterval<K> kernel, final long[] paddedSize,
+		final Object fftType)
+	{
+		long fingerprint = 1;
+		final Cursor<K> cursor = Views.flatIterable(kernel).cursor();
+		while (cursor.hasNext()) {
+			fingerprint = 31 * fingerprint + Double.doubleToLongBits(cursor.next()
+				.getRealDouble());
+		}
+		return new Object[] { Intervals.minAsLongArray(kernel), Intervals
+			.dimensionsAsLongArray(kernel), fingerprint, paddedSize.clone(),
+			fftType.getClass() };
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <C> RandomAccessibleInterval<C> getKernelFFT(
+		final RandomAccessibleInterval<?> kernel, final Object[] key)
+	{
+		return (RandomAccessibleInterval<C>) kernelFFTs.get(FFTCacheService.class,
+			new Object[] { kernel }, key);
+	}
+
+	@Override
+	public void putKernelFFT(final RandomAccessibleInterval<?> kernel,
+		final Object[] key, final RandomAccessibleInterval<?> fft)
+	{
+		kernelFFTs.put(FFTCacheService.class, new Object[] { kernel }, key, fft);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <C> RandomAccessibleInterval<C> takeBuffer(
+		final Dimensions paddedSize, final Object fftType)
+	{
+		final List<Object> key = bufferKey(paddedSize, fftType);
+		synchronized (buffers) {
+			final Deque<SoftReference<RandomAccessibleInterval<?>>> pool = buffers
+				.get(key);
+			while (pool != null && !pool.isEmpty()) {
+				final RandomAccessibleInterval<?> buffer = pool.pop().get();
+				if (buffer != null) return (RandomAccessibleInterval<C>) buffer;
+			}
+			return null;
+		}
+	}
+
+	@Override
+	public void releaseBuffer(final Dimensions paddedSize, final Object fftType,
+		final RandomAccessibleInterval<?> buffer)
+	{
+		final List<Object> key = bufferKey(paddedSize, fftType);
+		synchronized (buffers) {
+			Deque<SoftReference<RandomAccessibleInterval<?>>> pool = buffers.get(key);
+			if (pool == null) {
+				pool = new ArrayDeque<>();
+				buffers.put(key, pool);
+			}
+			if (pool.size() < MAX_POOLED_BUFFERS) {
+				pool.push(new SoftReference<RandomAccessibleInterval<?>>(buffer));
+			}
+		}
+	}
+
+	@Override
+	public void clear() {
+		kernelFFTs.clear();
+		synchronized (buffers) {
+			buffers.clear();
+		}
+	}
+
+	// -- Disposable methods --
+
+	@Override
+	public void dispose() {
+		clear();
+	}
+
+	// -- Helper methods --
+
+	private static List<Object> bufferKey(final Dimensions paddedSize,
+		final Object fftType)
+	{
+		final Long[] dims = new Long[paddedSize.numDimensions()];
+		for (int d = 0; d < dims.length; d++) {
+			dims[d] = paddedSize.dimension(d);
+		}
+		return Arrays.<Object> asList(Arrays.asList(dims), fftType.getClass());
+	}
+
+}
@@ -0,0 +1,111 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.filter.fft;
+
+import net.imagej.ImageJService;
+import net.imagej.ops.cached.OpCache;
+import net.imglib2.Dimensions;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.numeric.RealType;
+
+/**
+ * Interface for services caching kernel FFTs and pooling complex FFT buffers
+ * for the FFT based filters (see
+ * {@link net.imagej.ops.filter.AbstractFFTFilterF#useFFTCache()}), so that
+ * applying the same kernel to many images of the same size computes the
+ * kernel spectrum only once.
+ * <p>
+ * Kernel FFTs are keyed by the kernel identity, a fingerprint of its content
+ * (so that a kernel modified in place misses), its interval, the requested
+ * padded size and the FFT type; cached spectra must therefore never be
+ * modified. Entries are dropped once their kernel is garbage collected.
+ * </p>
+ */
+public interface FFTCacheService extends ImageJService {
+
+	/**
+	 * Gets the cache holding the kernel FFTs, e.g. to bound its size or query
+	 * its statistics.
+	 */
+	OpCache kernelFFTs();
+
+	/**
+	 * Creates the key under which the FFT of the given kernel, padded to the
+	 * given size, is cached.
+	 * 
+	 * @param kernel the (unpadded) kernel
+	 * @param paddedSize the size the kernel is padded to before the FFT
+	 * @param fftType the type of the FFT
+	 */
+	<K extends RealType<K>> Object[] kernelKey(RandomAccessibleInterval<K> kernel,
+		long[] paddedSize, Object fftType);
+
+	/**
+	 * Gets the cached FFT of the given kernel.
+	 * 
+	 * @param kernel the (unpadded) kernel
+	 * @param key the key created by
+	 *          {@link #kernelKey(RandomAccessibleInterval, long[], Object)}
+	 * @return the kernel FFT, or null if it is not cached
+	 */
+	<C> RandomAccessibleInterval<C> getKernelFFT(
+		RandomAccessibleInterval<?> kernel, Object[] key);
+
+	/** Caches the FFT of a kernel under the given key. */
+	void putKernelFFT(RandomAccessibleInterval<?> kernel, Object[] key,
+		RandomAccessibleInterval<?> fft);
+
+	/**
+	 * Takes a buffer, previously released via
+	 * {@link #releaseBuffer(Dimensions, Object, RandomAccessibleInterval)}, out
+	 * of the pool.
+	 * 
+	 * @param paddedSize the padded size the buffer was created for
+	 * @param fftType the type of the buffer
+	 * @return the buffer, with undefined content, or null if none is pooled
+	 */
+	<C> RandomAccessibleInterval<C> takeBuffer(Dimensions paddedSize,
+		Object fftType);
+
+	/**
+	 * Returns a buffer to the pool. The caller must not use it afterwards.
+	 * 
+	 * @param paddedSize the padded size the buffer was created for
+	 * @param fftType the type of the buffer
+	 * @param buffer the buffer
+	 */
+	void releaseBuffer(Dimensions paddedSize, Object fftType,
+		RandomAccessibleInterval<?> buffer);
+
+	/** Removes all cached kernel FFTs and pooled buffers. */
+	void clear();
+
+}
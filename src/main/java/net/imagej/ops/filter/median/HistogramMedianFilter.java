@@ -0,0 +1,264 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.filter.median;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.special.computer.AbstractUnaryComputerOp;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imglib2.IterableInterval;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessible;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.neighborhood.Neighborhood;
+import net.imglib2.algorithm.neighborhood.Shape;
+import net.imglib2.outofbounds.OutOfBoundsBorderFactory;
+import net.imglib2.outofbounds.OutOfBoundsFactory;
+import net.imglib2.type.numeric.IntegerType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
+import net.imglib2.view.Views;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Histogram based implementation of {@link MedianFilterOp} for integer types
+ * of up to 16 bits and rectangular neighborhoods.
+ * <p>
+ * The neighborhood is slid along the first dimension while a histogram of its
+ * values is updated by removing the leaving and adding the entering column
+ * (Huang et al., 1979). The median is tracked incrementally from the previous
+ * one, so the cost per pixel depends on the column size instead of the
+ * neighborhood size. The lines are processed in parallel.
+ * </p>
+ * 
+ * @param <T> input type
+ * @param <V> output type
+ */
+@Plugin(type = Ops.Filter.Median.class, priority = Priority.NORMAL_PRIORITY)
+public class HistogramMedianFilter<T extends IntegerType<T>, V extends RealType<V>>
+	extends
+	AbstractUnaryComputerOp<RandomAccessibleInterval<T>, IterableInterval<V>>
+	implements MedianFilterOp<T, V>, Contingent
+{
+
+	/** Maximum number of bits per pixel the histogram is built for. */
+	private static final int MAX_BITS = 16;
+
+	@Parameter
+	private Shape shape;
+
+	@Parameter(required = false)
+	private OutOfBoundsFactory<T, RandomAccessibleInterval<T>> outOfBoundsFactory =
+		new OutOfBoundsBorderFactory<>();
+
+	@Override
+	public void compute(final RandomAccessibleInterval<T> input,
+		final IterableInterval<V> output)
+	{
+		if (Intervals.numElements(output) == 0) return;
+
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<V> out =
+			(RandomAccessibleInterval<V>) output;
+		final RandomAccessible<T> extended = Views.extend(input,
+			outOfBoundsFactory);
+
+		// bounds of the neighborhood relative to its center
+		final Neighborhood<T> neighborhood = neighborhood(extended);
+		final int n = out.numDimensions();
+		final long[] windowMin = new long[n];
+		final long[] windowMax = new long[n];
+		neighborhood.min(windowMin);
+		neighborhood.max(windowMax);
+
+		// same rank as the median computed by DefaultQuantile
+		final int rank = (int) (neighborhood.size() / 2);
+		final T type = Util.getTypeFromInterval(input);
+		final long offset = (long) type.getMinValue();
+		final int bins = (int) ((long) type.getMaxValue() - offset + 1);
+
+		final long numLines = Intervals.numElements(out) / out.dimension(0);
+		// each pixel of a line adds and removes one column of the window
+		final long columnSize = neighborhood.size() / (windowMax[0] -
+			windowMin[0] + 1);
+		final double lineCost = (double) out.dimension(0) * 2 * columnSize;
+		ops().thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				final Window<T> window = new Window<>(extended.randomAccess(), bins,
+					offset, rank);
+				final RandomAccess<V> outAccess = out.randomAccess();
+				final long[] position = new long[n];
+
+				long line = startIndex;
+				for (long i = 0; i < numSteps; i++) {
+					// position of the first pixel of the line
+					long index = line;
+					position[0] = out.min(0);
+					for (int d = 1; d < n; d++) {
+						position[d] = out.min(d) + index % out.dimension(d);
+						index /= out.dimension(d);
+					}
+					for (int d = 1; d < n; d++) {
+						window.min[d] = position[d] + windowMin[d];
+						window.max[d] = position[d] + windowMax[d];
+					}
+
+					for (long x = out.min(0) + windowMin[0]; x <= out.min(0) +
+						windowMax[0]; x++)
+					{
+						window.update(x, 1);
+					}
+					outAccess.setPosition(position);
+					for (long x = out.min(0); x <= out.max(0); x++) {
+						if (x > out.min(0)) {
+							window.update(x - 1 + windowMin[0], -1);
+							window.update(x + windowMax[0], 1);
+						}
+						outAccess.setPosition(x, 0);
+						outAccess.get().setReal(window.median() + offset);
+					}
+					// empty the histogram for the next line
+					for (long x = out.max(0) + windowMin[0]; x <= out.max(0) +
+						windowMax[0]; x++)
+					{
+						window.update(x, -1);
+					}
+
+					line += stepSize;
+				}
+			}
+		}, numLines, 0, lineCost);
+	}
+
+	@Override
+	public boolean conforms() {
+		if (!(out() instanceof RandomAccessibleInterval) || in()
+			.numDimensions() != out().numDimensions()) return false;
+
+		// the type parameters are erased, so the matcher may pass any RealType
+		final Object type = Util.getTypeFromInterval(in());
+		if (!(type instanceof IntegerType) || ((IntegerType<?>) type)
+			.getBitsPerPixel() > MAX_BITS) return false;
+
+		// only full boxes can be slid column by column
+		final Neighborhood<T> neighborhood = neighborhood(in());
+		return neighborhood.size() == Intervals.numElements(neighborhood);
+	}
+
+	// -- Helper methods --
+
+	/** Gets the neighborhood of the shape centered at the origin. */
+	private Neighborhood<T> neighborhood(final RandomAccessible<T> source) {
+		final RandomAccess<Neighborhood<T>> access = shape
+			.neighborhoodsRandomAccessible(source).randomAccess();
+		access.setPosition(new long[source.numDimensions()]);
+		return access.get();
+	}
+
+	// -- Helper classes --
+
+	/** Histogram of a box neighborhood with incrementally tracked median. */
+	private static class Window<T extends IntegerType<T>> {
+
+		/** Bounds of the box in all but the first dimension. */
+		private final long[] min;
+		private final long[] max;
+
+		private final RandomAccess<T> access;
+		private final int[] histogram;
+		private final long offset;
+		private final int rank;
+
+		/** Current median bin. */
+		private int median;
+
+		/** Number of values in bins below the median bin. */
+		private int below;
+
+		public Window(final RandomAccess<T> access, final int bins,
+			final long offset, final int rank)
+		{
+			this.access = access;
+			this.histogram = new int[bins];
+			this.offset = offset;
+			this.rank = rank;
+			min = new long[access.numDimensions()];
+			max = new long[access.numDimensions()];
+		}
+
+		/**
+		 * Adds ({@code delta == 1}) or removes ({@code delta == -1}) the values of
+		 * the column of the box at the given position of the first dimension.
+		 */
+		public void update(final long x, final int delta) {
+			final int n = min.length;
+			access.setPosition(min);
+			access.setPosition(x, 0);
+			while (true) {
+				final int bin = (int) (access.get().getIntegerLong() - offset);
+				histogram[bin] += delta;
+				if (bin < median) below += delta;
+
+				int d = 1;
+				for (; d < n; d++) {
+					if (access.getLongPosition(d) < max[d]) {
+						access.fwd(d);
+						break;
+					}
+					access.setPosition(min[d], d);
+				}
+				if (d == n) return;
+			}
+		}
+
+		/** Gets the bin holding the value of the given rank. */
+		public int median() {
+			while (below > rank) {
+				median--;
+				below -= histogram[median];
+			}
+			while (below + histogram[median] <= rank) {
+				below += histogram[median];
+				median++;
+			}
+			return median;
+		}
+	}
+
+}
@@ -35,8 +35,10 @@ import net.imagej.ops.Namespace;
 import net.imagej.ops.OpMethod;
 import net.imagej.ops.Ops.Geometric.Voxelization;
 import net.imagej.ops.geom.geom2d.DefaultConvexHull2D;
+import net.imagej.ops.geom.geom2d.LabelingContours;
 import net.imagej.ops.geom.geom3d.CovarianceOf2ndMultiVariate3D;
 import net.imagej.ops.geom.geom3d.DefaultConvexHull3D;
+import net.imagej.ops.geom.geom3d.QuickHull3D;
 import net.imagej.ops.geom.geom3d.mesh.Mesh;
 import net.imagej.ops.geom.geom3d.mesh.VertexInterpolator;
 import net.imglib2.IterableInterval;
@@ -44,10 +46,12 @@ import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.RealLocalizable;
 import net.imglib2.roi.IterableRegion;
 import net.imglib2.roi.geometric.Polygon;
+import net.imglib2.roi.labeling.ImgLabeling;
 import net.imglib2.roi.labeling.LabelRegion;
 import net.imglib2.type.BooleanType;
 import net.imglib2.type.Type;
 import net.imglib2.type.logic.BitType;
+import net.imglib2.type.numeric.IntegerType;
 import net.imglib2.type.numeric.RealType;
 import net.imglib2.type.numeric.real.DoubleType;
 import net.imglib2.util.Pair;
@@ -267,6 +271,26 @@ public class GeomNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(op = net.imagej.ops.geom.geom2d.DefaultContours.class)
+	public <L, I extends IntegerType<I>> LabelingContours<L> contours(
+		final ImgLabeling<L, I> in)
+	{
+		@SuppressWarnings("unchecked")
+		final LabelingContours<L> result = (LabelingContours<L>) ops().run(
+			net.imagej.ops.Ops.Geometric.Contours.class, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.geom.geom2d.DefaultContours.class)
+	public <L, I extends IntegerType<I>> LabelingContours<L> contours(
+		final ImgLabeling<L, I> in, final boolean useJacobs)
+	{
+		@SuppressWarnings("unchecked")
+		final LabelingContours<L> result = (LabelingContours<L>) ops().run(
+			net.imagej.ops.Ops.Geometric.Contours.class, in, useJacobs);
+		return result;
+	}
+
 	@OpMethod(op = DefaultConvexHull2D.class)
 	public Polygon convexHull(final Polygon in) {
 		final Polygon result = (Polygon) ops().run(
@@ -274,7 +298,7 @@ public class GeomNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = DefaultConvexHull3D.class)
+	@OpMethod(ops = { DefaultConvexHull3D.class, QuickHull3D.class })
 	public Mesh convexHull(final Mesh in) {
 		final Mesh result = (Mesh) ops().run(
 			net.imagej.ops.Ops.Geometric.ConvexHull.class, in);
@@ -372,11 +396,12 @@ public class GeomNamespace extends AbstractNamespace {
 		return result;
 	}
 	
-	@OpMethod(op = net.imagej.ops.geom.geom2d.DefaultMaximumFeret.class)
+	@OpMethod(ops = { net.imagej.ops.geom.geom2d.DefaultMaximumFeret.class,
+		net.imagej.ops.geom.geom2d.CalipersMaximumFeret.class })
 	public Pair<RealLocalizable, RealLocalizable> maximumFeret(final Polygon in) {
 		@SuppressWarnings("unchecked")
 		final Pair<RealLocalizable, RealLocalizable> result =
-			(Pair<RealLocalizable, RealLocalizable>) ops().run(net.imagej.ops.geom.geom2d.DefaultMaximumFeret.class, in);
+			(Pair<RealLocalizable, RealLocalizable>) ops().run(net.imagej.ops.Ops.Geometric.MaximumFeret.class, in);
 		return result;
 	}
 	
@@ -408,11 +433,12 @@ public class GeomNamespace extends AbstractNamespace {
 		return result;
 	}
 	
-	@OpMethod(op = net.imagej.ops.geom.geom2d.DefaultMinimumFeret.class)
+	@OpMethod(ops = { net.imagej.ops.geom.geom2d.DefaultMinimumFeret.class,
+		net.imagej.ops.geom.geom2d.CalipersMinimumFeret.class })
 	public Pair<RealLocalizable, RealLocalizable> minimumFeret(final Polygon in) {
 		@SuppressWarnings("unchecked")
 		final Pair<RealLocalizable, RealLocalizable> result =
-			(Pair<RealLocalizable, RealLocalizable>) ops().run(net.imagej.ops.geom.geom2d.DefaultMinimumFeret.class, in);
+			(Pair<RealLocalizable, RealLocalizable>) ops().run(net.imagej.ops.Ops.Geometric.MinimumFeret.class, in);
 		return result;
 	}
 
@@ -488,7 +514,8 @@ public class GeomNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.geom.geom3d.DefaultMarchingCubes.class)
+	@OpMethod(ops = { net.imagej.ops.geom.geom3d.DefaultMarchingCubes.class,
+		net.imagej.ops.geom.geom3d.IndexedMarchingCubes.class })
 	public <T extends Type<T>> Mesh marchingCubes(
 		final RandomAccessibleInterval<T> in)
 	{
@@ -497,7 +524,8 @@ public class GeomNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.geom.geom3d.DefaultMarchingCubes.class)
+	@OpMethod(ops = { net.imagej.ops.geom.geom3d.DefaultMarchingCubes.class,
+		net.imagej.ops.geom.geom3d.IndexedMarchingCubes.class })
 	public <T extends Type<T>> Mesh marchingCubes(
 		final RandomAccessibleInterval<T> in, final double isolevel)
 	{
@@ -506,7 +534,8 @@ public class GeomNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.geom.geom3d.DefaultMarchingCubes.class)
+	@OpMethod(ops = { net.imagej.ops.geom.geom3d.DefaultMarchingCubes.class,
+		net.imagej.ops.geom.geom3d.IndexedMarchingCubes.class })
 	public <T extends Type<T>> Mesh marchingCubes(
 		final RandomAccessibleInterval<T> in, final double isolevel,
 		final VertexInterpolator interpolatorClass)
@@ -547,6 +576,16 @@ public class GeomNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(op = net.imagej.ops.geom.geom2d.DefaultRotatingCalipers.class)
+	public net.imagej.ops.geom.geom2d.Calipers rotatingCalipers(
+		final Polygon in)
+	{
+		final net.imagej.ops.geom.geom2d.Calipers result =
+			(net.imagej.ops.geom.geom2d.Calipers) ops().run(
+				net.imagej.ops.Ops.Geometric.RotatingCalipers.class, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.geom.geom2d.DefaultRoundness.class)
 	public DoubleType roundness(final Polygon in) {
 		final DoubleType result =
@@ -664,8 +703,9 @@ public class GeomNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(
-		op = net.imagej.ops.geom.geom2d.DefaultSmallestEnclosingRectangle.class)
+	@OpMethod(ops = {
+		net.imagej.ops.geom.geom2d.DefaultSmallestEnclosingRectangle.class,
+		net.imagej.ops.geom.geom2d.CalipersSmallestEnclosingRectangle.class })
 	public Polygon smallestEnclosingBoundingBox(final Polygon in) {
 		final Polygon result = (Polygon) ops().run(
 			net.imagej.ops.Ops.Geometric.SmallestEnclosingBoundingBox.class, in);
@@ -0,0 +1,259 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.geom.geom2d;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.imglib2.RealLocalizable;
+import net.imglib2.RealPoint;
+import net.imglib2.roi.geometric.Polygon;
+import net.imglib2.util.Pair;
+import net.imglib2.util.ValuePair;
+
+/**
+ * Minimum and maximum Feret and smallest enclosing rectangle of a convex
+ * polygon, computed in a single rotating-calipers pass over its edges
+ * (Toussaint, "Solving Geometric Problems with the Rotating Calipers", 1983).
+ * <p>
+ * For every edge, the farthest vertex and the two extreme vertices along the
+ * edge are tracked with pointers that only ever move forward, so the pass
+ * takes linear time in the number of hull vertices. The farthest vertices also
+ * yield all antipodal pairs, among which is the maximum Feret.
+ * </p>
+ * <p>
+ * The vertices must be in counter-clockwise order without collinear points, as
+ * returned by {@link DefaultConvexHull2D}. Of several equal candidates, the
+ * first one is kept, following the order of the brute-force implementations.
+ * </p>
+ */
+public class Calipers {
+
+	private final Pair<RealLocalizable, RealLocalizable> maximumFeret;
+
+	private final Pair<RealLocalizable, RealLocalizable> minimumFeret;
+
+	private final Polygon smallestEnclosingRectangle;
+
+	public Calipers(final Polygon hull) {
+		final List<? extends RealLocalizable> vertices = hull.getVertices();
+		final int n = vertices.size();
+		final double[] x = new double[n];
+		final double[] y = new double[n];
+		for (int i = 0; i < n; i++) {
+			x[i] = vertices.get(i).getDoublePosition(0);
+			y[i] = vertices.get(i).getDoublePosition(1);
+		}
+
+		if (n < 3) {
+			// a point or a segment: there is no edge to rotate around
+			final int b = n - 1;
+			maximumFeret = new ValuePair<>(vertices.get(0), vertices.get(b));
+			minimumFeret = new ValuePair<>(vertices.get(0), vertices.get(0));
+			final double dx = x[b] - x[0];
+			final double dy = y[b] - y[0];
+			final double length = Math.sqrt(dx * dx + dy * dy);
+			final double c = length == 0 ? 1 : dx / length;
+			final double s = length == 0 ? 0 : dy / length;
+			final double u = dot(c, s, x[0], y[0]);
+			final double v = cross(c, s, x[0], y[0]);
+			smallestEnclosingRectangle = rectangle(c, s, u, u + length, v, v);
+			return;
+		}
+
+		int maxA = 0;
+		int maxB = 0;
+		double maxDistance = Double.NEGATIVE_INFINITY;
+		int minEdge = 0;
+		int minVertex = 0;
+		double minWidth = Double.POSITIVE_INFINITY;
+		int rectEdge = 0;
+		double rectArea = Double.POSITIVE_INFINITY;
+		double rectUMin = 0;
+		double rectUMax = 0;
+		double rectVMax = 0;
+
+		// start with the extremes of the first edge
+		int far = 0;
+		int right = 0;
+		int left = 0;
+		{
+			final double dx = x[1] - x[0];
+			final double dy = y[1] - y[0];
+			for (int j = 1; j < n; j++) {
+				if (cross(dx, dy, x[j] - x[0], y[j] - y[0]) > cross(dx, dy, x[far] -
+					x[0], y[far] - y[0])) far = j;
+				if (dot(dx, dy, x[j], y[j]) > dot(dx, dy, x[right], y[right])) right =
+					j;
+				if (dot(dx, dy, x[j], y[j]) < dot(dx, dy, x[left], y[left])) left = j;
+			}
+		}
+
+		for (int i = 0; i < n; i++) {
+			final int i1 = (i + 1) % n;
+			final double dx = x[i1] - x[i];
+			final double dy = y[i1] - y[i];
+
+			// rotate the calipers onto the current edge
+			while (cross(dx, dy, x[next(far, n)] - x[i], y[next(far, n)] - y[i]) >
+				cross(dx, dy, x[far] - x[i], y[far] - y[i]))
+			{
+				far = next(far, n);
+			}
+			while (dot(dx, dy, x[next(right, n)], y[next(right, n)]) > dot(dx, dy,
+				x[right], y[right]))
+			{
+				right = next(right, n);
+			}
+			while (dot(dx, dy, x[next(left, n)], y[next(left, n)]) < dot(dx, dy,
+				x[left], y[left]))
+			{
+				left = next(left, n);
+			}
+
+			// antipodal pairs of this edge
+			final boolean parallel = cross(dx, dy, x[next(far, n)] - x[far], y[next(
+				far, n)] - y[far]) == 0;
+			for (int k = 0; k < (parallel ? 4 : 2); k++) {
+				final int a = k % 2 == 0 ? i : i1;
+				final int b = k < 2 ? far : next(far, n);
+				final int lo = Math.min(a, b);
+				final int hi = Math.max(a, b);
+				final double distance = (x[hi] - x[lo]) * (x[hi] - x[lo]) + (y[hi] -
+					y[lo]) * (y[hi] - y[lo]);
+				if (distance > maxDistance || distance == maxDistance && (lo < maxA ||
+					lo == maxA && hi < maxB))
+				{
+					maxDistance = distance;
+					maxA = lo;
+					maxB = hi;
+				}
+			}
+
+			final double length = Math.sqrt(dx * dx + dy * dy);
+			final double width = cross(dx, dy, x[far] - x[i], y[far] - y[i]) /
+				length;
+			if (width < minWidth) {
+				minWidth = width;
+				minEdge = i;
+				minVertex = far;
+			}
+
+			final double uMin = dot(dx, dy, x[left], y[left]) / length;
+			final double uMax = dot(dx, dy, x[right], y[right]) / length;
+			final double area = width * (uMax - uMin);
+			if (area < rectArea) {
+				rectArea = area;
+				rectEdge = i;
+				rectUMin = uMin;
+				rectUMax = uMax;
+				rectVMax = cross(dx, dy, x[i], y[i]) / length + width;
+			}
+		}
+
+		maximumFeret = new ValuePair<>(vertices.get(maxA), vertices.get(maxB));
+
+		// project the vertex opposite of the narrowest edge onto the edge
+		final int e1 = (minEdge + 1) % n;
+		final double ex = x[e1] - x[minEdge];
+		final double ey = y[e1] - y[minEdge];
+		final double t = dot(ex, ey, x[minVertex] - x[minEdge], y[minVertex] -
+			y[minEdge]) / (ex * ex + ey * ey);
+		minimumFeret = new ValuePair<RealLocalizable, RealLocalizable>(
+			new RealPoint(x[minEdge] + t * ex, y[minEdge] + t * ey), vertices.get(
+				minVertex));
+
+		final int r1 = (rectEdge + 1) % n;
+		final double rx = x[r1] - x[rectEdge];
+		final double ry = y[r1] - y[rectEdge];
+		final double length = Math.sqrt(rx * rx + ry * ry);
+		smallestEnclosingRectangle = rectangle(rx / length, ry / length,
+			rectUMin, rectUMax, cross(rx, ry, x[rectEdge], y[rectEdge]) / length,
+			rectVMax);
+	}
+
+	/**
+	 * @return the two vertices that are farthest apart
+	 */
+	public Pair<RealLocalizable, RealLocalizable> getMaximumFeret() {
+		return maximumFeret;
+	}
+
+	/**
+	 * @return the projection of a vertex onto the opposite edge and the vertex
+	 *         itself, for the edge with the smallest such distance
+	 */
+	public Pair<RealLocalizable, RealLocalizable> getMinimumFeret() {
+		return minimumFeret;
+	}
+
+	/**
+	 * @return the rectangle of smallest area that encloses the polygon
+	 */
+	public Polygon getSmallestEnclosingRectangle() {
+		return smallestEnclosingRectangle;
+	}
+
+	// -- Helper methods --
+
+	private static int next(final int i, final int n) {
+		return i + 1 == n ? 0 : i + 1;
+	}
+
+	private static double cross(final double ax, final double ay,
+		final double bx, final double by)
+	{
+		return ax * by - ay * bx;
+	}
+
+	private static double dot(final double ax, final double ay, final double bx,
+		final double by)
+	{
+		return ax * bx + ay * by;
+	}
+
+	/**
+	 * Creates the rectangle spanned by the given extents along the unit vector
+	 * (c, s) and its normal, with its corners ordered as those of
+	 * {@link DefaultBoundingBox}.
+	 */
+	private static Polygon rectangle(final double c, final double s,
+		final double uMin, final double uMax, final double vMin, final double vMax)
+	{
+		final List<RealLocalizable> corners = new ArrayList<>(4);
+		corners.add(new RealPoint(uMin * c - vMin * s, uMin * s + vMin * c));
+		corners.add(new RealPoint(uMin * c - vMax * s, uMin * s + vMax * c));
+		corners.add(new RealPoint(uMax * c - vMax * s, uMax * s + vMax * c));
+		corners.add(new RealPoint(uMax * c - vMin * s, uMax * s + vMin * c));
+		return new Polygon(corners);
+	}
+
+}
@@ -0,0 +1,266 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.geom.geom2d;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.Parallel;
+import net.imagej.ops.special.function.AbstractUnaryFunctionOp;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.roi.labeling.ImgLabeling;
+import net.imglib2.roi.labeling.LabelingMapping;
+import net.imglib2.type.numeric.IntegerType;
+
+import org.scijava.ItemIO;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Generic implementation of {@code geom.contours}.
+ * <p>
+ * Traces the outer contour of every label of a 2D {@link ImgLabeling} in one
+ * go: the index image is read into an array in a parallel scan over strips of
+ * rows, which also finds the first pixel of each label in raster order. From
+ * there, each label is traced in parallel with the same clockwise Moore
+ * neighborhood walk and stopping criteria as {@link DefaultContour}, so the
+ * contour of a label equals the contour of its {@code LabelRegion}.
+ * </p>
+ *
+ * @param <L> label type
+ * @param <I> index type of the labeling
+ */
+@Plugin(type = Ops.Geometric.Contours.class)
+public class DefaultContours<L, I extends IntegerType<I>> extends
+	AbstractUnaryFunctionOp<ImgLabeling<L, I>, LabelingContours<L>> implements
+	Contingent, Parallel, Ops.Geometric.Contours
+{
+
+	/** Moves of the clockwise Moore neighborhood walk. */
+	private static final int[] CLOCKWISE_X = { 0, 1, 1, 0, 0, -1, -1, 0 };
+
+	private static final int[] CLOCKWISE_Y = { -1, 0, 0, 1, 1, 0, 0, -1 };
+
+	/** Moves that undo the last move of the walk. */
+	private static final int[] BACK_X = { 0, 0, -1, -1, 0, 0, 1, 1 };
+
+	private static final int[] BACK_Y = { 1, 1, 0, 0, -1, -1, 0, 0 };
+
+	@Parameter(type = ItemIO.INPUT,
+		description = "Set this flag to use  refined Jacobs stopping criteria")
+	private boolean useJacobs = true;
+
+	@Override
+	public LabelingContours<L> calculate(final ImgLabeling<L, I> input) {
+		final int width = (int) input.dimension(0);
+		final int height = (int) input.dimension(1);
+		final long minX = input.min(0);
+		final long minY = input.min(1);
+
+		// labels of each index, as ids into the list of all labels
+		final LabelingMapping<L> mapping = input.getMapping();
+		final List<L> allLabels = new ArrayList<>(mapping.getLabels());
+		final Map<L, Integer> ids = new HashMap<>(allLabels.size() * 2);
+		for (int i = 0; i < allLabels.size(); i++) {
+			ids.put(allLabels.get(i), i);
+		}
+		final int[][] sets = new int[mapping.numSets()][];
+		for (int i = 0; i < sets.length; i++) {
+			final Set<L> set = mapping.labelsAtIndex(i);
+			sets[i] = new int[set.size()];
+			int k = 0;
+			for (final L label : set) {
+				sets[i][k++] = ids.get(label);
+			}
+		}
+
+		// read the index image and find the first pixel of each label
+		final RandomAccessibleInterval<I> indexImg = input.getIndexImg();
+		final int[] indices = new int[width * height];
+		final int[] first = new int[allLabels.size()];
+		Arrays.fill(first, Integer.MAX_VALUE);
+		ops().thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				final RandomAccess<I> access = indexImg.randomAccess();
+				final int[] stripFirst = new int[first.length];
+				Arrays.fill(stripFirst, Integer.MAX_VALUE);
+				long row = startIndex;
+				for (long step = 0; step < numSteps; step++) {
+					access.setPosition(minX, 0);
+					access.setPosition(minY + row, 1);
+					int p = (int) row * width;
+					for (int x = 0; x < width; x++) {
+						final int index = access.get().getInteger();
+						indices[p] = index;
+						for (final int id : sets[index]) {
+							if (p < stripFirst[id]) stripFirst[id] = p;
+						}
+						access.fwd(0);
+						p++;
+					}
+					row += stepSize;
+				}
+				synchronized (first) {
+					for (int id = 0; id < first.length; id++) {
+						first[id] = Math.min(first[id], stripFirst[id]);
+					}
+				}
+			}
+		}, height, 0, width);
+
+		// trace the labels that occur, in raster order of their first pixels
+		final List<Integer> present = new ArrayList<>();
+		for (int id = 0; id < first.length; id++) {
+			if (first[id] != Integer.MAX_VALUE) present.add(id);
+		}
+		present.sort((a, b) -> Integer.compare(first[a], first[b]));
+
+		final int[][] contours = new int[present.size()][];
+		// estimated trace cost: the perimeter of a square of the mean label area
+		final double traceCost = 4 * Math.sqrt((double) width * height / Math.max(
+			1, contours.length));
+		ops().thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				long i = startIndex;
+				for (long step = 0; step < numSteps; step++) {
+					final int id = present.get((int) i);
+					contours[(int) i] = trace(indices, sets, width, height, id,
+						first[id]);
+					i += stepSize;
+				}
+			}
+		}, contours.length, 0, traceCost);
+
+		final List<L> labels = new ArrayList<>(contours.length);
+		final int[] offsets = new int[contours.length + 1];
+		for (int i = 0; i < contours.length; i++) {
+			labels.add(allLabels.get(present.get(i)));
+			offsets[i + 1] = offsets[i] + contours[i].length / 2;
+		}
+		final int[] coordinates = new int[2 * offsets[contours.length]];
+		for (int i = 0; i < contours.length; i++) {
+			final int[] contour = contours[i];
+			final int start = 2 * offsets[i];
+			for (int k = 0; k < contour.length; k += 2) {
+				coordinates[start + k] = (int) (contour[k] + minX);
+				coordinates[start + k + 1] = (int) (contour[k + 1] + minY);
+			}
+		}
+		return new LabelingContours<>(labels, offsets, coordinates);
+	}
+
+	@Override
+	public boolean conforms() {
+		return in().numDimensions() == 2 && in().dimension(0) * in().dimension(
+			1) <= Integer.MAX_VALUE;
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Walks clockwise along the boundary of label {@code id}, starting at its
+	 * first pixel {@code start}, and returns the interleaved coordinates of the
+	 * boundary pixels relative to the minimum of the labeling.
+	 */
+	private int[] trace(final int[] indices, final int[][] sets,
+		final int width, final int height, final int id, final int start)
+	{
+		final int sx = start % width;
+		final int sy = start / width;
+		int[] contour = new int[64];
+		contour[0] = sx;
+		contour[1] = sy;
+		int size = 2;
+
+		// enter the start pixel from its left neighbor, which is background
+		int x = sx - 1;
+		int y = sy;
+		int offset = 0;
+		int stop = 7;
+		while (offset != stop) {
+			x += CLOCKWISE_X[offset];
+			y += CLOCKWISE_Y[offset];
+			offset = (offset + 1) & 7;
+			if (!contains(indices, sets, width, height, x, y, id)) continue;
+
+			boolean specialBacktrack = false;
+			if (x == sx && y == sy) {
+				// start pixel was found
+				if (!useJacobs) break;
+				// Jacobs stopping criteria with Jonathan's refinement
+				if (offset == 1 || offset == 0) specialBacktrack = true;
+				else if (offset == 2 || offset == 3) break;
+			}
+
+			if (size == contour.length) contour = Arrays.copyOf(contour, 2 * size);
+			contour[size++] = x;
+			contour[size++] = y;
+
+			// backtrack: undo the last move and continue the walk from there
+			final int backX = BACK_X[offset];
+			final int backY = BACK_Y[offset];
+			x += backX;
+			y += backY;
+			if (backX == 0) offset = backY == 1 ? 6 : 2;
+			else offset = backX == 1 ? 4 : 0;
+			stop = (offset + (specialBacktrack ? 5 : 7)) & 7;
+		}
+		return Arrays.copyOf(contour, size);
+	}
+
+	private static boolean contains(final int[] indices, final int[][] sets,
+		final int width, final int height, final int x, final int y,
+		final int id)
+	{
+		if (x < 0 || y < 0 || x >= width || y >= height) return false;
+		for (final int label : sets[indices[y * width + x]]) {
+			if (label == id) return true;
+		}
+		return false;
+	}
+
+}
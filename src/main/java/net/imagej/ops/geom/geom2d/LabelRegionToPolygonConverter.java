@@ -68,7 +68,7 @@ public class LabelRegionToPolygonConverter extends
 		if (contourFunc == null) {
 			contourFunc = (UnaryFunctionOp) Functions.unary(ops, Ops.Geometric.Contour.class, dest, src, true);
 		}
-		// FIXME: can we make this faster?
+		// NB: to convert all regions of a labeling, use Ops.Geometric.Contours
 		final Polygon p = (Polygon) contourFunc.calculate(src);
 		return (T) p;
 	}
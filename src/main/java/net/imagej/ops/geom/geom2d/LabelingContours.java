@@ -0,0 +1,146 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.geom.geom2d;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.imglib2.RealLocalizable;
+import net.imglib2.RealPoint;
+import net.imglib2.roi.geometric.Polygon;
+
+/**
+ * Outer contours of all labels of a labeling, as traced by
+ * {@link DefaultContours}.
+ * <p>
+ * The vertices of all contours are kept in one {@code int} array of
+ * interleaved x and y coordinates; the contour of a label is a range of it.
+ * {@link #getPolygon(Object)} wraps that range without copying, creating the
+ * vertices only when they are accessed.
+ * </p>
+ *
+ * @param <L> label type
+ */
+public class LabelingContours<L> {
+
+	private final List<L> labels;
+
+	private final Map<L, Integer> indices;
+
+	/** Start of each contour in {@link #coordinates}, in vertices. */
+	private final int[] offsets;
+
+	private final int[] coordinates;
+
+	/**
+	 * @param labels the labels in the order of their contours
+	 * @param offsets the first vertex of each contour, followed by the total
+	 *          number of vertices
+	 * @param coordinates interleaved x and y coordinates of all vertices
+	 */
+	public LabelingContours(final List<L> labels, final int[] offsets,
+		final int[] coordinates)
+	{
+		this.labels = Collections.unmodifiableList(labels);
+		this.offsets = offsets;
+		this.coordinates = coordinates;
+		indices = new HashMap<>(labels.size() * 2);
+		for (int i = 0; i < labels.size(); i++) {
+			indices.put(labels.get(i), i);
+		}
+	}
+
+	/**
+	 * @return the labels that occur in the labeling, in the order in which they
+	 *         are first encountered in a raster scan
+	 */
+	public List<L> getLabels() {
+		return labels;
+	}
+
+	/**
+	 * @return the number of vertices of the contour of the label, or 0 if the
+	 *         label does not occur
+	 */
+	public int getVertexCount(final L label) {
+		final Integer i = indices.get(label);
+		return i == null ? 0 : offsets[i + 1] - offsets[i];
+	}
+
+	/**
+	 * @return the interleaved x and y coordinates of the vertices of all
+	 *         contours; this is the internal array and must not be modified
+	 */
+	public int[] getCoordinateArray() {
+		return coordinates;
+	}
+
+	/**
+	 * @return the first vertex of the contour of each label in
+	 *         {@link #getLabels()} order, followed by the total number of
+	 *         vertices; this is the internal array and must not be modified
+	 */
+	public int[] getOffsetArray() {
+		return offsets;
+	}
+
+	/**
+	 * @return the contour of the label as a {@link Polygon}, or null if the
+	 *         label does not occur
+	 */
+	public Polygon getPolygon(final L label) {
+		final Integer i = indices.get(label);
+		if (i == null) return null;
+		final int start = offsets[i];
+		final int size = offsets[i + 1] - start;
+		return new Polygon(new AbstractList<RealLocalizable>() {
+
+			@Override
+			public RealLocalizable get(final int index) {
+				if (index < 0 || index >= size) {
+					throw new IndexOutOfBoundsException("" + index);
+				}
+				final int k = 2 * (start + index);
+				return new RealPoint((double) coordinates[k],
+					(double) coordinates[k + 1]);
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		});
+	}
+
+}
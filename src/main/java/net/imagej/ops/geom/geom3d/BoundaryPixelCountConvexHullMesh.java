@@ -31,6 +31,7 @@
 package net.imagej.ops.geom.geom3d;
 
 import net.imagej.ops.Ops;
+import net.imagej.ops.geom.geom3d.mesh.IndexedMesh;
 import net.imagej.ops.geom.geom3d.mesh.Mesh;
 import net.imagej.ops.special.function.Functions;
 import net.imagej.ops.special.function.UnaryFunctionOp;
@@ -60,7 +61,12 @@ public class BoundaryPixelCountConvexHullMesh extends
 
 	@Override
 	public void compute(final Mesh input, final DoubleType output) {
-		output.set(convexHullFunc.calculate(input).getVertices().size());
+		final Mesh hull = convexHullFunc.calculate(input);
+		if (hull instanceof IndexedMesh) {
+			output.set(((IndexedMesh) hull).getVertexCount());
+			return;
+		}
+		output.set(hull.getVertices().size());
 	}
 	
 	@Override
@@ -285,7 +285,7 @@ public class DefaultMarchingCubes<T extends BooleanType<T>> extends
 	// This table is from Paul Bourke's
 	// (http://paulbourke.net/geometry/polygonise/)
 	// Marching Cubes implementation.
-	private static final int[][] TRIANGLE_TABLE = new int[][] { { -1, -1, -1, -1,
+	static final int[][] TRIANGLE_TABLE = new int[][] { { -1, -1, -1, -1,
 		-1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1 }, { 0, 8, 3, -1, -1, -1, -1,
 			-1, -1, -1, -1, -1, -1, -1, -1, -1 }, { 0, 1, 9, -1, -1, -1, -1, -1, -1,
 				-1, -1, -1, -1, -1, -1, -1 }, { 1, 8, 3, 9, 8, 1, -1, -1, -1, -1, -1,
@@ -32,6 +32,7 @@ package net.imagej.ops.geom.geom3d;
 
 import net.imagej.ops.Ops;
 import net.imagej.ops.geom.GeometricOp;
+import net.imagej.ops.geom.geom3d.mesh.IndexedMesh;
 import net.imagej.ops.geom.geom3d.mesh.Mesh;
 import net.imagej.ops.special.hybrid.AbstractUnaryHybridCF;
 import net.imglib2.type.numeric.real.DoubleType;
@@ -54,6 +55,10 @@ public class DefaultSurfacePixelCount extends
 
 	@Override
 	public void compute(final Mesh input, final DoubleType output) {
+		if (input instanceof IndexedMesh) {
+			output.set(((IndexedMesh) input).getVertexCount());
+			return;
+		}
 		output.set(input.getVertices().size());
 	}
 	
@@ -31,7 +31,6 @@ package net.imagej.ops.geom.geom3d;
 
 import net.imagej.ops.OpService;
 import net.imagej.ops.Ops;
-import net.imagej.ops.geom.geom3d.mesh.DefaultMesh;
 import net.imagej.ops.geom.geom3d.mesh.Facet;
 import net.imagej.ops.geom.geom3d.mesh.Mesh;
 import net.imagej.ops.geom.geom3d.mesh.TriangularFacet;
@@ -83,9 +82,7 @@ public class DefaultVoxelization3D extends AbstractUnaryFunctionOp<Mesh, RandomA
 
 		Img<BitType> outImg = ops.create().img(new FinalInterval(width, height, depth), new BitType());
 
-		DefaultMesh dMesh = (DefaultMesh) input;
-
-		Set<RealLocalizable> verts = dMesh.getVertices();
+		Set<RealLocalizable> verts = input.getVertices();
 
 		RealPoint minPoint = new RealPoint(verts.iterator().next());
 		RealPoint maxPoint = new RealPoint(verts.iterator().next());
@@ -119,7 +116,7 @@ public class DefaultVoxelization3D extends AbstractUnaryFunctionOp<Mesh, RandomA
 		for (int k = 0; k < stepSizes.length; k++)
 			voxelHalfsize[k] = stepSizes[k] / 2.0;
 
-		for (Facet f : dMesh.getFacets()) {
+		for (Facet f : input.getFacets()) {
 			TriangularFacet tri = (TriangularFacet) f;
 
 			Vector3D v1 = tri.getP0();
@@ -0,0 +1,434 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.geom.geom3d;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.Parallel;
+import net.imagej.ops.geom.geom3d.mesh.BitTypeVertexInterpolator;
+import net.imagej.ops.geom.geom3d.mesh.DefaultVertexInterpolator;
+import net.imagej.ops.geom.geom3d.mesh.IndexedMesh;
+import net.imagej.ops.geom.geom3d.mesh.Mesh;
+import net.imagej.ops.geom.geom3d.mesh.VertexInterpolator;
+import net.imagej.ops.special.function.AbstractUnaryFunctionOp;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessible;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.BooleanType;
+import net.imglib2.type.logic.BoolType;
+import net.imglib2.view.Views;
+
+import org.scijava.ItemIO;
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Marching cubes producing an {@link IndexedMesh}, with the same triangles as
+ * {@link DefaultMarchingCubes}. The intersection of the surface with an edge of
+ * the voxel grid is computed once and shared by all cubes around that edge;
+ * the edge intersections of the current and the next plane are cached in flat
+ * arrays.
+ * <p>
+ * The cube layers are cut into slabs along the third dimension, which are
+ * processed in parallel. The vertices on the plane between two slabs are
+ * computed by the lower slab and looked up by the upper one when the slabs are
+ * merged.
+ * </p>
+ *
+ * @param <T> BooleanType
+ */
+@Plugin(type = Ops.Geometric.MarchingCubes.class,
+	priority = Priority.HIGH_PRIORITY)
+public class IndexedMarchingCubes<T extends BooleanType<T>> extends
+	AbstractUnaryFunctionOp<RandomAccessibleInterval<T>, Mesh> implements
+	Ops.Geometric.MarchingCubes, Contingent, Parallel
+{
+
+	@Parameter(type = ItemIO.INPUT, required = false)
+	private double isolevel = 1;
+
+	@Parameter(type = ItemIO.INPUT, required = false)
+	private VertexInterpolator interpolatorClass =
+		new BitTypeVertexInterpolator();
+
+	/** Lowest corner of the cube grid. */
+	private int[] origin;
+
+	/** Number of grid points along the first two dimensions. */
+	private int width, height;
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public IndexedMesh calculate(final RandomAccessibleInterval<T> input) {
+		final RandomAccessible<T> extended = Views.extendValue(input,
+			(T) new BoolType(false));
+
+		// NB: The cubes start one pixel before the input, and those starting at
+		// its last pixel are the last ones which can hold foreground.
+		origin = new int[] { (int) input.min(0) - 1, (int) input.min(1) - 1,
+			(int) input.min(2) - 1 };
+		width = (int) input.dimension(0) + 2;
+		height = (int) input.dimension(1) + 2;
+		final int layers = (int) input.dimension(2) + 1;
+
+		final int numSlabs = Math.min(layers, Runtime.getRuntime()
+			.availableProcessors());
+		final List<Slab> slabs = new ArrayList<>(numSlabs);
+		for (int s = 0; s < numSlabs; s++) {
+			slabs.add(new Slab(origin[2] + layers * s / numSlabs, origin[2] +
+				layers * (s + 1) / numSlabs - 1, s > 0));
+		}
+
+		ops().thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				long index = startIndex;
+				for (long step = 0; step < numSteps; step++) {
+					slabs.get((int) index).run(extended);
+					index += stepSize;
+				}
+			}
+		}, numSlabs, 1);
+
+		return merge(slabs);
+	}
+
+	@Override
+	public boolean conforms() {
+		return in().numDimensions() == 3;
+	}
+
+	// -- Helper methods --
+
+	private IndexedMesh merge(final List<Slab> slabs) {
+		final int[] vertexOffsets = new int[slabs.size()];
+		int vertexCount = 0;
+		int triangleCount = 0;
+		for (int s = 0; s < slabs.size(); s++) {
+			vertexOffsets[s] = vertexCount;
+			vertexCount += slabs.get(s).vertexCount;
+			triangleCount += slabs.get(s).triangleCount;
+		}
+
+		final float[] vertices = new float[3 * vertexCount];
+		final int[] triangles = new int[3 * triangleCount];
+		int t = 0;
+		for (int s = 0; s < slabs.size(); s++) {
+			final Slab slab = slabs.get(s);
+			System.arraycopy(slab.vertices, 0, vertices, 3 * vertexOffsets[s], 3 *
+				slab.vertexCount);
+			for (int i = 0; i < 3 * slab.triangleCount; i++) {
+				final int v = slab.triangles[i];
+				triangles[t++] = v >= 0 ? v + vertexOffsets[s] : vertexOffsets[s - 1] +
+					slabs.get(s - 1).boundaryVertex(-v - 1);
+			}
+		}
+
+		// NB: Only interpolators other than the midpoint can map distinct edges to
+		// the same position.
+		if (interpolatorClass.getClass() == BitTypeVertexInterpolator.class) {
+			return new IndexedMesh(vertices, triangles);
+		}
+		return IndexedMesh.weld(vertices, vertexCount, triangles, triangleCount);
+	}
+
+	/**
+	 * Interpolates the surface position on the edge from the given grid point
+	 * along the given axis.
+	 */
+	private void interpolate(final int x, final int y, final int z,
+		final int axis, final double v0, final double v1, final float[] out,
+		final int offset)
+	{
+		out[offset] = x;
+		out[offset + 1] = y;
+		out[offset + 2] = z;
+		final Class<?> interpolatorType = interpolatorClass.getClass();
+		if (interpolatorType == BitTypeVertexInterpolator.class) {
+			out[offset + axis] += 0.5f;
+		}
+		else if (interpolatorType == DefaultVertexInterpolator.class) {
+			// NB: Same cases as DefaultVertexInterpolator.
+			if (Math.abs(isolevel - v0) < 0.00001) return;
+			if (Math.abs(isolevel - v1) < 0.00001) {
+				out[offset + axis] += 1;
+			}
+			else if (Math.abs(v0 - v1) >= 0.00001) {
+				out[offset + axis] += (isolevel - v0) / (v1 - v0);
+			}
+		}
+		else {
+			final int[] p1 = { x, y, z };
+			final int[] p2 = { x, y, z };
+			p2[axis]++;
+			final double[] p;
+			synchronized (interpolatorClass) {
+				interpolatorClass.setPoint1(p1);
+				interpolatorClass.setPoint2(p2);
+				interpolatorClass.setValue1(v0);
+				interpolatorClass.setValue2(v1);
+				interpolatorClass.setIsoLevel(isolevel);
+				interpolatorClass.run();
+				p = interpolatorClass.getOutput();
+			}
+			for (int d = 0; d < 3; d++) {
+				out[offset + d] = (float) p[d];
+			}
+		}
+	}
+
+	// -- Helper classes --
+
+	/** The triangles of a range of cube layers. */
+	private class Slab {
+
+		private final int firstLayer;
+
+		private final int lastLayer;
+
+		/**
+		 * Whether the vertices of the first plane are left to the previous slab;
+		 * triangles then refer to them by {@code -1 - edge key}.
+		 */
+		private final boolean deferFirstPlane;
+
+		private float[] vertices = new float[3 * 64];
+
+		private int vertexCount;
+
+		private int[] triangles = new int[3 * 64];
+
+		private int triangleCount;
+
+		/** Vertex indices of the x- and y-edges of the plane after the slab. */
+		private int[] lastEdgesX, lastEdgesY;
+
+		// current state
+		private boolean[] plane0, plane1;
+
+		private int[] edgesX0, edgesY0, edgesX1, edgesY1, edgesZ;
+
+		private int z;
+
+		private boolean deferred;
+
+		public Slab(final int firstLayer, final int lastLayer,
+			final boolean deferFirstPlane)
+		{
+			this.firstLayer = firstLayer;
+			this.lastLayer = lastLayer;
+			this.deferFirstPlane = deferFirstPlane;
+		}
+
+		private void run(final RandomAccessible<T> extended) {
+			final int planeSize = width * height;
+			final RandomAccess<T> access = extended.randomAccess();
+			plane0 = new boolean[planeSize];
+			plane1 = new boolean[planeSize];
+			edgesX0 = filled(planeSize);
+			edgesY0 = filled(planeSize);
+			edgesX1 = filled(planeSize);
+			edgesY1 = filled(planeSize);
+			edgesZ = filled(planeSize);
+			final boolean belowIfSet = 1 < isolevel;
+			final boolean belowIfUnset = 0 < isolevel;
+
+			readPlane(access, firstLayer, plane0);
+			for (z = firstLayer; z <= lastLayer; z++) {
+				readPlane(access, z + 1, plane1);
+				Arrays.fill(edgesX1, -1);
+				Arrays.fill(edgesY1, -1);
+				Arrays.fill(edgesZ, -1);
+				deferred = deferFirstPlane && z == firstLayer;
+
+				for (int y = 0; y < height - 1; y++) {
+					for (int x = 0; x < width - 1; x++) {
+						final int i = y * width + x;
+						// corners in the order of the lookup tables
+						int cubeIndex = 0;
+						if (plane0[i] ? belowIfSet : belowIfUnset) cubeIndex |= 1;
+						if (plane0[i + 1] ? belowIfSet : belowIfUnset) cubeIndex |= 2;
+						if (plane1[i + 1] ? belowIfSet : belowIfUnset) cubeIndex |= 4;
+						if (plane1[i] ? belowIfSet : belowIfUnset) cubeIndex |= 8;
+						if (plane0[i + width] ? belowIfSet : belowIfUnset) cubeIndex |= 16;
+						if (plane0[i + width + 1] ? belowIfSet : belowIfUnset) {
+							cubeIndex |= 32;
+						}
+						if (plane1[i + width + 1] ? belowIfSet : belowIfUnset) {
+							cubeIndex |= 64;
+						}
+						if (plane1[i + width] ? belowIfSet : belowIfUnset) cubeIndex |= 128;
+						if (cubeIndex == 0) continue;
+
+						final int[] table = DefaultMarchingCubes.TRIANGLE_TABLE[cubeIndex];
+						for (int k = 0; table[k] != -1; k += 3) {
+							// NB: Same orientation as DefaultMarchingCubes.
+							addTriangle(vertex(table[k + 2], x, y, i), vertex(table[k + 1],
+								x, y, i), vertex(table[k], x, y, i));
+						}
+					}
+				}
+
+				final boolean[] plane = plane0;
+				plane0 = plane1;
+				plane1 = plane;
+				int[] edges = edgesX0;
+				edgesX0 = edgesX1;
+				edgesX1 = edges;
+				edges = edgesY0;
+				edgesY0 = edgesY1;
+				edgesY1 = edges;
+			}
+
+			lastEdgesX = edgesX0;
+			lastEdgesY = edgesY0;
+			plane0 = plane1 = null;
+			edgesX0 = edgesY0 = edgesX1 = edgesY1 = edgesZ = null;
+		}
+
+		/** Gets the vertex of an edge of the lookup tables. */
+		private int vertex(final int edge, final int x, final int y, final int i) {
+			switch (edge) {
+				case 0:
+					return edgeX(edgesX0, plane0, i, x, y, z, deferred);
+				case 1:
+					return edgeZ(i + 1, x + 1, y);
+				case 2:
+					return edgeX(edgesX1, plane1, i, x, y, z + 1, false);
+				case 3:
+					return edgeZ(i, x, y);
+				case 4:
+					return edgeX(edgesX0, plane0, i + width, x, y + 1, z, deferred);
+				case 5:
+					return edgeZ(i + width + 1, x + 1, y + 1);
+				case 6:
+					return edgeX(edgesX1, plane1, i + width, x, y + 1, z + 1, false);
+				case 7:
+					return edgeZ(i + width, x, y + 1);
+				case 8:
+					return edgeY(edgesY0, plane0, i, x, y, z, deferred);
+				case 9:
+					return edgeY(edgesY0, plane0, i + 1, x + 1, y, z, deferred);
+				case 10:
+					return edgeY(edgesY1, plane1, i + 1, x + 1, y, z + 1, false);
+				default:
+					return edgeY(edgesY1, plane1, i, x, y, z + 1, false);
+			}
+		}
+
+		private int edgeX(final int[] edges, final boolean[] plane, final int i,
+			final int x, final int y, final int planeZ, final boolean defer)
+		{
+			if (edges[i] >= 0) return edges[i];
+			if (defer) return -1 - i;
+			edges[i] = addVertex(x, y, planeZ, 0, plane[i], plane[i + 1]);
+			return edges[i];
+		}
+
+		private int edgeY(final int[] edges, final boolean[] plane, final int i,
+			final int x, final int y, final int planeZ, final boolean defer)
+		{
+			if (edges[i] >= 0) return edges[i];
+			if (defer) return -1 - width * height - i;
+			edges[i] = addVertex(x, y, planeZ, 1, plane[i], plane[i + width]);
+			return edges[i];
+		}
+
+		private int edgeZ(final int i, final int x, final int y) {
+			if (edgesZ[i] < 0) {
+				edgesZ[i] = addVertex(x, y, z, 2, plane0[i], plane1[i]);
+			}
+			return edgesZ[i];
+		}
+
+		/** Gets the vertex of the plane after the slab for an edge key. */
+		private int boundaryVertex(final int key) {
+			final int planeSize = width * height;
+			final int vertex = key < planeSize ? lastEdgesX[key]
+				: lastEdgesY[key - planeSize];
+			if (vertex < 0) {
+				throw new IllegalStateException("No vertex on slab boundary edge " +
+					key);
+			}
+			return vertex;
+		}
+
+		private int addVertex(final int x, final int y, final int planeZ,
+			final int axis, final boolean value0, final boolean value1)
+		{
+			if (3 * vertexCount == vertices.length) {
+				vertices = Arrays.copyOf(vertices, 2 * vertices.length);
+			}
+			interpolate(origin[0] + x, origin[1] + y, planeZ, axis, value0 ? 1 : 0,
+				value1 ? 1 : 0, vertices, 3 * vertexCount);
+			return vertexCount++;
+		}
+
+		private void addTriangle(final int v0, final int v1, final int v2) {
+			if (3 * triangleCount == triangles.length) {
+				triangles = Arrays.copyOf(triangles, 2 * triangles.length);
+			}
+			triangles[3 * triangleCount] = v0;
+			triangles[3 * triangleCount + 1] = v1;
+			triangles[3 * triangleCount + 2] = v2;
+			triangleCount++;
+		}
+
+		private void readPlane(final RandomAccess<T> access, final int planeZ,
+			final boolean[] plane)
+		{
+			int i = 0;
+			for (int y = 0; y < height; y++) {
+				access.setPosition(new int[] { origin[0], origin[1] + y, planeZ });
+				for (int x = 0; x < width; x++) {
+					plane[i++] = access.get().get();
+					access.fwd(0);
+				}
+			}
+		}
+
+		private int[] filled(final int size) {
+			final int[] array = new int[size];
+			Arrays.fill(array, -1);
+			return array;
+		}
+	}
+
+}
@@ -0,0 +1,611 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.geom.geom3d;
+
+import java.util.Arrays;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.Parallel;
+import net.imagej.ops.geom.geom3d.mesh.IndexedMesh;
+import net.imagej.ops.geom.geom3d.mesh.Mesh;
+import net.imagej.ops.special.function.AbstractUnaryFunctionOp;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Quickhull on the primitive arrays of an {@link IndexedMesh}, following the
+ * same algorithm as {@link DefaultConvexHull3D}. Points, facets, neighbors and
+ * the points in front of each facet are stored in primitive arrays.
+ * <p>
+ * The points are first filtered by the hull of their extreme points along 7
+ * directions (Akl and Toussaint): points behind all its facets can not be
+ * part of the hull. Points are assigned to the facets in front of them in
+ * parallel.
+ * </p>
+ */
+@Plugin(type = Ops.Geometric.ConvexHull.class,
+	priority = Priority.HIGH_PRIORITY)
+public class QuickHull3D extends AbstractUnaryFunctionOp<Mesh, Mesh>
+	implements Ops.Geometric.ConvexHull, Contingent, Parallel
+{
+
+	/**
+	 * Precision of a double.
+	 */
+	private static final double DOUBLE_PREC = 2.2204460492503131e-16;
+
+	/** Minimum number of points which are assigned to facets in parallel. */
+	private static final int PARALLEL_POINTS = 1 << 14;
+
+	/** Maximum number of consecutive points processed as one chunk. */
+	private static final int BLOCK_SIZE = 1 << 12;
+
+	/** Directions of the extreme points of the filter. */
+	private static final double[][] DIRECTIONS = { { 1, 0, 0 }, { 0, 1, 0 }, {
+		0, 0, 1 }, { 1, 1, 1 }, { 1, 1, -1 }, { 1, -1, 1 }, { -1, 1, 1 } };
+
+	private static final byte ALIVE = 0, VISIBLE = 1, DELETED = 2;
+
+	@Override
+	public IndexedMesh calculate(final Mesh input) {
+		final IndexedMesh mesh = (IndexedMesh) input;
+		final float[] coordinates = mesh.getVertexArray();
+		final int n = mesh.getVertexCount();
+		final double[] points = new double[3 * n];
+		for (int i = 0; i < points.length; i++) {
+			points[i] = coordinates[i];
+		}
+
+		final double epsilon = computeEpsilon(points, n);
+		final int[] candidates = filter(points, n, epsilon);
+		final Hull hull = new Hull(points, epsilon);
+		if (!hull.build(candidates)) {
+			throw new IllegalArgumentException(
+				"The convex hull needs four points which are not coplanar.");
+		}
+		return hull.toMesh();
+	}
+
+	@Override
+	public boolean conforms() {
+		return in() instanceof IndexedMesh;
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * This epsilon formula comes from John Lloyd's quickhull implementation
+	 * http://www.cs.ubc.ca/~lloyd/java/quickhull3d.html
+	 */
+	private static double computeEpsilon(final double[] points, final int n) {
+		final double[] max = new double[3];
+		for (int i = 0; i < n; i++) {
+			for (int d = 0; d < 3; d++) {
+				max[d] = Math.max(max[d], Math.abs(points[3 * i + d]));
+			}
+		}
+		return 3 * DOUBLE_PREC * (max[0] + max[1] + max[2]);
+	}
+
+	/**
+	 * Gets the indices of all points which are not behind all facets of the
+	 * hull of the extreme points.
+	 */
+	private int[] filter(final double[] points, final int n,
+		final double epsilon)
+	{
+		final int[] all = new int[n];
+		for (int i = 0; i < n; i++) {
+			all[i] = i;
+		}
+
+		if (n < PARALLEL_POINTS) return all;
+		final int[] extremes = extremePoints(points, n);
+		final Hull inner = new Hull(points, epsilon);
+		if (!inner.build(extremes)) return all;
+		final double[] planes = inner.planes();
+
+		final boolean[] keep = new boolean[n];
+		for (final int e : extremes) {
+			keep[e] = true;
+		}
+		forEach(n, new IndexRange() {
+
+			@Override
+			public void run(final int from, final int to) {
+				for (int i = from; i < to; i++) {
+					for (int f = 0; f < planes.length && !keep[i]; f += 4) {
+						keep[i] = planes[f] * points[3 * i] + planes[f + 1] * points[3 * i +
+							1] + planes[f + 2] * points[3 * i + 2] - planes[f + 3] > epsilon;
+					}
+				}
+			}
+		});
+
+		int count = 0;
+		for (int i = 0; i < n; i++) {
+			if (keep[i]) all[count++] = i;
+		}
+		return Arrays.copyOf(all, count);
+	}
+
+	/** Gets the distinct points with minimum and maximum projection. */
+	private static int[] extremePoints(final double[] points, final int n) {
+		final int[] extremes = new int[2 * DIRECTIONS.length];
+		final double[] values = new double[2 * DIRECTIONS.length];
+		Arrays.fill(values, Double.NEGATIVE_INFINITY);
+		for (int i = 0; i < n; i++) {
+			for (int k = 0; k < DIRECTIONS.length; k++) {
+				final double[] dir = DIRECTIONS[k];
+				final double v = dir[0] * points[3 * i] + dir[1] * points[3 * i + 1] +
+					dir[2] * points[3 * i + 2];
+				if (v > values[2 * k]) {
+					values[2 * k] = v;
+					extremes[2 * k] = i;
+				}
+				if (-v > values[2 * k + 1]) {
+					values[2 * k + 1] = -v;
+					extremes[2 * k + 1] = i;
+				}
+			}
+		}
+		Arrays.sort(extremes);
+		int count = 0;
+		for (int k = 0; k < extremes.length; k++) {
+			if (k == 0 || extremes[k] != extremes[k - 1]) {
+				extremes[count++] = extremes[k];
+			}
+		}
+		return Arrays.copyOf(extremes, count);
+	}
+
+	/** Runs the given range in parallel if it is large enough. */
+	private void forEach(final int size, final IndexRange range) {
+		if (size < PARALLEL_POINTS) {
+			range.run(0, size);
+			return;
+		}
+		// NB: The chunks are ranges of consecutive points.
+		ops().thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				range.run((int) startIndex, (int) (startIndex + numSteps));
+			}
+		}, size, BLOCK_SIZE);
+	}
+
+	// -- Helper classes --
+
+	private interface IndexRange {
+
+		void run(int from, int to);
+	}
+
+	/**
+	 * Convex hull of a subset of the points. Facet f has the vertices
+	 * {@code vertices[3f..3f+2]} in counter clockwise order seen from outside,
+	 * and {@code neighbors[3f+k]} shares the edge from vertex k to vertex k+1.
+	 */
+	private class Hull {
+
+		private final double[] points;
+
+		private final double epsilon;
+
+		private int facetCount;
+
+		private int[] vertices = new int[3 * 64];
+
+		private int[] neighbors = new int[3 * 64];
+
+		/** Unit normal and offset of each facet. */
+		private double[] planes = new double[4 * 64];
+
+		private byte[] states = new byte[64];
+
+		/** First point of the points in front of each facet. */
+		private int[] heads = new int[64];
+
+		private int[] furthest = new int[64];
+
+		private double[] furthestDistances = new double[64];
+
+		/** Next point in front of the same facet. */
+		private final int[] next;
+
+		/** New facet by the first vertex of its horizon edge. */
+		private final int[] facetByTail;
+
+		private int[] pending = new int[64];
+
+		private int pendingCount;
+
+		public Hull(final double[] points, final double epsilon) {
+			this.points = points;
+			this.epsilon = epsilon;
+			next = new int[points.length / 3];
+			facetByTail = new int[points.length / 3];
+			Arrays.fill(facetByTail, -1);
+		}
+
+		/**
+		 * Computes the hull of the given points.
+		 *
+		 * @return false if the points do not span a volume
+		 */
+		public boolean build(final int[] candidates) {
+			if (candidates.length < 4) return false;
+
+			// v0 and v1 have the largest possible distance in one dimension
+			final int[] min = new int[3];
+			final int[] max = new int[3];
+			Arrays.fill(min, candidates[0]);
+			Arrays.fill(max, candidates[0]);
+			for (final int c : candidates) {
+				for (int d = 0; d < 3; d++) {
+					if (points[3 * c + d] < points[3 * min[d] + d]) min[d] = c;
+					if (points[3 * c + d] > points[3 * max[d] + d]) max[d] = c;
+				}
+			}
+			int axis = 0;
+			for (int d = 1; d < 3; d++) {
+				if (extent(min, max, d) > extent(min, max, axis)) axis = d;
+			}
+			if (extent(min, max, axis) <= epsilon) return false;
+			final int v0 = min[axis];
+			int v1 = max[axis];
+
+			// v2 is the point with the largest distance to v0----v1
+			int v2 = -1;
+			double maxDistance = epsilon;
+			final double[] line = difference(v1, v0);
+			final double lineLength = Math.sqrt(dot(line, line));
+			for (final int c : candidates) {
+				final double[] offset = cross(line, difference(c, v0));
+				final double distance = Math.sqrt(dot(offset, offset)) / lineLength;
+				if (distance > maxDistance) {
+					maxDistance = distance;
+					v2 = c;
+				}
+			}
+			if (v2 < 0) return false;
+
+			// v3 is the point with the largest distance to the plane of v0, v1, v2
+			final double[] normal = cross(line, difference(v2, v0));
+			final double normalLength = Math.sqrt(dot(normal, normal));
+			int v3 = -1;
+			double signedDistance = 0;
+			maxDistance = epsilon;
+			for (final int c : candidates) {
+				final double distance = dot(normal, difference(c, v0)) / normalLength;
+				if (Math.abs(distance) > maxDistance) {
+					maxDistance = Math.abs(distance);
+					signedDistance = distance;
+					v3 = c;
+				}
+			}
+			if (v3 < 0) return false;
+
+			// change triangle orientation to counter clockwise
+			int w2 = v2;
+			if (signedDistance > 0) {
+				w2 = v1;
+				v1 = v2;
+			}
+			addFacet(v0, v1, w2);
+			addFacet(v1, v0, v3);
+			addFacet(w2, v1, v3);
+			addFacet(v0, w2, v3);
+			for (int f = 0; f < 4; f++) {
+				for (int k = 0; k < 3; k++) {
+					neighbors[3 * f + k] = facetWithEdge(0, 4, vertices[3 * f + (k +
+						1) % 3], vertices[3 * f + k]);
+				}
+			}
+
+			final int[] remaining = new int[candidates.length];
+			int count = 0;
+			for (final int c : candidates) {
+				if (c != v0 && c != v1 && c != w2 && c != v3) remaining[count++] = c;
+			}
+			assign(remaining, count, 0, 4);
+
+			while (pendingCount > 0) {
+				final int f = pending[--pendingCount];
+				if (states[f] == ALIVE && heads[f] >= 0) addPoint(f);
+			}
+			return true;
+		}
+
+		/** Gets the unit normals and offsets of the facets. */
+		public double[] planes() {
+			final double[] alive = new double[4 * facetCount];
+			int count = 0;
+			for (int f = 0; f < facetCount; f++) {
+				if (states[f] != ALIVE) continue;
+				System.arraycopy(planes, 4 * f, alive, 4 * count++, 4);
+			}
+			return Arrays.copyOf(alive, 4 * count);
+		}
+
+		public IndexedMesh toMesh() {
+			final int[] map = new int[next.length];
+			Arrays.fill(map, -1);
+			final int[] triangles = new int[3 * facetCount];
+			final float[] coordinates = new float[3 * next.length];
+			int vertexCount = 0;
+			int t = 0;
+			for (int f = 0; f < facetCount; f++) {
+				if (states[f] != ALIVE) continue;
+				for (int k = 0; k < 3; k++) {
+					final int v = vertices[3 * f + k];
+					if (map[v] < 0) {
+						for (int d = 0; d < 3; d++) {
+							coordinates[3 * vertexCount + d] = (float) points[3 * v + d];
+						}
+						map[v] = vertexCount++;
+					}
+					triangles[t++] = map[v];
+				}
+			}
+			return new IndexedMesh(Arrays.copyOf(coordinates, 3 * vertexCount),
+				Arrays.copyOf(triangles, t));
+		}
+
+		/**
+		 * Replaces all facets in front of the furthest point of a facet by a cone
+		 * from their horizon to the point.
+		 */
+		private void addPoint(final int facet) {
+			final int eye = furthest[facet];
+
+			// depth first search of the visible facets, see Lloyd's quickhull
+			int[] visible = new int[16];
+			int visibleCount = 0;
+			int[] horizon = new int[16];
+			int horizonCount = 0;
+			int[] stackFacets = new int[16];
+			int[] stackStarts = new int[16];
+			int[] stackSteps = new int[16];
+			int top = 0;
+			states[facet] = VISIBLE;
+			visible[visibleCount++] = facet;
+			stackFacets[0] = facet;
+			stackStarts[0] = -1;
+			stackSteps[0] = 0;
+			while (top >= 0) {
+				final int f = stackFacets[top];
+				final int start = stackStarts[top];
+				final int step = stackSteps[top];
+				if (step == (start < 0 ? 3 : 2)) {
+					top--;
+					continue;
+				}
+				stackSteps[top]++;
+				final int k = start < 0 ? step : (start + 1 + step) % 3;
+				final int g = neighbors[3 * f + k];
+				if (states[g] != ALIVE) continue;
+				if (distance(g, eye) > epsilon) {
+					states[g] = VISIBLE;
+					if (visibleCount == visible.length) {
+						visible = Arrays.copyOf(visible, 2 * visibleCount);
+					}
+					visible[visibleCount++] = g;
+					if (++top == stackFacets.length) {
+						stackFacets = Arrays.copyOf(stackFacets, 2 * top);
+						stackStarts = Arrays.copyOf(stackStarts, 2 * top);
+						stackSteps = Arrays.copyOf(stackSteps, 2 * top);
+					}
+					stackFacets[top] = g;
+					stackStarts[top] = edgeIndex(g, vertices[3 * f + (k + 1) % 3]);
+					stackSteps[top] = 0;
+				}
+				else {
+					if (horizonCount == horizon.length) {
+						horizon = Arrays.copyOf(horizon, 2 * horizonCount);
+					}
+					horizon[horizonCount++] = 3 * f + k;
+				}
+			}
+
+			// points in front of the visible facets have to be reassigned
+			int[] orphans = new int[64];
+			int orphanCount = 0;
+			for (int i = 0; i < visibleCount; i++) {
+				final int f = visible[i];
+				states[f] = DELETED;
+				for (int p = heads[f]; p >= 0; p = next[p]) {
+					if (p == eye) continue;
+					if (orphanCount == orphans.length) {
+						orphans = Arrays.copyOf(orphans, 2 * orphanCount);
+					}
+					orphans[orphanCount++] = p;
+				}
+			}
+
+			// cone of new facets
+			final int first = facetCount;
+			for (int i = 0; i < horizonCount; i++) {
+				final int f = horizon[i] / 3;
+				final int k = horizon[i] % 3;
+				final int tail = vertices[3 * f + k];
+				final int head = vertices[3 * f + (k + 1) % 3];
+				final int outside = neighbors[3 * f + k];
+				final int facetIndex = addFacet(tail, head, eye);
+				neighbors[3 * facetIndex] = outside;
+				neighbors[3 * outside + edgeIndex(outside, head)] = facetIndex;
+				facetByTail[tail] = facetIndex;
+			}
+			for (int f = first; f < facetCount; f++) {
+				final int g = facetByTail[vertices[3 * f + 1]];
+				neighbors[3 * f + 1] = g;
+				neighbors[3 * g + 2] = f;
+			}
+			for (int f = first; f < facetCount; f++) {
+				facetByTail[vertices[3 * f]] = -1;
+			}
+
+			assign(orphans, orphanCount, first, facetCount);
+		}
+
+		/**
+		 * Assigns each point to the facet in [first, last) with the largest
+		 * distance in front of it. Points behind all these facets are inside of
+		 * the hull.
+		 */
+		private void assign(final int[] candidates, final int count,
+			final int first, final int last)
+		{
+			final int[] best = new int[count];
+			final double[] bestDistances = new double[count];
+			forEach(count, new IndexRange() {
+
+				@Override
+				public void run(final int from, final int to) {
+					for (int i = from; i < to; i++) {
+						int bestFacet = -1;
+						double max = epsilon;
+						for (int f = first; f < last; f++) {
+							final double d = distance(f, candidates[i]);
+							if (d > max) {
+								max = d;
+								bestFacet = f;
+							}
+						}
+						best[i] = bestFacet;
+						bestDistances[i] = max;
+					}
+				}
+			});
+
+			for (int i = 0; i < count; i++) {
+				final int f = best[i];
+				if (f < 0) continue;
+				final int p = candidates[i];
+				if (heads[f] < 0 || bestDistances[i] > furthestDistances[f]) {
+					furthest[f] = p;
+					furthestDistances[f] = bestDistances[i];
+				}
+				next[p] = heads[f];
+				heads[f] = p;
+			}
+			for (int f = first; f < last; f++) {
+				if (heads[f] < 0) continue;
+				if (pendingCount == pending.length) {
+					pending = Arrays.copyOf(pending, 2 * pendingCount);
+				}
+				pending[pendingCount++] = f;
+			}
+		}
+
+		private int addFacet(final int a, final int b, final int c) {
+			final int f = facetCount++;
+			if (f == states.length) {
+				final int capacity = 2 * f;
+				vertices = Arrays.copyOf(vertices, 3 * capacity);
+				neighbors = Arrays.copyOf(neighbors, 3 * capacity);
+				planes = Arrays.copyOf(planes, 4 * capacity);
+				states = Arrays.copyOf(states, capacity);
+				heads = Arrays.copyOf(heads, capacity);
+				furthest = Arrays.copyOf(furthest, capacity);
+				furthestDistances = Arrays.copyOf(furthestDistances, capacity);
+			}
+			vertices[3 * f] = a;
+			vertices[3 * f + 1] = b;
+			vertices[3 * f + 2] = c;
+			states[f] = ALIVE;
+			heads[f] = -1;
+
+			final double[] normal = cross(difference(b, a), difference(c, a));
+			final double length = Math.sqrt(dot(normal, normal));
+			if (length > 0) {
+				for (int d = 0; d < 3; d++) {
+					planes[4 * f + d] = normal[d] / length;
+				}
+			}
+			else {
+				Arrays.fill(planes, 4 * f, 4 * f + 3, 0);
+			}
+			planes[4 * f + 3] = planes[4 * f] * points[3 * a] + planes[4 * f + 1] *
+				points[3 * a + 1] + planes[4 * f + 2] * points[3 * a + 2];
+			return f;
+		}
+
+		private double distance(final int f, final int p) {
+			return planes[4 * f] * points[3 * p] + planes[4 * f + 1] * points[3 * p +
+				1] + planes[4 * f + 2] * points[3 * p + 2] - planes[4 * f + 3];
+		}
+
+		/** Gets the edge of a facet starting at the given vertex. */
+		private int edgeIndex(final int f, final int tail) {
+			if (vertices[3 * f] == tail) return 0;
+			return vertices[3 * f + 1] == tail ? 1 : 2;
+		}
+
+		/** Finds the facet in [first, last) with the edge from tail to head. */
+		private int facetWithEdge(final int first, final int last, final int tail,
+			final int head)
+		{
+			for (int f = first; f < last; f++) {
+				for (int k = 0; k < 3; k++) {
+					if (vertices[3 * f + k] == tail && vertices[3 * f + (k + 1) %
+						3] == head) return f;
+				}
+			}
+			return -1;
+		}
+
+		private double extent(final int[] min, final int[] max, final int d) {
+			return points[3 * max[d] + d] - points[3 * min[d] + d];
+		}
+
+		private double[] difference(final int a, final int b) {
+			return new double[] { points[3 * a] - points[3 * b], points[3 * a + 1] -
+				points[3 * b + 1], points[3 * a + 2] - points[3 * b + 2] };
+		}
+	}
+
+	private static double[] cross(final double[] a, final double[] b) {
+		return new double[] { a[1] * b[2] - a[2] * b[1], a[2] * b[0] - a[0] * b[2],
+			a[0] * b[1] - a[1] * b[0] };
+	}
+
+	private static double dot(final double[] a, final double[] b) {
+		return a[0] * b[0] + a[1] * b[1] + a[2] * b[2];
+	}
+
+}
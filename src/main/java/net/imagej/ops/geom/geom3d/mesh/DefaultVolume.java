@@ -54,6 +54,9 @@ public class DefaultVolume
 
 	@Override
 	public DoubleType calculate(final Mesh input) {
+		if (input instanceof IndexedMesh) {
+			return new DoubleType(((IndexedMesh) input).getVolume());
+		}
 		double volume = 0;
 		for (Facet f : input.getFacets()) {
 			TriangularFacet tf = (TriangularFacet) f;
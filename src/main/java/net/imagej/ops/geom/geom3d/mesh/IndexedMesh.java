@@ -0,0 +1,215 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.geom.geom3d.mesh;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.imglib2.RealLocalizable;
+
+/**
+ * Triangle {@link Mesh} stored as primitive arrays: the coordinates of each
+ * vertex (x, y, z) and the vertex indices of each triangle. Every vertex is
+ * stored once and shared by all triangles touching it, so the vertices are
+ * unique.
+ * <p>
+ * The {@link Set} of vertices and the {@link List} of facets required by
+ * {@link Mesh} are only built on demand. Consumers knowing this class should
+ * read the arrays directly.
+ * </p>
+ */
+public class IndexedMesh implements Mesh {
+
+	private final float[] vertices;
+
+	private final int[] triangles;
+
+	private double area = -1;
+
+	private Vertex[] vertexObjects;
+
+	private Set<RealLocalizable> vertexSet;
+
+	private List<Facet> facets;
+
+	/**
+	 * @param vertices the coordinates of the vertices, three per vertex; the
+	 *          vertices must be distinct
+	 * @param triangles the vertex indices of the triangles, three per triangle
+	 */
+	public IndexedMesh(final float[] vertices, final int[] triangles) {
+		this.vertices = vertices;
+		this.triangles = triangles;
+	}
+
+	/**
+	 * Creates a mesh from the first {@code vertexCount} vertices and
+	 * {@code triangleCount} triangles of the given arrays, merging vertices with
+	 * identical coordinates.
+	 */
+	public static IndexedMesh weld(final float[] vertices, final int vertexCount,
+		final int[] triangles, final int triangleCount)
+	{
+		final Map<List<Float>, Integer> unique = new HashMap<>();
+		final int[] remap = new int[vertexCount];
+		final float[] welded = new float[3 * vertexCount];
+		int count = 0;
+		for (int v = 0; v < vertexCount; v++) {
+			final List<Float> key = Arrays.asList(vertices[3 * v], vertices[3 * v +
+				1], vertices[3 * v + 2]);
+			final Integer existing = unique.get(key);
+			if (existing != null) {
+				remap[v] = existing;
+				continue;
+			}
+			unique.put(key, count);
+			System.arraycopy(vertices, 3 * v, welded, 3 * count, 3);
+			remap[v] = count++;
+		}
+		final int[] t = new int[3 * triangleCount];
+		for (int i = 0; i < t.length; i++) {
+			t[i] = remap[triangles[i]];
+		}
+		return new IndexedMesh(Arrays.copyOf(welded, 3 * count), t);
+	}
+
+	public int getVertexCount() {
+		return vertices.length / 3;
+	}
+
+	public int getTriangleCount() {
+		return triangles.length / 3;
+	}
+
+	/** Gets the coordinates of the vertices, three per vertex. */
+	public float[] getVertexArray() {
+		return vertices;
+	}
+
+	/** Gets the vertex indices of the triangles, three per triangle. */
+	public int[] getTriangleArray() {
+		return triangles;
+	}
+
+	/**
+	 * Gets the volume enclosed by the mesh, as the sum of the signed volumes of
+	 * the tetrahedra formed by the origin and each triangle.
+	 */
+	public double getVolume() {
+		double volume = 0;
+		for (int t = 0; t < triangles.length; t += 3) {
+			final int a = 3 * triangles[t];
+			final int b = 3 * triangles[t + 1];
+			final int c = 3 * triangles[t + 2];
+			final double crossX = (double) vertices[b + 1] * vertices[c + 2] -
+				(double) vertices[b + 2] * vertices[c + 1];
+			final double crossY = (double) vertices[b + 2] * vertices[c] -
+				(double) vertices[b] * vertices[c + 2];
+			final double crossZ = (double) vertices[b] * vertices[c + 1] -
+				(double) vertices[b + 1] * vertices[c];
+			volume += vertices[a] * crossX + vertices[a + 1] * crossY + vertices[a +
+				2] * crossZ;
+		}
+		return Math.abs(volume / 6.0);
+	}
+
+	// -- Mesh methods --
+
+	@Override
+	public synchronized Set<RealLocalizable> getVertices() {
+		if (vertexSet == null) {
+			vertexSet = new LinkedHashSet<>(Arrays.<RealLocalizable> asList(
+				vertexObjects()));
+		}
+		return vertexSet;
+	}
+
+	@Override
+	public synchronized List<Facet> getFacets() {
+		if (facets == null) {
+			final Vertex[] v = vertexObjects();
+			facets = new ArrayList<>(getTriangleCount());
+			for (int t = 0; t < triangles.length; t += 3) {
+				facets.add(new TriangularFacet(v[triangles[t]], v[triangles[t + 1]],
+					v[triangles[t + 2]]));
+			}
+		}
+		return facets;
+	}
+
+	@Override
+	public boolean triangularFacets() {
+		return true;
+	}
+
+	@Override
+	public synchronized double getSurfaceArea() {
+		if (area < 0) {
+			double sum = 0;
+			for (int t = 0; t < triangles.length; t += 3) {
+				final int a = 3 * triangles[t];
+				final int b = 3 * triangles[t + 1];
+				final int c = 3 * triangles[t + 2];
+				final double abX = vertices[b] - vertices[a];
+				final double abY = vertices[b + 1] - vertices[a + 1];
+				final double abZ = vertices[b + 2] - vertices[a + 2];
+				final double acX = vertices[c] - vertices[a];
+				final double acY = vertices[c + 1] - vertices[a + 1];
+				final double acZ = vertices[c + 2] - vertices[a + 2];
+				final double crossX = abY * acZ - abZ * acY;
+				final double crossY = abZ * acX - abX * acZ;
+				final double crossZ = abX * acY - abY * acX;
+				sum += Math.sqrt(crossX * crossX + crossY * crossY + crossZ * crossZ);
+			}
+			area = 0.5 * sum;
+		}
+		return area;
+	}
+
+	// -- Helper methods --
+
+	private Vertex[] vertexObjects() {
+		if (vertexObjects == null) {
+			vertexObjects = new Vertex[getVertexCount()];
+			for (int v = 0; v < vertexObjects.length; v++) {
+				vertexObjects[v] = new Vertex(vertices[3 * v], vertices[3 * v + 1],
+					vertices[3 * v + 2]);
+			}
+		}
+		return vertexObjects;
+	}
+
+}
@@ -35,11 +35,13 @@ import net.imagej.ops.Namespace;
 import net.imagej.ops.OpMethod;
 import net.imagej.ops.Ops;
 import net.imagej.ops.image.cooccurrenceMatrix.MatrixOrientation;
+import net.imagej.ops.image.cooccurrenceMatrix.SparseMatrix;
 import net.imglib2.IterableInterval;
 import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.histogram.Histogram1d;
 import net.imglib2.type.BooleanType;
 import net.imglib2.type.Type;
+import net.imglib2.type.numeric.IntegerType;
 import net.imglib2.type.numeric.RealType;
 
 import org.scijava.plugin.Plugin;
@@ -85,6 +87,7 @@ public class ImageNamespace extends AbstractNamespace {
 	// -- cooccurrence matrix --
 
 	@OpMethod(ops = {
+			net.imagej.ops.image.cooccurrenceMatrix.DefaultCooccurrenceMatrix.class,
 			net.imagej.ops.image.cooccurrenceMatrix.CooccurrenceMatrix3D.class,
 			net.imagej.ops.image.cooccurrenceMatrix.CooccurrenceMatrix2D.class })
 	public <T extends RealType<T>> double[][] cooccurrenceMatrix(
@@ -96,12 +99,24 @@ public class ImageNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(
+		op = net.imagej.ops.image.cooccurrenceMatrix.DefaultSparseCooccurrenceMatrix.class)
+	public <T extends RealType<T>> SparseMatrix sparseCooccurrenceMatrix(
+			final IterableInterval<T> in, final int nrGreyLevels,
+			final int distance, final MatrixOrientation orientation) {
+		final SparseMatrix result = (SparseMatrix) ops().run(
+				Ops.Image.SparseCooccurrenceMatrix.class, in, nrGreyLevels,
+				distance, orientation);
+		return result;
+	}
+
 	// -- distance transform --
 
 	/** Executes the "distancetransform" operation on the given arguments. */
 	@OpMethod(ops = { net.imagej.ops.image.distancetransform.DefaultDistanceTransform.class,
 			net.imagej.ops.image.distancetransform.DistanceTransform2D.class,
-			net.imagej.ops.image.distancetransform.DistanceTransform3D.class })
+			net.imagej.ops.image.distancetransform.DistanceTransform3D.class,
+			net.imagej.ops.image.distancetransform.ParallelDistanceTransform.class })
 	public <B extends BooleanType<B>, T extends RealType<T>> RandomAccessibleInterval<T> distancetransform(
 			final RandomAccessibleInterval<B> in, final RandomAccessibleInterval<T> out) {
 		@SuppressWarnings("unchecked")
@@ -113,7 +128,8 @@ public class ImageNamespace extends AbstractNamespace {
 	/** Executes the "distancetransform" operation on the given arguments. */
 	@OpMethod(ops = { net.imagej.ops.image.distancetransform.DefaultDistanceTransform.class,
 			net.imagej.ops.image.distancetransform.DistanceTransform2D.class,
-			net.imagej.ops.image.distancetransform.DistanceTransform3D.class })
+			net.imagej.ops.image.distancetransform.DistanceTransform3D.class,
+			net.imagej.ops.image.distancetransform.ParallelDistanceTransform.class })
 	public <B extends BooleanType<B>, T extends RealType<T>> RandomAccessibleInterval<T> distancetransform(
 			final RandomAccessibleInterval<B> in) {
 		@SuppressWarnings("unchecked")
@@ -125,7 +141,8 @@ public class ImageNamespace extends AbstractNamespace {
 	/** Executes the "distancetransform" operation on the given arguments. */
 	@OpMethod(ops = { net.imagej.ops.image.distancetransform.DefaultDistanceTransformCalibration.class,
 			net.imagej.ops.image.distancetransform.DistanceTransform2DCalibration.class,
-			net.imagej.ops.image.distancetransform.DistanceTransform3DCalibration.class })
+			net.imagej.ops.image.distancetransform.DistanceTransform3DCalibration.class,
+			net.imagej.ops.image.distancetransform.ParallelDistanceTransform.class })
 	public <B extends BooleanType<B>, T extends RealType<T>> RandomAccessibleInterval<T> distancetransform(
 			final RandomAccessibleInterval<T> out, final RandomAccessibleInterval<B> in, final double... calibration) {
 		@SuppressWarnings("unchecked")
@@ -137,7 +154,8 @@ public class ImageNamespace extends AbstractNamespace {
 	/** Executes the "distancetransform" operation on the given arguments. */
 	@OpMethod(ops = { net.imagej.ops.image.distancetransform.DefaultDistanceTransformCalibration.class,
 			net.imagej.ops.image.distancetransform.DistanceTransform2DCalibration.class,
-			net.imagej.ops.image.distancetransform.DistanceTransform3DCalibration.class })
+			net.imagej.ops.image.distancetransform.DistanceTransform3DCalibration.class,
+			net.imagej.ops.image.distancetransform.ParallelDistanceTransform.class })
 	public <B extends BooleanType<B>, T extends RealType<T>> RandomAccessibleInterval<T> distancetransform(
 			final RandomAccessibleInterval<B> in, final double... calibration) {
 		@SuppressWarnings("unchecked")
@@ -146,6 +164,90 @@ public class ImageNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	// -- feature transform --
+
+	/** Executes the "featureTransform" operation on the given arguments. */
+	@OpMethod(op = net.imagej.ops.image.distancetransform.FeatureTransform.class)
+	public <B extends BooleanType<B>, L extends IntegerType<L>> RandomAccessibleInterval<L> featureTransform(
+			final RandomAccessibleInterval<B> in) {
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<L> result = (RandomAccessibleInterval<L>) ops()
+				.run(Ops.Image.FeatureTransform.class, in);
+		return result;
+	}
+
+	/** Executes the "featureTransform" operation on the given arguments. */
+	@OpMethod(op = net.imagej.ops.image.distancetransform.FeatureTransform.class)
+	public <B extends BooleanType<B>, L extends IntegerType<L>> RandomAccessibleInterval<L> featureTransform(
+			final RandomAccessibleInterval<B> in, final double... calibration) {
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<L> result = (RandomAccessibleInterval<L>) ops()
+				.run(Ops.Image.FeatureTransform.class, in, calibration);
+		return result;
+	}
+
+	/** Executes the "featureTransform" operation on the given arguments. */
+	@OpMethod(op = net.imagej.ops.image.distancetransform.FeatureTransform.class)
+	public <B extends BooleanType<B>, L extends IntegerType<L>> RandomAccessibleInterval<L> featureTransform(
+			final RandomAccessibleInterval<L> out, final RandomAccessibleInterval<B> in) {
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<L> result = (RandomAccessibleInterval<L>) ops()
+				.run(Ops.Image.FeatureTransform.class, out, in);
+		return result;
+	}
+
+	/** Executes the "featureTransform" operation on the given arguments. */
+	@OpMethod(op = net.imagej.ops.image.distancetransform.FeatureTransform.class)
+	public <B extends BooleanType<B>, L extends IntegerType<L>> RandomAccessibleInterval<L> featureTransform(
+			final RandomAccessibleInterval<L> out, final RandomAccessibleInterval<B> in, final double... calibration) {
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<L> result = (RandomAccessibleInterval<L>) ops()
+				.run(Ops.Image.FeatureTransform.class, out, in, calibration);
+		return result;
+	}
+
+	// -- signed distance transform --
+
+	/** Executes the "signedDistanceTransform" operation on the given arguments. */
+	@OpMethod(op = net.imagej.ops.image.distancetransform.SignedDistanceTransform.class)
+	public <B extends BooleanType<B>, T extends RealType<T>> RandomAccessibleInterval<T> signedDistanceTransform(
+			final RandomAccessibleInterval<B> in) {
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<T> result = (RandomAccessibleInterval<T>) ops()
+				.run(Ops.Image.SignedDistanceTransform.class, in);
+		return result;
+	}
+
+	/** Executes the "signedDistanceTransform" operation on the given arguments. */
+	@OpMethod(op = net.imagej.ops.image.distancetransform.SignedDistanceTransform.class)
+	public <B extends BooleanType<B>, T extends RealType<T>> RandomAccessibleInterval<T> signedDistanceTransform(
+			final RandomAccessibleInterval<B> in, final double... calibration) {
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<T> result = (RandomAccessibleInterval<T>) ops()
+				.run(Ops.Image.SignedDistanceTransform.class, in, calibration);
+		return result;
+	}
+
+	/** Executes the "signedDistanceTransform" operation on the given arguments. */
+	@OpMethod(op = net.imagej.ops.image.distancetransform.SignedDistanceTransform.class)
+	public <B extends BooleanType<B>, T extends RealType<T>> RandomAccessibleInterval<T> signedDistanceTransform(
+			final RandomAccessibleInterval<T> out, final RandomAccessibleInterval<B> in) {
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<T> result = (RandomAccessibleInterval<T>) ops()
+				.run(Ops.Image.SignedDistanceTransform.class, out, in);
+		return result;
+	}
+
+	/** Executes the "signedDistanceTransform" operation on the given arguments. */
+	@OpMethod(op = net.imagej.ops.image.distancetransform.SignedDistanceTransform.class)
+	public <B extends BooleanType<B>, T extends RealType<T>> RandomAccessibleInterval<T> signedDistanceTransform(
+			final RandomAccessibleInterval<T> out, final RandomAccessibleInterval<B> in, final double... calibration) {
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<T> result = (RandomAccessibleInterval<T>) ops()
+				.run(Ops.Image.SignedDistanceTransform.class, out, in, calibration);
+		return result;
+	}
+
 	// -- equation --
 
 	/** Executes the "equation" operation on the given arguments. */
@@ -0,0 +1,304 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.image.cooccurrenceMatrix;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops.Stats.MinMax;
+import net.imagej.ops.special.function.AbstractUnaryFunctionOp;
+import net.imagej.ops.special.function.Functions;
+import net.imagej.ops.special.function.UnaryFunctionOp;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imglib2.Cursor;
+import net.imglib2.FlatIterationOrder;
+import net.imglib2.IterableInterval;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.IntervalIndexer;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Pair;
+
+import org.scijava.plugin.Parameter;
+
+/**
+ * Abstract base class for cooccurrence matrix ops of any dimensionality.
+ * <p>
+ * Inputs covering their whole bounding box are quantized into a flat array of
+ * grey levels, which is then streamed over chunk-parallel. Other inputs, e.g.
+ * sparse regions of interest, are quantized into a hash map from flat index to
+ * grey level instead, so that memory and time depend on the size of the input
+ * rather than of its bounding box. Either way, the pairs of grey levels are
+ * counted into one counter per worker thread, which is reused by all chunks
+ * the thread processes.
+ * </p>
+ * 
+ * @param <T> input type
+ * @param <O> output type
+ */
+public abstract class AbstractCooccurrenceMatrix<T extends RealType<T>, O>
+	extends AbstractUnaryFunctionOp<IterableInterval<T>, O> implements
+	Contingent
+{
+
+	/** Grey level of the positions which are not part of the input. */
+	private static final int OUTSIDE = -1;
+
+	/**
+	 * Maximum number of entries the grey levels of a sparse input are presized
+	 * for; larger inputs grow the map as it is filled.
+	 */
+	private static final long MAX_SPARSE_PRESIZE = 1 << 24;
+
+	@Parameter(label = "Number of Gray Levels", min = "0", stepSize = "1",
+		initializer = "32")
+	protected int nrGreyLevels;
+
+	@Parameter(label = "Distance", min = "0", max = "128", stepSize = "1",
+		initializer = "1")
+	protected int distance;
+
+	@Parameter(label = "Matrix Orientation")
+	protected MatrixOrientation orientation;
+
+	private UnaryFunctionOp<IterableInterval<T>, Pair<T, T>> minmax;
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public void initialize() {
+		super.initialize();
+		minmax = (UnaryFunctionOp) Functions.unary(ops(), MinMax.class, Pair.class,
+			in());
+	}
+
+	@Override
+	public boolean conforms() {
+		return orientation.isCompatible(in().numDimensions()) && in()
+			.size() <= Integer.MAX_VALUE;
+	}
+
+	/**
+	 * Counts the pairs of grey levels of the input which are separated by the
+	 * distance in the orientation of this op.
+	 * 
+	 * @param input the input to count the pairs of
+	 * @param counters creates the counter of each worker thread
+	 * @return the counters of all worker threads
+	 */
+	protected <C extends PairCounter> List<C> countPairs(
+		final IterableInterval<T> input, final Supplier<C> counters)
+	{
+		final int n = input.numDimensions();
+		final long[] dims = Intervals.dimensionsAsLongArray(input);
+		final long[] offsets = new long[n];
+		long flatOffset = 0;
+		long stride = 1;
+		for (int d = 0; d < n; d++) {
+			offsets[d] = (long) orientation.getValueAtDim(d) * distance;
+			flatOffset += offsets[d] * stride;
+			stride *= dims[d];
+		}
+		final long secondOffset = flatOffset;
+
+		final Pair<T, T> minMax = minmax.calculate(input);
+		final double min = minMax.getA().getRealDouble();
+		final double diff = minMax.getB().getRealDouble() - min;
+
+		// NB: There are many more chunks than threads, and counters may be large.
+		final Map<Thread, C> threadCounters = new ConcurrentHashMap<>();
+		if (input.size() == Intervals.numElements(input)) {
+			final int[] levels = denseGreyLevels(input, min, diff);
+			ops().thread().chunker(new CursorBasedChunk() {
+
+				@Override
+				public void execute(final long startIndex, final long stepSize,
+					final long numSteps)
+				{
+					final C counter = threadCounters.computeIfAbsent(Thread
+						.currentThread(), t -> counters.get());
+					final long[] position = new long[n];
+					IntervalIndexer.indexToPosition(startIndex, dims, position);
+
+					long index = startIndex;
+					for (long i = 0; i < numSteps; i++) {
+						if (contains(position, offsets, dims)) {
+							counter.count(levels[(int) index], levels[(int) (index +
+								secondOffset)]);
+						}
+
+						index += stepSize;
+						if (stepSize == 1) next(position, dims);
+						else IntervalIndexer.indexToPosition(index, dims, position);
+					}
+				}
+			}, levels.length);
+		}
+		else {
+			final LongHashMap levels = sparseGreyLevels(input, min, diff);
+			final long[] indices = levels.keys();
+			ops().thread().chunker(new CursorBasedChunk() {
+
+				@Override
+				public void execute(final long startIndex, final long stepSize,
+					final long numSteps)
+				{
+					final C counter = threadCounters.computeIfAbsent(Thread
+						.currentThread(), t -> counters.get());
+					final long[] position = new long[n];
+
+					for (long i = 0; i < numSteps; i++) {
+						final long index = indices[(int) (startIndex + i * stepSize)];
+						IntervalIndexer.indexToPosition(index, dims, position);
+						if (!contains(position, offsets, dims)) continue;
+						final int second = (int) levels.get(index + secondOffset,
+							OUTSIDE);
+						if (second != OUTSIDE) {
+							counter.count((int) levels.get(index, OUTSIDE), second);
+						}
+					}
+				}
+			}, indices.length);
+		}
+		return new ArrayList<>(threadCounters.values());
+	}
+
+	// -- Helper methods --
+
+	/** Quantizes a grey value as done by {@link CooccurrenceMatrix2D}. */
+	private int quantize(final double value, final double min,
+		final double diff)
+	{
+		return (int) (((value - min) / diff) * (nrGreyLevels - 1));
+	}
+
+	/**
+	 * Quantizes an input covering its whole bounding box into a flat array over
+	 * that box.
+	 */
+	private int[] denseGreyLevels(final IterableInterval<T> input,
+		final double min, final double diff)
+	{
+		final int[] levels = new int[(int) input.size()];
+		final long[] origin = Intervals.minAsLongArray(input);
+		final long[] dims = Intervals.dimensionsAsLongArray(input);
+
+		// the flat index of flat iterated inputs is the cursor index
+		final boolean flat = input.iterationOrder().equals(new FlatIterationOrder(
+			input));
+
+		ops().thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				final Cursor<T> cursor = flat ? input.cursor() : input
+					.localizingCursor();
+				final long[] position = new long[origin.length];
+				setToStart(cursor, startIndex);
+
+				for (long i = 0; i < numSteps; i++) {
+					final int index;
+					if (flat) {
+						index = (int) (startIndex + i * stepSize);
+					}
+					else {
+						cursor.localize(position);
+						for (int d = 0; d < position.length; d++) {
+							position[d] -= origin[d];
+						}
+						index = (int) IntervalIndexer.positionToIndex(position, dims);
+					}
+					levels[index] = quantize(cursor.get().getRealDouble(), min, diff);
+					cursor.jumpFwd(stepSize);
+				}
+			}
+		}, input.size());
+		return levels;
+	}
+
+	/**
+	 * Quantizes a sparse input into a map from flat index within its bounding
+	 * box to grey level.
+	 */
+	private LongHashMap sparseGreyLevels(final IterableInterval<T> input,
+		final double min, final double diff)
+	{
+		final LongHashMap levels = new LongHashMap(Math.min(input.size(),
+			MAX_SPARSE_PRESIZE));
+		final long[] origin = Intervals.minAsLongArray(input);
+		final long[] dims = Intervals.dimensionsAsLongArray(input);
+		final long[] position = new long[origin.length];
+
+		final Cursor<T> cursor = input.localizingCursor();
+		while (cursor.hasNext()) {
+			final double value = cursor.next().getRealDouble();
+			cursor.localize(position);
+			for (int d = 0; d < position.length; d++) {
+				position[d] -= origin[d];
+			}
+			levels.put(IntervalIndexer.positionToIndex(position, dims), quantize(
+				value, min, diff));
+		}
+		return levels;
+	}
+
+	/** Checks whether the position shifted by the offsets is in bounds. */
+	private static boolean contains(final long[] position, final long[] offsets,
+		final long[] dims)
+	{
+		for (int d = 0; d < position.length; d++) {
+			final long p = position[d] + offsets[d];
+			if (p < 0 || p >= dims[d]) return false;
+		}
+		return true;
+	}
+
+	/** Moves the position to the next one in flat iteration order. */
+	private static void next(final long[] position, final long[] dims) {
+		for (int d = 0; d < position.length; d++) {
+			if (++position[d] < dims[d] || d == position.length - 1) return;
+			position[d] = 0;
+		}
+	}
+
+	// -- Helper classes --
+
+	/** Counts the pairs of grey levels of one chunk of the input. */
+	protected interface PairCounter {
+
+		void count(int first, int second);
+	}
+
+}
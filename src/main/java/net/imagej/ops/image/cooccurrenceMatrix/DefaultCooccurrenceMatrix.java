@@ -0,0 +1,145 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.image.cooccurrenceMatrix;
+
+import java.util.List;
+
+import net.imagej.ops.Ops;
+import net.imagej.ops.thread.ForkJoinService;
+import net.imglib2.IterableInterval;
+import net.imglib2.type.numeric.RealType;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Calculates the cooccurrence matrix of an {@link IterableInterval} of any
+ * dimensionality.
+ * <p>
+ * The pairs are counted in parallel into {@code long} bins per worker thread,
+ * which are merged afterwards. If the bins of all threads would take too much
+ * memory, the distinct pairs are counted in hash maps instead, as done by
+ * {@link DefaultSparseCooccurrenceMatrix}.
+ * </p>
+ * <p>
+ * For box-shaped inputs, the result equals the one of
+ * {@link CooccurrenceMatrix2D} and {@link CooccurrenceMatrix3D}. Pixels which
+ * are not part of a masked (non-box) input are ignored, as by
+ * {@link CooccurrenceMatrix2D}; {@link CooccurrenceMatrix3D} instead counts
+ * them as grey level 0, so its results differ for masked 3D inputs.
+ * </p>
+ * 
+ * @param <T> input type
+ */
+@Plugin(type = Ops.Image.CooccurrenceMatrix.class,
+	priority = Priority.HIGH_PRIORITY)
+public class DefaultCooccurrenceMatrix<T extends RealType<T>> extends
+	AbstractCooccurrenceMatrix<T, double[][]> implements
+	Ops.Image.CooccurrenceMatrix
+{
+
+	/** Maximum size of the dense bins of all threads together, in bytes. */
+	private static final long MAX_DENSE_BYTES = 64L << 20;
+
+	@Parameter(required = false)
+	private ForkJoinService forkJoinService;
+
+	@Override
+	public double[][] calculate(final IterableInterval<T> input) {
+		final int n = nrGreyLevels;
+		final double[][] matrix = new double[n][n];
+		// NB: The chunker runs on the pool of the ForkJoinService, if any.
+		final long threads = forkJoinService == null ? Runtime.getRuntime()
+			.availableProcessors() : forkJoinService.getPool().getParallelism();
+		if ((long) n * n * Long.BYTES * threads <= MAX_DENSE_BYTES) {
+			final List<Counter> counters = countPairs(input, () -> new Counter(n));
+
+			final long[] counts = new long[n * n];
+			long nrPairs = 0;
+			for (final Counter counter : counters) {
+				for (int i = 0; i < counts.length; i++) {
+					counts[i] += counter.counts[i];
+				}
+				nrPairs += counter.nrPairs;
+			}
+
+			if (nrPairs > 0) {
+				final double divisor = 1.0 / nrPairs;
+				for (int row = 0; row < n; row++) {
+					for (int col = 0; col < n; col++) {
+						matrix[row][col] = counts[row * n + col] * divisor;
+					}
+				}
+			}
+		}
+		else {
+			final List<DefaultSparseCooccurrenceMatrix.Counter> counters =
+				countPairs(input, () -> new DefaultSparseCooccurrenceMatrix.Counter(
+					n));
+
+			final LongHashMap counts = new LongHashMap();
+			long nrPairs = 0;
+			for (final DefaultSparseCooccurrenceMatrix.Counter counter : counters) {
+				counts.addAll(counter.counts);
+				nrPairs += counter.nrPairs;
+			}
+
+			final double divisor = 1.0 / nrPairs;
+			for (final long index : counts.keys()) {
+				matrix[(int) (index / n)][(int) (index % n)] = counts.get(index, 0) *
+					divisor;
+			}
+		}
+		return matrix;
+	}
+
+	// -- Helper classes --
+
+	private static class Counter implements PairCounter {
+
+		private final int nrGreyLevels;
+		private final long[] counts;
+		private long nrPairs;
+
+		public Counter(final int nrGreyLevels) {
+			this.nrGreyLevels = nrGreyLevels;
+			counts = new long[nrGreyLevels * nrGreyLevels];
+		}
+
+		@Override
+		public void count(final int first, final int second) {
+			counts[first * nrGreyLevels + second]++;
+			nrPairs++;
+		}
+	}
+
+}
@@ -0,0 +1,103 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.image.cooccurrenceMatrix;
+
+import java.util.Arrays;
+import java.util.List;
+
+import net.imagej.ops.Ops;
+import net.imglib2.IterableInterval;
+import net.imglib2.type.numeric.RealType;
+
+import org.scijava.plugin.Plugin;
+
+/**
+ * Calculates the cooccurrence matrix of an {@link IterableInterval} of any
+ * dimensionality as {@link SparseMatrix}.
+ * <p>
+ * Each worker thread counts the distinct pairs of grey levels in a primitive
+ * hash map, and the maps are merged. The memory needed thus depends on the number of
+ * distinct pairs instead of the squared number of grey levels, so that high
+ * grey level counts (e.g. of 16-bit images) can be used.
+ * </p>
+ * 
+ * @param <T> input type
+ */
+@Plugin(type = Ops.Image.SparseCooccurrenceMatrix.class)
+public class DefaultSparseCooccurrenceMatrix<T extends RealType<T>> extends
+	AbstractCooccurrenceMatrix<T, SparseMatrix> implements
+	Ops.Image.SparseCooccurrenceMatrix
+{
+
+	@Override
+	public SparseMatrix calculate(final IterableInterval<T> input) {
+		final int n = nrGreyLevels;
+		final List<Counter> counters = countPairs(input, () -> new Counter(n));
+
+		// merge the distinct pairs counted by all chunks
+		final LongHashMap counts = new LongHashMap();
+		long nrPairs = 0;
+		for (final Counter counter : counters) {
+			counts.addAll(counter.counts);
+			nrPairs += counter.nrPairs;
+		}
+
+		final long[] indices = counts.keys();
+		Arrays.sort(indices);
+		final double[] values = new double[indices.length];
+		final double divisor = 1.0 / nrPairs;
+		for (int i = 0; i < indices.length; i++) {
+			values[i] = counts.get(indices[i], 0) * divisor;
+		}
+		return new SparseMatrix(n, indices, values);
+	}
+
+	// -- Helper classes --
+
+	/** Counts the distinct pairs of grey levels of one worker thread. */
+	static class Counter implements PairCounter {
+
+		private final int nrGreyLevels;
+		final LongHashMap counts = new LongHashMap();
+		long nrPairs;
+
+		public Counter(final int nrGreyLevels) {
+			this.nrGreyLevels = nrGreyLevels;
+		}
+
+		@Override
+		public void count(final int first, final int second) {
+			counts.add((long) first * nrGreyLevels + second, 1);
+			nrPairs++;
+		}
+	}
+
+}
@@ -0,0 +1,154 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.image.cooccurrenceMatrix;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from non-negative {@code long} keys to
+ * {@code long} values, which avoids boxing each entry as
+ * {@link java.util.HashMap} would.
+ */
+class LongHashMap {
+
+	/** Key of the free slots. */
+	private static final long FREE = -1;
+
+	/** Largest power of two which is a valid array length. */
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	private long[] keys;
+	private long[] values;
+	private int size;
+
+	public LongHashMap() {
+		this(16);
+	}
+
+	/**
+	 * Creates a map with room for the given number of entries. The capacity is
+	 * bounded; larger maps grow as entries are added.
+	 */
+	public LongHashMap(final long expectedSize) {
+		final long capacity = Math.min(MAX_CAPACITY, Math.max(8, 2 * Math.max(0,
+			expectedSize)));
+		allocate(Integer.highestOneBit((int) capacity - 1) << 1);
+	}
+
+	/** Gets the number of entries. */
+	public int size() {
+		return size;
+	}
+
+	/** Gets the value of the given key, or the given default if absent. */
+	public long get(final long key, final long absent) {
+		final int slot = slot(key);
+		return keys[slot] == FREE ? absent : values[slot];
+	}
+
+	/** Sets the value of the given key. */
+	public void put(final long key, final long value) {
+		final int slot = claim(key);
+		values[slot] = value;
+	}
+
+	/** Adds the given delta to the value of the given key, starting at 0. */
+	public void add(final long key, final long delta) {
+		final int slot = claim(key);
+		values[slot] += delta;
+	}
+
+	/** Adds the values of all entries of the given map to this one. */
+	public void addAll(final LongHashMap other) {
+		for (int i = 0; i < other.keys.length; i++) {
+			if (other.keys[i] != FREE) add(other.keys[i], other.values[i]);
+		}
+	}
+
+	/** Gets the keys of all entries, in no particular order. */
+	public long[] keys() {
+		final long[] result = new long[size];
+		int k = 0;
+		for (final long key : keys) {
+			if (key != FREE) result[k++] = key;
+		}
+		return result;
+	}
+
+	// -- Helper methods --
+
+	/** Gets the slot of the given key, or the free slot it would go to. */
+	private int slot(final long key) {
+		final int mask = keys.length - 1;
+		final long h = key * 0x9E3779B97F4A7C15L;
+		int slot = (int) (h ^ (h >>> 32)) & mask;
+		while (keys[slot] != FREE && keys[slot] != key) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/** Gets the slot of the given key, inserting it if absent. */
+	private int claim(final long key) {
+		int slot = slot(key);
+		if (keys[slot] == FREE) {
+			if (2 * (size + 1) > keys.length) {
+				rehash();
+				slot = slot(key);
+			}
+			keys[slot] = key;
+			size++;
+		}
+		return slot;
+	}
+
+	private void rehash() {
+		if (keys.length == MAX_CAPACITY) {
+			throw new IllegalStateException("Too many entries: " + size);
+		}
+		final long[] oldKeys = keys;
+		final long[] oldValues = values;
+		allocate(2 * oldKeys.length);
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] == FREE) continue;
+			final int slot = slot(oldKeys[i]);
+			keys[slot] = oldKeys[i];
+			values[slot] = oldValues[i];
+		}
+	}
+
+	private void allocate(final int capacity) {
+		keys = new long[capacity];
+		values = new long[capacity];
+		Arrays.fill(keys, FREE);
+	}
+
+}
@@ -0,0 +1,89 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.image.cooccurrenceMatrix;
+
+import java.util.Arrays;
+
+/**
+ * Cooccurrence matrix storing only its non-zero entries, e.g. for grey level
+ * counts too high for a dense matrix.
+ * 
+ * @see DefaultSparseCooccurrenceMatrix
+ */
+public class SparseMatrix {
+
+	private final int nrGreyLevels;
+
+	/** Sorted flat indices ({@code row * nrGreyLevels + col}) of the entries. */
+	private final long[] indices;
+
+	private final double[] values;
+
+	public SparseMatrix(final int nrGreyLevels, final long[] indices,
+		final double[] values)
+	{
+		this.nrGreyLevels = nrGreyLevels;
+		this.indices = indices;
+		this.values = values;
+	}
+
+	/** Gets the number of grey levels, i.e. rows and columns. */
+	public int getNrGreyLevels() {
+		return nrGreyLevels;
+	}
+
+	/** Gets the number of non-zero entries. */
+	public int size() {
+		return indices.length;
+	}
+
+	/** Gets the row of the k-th non-zero entry. */
+	public int row(final int k) {
+		return (int) (indices[k] / nrGreyLevels);
+	}
+
+	/** Gets the column of the k-th non-zero entry. */
+	public int col(final int k) {
+		return (int) (indices[k] % nrGreyLevels);
+	}
+
+	/** Gets the value of the k-th non-zero entry. */
+	public double value(final int k) {
+		return values[k];
+	}
+
+	/** Gets the entry at the given row and column. */
+	public double get(final int row, final int col) {
+		final int k = Arrays.binarySearch(indices, (long) row * nrGreyLevels + col);
+		return k < 0 ? 0 : values[k];
+	}
+
+}
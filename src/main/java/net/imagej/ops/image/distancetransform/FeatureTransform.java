@@ -0,0 +1,92 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+package net.imagej.ops.image.distancetransform;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.Parallel;
+import net.imagej.ops.create.img.CreateImgFromDimsAndType;
+import net.imagej.ops.special.function.Functions;
+import net.imagej.ops.special.function.UnaryFunctionOp;
+import net.imagej.ops.special.hybrid.AbstractUnaryHybridCF;
+import net.imglib2.FinalInterval;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.BooleanType;
+import net.imglib2.type.numeric.IntegerType;
+import net.imglib2.type.numeric.integer.LongType;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Computes a feature transform, i.e. for every pixel the index of the nearest
+ * background pixel, with an optional calibration. The index of a pixel is its
+ * position in flat iteration order of the input; pixels of an image without
+ * background get -1.
+ *
+ * @see SeparableDistanceTransform
+ */
+@Plugin(type = Ops.Image.FeatureTransform.class, priority = Priority.HIGH_PRIORITY)
+public class FeatureTransform<B extends BooleanType<B>, L extends IntegerType<L>>
+		extends AbstractUnaryHybridCF<RandomAccessibleInterval<B>, RandomAccessibleInterval<L>>
+		implements Ops.Image.FeatureTransform, Contingent, Parallel {
+
+	@Parameter(required = false)
+	private double[] calibration;
+
+	@SuppressWarnings("rawtypes")
+	private UnaryFunctionOp<FinalInterval, RandomAccessibleInterval> createOp;
+
+	@Override
+	public boolean conforms() {
+		return SeparableDistanceTransform.conforms(in(), calibration);
+	}
+
+	@Override
+	public void initialize() {
+		createOp = Functions.unary(ops(), CreateImgFromDimsAndType.class, RandomAccessibleInterval.class,
+				new FinalInterval(in()), new LongType());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public RandomAccessibleInterval<L> createOutput(final RandomAccessibleInterval<B> in) {
+		return createOp.calculate(new FinalInterval(in));
+	}
+
+	@Override
+	public void compute(final RandomAccessibleInterval<B> in, final RandomAccessibleInterval<L> out) {
+		final SeparableDistanceTransform transform = new SeparableDistanceTransform(ops(), in, calibration,
+				true);
+		transform.compute(in, false);
+		transform.writeFeatures(out);
+	}
+}
@@ -0,0 +1,339 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+package net.imagej.ops.image.distancetransform;
+
+import net.imagej.ops.OpEnvironment;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imglib2.Cursor;
+import net.imglib2.Dimensions;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.BooleanType;
+import net.imglib2.type.numeric.IntegerType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.IntervalIndexer;
+import net.imglib2.view.Views;
+
+/**
+ * Exact squared Euclidean distance transform after Felzenszwalb and
+ * Huttenlocher ("Distance Transforms of Sampled Functions", Theory of
+ * Computing 8, 2012): each dimension in turn is processed line by line, taking
+ * the lower envelope of the parabolas rooted at the values of the previous
+ * dimension. The calibration only changes the width of the parabolas.
+ * <p>
+ * Pixels are addressed by their {@code long} index in flat iteration order
+ * and the squared distances are kept in chunked {@code double} arrays, so there
+ * is no limit on the number of pixels, and integer squared distances stay
+ * exact far beyond the 2^24 a {@code float} could hold. The lines of a
+ * dimension are split into a few batches per thread, weighted by the line
+ * length. Optionally, the index of the nearest seed of each pixel (its feature
+ * transform) is tracked as well.
+ * </p>
+ */
+final class SeparableDistanceTransform {
+
+	private static final int CHUNK_BITS = 20;
+
+	private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+	private final OpEnvironment ops;
+
+	private final long[] dimensions;
+
+	/** Squared pixel spacing of each dimension. */
+	private final double[] weights;
+
+	private final long size;
+
+	private final double[][] distances;
+
+	private final long[][] features;
+
+	/**
+	 * @param calibration pixel spacing of each dimension, or null for 1
+	 * @param withFeatures whether to track the nearest seeds
+	 */
+	public SeparableDistanceTransform(final OpEnvironment ops,
+		final Dimensions dims, final double[] calibration,
+		final boolean withFeatures)
+	{
+		this.ops = ops;
+		dimensions = Intervals.dimensionsAsLongArray(dims);
+		weights = new double[dimensions.length];
+		for (int d = 0; d < weights.length; d++) {
+			weights[d] = calibration == null ? 1 : calibration[d] * calibration[d];
+		}
+		size = Intervals.numElements(dims);
+
+		final int numChunks = (int) ((size + CHUNK_SIZE - 1) >>> CHUNK_BITS);
+		distances = new double[numChunks][];
+		features = withFeatures ? new long[numChunks][] : null;
+		for (int c = 0; c < numChunks; c++) {
+			final int length = (int) Math.min(CHUNK_SIZE, size - (long) c *
+				CHUNK_SIZE);
+			distances[c] = new double[length];
+			if (withFeatures) features[c] = new long[length];
+		}
+	}
+
+	/**
+	 * Checks that every line fits into an array.
+	 */
+	public static boolean conforms(final Dimensions dims,
+		final double[] calibration)
+	{
+		if (calibration != null && calibration.length != dims.numDimensions()) {
+			return false;
+		}
+		for (int d = 0; d < dims.numDimensions(); d++) {
+			if (dims.dimension(d) >= Integer.MAX_VALUE) return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Computes for every pixel the squared distance to the nearest pixel whose
+	 * value equals {@code seed}. Pixels are infinitely far away if there is no
+	 * such pixel.
+	 */
+	public <B extends BooleanType<B>> void compute(
+		final RandomAccessibleInterval<B> in, final boolean seed)
+	{
+		for (int d = 0; d < dimensions.length; d++) {
+			transform(in, seed, d);
+		}
+	}
+
+	/**
+	 * Writes {@code factor} times the distance of each pixel to {@code out} if
+	 * the pixel of {@code mask} equals {@code maskValue}, or of all pixels if
+	 * {@code mask} is null.
+	 */
+	public <T extends RealType<T>> void writeDistances(
+		final RandomAccessibleInterval<T> out,
+		final RandomAccessibleInterval<? extends BooleanType<?>> mask,
+		final boolean maskValue, final double factor)
+	{
+		ops.thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				final Cursor<T> cursor = Views.flatIterable(out).cursor();
+				final Cursor<? extends BooleanType<?>> maskCursor = mask == null ? null
+					: Views.flatIterable(mask).cursor();
+				setToStart(cursor, startIndex);
+				if (maskCursor != null) setToStart(maskCursor, startIndex);
+				long index = startIndex;
+				for (long step = 0; step < numSteps; step++) {
+					if (maskCursor == null || maskCursor.get().get() == maskValue) {
+						cursor.get().setReal(factor * Math.sqrt(distances[chunk(
+							index)][offset(index)]));
+					}
+					index += stepSize;
+					cursor.jumpFwd(stepSize);
+					if (maskCursor != null) maskCursor.jumpFwd(stepSize);
+				}
+			}
+		}, size);
+	}
+
+	/**
+	 * Writes the index of the nearest seed of each pixel to {@code out}, or -1
+	 * if there are no seeds.
+	 */
+	public <L extends IntegerType<L>> void writeFeatures(
+		final RandomAccessibleInterval<L> out)
+	{
+		ops.thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				final Cursor<L> cursor = Views.flatIterable(out).cursor();
+				setToStart(cursor, startIndex);
+				long index = startIndex;
+				for (long step = 0; step < numSteps; step++) {
+					cursor.get().setInteger(features[chunk(index)][offset(index)]);
+					index += stepSize;
+					cursor.jumpFwd(stepSize);
+				}
+			}
+		}, size);
+	}
+
+	// -- Helper methods --
+
+	/** One-dimensional transform of all lines along dimension d. */
+	private <B extends BooleanType<B>> void transform(
+		final RandomAccessibleInterval<B> in, final boolean seed, final int d)
+	{
+		final int length = (int) dimensions[d];
+		long stride = 1;
+		for (int k = 0; k < d; k++) {
+			stride *= dimensions[k];
+		}
+		final long lineStride = stride;
+		final double w = weights[d];
+
+		ops.thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				// per-batch buffers: values and seeds of the line, and the parabolas
+				// of the lower envelope with the boundaries between them
+				final double[] f = new double[length];
+				final long[] seeds = features == null ? null : new long[length];
+				final int[] v = new int[length];
+				final double[] z = new double[length + 1];
+				final RandomAccess<B> access = d == 0 ? in.randomAccess() : null;
+				final long[] min = Intervals.minAsLongArray(in);
+				final long[] position = new long[dimensions.length];
+
+				long line = startIndex;
+				for (long step = 0; step < numSteps; step++) {
+					final long base = line / lineStride * lineStride * length + line %
+						lineStride;
+					if (d == 0) {
+						readSeeds(access, min, position, base, seed, f, seeds);
+					}
+					else {
+						read(base, lineStride, f, seeds);
+					}
+					envelope(f, seeds, v, z, w, base, lineStride);
+					line += stepSize;
+				}
+			}
+		}, size / length, 0, length);
+	}
+
+	/** Initializes a line of the first dimension from the input. */
+	private <B extends BooleanType<B>> void readSeeds(
+		final RandomAccess<B> access, final long[] min, final long[] position,
+		final long base, final boolean seed, final double[] f, final long[] seeds)
+	{
+		IntervalIndexer.indexToPosition(base, dimensions, position);
+		for (int k = 0; k < position.length; k++) {
+			position[k] += min[k];
+		}
+		access.setPosition(position);
+		for (int i = 0; i < f.length; i++) {
+			final long index = base + i;
+			final boolean isSeed = access.get().get() == seed;
+			f[i] = isSeed ? 0 : Double.POSITIVE_INFINITY;
+			distances[chunk(index)][offset(index)] = f[i];
+			if (seeds != null) {
+				seeds[i] = isSeed ? index : -1;
+				features[chunk(index)][offset(index)] = seeds[i];
+			}
+			access.fwd(0);
+		}
+	}
+
+	private void read(final long base, final long stride, final double[] f,
+		final long[] seeds)
+	{
+		long index = base;
+		for (int i = 0; i < f.length; i++) {
+			f[i] = distances[chunk(index)][offset(index)];
+			if (seeds != null) seeds[i] = features[chunk(index)][offset(index)];
+			index += stride;
+		}
+	}
+
+	/**
+	 * Computes the lower envelope of the parabolas {@code w (x - q)^2 + f[q]}
+	 * and writes it back to the line.
+	 */
+	private void envelope(final double[] f, final long[] seeds, final int[] v,
+		final double[] z, final double w, final long base, final long stride)
+	{
+		int k = -1;
+		for (int q = 0; q < f.length; q++) {
+			if (f[q] == Double.POSITIVE_INFINITY) continue;
+			if (k < 0) {
+				k = 0;
+				v[0] = q;
+				z[0] = Double.NEGATIVE_INFINITY;
+				continue;
+			}
+			final double fq = f[q] + w * q * q;
+			double s = intersection(f, w, v[k], q, fq);
+			while (s <= z[k]) {
+				k--;
+				s = intersection(f, w, v[k], q, fq);
+			}
+			k++;
+			v[k] = q;
+			z[k] = s;
+		}
+		// NB: Lines without any finite value stay infinite.
+		if (k < 0) return;
+		z[k + 1] = Double.POSITIVE_INFINITY;
+
+		int j = 0;
+		long index = base;
+		for (int p = 0; p < f.length; p++) {
+			while (z[j + 1] < p) {
+				j++;
+			}
+			final int q = v[j];
+			distances[chunk(index)][offset(index)] = w * (p - q) * (p - q) + f[q];
+			if (seeds != null) features[chunk(index)][offset(index)] = seeds[q];
+			index += stride;
+		}
+	}
+
+	/**
+	 * Position where the parabola of q, with {@code fq = f[q] + w q^2}, starts
+	 * to be below the parabola of r.
+	 */
+	private static double intersection(final double[] f, final double w,
+		final int r, final int q, final double fq)
+	{
+		return (fq - f[r] - w * r * r) / (2 * w * (q - r));
+	}
+
+	private static int chunk(final long index) {
+		return (int) (index >>> CHUNK_BITS);
+	}
+
+	private static int offset(final long index) {
+		return (int) (index & CHUNK_MASK);
+	}
+
+}
@@ -32,15 +32,10 @@ package net.imagej.ops.image.integral;
 
 import net.imagej.ops.Contingent;
 import net.imagej.ops.Ops;
-import net.imagej.ops.Ops.Slice;
-import net.imagej.ops.special.computer.Computers;
-import net.imagej.ops.special.computer.UnaryComputerOp;
 import net.imagej.ops.special.function.Functions;
 import net.imagej.ops.special.function.UnaryFunctionOp;
 import net.imagej.ops.special.hybrid.AbstractUnaryHybridCF;
-import net.imagej.ops.special.hybrid.AbstractUnaryHybridCI;
 import net.imglib2.Dimensions;
-import net.imglib2.IterableInterval;
 import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.type.numeric.IntegerType;
 import net.imglib2.type.numeric.RealType;
@@ -61,55 +56,22 @@ public abstract class AbstractIntegralImg<I extends RealType<I>> extends
 	implements Contingent
 {
 
-	private AbstractUnaryHybridCI<IterableInterval<RealType<?>>, IterableInterval<RealType<?>>> integralAdd;
-	private UnaryComputerOp[] slicewiseOps;
 	private UnaryFunctionOp<Dimensions, RandomAccessibleInterval> createLongRAI;
 	private UnaryFunctionOp<Dimensions, RandomAccessibleInterval> createDoubleRAI;
 
 	@Override
 	public void initialize() {
-		integralAdd = getComputer();
-
-		if (in() != null) {
-			slicewiseOps = new UnaryComputerOp[in().numDimensions()];
-
-			for (int i = 0; i < in().numDimensions(); ++i) {
-				slicewiseOps[i] = Computers.unary(ops(), Slice.class,
-					RandomAccessibleInterval.class, RandomAccessibleInterval.class,
-					integralAdd, i);
-			}
-		}
-
 		createLongRAI = Functions.unary(ops(), Ops.Create.Img.class,
 			RandomAccessibleInterval.class, Dimensions.class, new LongType());
 		createDoubleRAI = Functions.unary(ops(), Ops.Create.Img.class,
 			RandomAccessibleInterval.class, Dimensions.class, new DoubleType());
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public void compute(final RandomAccessibleInterval<I> input,
 		final RandomAccessibleInterval<RealType<?>> output)
 	{
-		if (slicewiseOps == null) {
-			slicewiseOps = new UnaryComputerOp[in().numDimensions()];
-
-			for (int i = 0; i < in().numDimensions(); ++i) {
-				slicewiseOps[i] = Computers.unary(ops(), Slice.class,
-					RandomAccessibleInterval.class, RandomAccessibleInterval.class,
-					integralAdd, i);
-			}
-		}
-
-		// HACK Generalized to most common supertype of input and output
-		RandomAccessibleInterval<? extends RealType<?>> generalizedInput = input;
-
-		// Create integral image
-		for (int i = 0; i < input.numDimensions(); ++i) {
-			// Slicewise integral addition in one direction
-			slicewiseOps[i].compute(generalizedInput, output);
-			generalizedInput = output;
-		}
+		new IntegralTable(ops(), input, isSquared()).write(output, isSquared());
 	}
 
 	@SuppressWarnings("unchecked")
@@ -132,11 +94,9 @@ public abstract class AbstractIntegralImg<I extends RealType<I>> extends
 	}
 
 	/**
-	 * Implements the row-wise addition required for computations of integral
-	 * images.
+	 * @return whether the squared input values are summed up instead of the
+	 *         values themselves.
 	 */
-	public abstract
-		AbstractUnaryHybridCI<IterableInterval<RealType<?>>, IterableInterval<RealType<?>>>
-		getComputer();
+	protected abstract boolean isSquared();
 
 }
@@ -31,9 +31,6 @@
 package net.imagej.ops.image.integral;
 
 import net.imagej.ops.Ops;
-import net.imagej.ops.special.hybrid.AbstractUnaryHybridCI;
-import net.imglib2.Cursor;
-import net.imglib2.IterableInterval;
 import net.imglib2.type.numeric.RealType;
 import net.imglib2.type.numeric.integer.LongType;
 import net.imglib2.type.numeric.real.DoubleType;
@@ -57,43 +54,8 @@ public class DefaultIntegralImg<I extends RealType<I>> extends
 {
 
 	@Override
-	public
-		AbstractUnaryHybridCI<IterableInterval<RealType<?>>, IterableInterval<RealType<?>>>
-		getComputer()
-	{
-		return new IntegralAddComputer();
-	}
-
-	/**
-	 * Implements the row-wise addition required for computations of integral
-	 * images of order=1.
-	 *
-	 * @author Stefan Helfrich (University of Konstanz)
-	 */
-	private class IntegralAddComputer extends
-		AbstractUnaryHybridCI<IterableInterval<RealType<?>>, IterableInterval<RealType<?>>>
-	{
-
-		@Override
-		public void compute(final IterableInterval<RealType<?>> input,
-			final IterableInterval<RealType<?>> output)
-		{
-
-			final Cursor<RealType<?>> inputCursor = input.cursor();
-			final Cursor<RealType<?>> outputCursor = output.cursor();
-
-			double tmp = 0.0d;
-			while (outputCursor.hasNext()) {
-
-				final RealType<?> inputValue = inputCursor.next();
-				final RealType<?> outputValue = outputCursor.next();
-
-				tmp += inputValue.getRealDouble();
-
-				outputValue.setReal(tmp);
-			}
-		}
-
+	protected boolean isSquared() {
+		return false;
 	}
 
 }
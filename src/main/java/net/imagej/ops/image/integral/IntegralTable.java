@@ -0,0 +1,384 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.image.integral;
+
+import net.imagej.ops.OpEnvironment;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imglib2.Cursor;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.util.IntervalIndexer;
+import net.imglib2.util.Intervals;
+import net.imglib2.view.Views;
+
+/**
+ * <i>n</i>-dimensional summed-area table of a {@link RealType} image, kept in
+ * chunked {@code double} arrays that are indexed by {@code long}.
+ * <p>
+ * The table has one leading row of zeros in every dimension, so the sum of a
+ * box is always the alternating sum of its 2<sup><i>n</i></sup> corners. The
+ * first dimension is summed while the input is read, which also yields the
+ * squared values if they are requested; every further dimension is summed by
+ * adding each row to the next, with the rows split into blocks that are
+ * processed in parallel. The table of squared values is only computed when it
+ * is first needed.
+ * </p>
+ * <p>
+ * Sums are exact as long as they do not exceed 2<sup>53</sup>.
+ * </p>
+ */
+public final class IntegralTable {
+
+	private static final int CHUNK_BITS = 20;
+
+	private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+	/** Number of consecutive row elements that are summed by one task. */
+	private static final int BLOCK_SIZE = 4096;
+
+	private final OpEnvironment ops;
+
+	private final RandomAccessibleInterval<? extends RealType<?>> input;
+
+	private final long[] min;
+
+	/** Dimensions of the table, i.e. those of the input plus one. */
+	private final long[] dimensions;
+
+	private final long[] strides;
+
+	private final long size;
+
+	private final double[][] sums;
+
+	private volatile double[][] squares;
+
+	/**
+	 * @param input the image to sum up
+	 * @param withSquares whether to compute the table of squared values right
+	 *          away, at no extra cost for reading the input
+	 */
+	public IntegralTable(final OpEnvironment ops,
+		final RandomAccessibleInterval<? extends RealType<?>> input,
+		final boolean withSquares)
+	{
+		this.ops = ops;
+		this.input = input;
+		min = Intervals.minAsLongArray(input);
+		dimensions = new long[input.numDimensions()];
+		strides = new long[dimensions.length];
+		long n = 1;
+		for (int d = 0; d < dimensions.length; d++) {
+			dimensions[d] = input.dimension(d) + 1;
+			strides[d] = n;
+			n *= dimensions[d];
+		}
+		size = n;
+
+		sums = allocate();
+		if (withSquares) {
+			final double[][] s = allocate();
+			build(sums, s);
+			squares = s;
+		}
+		else {
+			build(sums, null);
+		}
+	}
+
+	/**
+	 * Sum of the input values in the box from {@code boxMin} to {@code boxMax}
+	 * (inclusive), which must lie within the input.
+	 */
+	public double sum(final long[] boxMin, final long[] boxMax) {
+		return box(boxMin, boxMax).sum(boxMin);
+	}
+
+	/**
+	 * Sum of the squared input values in the box from {@code boxMin} to
+	 * {@code boxMax} (inclusive), which must lie within the input.
+	 */
+	public double sumOfSquares(final long[] boxMin, final long[] boxMax) {
+		return box(boxMin, boxMax).sumOfSquares(boxMin);
+	}
+
+	/**
+	 * Creates an accessor for boxes of the given size, which precomputes the
+	 * corners of the box so that each query is a handful of array lookups.
+	 */
+	public Box box(final long[] boxSize) {
+		return new Box(boxSize);
+	}
+
+	/**
+	 * Writes the integral image (the sums from the minimum of the input up to
+	 * and including each pixel) to {@code out}, which must have the dimensions
+	 * of the input.
+	 */
+	public void write(final RandomAccessibleInterval<? extends RealType<?>> out,
+		final boolean ofSquares)
+	{
+		final double[][] values = ofSquares ? squares() : sums;
+		final long[] outMin = Intervals.minAsLongArray(out);
+		ops.thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				final Cursor<? extends RealType<?>> cursor = Views.flatIterable(out)
+					.localizingCursor();
+				setToStart(cursor, startIndex);
+				for (long step = 0; step < numSteps; step++) {
+					long index = 0;
+					for (int d = 0; d < strides.length; d++) {
+						index += (cursor.getLongPosition(d) - outMin[d] + 1) * strides[d];
+					}
+					cursor.get().setReal(values[chunk(index)][offset(index)]);
+					cursor.jumpFwd(stepSize);
+				}
+			}
+		}, Intervals.numElements(out));
+	}
+
+	// -- Helper methods --
+
+	private Box box(final long[] boxMin, final long[] boxMax) {
+		final long[] boxSize = new long[boxMin.length];
+		for (int d = 0; d < boxSize.length; d++) {
+			boxSize[d] = boxMax[d] - boxMin[d] + 1;
+		}
+		return new Box(boxSize);
+	}
+
+	private double[][] squares() {
+		double[][] s = squares;
+		if (s == null) {
+			synchronized (this) {
+				s = squares;
+				if (s == null) {
+					s = allocate();
+					build(null, s);
+					squares = s;
+				}
+			}
+		}
+		return s;
+	}
+
+	private double[][] allocate() {
+		final int numChunks = (int) ((size + CHUNK_SIZE - 1) >>> CHUNK_BITS);
+		final double[][] values = new double[numChunks][];
+		for (int c = 0; c < numChunks; c++) {
+			values[c] = new double[(int) Math.min(CHUNK_SIZE, size - (long) c *
+				CHUNK_SIZE)];
+		}
+		return values;
+	}
+
+	/** Fills either or both tables. */
+	private void build(final double[][] s1, final double[][] s2) {
+		readLines(s1, s2);
+		for (int d = 1; d < dimensions.length; d++) {
+			if (s1 != null) sumRows(s1, d);
+			if (s2 != null) sumRows(s2, d);
+		}
+	}
+
+	/** Reads the input line by line and sums it up along the first dimension. */
+	private void readLines(final double[][] s1, final double[][] s2) {
+		final int n = dimensions.length;
+		final long length = dimensions[0] - 1;
+		final long[] lineDimensions = new long[n - 1];
+		for (int d = 1; d < n; d++) {
+			lineDimensions[d - 1] = dimensions[d] - 1;
+		}
+
+		ops.thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				final RandomAccess<? extends RealType<?>> access = input
+					.randomAccess();
+				final long[] linePosition = new long[n - 1];
+				final long[] position = new long[n];
+
+				long line = startIndex;
+				for (long step = 0; step < numSteps; step++) {
+					if (n > 1) {
+						IntervalIndexer.indexToPosition(line, lineDimensions, linePosition);
+					}
+					position[0] = min[0];
+					long index = 1;
+					for (int d = 1; d < n; d++) {
+						position[d] = min[d] + linePosition[d - 1];
+						index += (linePosition[d - 1] + 1) * strides[d];
+					}
+					access.setPosition(position);
+
+					double sum = 0;
+					double sumOfSquares = 0;
+					for (long x = 0; x < length; x++) {
+						final double v = access.get().getRealDouble();
+						if (s1 != null) {
+							sum += v;
+							s1[chunk(index)][offset(index)] = sum;
+						}
+						if (s2 != null) {
+							sumOfSquares += v * v;
+							s2[chunk(index)][offset(index)] = sumOfSquares;
+						}
+						access.fwd(0);
+						index++;
+					}
+					line += stepSize;
+				}
+			}
+		}, Intervals.numElements(lineDimensions), 0, length);
+	}
+
+	/**
+	 * Sums up the table along dimension d by adding each row, i.e. the
+	 * contiguous run of elements below dimension d, to the next.
+	 */
+	private void sumRows(final double[][] values, final int d) {
+		final long rowLength = strides[d];
+		final long rows = dimensions[d];
+		final long outer = size / (rowLength * rows);
+		final long blocks = (rowLength + BLOCK_SIZE - 1) / BLOCK_SIZE;
+
+		ops.thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				long unit = startIndex;
+				for (long step = 0; step < numSteps; step++) {
+					final long start = unit / blocks * rowLength * rows + unit % blocks *
+						BLOCK_SIZE;
+					final long length = Math.min(BLOCK_SIZE, rowLength - unit % blocks *
+						BLOCK_SIZE);
+					// row 0 is zero and row 1 has nothing to add
+					for (long r = 2; r < rows; r++) {
+						final long row = start + r * rowLength;
+						for (long j = row; j < row + length; j++) {
+							final long previous = j - rowLength;
+							values[chunk(j)][offset(j)] += values[chunk(previous)][offset(
+								previous)];
+						}
+					}
+					unit += stepSize;
+				}
+			}
+		}, outer * blocks, 0, (double) rows * BLOCK_SIZE);
+	}
+
+	private static int chunk(final long index) {
+		return (int) (index >>> CHUNK_BITS);
+	}
+
+	private static int offset(final long index) {
+		return (int) (index & CHUNK_MASK);
+	}
+
+	/**
+	 * Sums over boxes of a fixed size. Instances are immutable and may be shared
+	 * between threads.
+	 */
+	public final class Box {
+
+		private final long volume;
+
+		/** Table offsets of the corners relative to the lowest one. */
+		private final long[] corners;
+
+		private final double[] signs;
+
+		private Box(final long[] boxSize) {
+			final int n = dimensions.length;
+			long v = 1;
+			for (int d = 0; d < n; d++) {
+				v *= boxSize[d];
+			}
+			volume = v;
+
+			corners = new long[1 << n];
+			signs = new double[corners.length];
+			for (int c = 0; c < corners.length; c++) {
+				long offset = 0;
+				int lower = 0;
+				for (int d = 0; d < n; d++) {
+					if ((c & (1 << d)) != 0) offset += boxSize[d] * strides[d];
+					else lower++;
+				}
+				corners[c] = offset;
+				signs[c] = (lower & 1) == 0 ? 1 : -1;
+			}
+		}
+
+		/** Number of pixels in the box. */
+		public long size() {
+			return volume;
+		}
+
+		/** Sum of the input values in the box starting at {@code boxMin}. */
+		public double sum(final long[] boxMin) {
+			return evaluate(sums, boxMin);
+		}
+
+		/**
+		 * Sum of the squared input values in the box starting at {@code boxMin}.
+		 */
+		public double sumOfSquares(final long[] boxMin) {
+			return evaluate(squares(), boxMin);
+		}
+
+		private double evaluate(final double[][] values, final long[] boxMin) {
+			long base = 0;
+			for (int d = 0; d < strides.length; d++) {
+				base += (boxMin[d] - min[d]) * strides[d];
+			}
+			double result = 0;
+			for (int c = 0; c < corners.length; c++) {
+				final long index = base + corners[c];
+				result += signs[c] * values[chunk(index)][offset(index)];
+			}
+			return result;
+		}
+	}
+
+}
@@ -593,6 +593,17 @@ public class ImageMomentsNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(
+		op = net.imagej.ops.imagemoments.moments.DefaultRawMoments.class)
+	public <I extends RealType<I>> RawMoments rawMoments(
+		final IterableInterval<I> in)
+	{
+		final RawMoments result =
+			(RawMoments) ops().run(net.imagej.ops.Ops.ImageMoments.RawMoments.class,
+				in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.imagemoments.hu.DefaultHuMoment1.class)
 	public <I extends RealType<I>, O extends RealType<O>> O huMoment1(
 		final IterableInterval<I> in)
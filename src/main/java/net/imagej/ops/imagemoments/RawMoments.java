@@ -0,0 +1,297 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.imagemoments;
+
+/**
+ * Raw image moments of a 2D image up to order three, accumulated in a single
+ * pass. Central, normalized central and Hu moments are derived from them in
+ * closed form.
+ * <p>
+ * The sums are taken relative to a fixed shift (typically the center of the
+ * image interval) to keep the magnitude of the third order sums small, which
+ * limits the cancellation in the closed form expressions. Partial moments of
+ * disjoint parts of an image can be combined with {@link #merge(RawMoments)}
+ * as long as they use the same shift.
+ * </p>
+ */
+public class RawMoments {
+
+	private final double shiftX;
+	private final double shiftY;
+
+	private double m00;
+	private double m10;
+	private double m01;
+	private double m20;
+	private double m11;
+	private double m02;
+	private double m30;
+	private double m21;
+	private double m12;
+	private double m03;
+
+	public RawMoments() {
+		this(0, 0);
+	}
+
+	public RawMoments(final double shiftX, final double shiftY) {
+		this.shiftX = shiftX;
+		this.shiftY = shiftY;
+	}
+
+	/**
+	 * Adds a pixel to the moments.
+	 *
+	 * @param x position of the pixel in the first dimension
+	 * @param y position of the pixel in the second dimension
+	 * @param val value of the pixel
+	 */
+	public void add(final double x, final double y, final double val) {
+		final double dx = x - shiftX;
+		final double dy = y - shiftY;
+		final double xVal = dx * val;
+		final double yVal = dy * val;
+
+		m00 += val;
+		m10 += xVal;
+		m01 += yVal;
+		m20 += dx * xVal;
+		m11 += dx * yVal;
+		m02 += dy * yVal;
+		m30 += dx * dx * xVal;
+		m21 += dx * dx * yVal;
+		m12 += dx * dy * yVal;
+		m03 += dy * dy * yVal;
+	}
+
+	/**
+	 * Adds the moments of another part of the image.
+	 *
+	 * @param other moments with the same shift as this one
+	 */
+	public void merge(final RawMoments other) {
+		if (other.shiftX != shiftX || other.shiftY != shiftY) {
+			throw new IllegalArgumentException(
+				"Cannot merge moments with different shifts");
+		}
+		m00 += other.m00;
+		m10 += other.m10;
+		m01 += other.m01;
+		m20 += other.m20;
+		m11 += other.m11;
+		m02 += other.m02;
+		m30 += other.m30;
+		m21 += other.m21;
+		m12 += other.m12;
+		m03 += other.m03;
+	}
+
+	// -- Raw moments --
+
+	public double getMoment00() {
+		return m00;
+	}
+
+	public double getMoment10() {
+		return m10 + shiftX * m00;
+	}
+
+	public double getMoment01() {
+		return m01 + shiftY * m00;
+	}
+
+	public double getMoment11() {
+		return m11 + shiftX * m01 + shiftY * m10 + shiftX * shiftY * m00;
+	}
+
+	// -- Central moments --
+
+	/** @return the x coordinate of the centroid */
+	public double getCenterX() {
+		return shiftX + centerX();
+	}
+
+	/** @return the y coordinate of the centroid */
+	public double getCenterY() {
+		return shiftY + centerY();
+	}
+
+	public double getCentralMoment00() {
+		return m00;
+	}
+
+	public double getCentralMoment01() {
+		return 0d;
+	}
+
+	public double getCentralMoment10() {
+		return 0d;
+	}
+
+	public double getCentralMoment11() {
+		return m11 - centerX() * m01;
+	}
+
+	public double getCentralMoment20() {
+		return m20 - centerX() * m10;
+	}
+
+	public double getCentralMoment02() {
+		return m02 - centerY() * m01;
+	}
+
+	public double getCentralMoment30() {
+		final double cx = centerX();
+		return m30 - 3 * cx * m20 + 2 * cx * cx * m10;
+	}
+
+	public double getCentralMoment03() {
+		final double cy = centerY();
+		return m03 - 3 * cy * m02 + 2 * cy * cy * m01;
+	}
+
+	public double getCentralMoment21() {
+		final double cx = centerX();
+		final double cy = centerY();
+		return m21 - 2 * cx * m11 - cy * m20 + 2 * cx * cx * m01;
+	}
+
+	public double getCentralMoment12() {
+		final double cx = centerX();
+		final double cy = centerY();
+		return m12 - 2 * cy * m11 - cx * m02 + 2 * cy * cy * m10;
+	}
+
+	// -- Normalized central moments --
+
+	public double getNormalizedCentralMoment02() {
+		return getCentralMoment02() / Math.pow(m00, 1 + ((0 + 2) / 2));
+	}
+
+	public double getNormalizedCentralMoment03() {
+		return getCentralMoment03() / Math.pow(m00, 1 + ((0 + 3) / 2));
+	}
+
+	public double getNormalizedCentralMoment11() {
+		return getCentralMoment11() / Math.pow(m00, 1 + ((1 + 1) / 2));
+	}
+
+	public double getNormalizedCentralMoment12() {
+		return getCentralMoment12() / Math.pow(m00, 1 + ((1 + 2) / 2));
+	}
+
+	public double getNormalizedCentralMoment20() {
+		return getCentralMoment20() / Math.pow(m00, 1 + ((2 + 0) / 2));
+	}
+
+	public double getNormalizedCentralMoment21() {
+		return getCentralMoment21() / Math.pow(m00, 1 + ((2 + 1) / 2));
+	}
+
+	public double getNormalizedCentralMoment30() {
+		return getCentralMoment30() / Math.pow(m00, 1 + ((3 + 0) / 2));
+	}
+
+	// -- Hu moments --
+
+	public double getHuMoment1() {
+		return getNormalizedCentralMoment20() + getNormalizedCentralMoment02();
+	}
+
+	public double getHuMoment2() {
+		final double n20 = getNormalizedCentralMoment20();
+		final double n02 = getNormalizedCentralMoment02();
+		final double n11 = getNormalizedCentralMoment11();
+		return Math.pow(n20 - n02, 2) - 4 * (Math.pow(n11, 2));
+	}
+
+	public double getHuMoment3() {
+		final double n30 = getNormalizedCentralMoment30();
+		final double n12 = getNormalizedCentralMoment12();
+		final double n21 = getNormalizedCentralMoment21();
+		final double n03 = getNormalizedCentralMoment03();
+		return Math.pow(n30 - 3 * n12, 2) + Math.pow(3 * n21 - n03, 2);
+	}
+
+	public double getHuMoment4() {
+		final double n30 = getNormalizedCentralMoment30();
+		final double n12 = getNormalizedCentralMoment12();
+		final double n21 = getNormalizedCentralMoment21();
+		final double n03 = getNormalizedCentralMoment03();
+		return Math.pow(n30 + n12, 2) + Math.pow(n21 + n03, 2);
+	}
+
+	public double getHuMoment5() {
+		final double n30 = getNormalizedCentralMoment30();
+		final double n12 = getNormalizedCentralMoment12();
+		final double n21 = getNormalizedCentralMoment21();
+		final double n03 = getNormalizedCentralMoment03();
+		return (n30 - 3 * n12) * (n30 + n12) *
+			(Math.pow(n30 + n12, 2) - 3 * Math.pow(n21 + n03, 2)) + (3 * n21 - n03) *
+			(n21 + n03) * (3 * Math.pow(n30 + n12, 2) - Math.pow(n21 + n03, 2));
+	}
+
+	public double getHuMoment6() {
+		final double n20 = getNormalizedCentralMoment20();
+		final double n02 = getNormalizedCentralMoment02();
+		final double n11 = getNormalizedCentralMoment11();
+		final double n30 = getNormalizedCentralMoment30();
+		final double n12 = getNormalizedCentralMoment12();
+		final double n21 = getNormalizedCentralMoment21();
+		final double n03 = getNormalizedCentralMoment03();
+		return (n20 - n02) *
+			(Math.pow(n30 + n12, 2) - Math.pow(n21 + n03, 2)) + 4 * n11 *
+			(n30 + n12) * (n21 + n03);
+	}
+
+	public double getHuMoment7() {
+		final double n30 = getNormalizedCentralMoment30();
+		final double n12 = getNormalizedCentralMoment12();
+		final double n21 = getNormalizedCentralMoment21();
+		final double n03 = getNormalizedCentralMoment03();
+		return (3 * n21 - n03) * (n30 + n12) *
+			(Math.pow(n30 + n12, 2) - 3 * Math.pow(n21 + n03, 2)) - (n30 - 3 * n12) *
+			(n21 + n03) * (3 * Math.pow(n30 + n12, 2) - Math.pow(n21 + n03, 2));
+	}
+
+	// -- Helper methods --
+
+	/** Centroid in the first dimension, relative to the shift. */
+	private double centerX() {
+		return m10 / m00;
+	}
+
+	/** Centroid in the second dimension, relative to the shift. */
+	private double centerY() {
+		return m01 / m00;
+	}
+
+}
@@ -33,7 +33,8 @@ package net.imagej.ops.imagemoments.centralmoments;
 import net.imagej.ops.Op;
 import net.imagej.ops.Ops;
 import net.imagej.ops.imagemoments.AbstractImageMomentOp;
-import net.imagej.ops.special.chain.RTs;
+import net.imagej.ops.imagemoments.RawMoments;
+import net.imagej.ops.special.function.Functions;
 import net.imagej.ops.special.function.UnaryFunctionOp;
 import net.imglib2.IterableInterval;
 import net.imglib2.type.numeric.RealType;
@@ -53,31 +54,16 @@ public class DefaultCentralMoment11<I extends RealType<I>, O extends RealType<O>
 	extends AbstractImageMomentOp<I, O> implements Ops.ImageMoments.CentralMoment11
 {
 
-	private UnaryFunctionOp<IterableInterval<I>, O> moment00Func;
-
-	private UnaryFunctionOp<IterableInterval<I>, O> moment01Func;
-
-	private UnaryFunctionOp<IterableInterval<I>, O> moment10Func;
-
-	private UnaryFunctionOp<IterableInterval<I>, O> moment11Func;
+	private UnaryFunctionOp<IterableInterval<I>, RawMoments> rawMomentsFunc;
 
 	@Override
 	public void initialize() {
-		moment00Func = RTs.function(ops(), Ops.ImageMoments.Moment00.class, in());
-		moment01Func = RTs.function(ops(), Ops.ImageMoments.Moment01.class, in());
-		moment10Func = RTs.function(ops(), Ops.ImageMoments.Moment10.class, in());
-		moment11Func = RTs.function(ops(), Ops.ImageMoments.Moment11.class, in());
+		rawMomentsFunc = Functions.unary(ops(), Ops.ImageMoments.RawMoments.class,
+			RawMoments.class, in());
 	}
 
 	@Override
 	public void compute(final IterableInterval<I> input, final O output) {
-		final double moment00 = moment00Func.calculate(input).getRealDouble();
-		final double moment01 = moment01Func.calculate(input).getRealDouble();
-		final double moment10 = moment10Func.calculate(input).getRealDouble();
-		final double moment11 = moment11Func.calculate(input).getRealDouble();
-
-		final double centerX = moment10 / moment00;
-
-		output.setReal(moment11 - (centerX * moment01));
+		output.setReal(rawMomentsFunc.calculate(input).getCentralMoment11());
 	}
 }
@@ -33,9 +33,9 @@ package net.imagej.ops.imagemoments.centralmoments;
 import net.imagej.ops.Op;
 import net.imagej.ops.Ops;
 import net.imagej.ops.imagemoments.AbstractImageMomentOp;
-import net.imagej.ops.special.chain.RTs;
+import net.imagej.ops.imagemoments.RawMoments;
+import net.imagej.ops.special.function.Functions;
 import net.imagej.ops.special.function.UnaryFunctionOp;
-import net.imglib2.Cursor;
 import net.imglib2.IterableInterval;
 import net.imglib2.type.numeric.RealType;
 
@@ -54,39 +54,16 @@ public class DefaultCentralMoment12<I extends RealType<I>, O extends RealType<O>
 	extends AbstractImageMomentOp<I, O> implements Ops.ImageMoments.CentralMoment12
 {
 
-	private UnaryFunctionOp<IterableInterval<I>, O> moment00Func;
-
-	private UnaryFunctionOp<IterableInterval<I>, O> moment01Func;
-
-	private UnaryFunctionOp<IterableInterval<I>, O> moment10Func;
+	private UnaryFunctionOp<IterableInterval<I>, RawMoments> rawMomentsFunc;
 
 	@Override
 	public void initialize() {
-		moment00Func = RTs.function(ops(), Ops.ImageMoments.Moment00.class, in());
-		moment01Func = RTs.function(ops(), Ops.ImageMoments.Moment01.class, in());
-		moment10Func = RTs.function(ops(), Ops.ImageMoments.Moment10.class, in());
+		rawMomentsFunc = Functions.unary(ops(), Ops.ImageMoments.RawMoments.class,
+			RawMoments.class, in());
 	}
 
 	@Override
 	public void compute(final IterableInterval<I> input, final O output) {
-		final double moment00 = moment00Func.calculate(input).getRealDouble();
-		final double moment01 = moment01Func.calculate(input).getRealDouble();
-		final double moment10 = moment10Func.calculate(input).getRealDouble();
-		final double centerX = moment10 / moment00;
-		final double centerY = moment01 / moment00;
-
-		double centralmoment12 = 0;
-
-		final Cursor<I> it = input.localizingCursor();
-		while (it.hasNext()) {
-			it.fwd();
-			final double x = it.getDoublePosition(0) - centerX;
-			final double y = it.getDoublePosition(1) - centerY;
-			final double val = it.get().getRealDouble();
-
-			centralmoment12 += val * x * y * y;
-		}
-
-		output.setReal(centralmoment12);
+		output.setReal(rawMomentsFunc.calculate(input).getCentralMoment12());
 	}
 }
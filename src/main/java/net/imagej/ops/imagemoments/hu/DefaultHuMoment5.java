@@ -33,7 +33,8 @@ package net.imagej.ops.imagemoments.hu;
 import net.imagej.ops.Op;
 import net.imagej.ops.Ops;
 import net.imagej.ops.imagemoments.AbstractImageMomentOp;
-import net.imagej.ops.special.chain.RTs;
+import net.imagej.ops.imagemoments.RawMoments;
+import net.imagej.ops.special.function.Functions;
 import net.imagej.ops.special.function.UnaryFunctionOp;
 import net.imglib2.IterableInterval;
 import net.imglib2.type.numeric.RealType;
@@ -53,39 +54,16 @@ public class DefaultHuMoment5<I extends RealType<I>, O extends RealType<O>>
 	extends AbstractImageMomentOp<I, O> implements Ops.ImageMoments.HuMoment5
 {
 
-	private UnaryFunctionOp<IterableInterval<I>, O> normalizedCentralMoment30Func;
-
-	private UnaryFunctionOp<IterableInterval<I>, O> normalizedCentralMoment12Func;
-
-	private UnaryFunctionOp<IterableInterval<I>, O> normalizedCentralMoment21Func;
-
-	private UnaryFunctionOp<IterableInterval<I>, O> normalizedCentralMoment03Func;
+	private UnaryFunctionOp<IterableInterval<I>, RawMoments> rawMomentsFunc;
 
 	@Override
 	public void initialize() {
-		normalizedCentralMoment30Func =
-			RTs.function(ops(), Ops.ImageMoments.NormalizedCentralMoment30.class, in());
-		normalizedCentralMoment12Func =
-			RTs.function(ops(), Ops.ImageMoments.NormalizedCentralMoment12.class, in());
-		normalizedCentralMoment21Func =
-			RTs.function(ops(), Ops.ImageMoments.NormalizedCentralMoment21.class, in());
-		normalizedCentralMoment03Func =
-			RTs.function(ops(), Ops.ImageMoments.NormalizedCentralMoment03.class, in());
+		rawMomentsFunc = Functions.unary(ops(), Ops.ImageMoments.RawMoments.class,
+			RawMoments.class, in());
 	}
 
 	@Override
 	public void compute(final IterableInterval<I> input, final O output) {
-		final double n30 =
-			normalizedCentralMoment30Func.calculate(input).getRealDouble();
-		final double n12 =
-			normalizedCentralMoment12Func.calculate(input).getRealDouble();
-		final double n21 =
-			normalizedCentralMoment21Func.calculate(input).getRealDouble();
-		final double n03 =
-			normalizedCentralMoment03Func.calculate(input).getRealDouble();
-
-		output.setReal((n30 - 3 * n12) * (n30 + n12) *
-			(Math.pow(n30 + n12, 2) - 3 * Math.pow(n21 + n03, 2)) + (3 * n21 - n03) *
-			(n21 + n03) * (3 * Math.pow(n30 + n12, 2) - Math.pow(n21 + n03, 2)));
+		output.setReal(rawMomentsFunc.calculate(input).getHuMoment5());
 	}
 }
@@ -0,0 +1,95 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.imagemoments.moments;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Op;
+import net.imagej.ops.Ops;
+import net.imagej.ops.Parallel;
+import net.imagej.ops.imagemoments.RawMoments;
+import net.imagej.ops.special.function.AbstractUnaryFunctionOp;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imglib2.Cursor;
+import net.imglib2.IterableInterval;
+import net.imglib2.type.numeric.RealType;
+
+import org.scijava.plugin.Plugin;
+
+/**
+ * {@link Op} to calculate the {@code imageMoments.rawMoments}, i.e. all raw
+ * moments up to order three in a single localizing pass. Chunks of the input
+ * are processed in parallel and the partial moments are merged.
+ * 
+ * @param <I> input type
+ * @see RawMoments
+ */
+@Plugin(type = Ops.ImageMoments.RawMoments.class,
+	label = "Image Moment: RawMoments")
+public class DefaultRawMoments<I extends RealType<I>> extends
+	AbstractUnaryFunctionOp<IterableInterval<I>, RawMoments> implements
+	Ops.ImageMoments.RawMoments, Contingent, Parallel
+{
+
+	@Override
+	public RawMoments calculate(final IterableInterval<I> input) {
+		// NB: Accumulate relative to the center of the interval.
+		final double shiftX = (input.min(0) + input.max(0)) / 2.0;
+		final double shiftY = (input.min(1) + input.max(1)) / 2.0;
+
+		final RawMoments moments = new RawMoments(shiftX, shiftY);
+		ops().thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				final RawMoments partial = new RawMoments(shiftX, shiftY);
+				final Cursor<I> cursor = input.localizingCursor();
+				setToStart(cursor, startIndex);
+				for (long i = 0; i < numSteps; i++) {
+					partial.add(cursor.getDoublePosition(0), cursor.getDoublePosition(1),
+						cursor.get().getRealDouble());
+					cursor.jumpFwd(stepSize);
+				}
+				synchronized (moments) {
+					moments.merge(partial);
+				}
+			}
+		}, input.size());
+		return moments;
+	}
+
+	@Override
+	public boolean conforms() {
+		return 2 == in().numDimensions();
+	}
+
+}
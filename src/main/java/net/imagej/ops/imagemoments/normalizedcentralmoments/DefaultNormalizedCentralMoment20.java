@@ -33,7 +33,8 @@ package net.imagej.ops.imagemoments.normalizedcentralmoments;
 import net.imagej.ops.Op;
 import net.imagej.ops.Ops;
 import net.imagej.ops.imagemoments.AbstractImageMomentOp;
-import net.imagej.ops.special.chain.RTs;
+import net.imagej.ops.imagemoments.RawMoments;
+import net.imagej.ops.special.function.Functions;
 import net.imagej.ops.special.function.UnaryFunctionOp;
 import net.imglib2.IterableInterval;
 import net.imglib2.type.numeric.RealType;
@@ -54,22 +55,16 @@ public class DefaultNormalizedCentralMoment20<I extends RealType<I>, O extends R
 	extends AbstractImageMomentOp<I, O> implements Ops.ImageMoments.NormalizedCentralMoment20
 {
 
-	private UnaryFunctionOp<IterableInterval<I>, O> centralMoment00Func;
-
-	private UnaryFunctionOp<IterableInterval<I>, O> centralMoment20Func;
+	private UnaryFunctionOp<IterableInterval<I>, RawMoments> rawMomentsFunc;
 
 	@Override
 	public void initialize() {
-		centralMoment00Func = RTs.function(ops(), Ops.ImageMoments.CentralMoment00.class, in());
-		centralMoment20Func = RTs.function(ops(), Ops.ImageMoments.CentralMoment20.class, in());
+		rawMomentsFunc = Functions.unary(ops(), Ops.ImageMoments.RawMoments.class,
+			RawMoments.class, in());
 	}
 
 	@Override
 	public void compute(final IterableInterval<I> input, final O output) {
-		double centralMoment00 = centralMoment00Func.calculate(input).getRealDouble();
-		double centralMoment20 = centralMoment20Func.calculate(input).getRealDouble();
-
-		output.setReal(centralMoment20 /
-			Math.pow(centralMoment00, 1 + ((2 + 0) / 2)));
+		output.setReal(rawMomentsFunc.calculate(input).getNormalizedCentralMoment20());
 	}
 }
@@ -36,8 +36,12 @@ import net.imagej.ops.OpMethod;
 import net.imagej.ops.Ops;
 import net.imglib2.IterableInterval;
 import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.basictypeaccess.array.LongArray;
 import net.imglib2.type.BooleanType;
+import net.imglib2.type.NativeType;
 import net.imglib2.type.Type;
+import net.imglib2.type.logic.BitType;
 
 import org.scijava.plugin.Plugin;
 
@@ -201,6 +205,27 @@ public class LogicNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.logic.ArrayImageToArrayImageP.EqualByte.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.EqualInt.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.EqualLong.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.EqualShort.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.EqualFloat.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.EqualDouble.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.EqualUnsignedByte.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.EqualUnsignedInt.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.EqualUnsignedShort.class })
+	public <T extends NativeType<T>, A> ArrayImg<BitType, LongArray>
+		equal(final ArrayImg<BitType, LongArray> out,
+			final ArrayImg<T, A> in1, final ArrayImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<BitType, LongArray> result =
+			(ArrayImg<BitType, LongArray>) ops().run(Ops.Logic.Equal.NAME, out,
+				in1, in2);
+		return result;
+	}
+
 	// -- greaterThan --
 
 	@OpMethod(op = net.imagej.ops.logic.PrimitiveLogic.IntegerGreaterThan.class)
@@ -247,6 +272,27 @@ public class LogicNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.logic.ArrayImageToArrayImageP.GreaterThanByte.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.GreaterThanInt.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.GreaterThanLong.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.GreaterThanShort.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.GreaterThanFloat.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.GreaterThanDouble.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.GreaterThanUnsignedByte.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.GreaterThanUnsignedInt.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.GreaterThanUnsignedShort.class })
+	public <T extends NativeType<T>, A> ArrayImg<BitType, LongArray>
+		greaterThan(final ArrayImg<BitType, LongArray> out,
+			final ArrayImg<T, A> in1, final ArrayImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<BitType, LongArray> result =
+			(ArrayImg<BitType, LongArray>) ops().run(Ops.Logic.GreaterThan.NAME, out,
+				in1, in2);
+		return result;
+	}
+
 	// -- greaterThanOrEqual --
 
 	@OpMethod(
@@ -300,6 +346,27 @@ public class LogicNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.logic.ArrayImageToArrayImageP.GreaterThanOrEqualByte.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.GreaterThanOrEqualInt.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.GreaterThanOrEqualLong.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.GreaterThanOrEqualShort.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.GreaterThanOrEqualFloat.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.GreaterThanOrEqualDouble.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.GreaterThanOrEqualUnsignedByte.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.GreaterThanOrEqualUnsignedInt.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.GreaterThanOrEqualUnsignedShort.class })
+	public <T extends NativeType<T>, A> ArrayImg<BitType, LongArray>
+		greaterThanOrEqual(final ArrayImg<BitType, LongArray> out,
+			final ArrayImg<T, A> in1, final ArrayImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<BitType, LongArray> result =
+			(ArrayImg<BitType, LongArray>) ops().run(Ops.Logic.GreaterThanOrEqual.NAME, out,
+				in1, in2);
+		return result;
+	}
+
 	// -- lessThan --
 
 	@OpMethod(op = net.imagej.ops.logic.PrimitiveLogic.IntegerLessThan.class)
@@ -345,6 +412,27 @@ public class LogicNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.logic.ArrayImageToArrayImageP.LessThanByte.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.LessThanInt.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.LessThanLong.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.LessThanShort.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.LessThanFloat.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.LessThanDouble.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.LessThanUnsignedByte.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.LessThanUnsignedInt.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.LessThanUnsignedShort.class })
+	public <T extends NativeType<T>, A> ArrayImg<BitType, LongArray>
+		lessThan(final ArrayImg<BitType, LongArray> out,
+			final ArrayImg<T, A> in1, final ArrayImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<BitType, LongArray> result =
+			(ArrayImg<BitType, LongArray>) ops().run(Ops.Logic.LessThan.NAME, out,
+				in1, in2);
+		return result;
+	}
+
 	// -- lessThanOrEqual --
 
 	@OpMethod(
@@ -394,6 +482,27 @@ public class LogicNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.logic.ArrayImageToArrayImageP.LessThanOrEqualByte.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.LessThanOrEqualInt.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.LessThanOrEqualLong.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.LessThanOrEqualShort.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.LessThanOrEqualFloat.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.LessThanOrEqualDouble.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.LessThanOrEqualUnsignedByte.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.LessThanOrEqualUnsignedInt.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.LessThanOrEqualUnsignedShort.class })
+	public <T extends NativeType<T>, A> ArrayImg<BitType, LongArray>
+		lessThanOrEqual(final ArrayImg<BitType, LongArray> out,
+			final ArrayImg<T, A> in1, final ArrayImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<BitType, LongArray> result =
+			(ArrayImg<BitType, LongArray>) ops().run(Ops.Logic.LessThanOrEqual.NAME, out,
+				in1, in2);
+		return result;
+	}
+
 	// -- not --
 
 	@OpMethod(op = net.imagej.ops.logic.PrimitiveLogic.BooleanNot.class)
@@ -471,6 +580,27 @@ public class LogicNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.logic.ArrayImageToArrayImageP.NotEqualByte.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.NotEqualInt.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.NotEqualLong.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.NotEqualShort.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.NotEqualFloat.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.NotEqualDouble.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.NotEqualUnsignedByte.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.NotEqualUnsignedInt.class,
+		net.imagej.ops.logic.ArrayImageToArrayImageP.NotEqualUnsignedShort.class })
+	public <T extends NativeType<T>, A> ArrayImg<BitType, LongArray>
+		notEqual(final ArrayImg<BitType, LongArray> out,
+			final ArrayImg<T, A> in1, final ArrayImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<BitType, LongArray> result =
+			(ArrayImg<BitType, LongArray>) ops().run(Ops.Logic.NotEqual.NAME, out,
+				in1, in2);
+		return result;
+	}
+
 	// -- or --
 
 	@OpMethod(op = net.imagej.ops.logic.PrimitiveLogic.BooleanOr.class)
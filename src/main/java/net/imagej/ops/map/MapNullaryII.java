@@ -31,6 +31,7 @@
 package net.imagej.ops.map;
 
 import net.imagej.ops.Ops;
+import net.imagej.ops.Parallel;
 import net.imagej.ops.thread.chunker.ChunkerOp;
 import net.imagej.ops.thread.chunker.CursorBasedChunk;
 import net.imglib2.IterableInterval;
@@ -47,7 +48,7 @@ import org.scijava.plugin.Plugin;
  */
 @Plugin(type = Ops.Map.class, priority = Priority.LOW_PRIORITY + 1)
 public class MapNullaryII<O> extends
-	AbstractMapNullaryComputer<O, IterableInterval<O>>
+	AbstractMapNullaryComputer<O, IterableInterval<O>> implements Parallel
 {
 
 	@Override
@@ -55,10 +56,11 @@ public class MapNullaryII<O> extends
 		ops().run(ChunkerOp.class, new CursorBasedChunk() {
 
 			@Override
-			public void execute(final int startIndex, final int stepSize,
-				final int numSteps)
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
 			{
-				Maps.map(output, getOp(), startIndex, stepSize, numSteps);
+				Maps.map(output, getOp().getIndependentInstance(), startIndex,
+					stepSize, numSteps);
 			}
 		}, output.size());
 	}
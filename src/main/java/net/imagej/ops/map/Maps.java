@@ -132,12 +132,12 @@ public class Maps {
 	}
 
 	public static <O> void map(final IterableInterval<O> a,
-		final NullaryComputerOp<O> op, final int startIndex, final int stepSize,
-		final int numSteps)
+		final NullaryComputerOp<O> op, final long startIndex, final long stepSize,
+		final long numSteps)
 	{
 		final Cursor<O> aCursor = a.cursor();
 		aCursor.jumpFwd(startIndex + 1);
-		int ctr = 0;
+		long ctr = 0;
 		while (ctr < numSteps) {
 			op.compute(aCursor.get());
 			aCursor.jumpFwd(stepSize);
@@ -286,13 +286,13 @@ public class Maps {
 
 	public static <I, O> void map(final IterableInterval<I> a,
 		final IterableInterval<O> b, final UnaryComputerOp<I, O> op,
-		final int startIndex, final int stepSize, final int numSteps)
+		final long startIndex, final long stepSize, final long numSteps)
 	{
 		final Cursor<I> aCursor = a.cursor();
 		final Cursor<O> bCursor = b.cursor();
 		aCursor.jumpFwd(startIndex + 1);
 		bCursor.jumpFwd(startIndex + 1);
-		int ctr = 0;
+		long ctr = 0;
 		while (ctr < numSteps) {
 			op.compute(aCursor.get(), bCursor.get());
 			aCursor.jumpFwd(stepSize);
@@ -303,12 +303,12 @@ public class Maps {
 
 	public static <I, O> void map(final IterableInterval<I> a,
 		final RandomAccessibleInterval<O> b, final UnaryComputerOp<I, O> op,
-		final int startIndex, final int stepSize, final int numSteps)
+		final long startIndex, final long stepSize, final long numSteps)
 	{
 		final Cursor<I> aCursor = a.localizingCursor();
 		final RandomAccess<O> bAccess = b.randomAccess();
 		aCursor.jumpFwd(startIndex + 1);
-		int ctr = 0;
+		long ctr = 0;
 		while (ctr < numSteps) {
 			bAccess.setPosition(aCursor);
 			op.compute(aCursor.get(), bAccess.get());
@@ -319,12 +319,12 @@ public class Maps {
 
 	public static <I, O> void map(final RandomAccessibleInterval<I> a,
 		final IterableInterval<O> b, final UnaryComputerOp<I, O> op,
-		final int startIndex, final int stepSize, final int numSteps)
+		final long startIndex, final long stepSize, final long numSteps)
 	{
 		final RandomAccess<I> aAccess = a.randomAccess();
 		final Cursor<O> bCursor = b.localizingCursor();
 		bCursor.jumpFwd(startIndex + 1);
-		int ctr = 0;
+		long ctr = 0;
 		while (ctr < numSteps) {
 			aAccess.setPosition(bCursor);
 			op.compute(aAccess.get(), bCursor.get());
@@ -337,8 +337,8 @@ public class Maps {
 
 	public static <I1, I2, O> void map(final IterableInterval<I1> a,
 		final IterableInterval<I2> b, final IterableInterval<O> c,
-		final BinaryComputerOp<I1, I2, O> op, final int startIndex,
-		final int stepSize, final int numSteps)
+		final BinaryComputerOp<I1, I2, O> op, final long startIndex,
+		final long stepSize, final long numSteps)
 	{
 		final Cursor<I1> aCursor = a.cursor();
 		final Cursor<I2> bCursor = b.cursor();
@@ -346,7 +346,7 @@ public class Maps {
 		aCursor.jumpFwd(startIndex + 1);
 		bCursor.jumpFwd(startIndex + 1);
 		cCursor.jumpFwd(startIndex + 1);
-		int ctr = 0;
+		long ctr = 0;
 		while (ctr < numSteps) {
 			op.compute(aCursor.get(), bCursor.get(), cCursor.get());
 			aCursor.jumpFwd(stepSize);
@@ -358,15 +358,15 @@ public class Maps {
 
 	public static <I1, I2, O> void map(final IterableInterval<I1> a,
 		final IterableInterval<I2> b, final RandomAccessibleInterval<O> c,
-		final BinaryComputerOp<I1, I2, O> op, final int startIndex,
-		final int stepSize, final int numSteps)
+		final BinaryComputerOp<I1, I2, O> op, final long startIndex,
+		final long stepSize, final long numSteps)
 	{
 		final Cursor<I1> aCursor = a.localizingCursor();
 		final Cursor<I2> bCursor = b.cursor();
 		final RandomAccess<O> cAccess = c.randomAccess();
 		aCursor.jumpFwd(startIndex + 1);
 		bCursor.jumpFwd(startIndex + 1);
-		int ctr = 0;
+		long ctr = 0;
 		while (ctr < numSteps) {
 			cAccess.setPosition(aCursor);
 			op.compute(aCursor.get(), bCursor.get(), cAccess.get());
@@ -378,15 +378,15 @@ public class Maps {
 
 	public static <I1, I2, O> void map(final IterableInterval<I1> a,
 		final RandomAccessibleInterval<I2> b, final IterableInterval<O> c,
-		final BinaryComputerOp<I1, I2, O> op, final int startIndex,
-		final int stepSize, final int numSteps)
+		final BinaryComputerOp<I1, I2, O> op, final long startIndex,
+		final long stepSize, final long numSteps)
 	{
 		final Cursor<I1> aCursor = a.localizingCursor();
 		final RandomAccess<I2> bAccess = b.randomAccess();
 		final Cursor<O> cCursor = c.cursor();
 		aCursor.jumpFwd(startIndex + 1);
 		cCursor.jumpFwd(startIndex + 1);
-		int ctr = 0;
+		long ctr = 0;
 		while (ctr < numSteps) {
 			bAccess.setPosition(aCursor);
 			op.compute(aCursor.get(), bAccess.get(), cCursor.get());
@@ -398,15 +398,15 @@ public class Maps {
 
 	public static <I1, I2, O> void map(final RandomAccessibleInterval<I1> a,
 		final IterableInterval<I2> b, final IterableInterval<O> c,
-		final BinaryComputerOp<I1, I2, O> op, final int startIndex,
-		final int stepSize, final int numSteps)
+		final BinaryComputerOp<I1, I2, O> op, final long startIndex,
+		final long stepSize, final long numSteps)
 	{
 		final RandomAccess<I1> aAccess = a.randomAccess();
 		final Cursor<I2> bCursor = b.localizingCursor();
 		final Cursor<O> cCursor = c.cursor();
 		bCursor.jumpFwd(startIndex + 1);
 		cCursor.jumpFwd(startIndex + 1);
-		int ctr = 0;
+		long ctr = 0;
 		while (ctr < numSteps) {
 			aAccess.setPosition(bCursor);
 			op.compute(aAccess.get(), bCursor.get(), cCursor.get());
@@ -418,14 +418,14 @@ public class Maps {
 
 	public static <I1, I2, O> void map(final IterableInterval<I1> a,
 		final RandomAccessibleInterval<I2> b, final RandomAccessibleInterval<O> c,
-		final BinaryComputerOp<I1, I2, O> op, final int startIndex,
-		final int stepSize, final int numSteps)
+		final BinaryComputerOp<I1, I2, O> op, final long startIndex,
+		final long stepSize, final long numSteps)
 	{
 		final Cursor<I1> aCursor = a.localizingCursor();
 		final RandomAccess<I2> bAccess = b.randomAccess();
 		final RandomAccess<O> cAccess = c.randomAccess();
 		aCursor.jumpFwd(startIndex + 1);
-		int ctr = 0;
+		long ctr = 0;
 		while (ctr < numSteps) {
 			bAccess.setPosition(aCursor);
 			cAccess.setPosition(aCursor);
@@ -437,14 +437,14 @@ public class Maps {
 
 	public static <I1, I2, O> void map(final RandomAccessibleInterval<I1> a,
 		final IterableInterval<I2> b, final RandomAccessibleInterval<O> c,
-		final BinaryComputerOp<I1, I2, O> op, final int startIndex,
-		final int stepSize, final int numSteps)
+		final BinaryComputerOp<I1, I2, O> op, final long startIndex,
+		final long stepSize, final long numSteps)
 	{
 		final RandomAccess<I1> aAccess = a.randomAccess();
 		final Cursor<I2> bCursor = b.localizingCursor();
 		final RandomAccess<O> cAccess = c.randomAccess();
 		bCursor.jumpFwd(startIndex + 1);
-		int ctr = 0;
+		long ctr = 0;
 		while (ctr < numSteps) {
 			aAccess.setPosition(bCursor);
 			cAccess.setPosition(bCursor);
@@ -456,14 +456,14 @@ public class Maps {
 
 	public static <I1, I2, O> void map(final RandomAccessibleInterval<I1> a,
 		final RandomAccessibleInterval<I2> b, final IterableInterval<O> c,
-		final BinaryComputerOp<I1, I2, O> op, final int startIndex,
-		final int stepSize, final int numSteps)
+		final BinaryComputerOp<I1, I2, O> op, final long startIndex,
+		final long stepSize, final long numSteps)
 	{
 		final RandomAccess<I1> aAccess = a.randomAccess();
 		final RandomAccess<I2> bAccess = b.randomAccess();
 		final Cursor<O> cCursor = c.localizingCursor();
 		cCursor.jumpFwd(startIndex + 1);
-		int ctr = 0;
+		long ctr = 0;
 		while (ctr < numSteps) {
 			aAccess.setPosition(cCursor);
 			bAccess.setPosition(cCursor);
@@ -483,12 +483,12 @@ public class Maps {
 	}
 
 	public static <I, O extends I> void inplace(final IterableInterval<O> arg,
-		final UnaryInplaceOp<I, O> op, final int startIndex, final int stepSize,
-		final int numSteps)
+		final UnaryInplaceOp<I, O> op, final long startIndex, final long stepSize,
+		final long numSteps)
 	{
 		final Cursor<O> argCursor = arg.cursor();
 		argCursor.jumpFwd(startIndex + 1);
-		int ctr = 0;
+		long ctr = 0;
 		while (ctr < numSteps) {
 			op.mutate(argCursor.get());
 			argCursor.jumpFwd(stepSize);
@@ -536,13 +536,13 @@ public class Maps {
 
 	public static <A, I> void inplace(final IterableInterval<A> arg,
 		final IterableInterval<I> in, final BinaryInplace1Op<A, I, A> op,
-		final int startIndex, final int stepSize, final int numSteps)
+		final long startIndex, final long stepSize, final long numSteps)
 	{
 		final Cursor<A> argCursor = arg.cursor();
 		final Cursor<I> inCursor = in.cursor();
 		argCursor.jumpFwd(startIndex + 1);
 		inCursor.jumpFwd(startIndex + 1);
-		int ctr = 0;
+		long ctr = 0;
 		while (ctr < numSteps) {
 			op.mutate1(argCursor.get(), inCursor.get());
 			argCursor.jumpFwd(stepSize);
@@ -553,12 +553,12 @@ public class Maps {
 
 	public static <A, I> void inplace(final IterableInterval<A> arg,
 		final RandomAccessibleInterval<I> in, final BinaryInplace1Op<A, I, A> op,
-		final int startIndex, final int stepSize, final int numSteps)
+		final long startIndex, final long stepSize, final long numSteps)
 	{
 		final Cursor<A> argCursor = arg.localizingCursor();
 		final RandomAccess<I> inAccess = in.randomAccess();
 		argCursor.jumpFwd(startIndex + 1);
-		int ctr = 0;
+		long ctr = 0;
 		while (ctr < numSteps) {
 			inAccess.setPosition(argCursor);
 			op.mutate1(argCursor.get(), inAccess.get());
@@ -569,12 +569,12 @@ public class Maps {
 
 	public static <A, I> void inplace(final RandomAccessibleInterval<A> arg,
 		final IterableInterval<I> in, final BinaryInplace1Op<A, I, A> op,
-		final int startIndex, final int stepSize, final int numSteps)
+		final long startIndex, final long stepSize, final long numSteps)
 	{
 		final RandomAccess<A> argAccess = arg.randomAccess();
 		final Cursor<I> inCursor = in.localizingCursor();
 		inCursor.jumpFwd(startIndex + 1);
-		int ctr = 0;
+		long ctr = 0;
 		while (ctr < numSteps) {
 			argAccess.setPosition(inCursor);
 			op.mutate1(argAccess.get(), inCursor.get());
@@ -595,13 +595,13 @@ public class Maps {
 
 	public static <A> void inplace(final IterableInterval<A> arg,
 		final IterableInterval<A> in, final BinaryInplaceOp<A, A> op,
-		final int startIndex, final int stepSize, final int numSteps)
+		final long startIndex, final long stepSize, final long numSteps)
 	{
 		final Cursor<A> argCursor = arg.cursor();
 		final Cursor<A> inCursor = in.cursor();
 		argCursor.jumpFwd(startIndex + 1);
 		inCursor.jumpFwd(startIndex + 1);
-		int ctr = 0;
+		long ctr = 0;
 		while (ctr < numSteps) {
 			op.mutate2(argCursor.get(), inCursor.get());
 			argCursor.jumpFwd(stepSize);
@@ -106,6 +106,54 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.AbsFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.AbsDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> abs(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Abs.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.AbsFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.AbsDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> abs(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Abs.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.AbsFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.AbsDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		abs(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Abs.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.AbsFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.AbsDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		abs(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Abs.NAME, out, in);
+		return result;
+	}
+
 	@OpMethod(ops = {
 		net.imagej.ops.math.ConstantToArrayImageP.MultiplyByte.class,
 		net.imagej.ops.math.ConstantToArrayImage.MultiplyByte.class,
@@ -355,6 +403,113 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddByte.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddInt.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddLong.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddShort.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddUnsignedByte.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddUnsignedInt.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddUnsignedShort.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> add(
+		final ArrayImg<T, A> in1, final ArrayImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Add.NAME, in1, in2);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddByte.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddInt.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddLong.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddShort.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddUnsignedByte.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddUnsignedInt.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddUnsignedShort.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddByteToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddByteToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddIntToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddIntToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddLongToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddLongToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddShortToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddShortToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddUnsignedByteToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddUnsignedByteToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddUnsignedIntToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddUnsignedIntToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddUnsignedShortToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.AddUnsignedShortToDouble.class })
+	public <T extends NativeType<T>, A, O extends NativeType<O>, B>
+		ArrayImg<O, B> add(final ArrayImg<O, B> out,
+			final ArrayImg<T, A> in1, final ArrayImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<O, B> result = (ArrayImg<O, B>) ops().run(
+			Ops.Math.Add.NAME, out, in1, in2);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddByte.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddInt.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddLong.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddShort.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddUnsignedByte.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddUnsignedInt.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddUnsignedShort.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		add(final PlanarImg<T, A> in1, final PlanarImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Add.NAME, in1, in2);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddByte.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddInt.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddLong.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddShort.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddUnsignedByte.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddUnsignedInt.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddUnsignedShort.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddByteToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddByteToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddIntToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddIntToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddLongToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddLongToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddShortToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddShortToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddUnsignedByteToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddUnsignedByteToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddUnsignedIntToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddUnsignedIntToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddUnsignedShortToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.AddUnsignedShortToDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>,
+		O extends NativeType<O>, B extends ArrayDataAccess<B>>
+		PlanarImg<O, B> add(final PlanarImg<O, B> out,
+			final PlanarImg<T, A> in1, final PlanarImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<O, B> result = (PlanarImg<O, B>) ops().run(
+			Ops.Math.Add.NAME, out, in1, in2);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.ConstantToIIOutputRAI.Add.class)
 	public <T extends NumericType<T>> RandomAccessibleInterval<T> add(
 		final RandomAccessibleInterval<T> out, final IterableInterval<T> in,
@@ -426,292 +581,1252 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arccosh.class)
-	public <I extends RealType<I>, O extends RealType<O>> O arccosh(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArccosFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArccosDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arccos(
+		final ArrayImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arccosh.class, out,
-			in);
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arccos.NAME, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arccot.class)
-	public <I extends RealType<I>, O extends RealType<O>> O arccot(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArccosFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArccosDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arccos(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arccot.class, out,
-			in);
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arccos.NAME, out, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arccoth.class)
-	public <I extends RealType<I>, O extends RealType<O>> O arccoth(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArccosFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArccosDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arccos(final PlanarImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arccoth.class, out,
-			in);
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arccos.NAME, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arccsc.class)
-	public <I extends RealType<I>, O extends RealType<O>> O arccsc(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArccosFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArccosDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arccos(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arccsc.class, out,
-			in);
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arccos.NAME, out, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arccsch.class)
-	public <I extends RealType<I>, O extends RealType<O>> O arccsch(final O out,
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arccosh.class)
+	public <I extends RealType<I>, O extends RealType<O>> O arccosh(final O out,
 		final I in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arccsch.class, out,
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arccosh.class, out,
 			in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arcsec.class)
-	public <I extends RealType<I>, O extends RealType<O>> O arcsec(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArccoshFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArccoshDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arccosh(
+		final ArrayImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arcsec.class, out,
-			in);
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arccosh.NAME, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arcsech.class)
-	public <I extends RealType<I>, O extends RealType<O>> O arcsech(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArccoshFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArccoshDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arccosh(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arcsech.class, out,
-			in);
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arccosh.NAME, out, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleArcsin.class)
-	public double arcsin(final double a) {
-		final double result = (Double) ops().run(
-			net.imagej.ops.math.PrimitiveMath.DoubleArcsin.class, a);
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArccoshFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArccoshDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arccosh(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arccosh.NAME, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arcsin.class)
-	public <I extends RealType<I>, O extends RealType<O>> O arcsin(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArccoshFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArccoshDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arccosh(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arcsin.class, out,
-			in);
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arccosh.NAME, out, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arcsinh.class)
-	public <I extends RealType<I>, O extends RealType<O>> O arcsinh(final O out,
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arccot.class)
+	public <I extends RealType<I>, O extends RealType<O>> O arccot(final O out,
 		final I in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arcsinh.class, out,
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arccot.class, out,
 			in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleArctan.class)
-	public double arctan(final double a) {
-		final double result = (Double) ops().run(
-			net.imagej.ops.math.PrimitiveMath.DoubleArctan.class, a);
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArccotFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArccotDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arccot(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arccot.NAME, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arctan.class)
-	public <I extends RealType<I>, O extends RealType<O>> O arctan(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArccotFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArccotDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arccot(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arctan.class, out,
-			in);
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arccot.NAME, out, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arctanh.class)
-	public <I extends RealType<I>, O extends RealType<O>> O arctanh(final O out,
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArccotFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArccotDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arccot(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arccot.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArccotFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArccotDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arccot(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arccot.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arccoth.class)
+	public <I extends RealType<I>, O extends RealType<O>> O arccoth(final O out,
 		final I in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arctanh.class, out,
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arccoth.class, out,
 			in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.NullaryNumericTypeMath.Assign.class)
-	public <T extends Type<T>> T assign(final T out, final T constant) {
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArccothFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArccothDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arccoth(
+		final ArrayImg<T, A> in)
+	{
 		@SuppressWarnings("unchecked")
-		final T result = (T) ops().run(
-			net.imagej.ops.math.NullaryNumericTypeMath.Assign.class, out, constant);
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arccoth.NAME, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleCeil.class)
-	public double ceil(final double a) {
-		final double result = (Double) ops().run(
-			net.imagej.ops.math.PrimitiveMath.DoubleCeil.class, a);
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArccothFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArccothDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arccoth(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arccoth.NAME, out, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Ceil.class)
-	public <I extends RealType<I>, O extends RealType<O>> O ceil(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArccothFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArccothDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arccoth(final PlanarImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Ceil.class, out, in);
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arccoth.NAME, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.IntegerComplement.class)
-	public int complement(final int a) {
-		final int result = (Integer) ops().run(
-			net.imagej.ops.math.PrimitiveMath.IntegerComplement.class, a);
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArccothFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArccothDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arccoth(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arccoth.NAME, out, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.LongComplement.class)
-	public long complement(final long a) {
-		final long result = (Long) ops().run(
-			net.imagej.ops.math.PrimitiveMath.LongComplement.class, a);
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arccsc.class)
+	public <I extends RealType<I>, O extends RealType<O>> O arccsc(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arccsc.class, out,
+			in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleCos.class)
-	public double cos(final double a) {
-		final double result = (Double) ops().run(
-			net.imagej.ops.math.PrimitiveMath.DoubleCos.class, a);
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArccscFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArccscDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arccsc(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arccsc.NAME, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Cos.class)
-	public <I extends RealType<I>, O extends RealType<O>> O cos(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArccscFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArccscDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arccsc(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Cos.class, out, in);
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arccsc.NAME, out, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleCosh.class)
-	public double cosh(final double a) {
-		final double result = (Double) ops().run(
-			net.imagej.ops.math.PrimitiveMath.DoubleCosh.class, a);
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArccscFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArccscDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arccsc(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arccsc.NAME, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Cosh.class)
-	public <I extends RealType<I>, O extends RealType<O>> O cosh(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArccscFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArccscDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arccsc(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Cosh.class, out, in);
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arccsc.NAME, out, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Cot.class)
-	public <I extends RealType<I>, O extends RealType<O>> O cot(final O out,
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arccsch.class)
+	public <I extends RealType<I>, O extends RealType<O>> O arccsch(final O out,
 		final I in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Cot.class, out, in);
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arccsch.class, out,
+			in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Coth.class)
-	public <I extends RealType<I>, O extends RealType<O>> O coth(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArccschFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArccschDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arccsch(
+		final ArrayImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Coth.class, out, in);
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arccsch.NAME, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Csc.class)
-	public <I extends RealType<I>, O extends RealType<O>> O csc(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArccschFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArccschDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arccsch(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Csc.class, out, in);
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arccsch.NAME, out, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Csch.class)
-	public <I extends RealType<I>, O extends RealType<O>> O csch(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArccschFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArccschDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arccsch(final PlanarImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Csch.class, out, in);
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arccsch.NAME, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleCubeRoot.class)
-	public double cubeRoot(final double a) {
-		final double result = (Double) ops().run(
-			net.imagej.ops.math.PrimitiveMath.DoubleCubeRoot.class, a);
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArccschFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArccschDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arccsch(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arccsch.NAME, out, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.CubeRoot.class)
-	public <I extends RealType<I>, O extends RealType<O>> O cubeRoot(final O out,
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arcsec.class)
+	public <I extends RealType<I>, O extends RealType<O>> O arcsec(final O out,
 		final I in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.CubeRoot.class, out,
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arcsec.class, out,
 			in);
 		return result;
 	}
 
-	@OpMethod(ops = { net.imagej.ops.math.ConstantToArrayImageP.DivideByte.class,
-		net.imagej.ops.math.ConstantToArrayImage.DivideByte.class,
-		net.imagej.ops.math.ConstantToArrayImageP.DivideUnsignedByte.class,
-		net.imagej.ops.math.ConstantToArrayImage.DivideUnsignedByte.class })
-	public <B extends GenericByteType<B>> ArrayImg<B, ByteArray> divide(
-		final ArrayImg<B, ByteArray> image, final byte value)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArcsecFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArcsecDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arcsec(
+		final ArrayImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final ArrayImg<B, ByteArray> result = (ArrayImg<B, ByteArray>) ops().run(
-			Ops.Math.Divide.NAME, image, value);
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arcsec.NAME, in);
 		return result;
 	}
 
 	@OpMethod(ops = {
-		net.imagej.ops.math.ConstantToArrayImageP.DivideDouble.class,
-		net.imagej.ops.math.ConstantToArrayImage.DivideDouble.class })
-	public ArrayImg<DoubleType, DoubleArray> divide(
-		final ArrayImg<DoubleType, DoubleArray> image, final double value)
+		net.imagej.ops.math.UnaryArrayImageP.ArcsecFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArcsecDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arcsec(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final ArrayImg<DoubleType, DoubleArray> result =
-			(ArrayImg<DoubleType, DoubleArray>) ops().run(Ops.Math.Divide.NAME, image,
-				value);
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arcsec.NAME, out, in);
 		return result;
 	}
 
-	@OpMethod(ops = { net.imagej.ops.math.ConstantToArrayImageP.DivideFloat.class,
-		net.imagej.ops.math.ConstantToArrayImage.DivideFloat.class })
-	public ArrayImg<FloatType, FloatArray> divide(
-		final ArrayImg<FloatType, FloatArray> image, final float value)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArcsecFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArcsecDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arcsec(final PlanarImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final ArrayImg<FloatType, FloatArray> result =
-			(ArrayImg<FloatType, FloatArray>) ops().run(Ops.Math.Divide.NAME, image,
-				value);
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arcsec.NAME, in);
 		return result;
 	}
 
-	@OpMethod(ops = { net.imagej.ops.math.ConstantToArrayImageP.DivideInt.class,
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArcsecFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArcsecDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arcsec(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arcsec.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arcsech.class)
+	public <I extends RealType<I>, O extends RealType<O>> O arcsech(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arcsech.class, out,
+			in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArcsechFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArcsechDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arcsech(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arcsech.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArcsechFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArcsechDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arcsech(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arcsech.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArcsechFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArcsechDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arcsech(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arcsech.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArcsechFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArcsechDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arcsech(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arcsech.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleArcsin.class)
+	public double arcsin(final double a) {
+		final double result = (Double) ops().run(
+			net.imagej.ops.math.PrimitiveMath.DoubleArcsin.class, a);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arcsin.class)
+	public <I extends RealType<I>, O extends RealType<O>> O arcsin(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arcsin.class, out,
+			in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArcsinFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArcsinDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arcsin(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arcsin.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArcsinFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArcsinDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arcsin(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arcsin.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArcsinFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArcsinDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arcsin(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arcsin.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArcsinFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArcsinDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arcsin(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arcsin.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arcsinh.class)
+	public <I extends RealType<I>, O extends RealType<O>> O arcsinh(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arcsinh.class, out,
+			in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArcsinhFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArcsinhDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arcsinh(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arcsinh.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArcsinhFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArcsinhDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arcsinh(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arcsinh.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArcsinhFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArcsinhDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arcsinh(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arcsinh.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArcsinhFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArcsinhDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arcsinh(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arcsinh.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleArctan.class)
+	public double arctan(final double a) {
+		final double result = (Double) ops().run(
+			net.imagej.ops.math.PrimitiveMath.DoubleArctan.class, a);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arctan.class)
+	public <I extends RealType<I>, O extends RealType<O>> O arctan(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arctan.class, out,
+			in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArctanFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArctanDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arctan(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arctan.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArctanFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArctanDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arctan(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arctan.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArctanFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArctanDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arctan(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arctan.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArctanFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArctanDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arctan(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arctan.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Arctanh.class)
+	public <I extends RealType<I>, O extends RealType<O>> O arctanh(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Arctanh.class, out,
+			in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArctanhFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArctanhDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arctanh(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arctanh.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ArctanhFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ArctanhDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> arctanh(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Arctanh.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArctanhFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArctanhDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arctanh(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arctanh.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ArctanhFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ArctanhDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		arctanh(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Arctanh.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.NullaryNumericTypeMath.Assign.class)
+	public <T extends Type<T>> T assign(final T out, final T constant) {
+		@SuppressWarnings("unchecked")
+		final T result = (T) ops().run(
+			net.imagej.ops.math.NullaryNumericTypeMath.Assign.class, out, constant);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleCeil.class)
+	public double ceil(final double a) {
+		final double result = (Double) ops().run(
+			net.imagej.ops.math.PrimitiveMath.DoubleCeil.class, a);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Ceil.class)
+	public <I extends RealType<I>, O extends RealType<O>> O ceil(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Ceil.class, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.CeilFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.CeilDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> ceil(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Ceil.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.CeilFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.CeilDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> ceil(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Ceil.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.CeilFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.CeilDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		ceil(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Ceil.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.CeilFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.CeilDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		ceil(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Ceil.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.IntegerComplement.class)
+	public int complement(final int a) {
+		final int result = (Integer) ops().run(
+			net.imagej.ops.math.PrimitiveMath.IntegerComplement.class, a);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.LongComplement.class)
+	public long complement(final long a) {
+		final long result = (Long) ops().run(
+			net.imagej.ops.math.PrimitiveMath.LongComplement.class, a);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleCos.class)
+	public double cos(final double a) {
+		final double result = (Double) ops().run(
+			net.imagej.ops.math.PrimitiveMath.DoubleCos.class, a);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Cos.class)
+	public <I extends RealType<I>, O extends RealType<O>> O cos(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Cos.class, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.CosFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.CosDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> cos(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Cos.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.CosFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.CosDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> cos(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Cos.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.CosFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.CosDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		cos(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Cos.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.CosFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.CosDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		cos(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Cos.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleCosh.class)
+	public double cosh(final double a) {
+		final double result = (Double) ops().run(
+			net.imagej.ops.math.PrimitiveMath.DoubleCosh.class, a);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Cosh.class)
+	public <I extends RealType<I>, O extends RealType<O>> O cosh(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Cosh.class, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.CoshFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.CoshDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> cosh(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Cosh.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.CoshFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.CoshDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> cosh(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Cosh.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.CoshFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.CoshDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		cosh(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Cosh.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.CoshFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.CoshDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		cosh(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Cosh.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Cot.class)
+	public <I extends RealType<I>, O extends RealType<O>> O cot(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Cot.class, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.CotFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.CotDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> cot(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Cot.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.CotFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.CotDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> cot(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Cot.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.CotFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.CotDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		cot(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Cot.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.CotFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.CotDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		cot(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Cot.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Coth.class)
+	public <I extends RealType<I>, O extends RealType<O>> O coth(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Coth.class, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.CothFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.CothDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> coth(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Coth.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.CothFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.CothDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> coth(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Coth.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.CothFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.CothDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		coth(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Coth.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.CothFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.CothDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		coth(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Coth.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Csc.class)
+	public <I extends RealType<I>, O extends RealType<O>> O csc(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Csc.class, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.CscFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.CscDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> csc(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Csc.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.CscFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.CscDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> csc(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Csc.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.CscFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.CscDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		csc(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Csc.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.CscFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.CscDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		csc(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Csc.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Csch.class)
+	public <I extends RealType<I>, O extends RealType<O>> O csch(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Csch.class, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.CschFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.CschDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> csch(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Csch.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.CschFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.CschDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> csch(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Csch.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.CschFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.CschDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		csch(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Csch.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.CschFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.CschDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		csch(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Csch.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleCubeRoot.class)
+	public double cubeRoot(final double a) {
+		final double result = (Double) ops().run(
+			net.imagej.ops.math.PrimitiveMath.DoubleCubeRoot.class, a);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.CubeRoot.class)
+	public <I extends RealType<I>, O extends RealType<O>> O cubeRoot(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.CubeRoot.class, out,
+			in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.CubeRootFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.CubeRootDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> cubeRoot(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.CubeRoot.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.CubeRootFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.CubeRootDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> cubeRoot(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.CubeRoot.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.CubeRootFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.CubeRootDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		cubeRoot(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.CubeRoot.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.CubeRootFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.CubeRootDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		cubeRoot(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.CubeRoot.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToArrayImageP.DivideByte.class,
+		net.imagej.ops.math.ConstantToArrayImage.DivideByte.class,
+		net.imagej.ops.math.ConstantToArrayImageP.DivideUnsignedByte.class,
+		net.imagej.ops.math.ConstantToArrayImage.DivideUnsignedByte.class })
+	public <B extends GenericByteType<B>> ArrayImg<B, ByteArray> divide(
+		final ArrayImg<B, ByteArray> image, final byte value)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<B, ByteArray> result = (ArrayImg<B, ByteArray>) ops().run(
+			Ops.Math.Divide.NAME, image, value);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.ConstantToArrayImageP.DivideDouble.class,
+		net.imagej.ops.math.ConstantToArrayImage.DivideDouble.class })
+	public ArrayImg<DoubleType, DoubleArray> divide(
+		final ArrayImg<DoubleType, DoubleArray> image, final double value)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<DoubleType, DoubleArray> result =
+			(ArrayImg<DoubleType, DoubleArray>) ops().run(Ops.Math.Divide.NAME, image,
+				value);
+		return result;
+	}
+
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToArrayImageP.DivideFloat.class,
+		net.imagej.ops.math.ConstantToArrayImage.DivideFloat.class })
+	public ArrayImg<FloatType, FloatArray> divide(
+		final ArrayImg<FloatType, FloatArray> image, final float value)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<FloatType, FloatArray> result =
+			(ArrayImg<FloatType, FloatArray>) ops().run(Ops.Math.Divide.NAME, image,
+				value);
+		return result;
+	}
+
+	@OpMethod(ops = { net.imagej.ops.math.ConstantToArrayImageP.DivideInt.class,
 		net.imagej.ops.math.ConstantToArrayImage.DivideInt.class,
 		net.imagej.ops.math.ConstantToArrayImageP.DivideUnsignedInt.class,
 		net.imagej.ops.math.ConstantToArrayImage.DivideUnsignedInt.class })
@@ -920,6 +2035,113 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideByte.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideInt.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideLong.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideShort.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideUnsignedByte.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideUnsignedInt.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideUnsignedShort.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> divide(
+		final ArrayImg<T, A> in1, final ArrayImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Divide.NAME, in1, in2);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideByte.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideInt.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideLong.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideShort.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideUnsignedByte.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideUnsignedInt.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideUnsignedShort.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideByteToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideByteToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideIntToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideIntToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideLongToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideLongToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideShortToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideShortToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideUnsignedByteToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideUnsignedByteToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideUnsignedIntToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideUnsignedIntToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideUnsignedShortToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.DivideUnsignedShortToDouble.class })
+	public <T extends NativeType<T>, A, O extends NativeType<O>, B>
+		ArrayImg<O, B> divide(final ArrayImg<O, B> out,
+			final ArrayImg<T, A> in1, final ArrayImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<O, B> result = (ArrayImg<O, B>) ops().run(
+			Ops.Math.Divide.NAME, out, in1, in2);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideByte.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideInt.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideLong.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideShort.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideUnsignedByte.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideUnsignedInt.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideUnsignedShort.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		divide(final PlanarImg<T, A> in1, final PlanarImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Divide.NAME, in1, in2);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideByte.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideInt.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideLong.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideShort.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideUnsignedByte.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideUnsignedInt.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideUnsignedShort.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideByteToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideByteToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideIntToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideIntToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideLongToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideLongToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideShortToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideShortToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideUnsignedByteToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideUnsignedByteToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideUnsignedIntToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideUnsignedIntToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideUnsignedShortToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.DivideUnsignedShortToDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>,
+		O extends NativeType<O>, B extends ArrayDataAccess<B>>
+		PlanarImg<O, B> divide(final PlanarImg<O, B> out,
+			final PlanarImg<T, A> in1, final PlanarImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<O, B> result = (PlanarImg<O, B>) ops().run(
+			Ops.Math.Divide.NAME, out, in1, in2);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.ConstantToIIOutputRAI.Divide.class)
 	public <T extends NumericType<T>> RandomAccessibleInterval<T> divide(
 		final RandomAccessibleInterval<T> out, final IterableInterval<T> in,
@@ -973,6 +2195,54 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ExpFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ExpDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> exp(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Exp.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ExpFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ExpDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> exp(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Exp.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ExpFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ExpDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		exp(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Exp.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ExpFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ExpDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		exp(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Exp.NAME, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.ExpMinusOne.class)
 	public <I extends RealType<I>, O extends RealType<O>> O expMinusOne(
 		final O out, final I in)
@@ -983,6 +2253,54 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ExpMinusOneFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ExpMinusOneDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> expMinusOne(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.ExpMinusOne.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.ExpMinusOneFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.ExpMinusOneDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> expMinusOne(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.ExpMinusOne.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ExpMinusOneFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ExpMinusOneDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		expMinusOne(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.ExpMinusOne.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.ExpMinusOneFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.ExpMinusOneDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		expMinusOne(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.ExpMinusOne.NAME, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleFloor.class)
 	public double floor(final double a) {
 		final double result = (Double) ops().run(
@@ -1000,6 +2318,54 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.FloorFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.FloorDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> floor(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Floor.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.FloorFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.FloorDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> floor(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Floor.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.FloorFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.FloorDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		floor(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Floor.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.FloorFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.FloorDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		floor(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Floor.NAME, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.GammaConstant.class)
 	public <I extends RealType<I>, O extends RealType<O>> O gamma(final O out,
 		final I in, final double constant)
@@ -1050,6 +2416,54 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.LogFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.LogDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> log(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Log.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.LogFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.LogDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> log(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Log.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.LogFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.LogDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		log(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Log.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.LogFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.LogDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		log(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Log.NAME, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleLog10.class)
 	public double log10(final double a) {
 		final double result = (Double) ops().run(
@@ -1067,6 +2481,54 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.Log10Float.class,
+		net.imagej.ops.math.UnaryArrayImageP.Log10Double.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> log10(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Log10.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.Log10Float.class,
+		net.imagej.ops.math.UnaryArrayImageP.Log10Double.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> log10(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Log10.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.Log10Float.class,
+		net.imagej.ops.math.UnaryPlanarImageP.Log10Double.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		log10(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Log10.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.Log10Float.class,
+		net.imagej.ops.math.UnaryPlanarImageP.Log10Double.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		log10(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Log10.NAME, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Log2.class)
 	public <I extends RealType<I>, O extends RealType<O>> O log2(final O out,
 		final I in)
@@ -1076,6 +2538,54 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.Log2Float.class,
+		net.imagej.ops.math.UnaryArrayImageP.Log2Double.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> log2(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Log2.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.Log2Float.class,
+		net.imagej.ops.math.UnaryArrayImageP.Log2Double.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> log2(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Log2.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.Log2Float.class,
+		net.imagej.ops.math.UnaryPlanarImageP.Log2Double.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		log2(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Log2.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.Log2Float.class,
+		net.imagej.ops.math.UnaryPlanarImageP.Log2Double.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		log2(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Log2.NAME, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleLogOnePlusX.class)
 	public double logOnePlusX(final double a) {
 		final double result = (Double) ops().run(
@@ -1093,6 +2603,54 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.LogOnePlusXFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.LogOnePlusXDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> logOnePlusX(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.LogOnePlusX.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.LogOnePlusXFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.LogOnePlusXDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> logOnePlusX(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.LogOnePlusX.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.LogOnePlusXFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.LogOnePlusXDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		logOnePlusX(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.LogOnePlusX.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.LogOnePlusXFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.LogOnePlusXDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		logOnePlusX(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.LogOnePlusX.NAME, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleMax.class)
 	public double max(final double a, final double b) {
 		final double result = (Double) ops().run(
@@ -1416,6 +2974,113 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyByte.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyInt.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyLong.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyShort.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyUnsignedByte.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyUnsignedInt.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyUnsignedShort.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> multiply(
+		final ArrayImg<T, A> in1, final ArrayImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Multiply.NAME, in1, in2);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyByte.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyInt.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyLong.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyShort.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyUnsignedByte.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyUnsignedInt.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyUnsignedShort.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyByteToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyByteToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyIntToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyIntToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyLongToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyLongToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyShortToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyShortToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyUnsignedByteToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyUnsignedByteToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyUnsignedIntToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyUnsignedIntToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyUnsignedShortToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.MultiplyUnsignedShortToDouble.class })
+	public <T extends NativeType<T>, A, O extends NativeType<O>, B>
+		ArrayImg<O, B> multiply(final ArrayImg<O, B> out,
+			final ArrayImg<T, A> in1, final ArrayImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<O, B> result = (ArrayImg<O, B>) ops().run(
+			Ops.Math.Multiply.NAME, out, in1, in2);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyByte.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyInt.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyLong.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyShort.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyUnsignedByte.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyUnsignedInt.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyUnsignedShort.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		multiply(final PlanarImg<T, A> in1, final PlanarImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Multiply.NAME, in1, in2);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyByte.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyInt.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyLong.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyShort.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyUnsignedByte.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyUnsignedInt.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyUnsignedShort.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyByteToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyByteToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyIntToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyIntToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyLongToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyLongToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyShortToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyShortToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyUnsignedByteToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyUnsignedByteToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyUnsignedIntToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyUnsignedIntToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyUnsignedShortToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.MultiplyUnsignedShortToDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>,
+		O extends NativeType<O>, B extends ArrayDataAccess<B>>
+		PlanarImg<O, B> multiply(final PlanarImg<O, B> out,
+			final PlanarImg<T, A> in1, final PlanarImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<O, B> result = (PlanarImg<O, B>) ops().run(
+			Ops.Math.Multiply.NAME, out, in1, in2);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.ConstantToIIOutputRAI.Multiply.class)
 	public <T extends NumericType<T>> RandomAccessibleInterval<T> multiply(
 		final RandomAccessibleInterval<T> out, final IterableInterval<T> in,
@@ -1456,6 +3121,54 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.NearestIntFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.NearestIntDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> nearestInt(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.NearestInt.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.NearestIntFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.NearestIntDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> nearestInt(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.NearestInt.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.NearestIntFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.NearestIntDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		nearestInt(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.NearestInt.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.NearestIntFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.NearestIntDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		nearestInt(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.NearestInt.NAME, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleNegate.class)
 	public double negate(final double a) {
 		final double result = (Double) ops().run(
@@ -1494,6 +3207,54 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.NegateFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.NegateDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> negate(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Negate.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.NegateFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.NegateDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> negate(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Negate.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.NegateFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.NegateDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		negate(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Negate.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.NegateFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.NegateDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		negate(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Negate.NAME, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.IntegerOr.class)
 	public int or(final int a, final int b) {
 		final int result = (Integer) ops().run(
@@ -1635,97 +3396,433 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.FloatRound.class)
-	public float round(final float a) {
-		final float result = (Float) ops().run(
-			net.imagej.ops.math.PrimitiveMath.FloatRound.class, a);
+	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.FloatRound.class)
+	public float round(final float a) {
+		final float result = (Float) ops().run(
+			net.imagej.ops.math.PrimitiveMath.FloatRound.class, a);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Round.class)
+	public <I extends RealType<I>, O extends RealType<O>> O round(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Round.class, out,
+			in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.RoundFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.RoundDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> round(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Round.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.RoundFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.RoundDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> round(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Round.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.RoundFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.RoundDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		round(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Round.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.RoundFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.RoundDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		round(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Round.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Sec.class)
+	public <I extends RealType<I>, O extends RealType<O>> O sec(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Sec.class, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.SecFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.SecDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> sec(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Sec.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.SecFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.SecDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> sec(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Sec.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.SecFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.SecDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		sec(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Sec.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.SecFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.SecDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		sec(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Sec.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Sech.class)
+	public <I extends RealType<I>, O extends RealType<O>> O sech(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Sech.class, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.SechFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.SechDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> sech(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Sech.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.SechFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.SechDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> sech(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Sech.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.SechFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.SechDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		sech(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Sech.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.SechFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.SechDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		sech(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Sech.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleSignum.class)
+	public double signum(final double a) {
+		final double result = (Double) ops().run(
+			net.imagej.ops.math.PrimitiveMath.DoubleSignum.class, a);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.FloatSignum.class)
+	public float signum(final float a) {
+		final float result = (Float) ops().run(
+			net.imagej.ops.math.PrimitiveMath.FloatSignum.class, a);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Signum.class)
+	public <I extends RealType<I>, O extends RealType<O>> O signum(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Signum.class, out,
+			in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.SignumFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.SignumDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> signum(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Signum.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.SignumFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.SignumDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> signum(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Signum.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.SignumFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.SignumDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		signum(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Signum.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.SignumFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.SignumDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		signum(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Signum.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleSin.class)
+	public double sin(final double a) {
+		final double result = (Double) ops().run(
+			net.imagej.ops.math.PrimitiveMath.DoubleSin.class, a);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Sin.class)
+	public <I extends RealType<I>, O extends RealType<O>> O sin(final O out,
+		final I in)
+	{
+		@SuppressWarnings("unchecked")
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Sin.class, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.SinFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.SinDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> sin(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Sin.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.SinFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.SinDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> sin(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Sin.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.SinFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.SinDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		sin(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Sin.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.SinFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.SinDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		sin(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Sin.NAME, out, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Round.class)
-	public <I extends RealType<I>, O extends RealType<O>> O round(final O out,
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Sinc.class)
+	public <I extends RealType<I>, O extends RealType<O>> O sinc(final O out,
 		final I in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Round.class, out,
-			in);
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Sinc.class, out, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Sec.class)
-	public <I extends RealType<I>, O extends RealType<O>> O sec(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.SincFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.SincDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> sinc(
+		final ArrayImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Sec.class, out, in);
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Sinc.NAME, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Sech.class)
-	public <I extends RealType<I>, O extends RealType<O>> O sech(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.SincFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.SincDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> sinc(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Sech.class, out, in);
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Sinc.NAME, out, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleSignum.class)
-	public double signum(final double a) {
-		final double result = (Double) ops().run(
-			net.imagej.ops.math.PrimitiveMath.DoubleSignum.class, a);
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.SincFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.SincDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		sinc(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Sinc.NAME, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.FloatSignum.class)
-	public float signum(final float a) {
-		final float result = (Float) ops().run(
-			net.imagej.ops.math.PrimitiveMath.FloatSignum.class, a);
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.SincFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.SincDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		sinc(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Sinc.NAME, out, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Signum.class)
-	public <I extends RealType<I>, O extends RealType<O>> O signum(final O out,
+	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.SincPi.class)
+	public <I extends RealType<I>, O extends RealType<O>> O sincPi(final O out,
 		final I in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Signum.class, out,
+		final O result = (O) ops().run(net.imagej.ops.Ops.Math.SincPi.class, out,
 			in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleSin.class)
-	public double sin(final double a) {
-		final double result = (Double) ops().run(
-			net.imagej.ops.math.PrimitiveMath.DoubleSin.class, a);
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.SincPiFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.SincPiDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> sincPi(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.SincPi.NAME, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Sin.class)
-	public <I extends RealType<I>, O extends RealType<O>> O sin(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.SincPiFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.SincPiDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> sincPi(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Sin.class, out, in);
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.SincPi.NAME, out, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Sinc.class)
-	public <I extends RealType<I>, O extends RealType<O>> O sinc(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.SincPiFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.SincPiDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		sincPi(final PlanarImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.Sinc.class, out, in);
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.SincPi.NAME, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.SincPi.class)
-	public <I extends RealType<I>, O extends RealType<O>> O sincPi(final O out,
-		final I in)
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.SincPiFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.SincPiDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		sincPi(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
 	{
 		@SuppressWarnings("unchecked")
-		final O result = (O) ops().run(net.imagej.ops.Ops.Math.SincPi.class, out,
-			in);
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.SincPi.NAME, out, in);
 		return result;
 	}
 
@@ -1745,6 +3842,54 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.SinhFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.SinhDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> sinh(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Sinh.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.SinhFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.SinhDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> sinh(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Sinh.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.SinhFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.SinhDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		sinh(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Sinh.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.SinhFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.SinhDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		sinh(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Sinh.NAME, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Sqr.class)
 	public <I extends RealType<I>, O extends RealType<O>> O sqr(final O out,
 		final I in)
@@ -1754,6 +3899,54 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.SqrFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.SqrDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> sqr(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Sqr.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.SqrFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.SqrDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> sqr(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Sqr.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.SqrFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.SqrDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		sqr(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Sqr.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.SqrFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.SqrDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		sqr(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Sqr.NAME, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleSqrt.class)
 	public double sqrt(final double a) {
 		final double result = (Double) ops().run(
@@ -1770,6 +3963,54 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.SqrtFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.SqrtDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> sqrt(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Sqrt.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.SqrtFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.SqrtDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> sqrt(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Sqrt.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.SqrtFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.SqrtDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		sqrt(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Sqrt.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.SqrtFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.SqrtDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		sqrt(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Sqrt.NAME, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Step.class)
 	public <I extends RealType<I>, O extends RealType<O>> O step(final O out,
 		final I in)
@@ -1779,6 +4020,54 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.StepFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.StepDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> step(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Step.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.StepFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.StepDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> step(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Step.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.StepFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.StepDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		step(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Step.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.StepFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.StepDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		step(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Step.NAME, out, in);
+		return result;
+	}
+
 	@OpMethod(ops = {
 		net.imagej.ops.math.ConstantToArrayImageP.SubtractByte.class,
 		net.imagej.ops.math.ConstantToArrayImage.SubtractByte.class,
@@ -2031,6 +4320,113 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractByte.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractInt.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractLong.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractShort.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractUnsignedByte.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractUnsignedInt.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractUnsignedShort.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> subtract(
+		final ArrayImg<T, A> in1, final ArrayImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Subtract.NAME, in1, in2);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractByte.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractInt.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractLong.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractShort.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractUnsignedByte.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractUnsignedInt.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractUnsignedShort.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractByteToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractByteToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractIntToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractIntToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractLongToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractLongToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractShortToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractShortToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractUnsignedByteToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractUnsignedByteToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractUnsignedIntToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractUnsignedIntToDouble.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractUnsignedShortToFloat.class,
+		net.imagej.ops.math.ArrayImageToArrayImageP.SubtractUnsignedShortToDouble.class })
+	public <T extends NativeType<T>, A, O extends NativeType<O>, B>
+		ArrayImg<O, B> subtract(final ArrayImg<O, B> out,
+			final ArrayImg<T, A> in1, final ArrayImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<O, B> result = (ArrayImg<O, B>) ops().run(
+			Ops.Math.Subtract.NAME, out, in1, in2);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractByte.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractInt.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractLong.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractShort.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractUnsignedByte.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractUnsignedInt.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractUnsignedShort.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		subtract(final PlanarImg<T, A> in1, final PlanarImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Subtract.NAME, in1, in2);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractByte.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractInt.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractLong.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractShort.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractUnsignedByte.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractUnsignedInt.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractUnsignedShort.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractByteToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractByteToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractIntToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractIntToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractLongToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractLongToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractShortToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractShortToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractUnsignedByteToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractUnsignedByteToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractUnsignedIntToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractUnsignedIntToDouble.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractUnsignedShortToFloat.class,
+		net.imagej.ops.math.PlanarImageToPlanarImageP.SubtractUnsignedShortToDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>,
+		O extends NativeType<O>, B extends ArrayDataAccess<B>>
+		PlanarImg<O, B> subtract(final PlanarImg<O, B> out,
+			final PlanarImg<T, A> in1, final PlanarImg<T, A> in2)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<O, B> result = (PlanarImg<O, B>) ops().run(
+			Ops.Math.Subtract.NAME, out, in1, in2);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.ConstantToIIOutputRAI.Subtract.class)
 	public <T extends NumericType<T>> RandomAccessibleInterval<T> subtract(
 		final RandomAccessibleInterval<T> out, final IterableInterval<T> in,
@@ -2077,6 +4473,54 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.TanFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.TanDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> tan(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Tan.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.TanFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.TanDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> tan(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Tan.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.TanFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.TanDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		tan(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Tan.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.TanFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.TanDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		tan(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Tan.NAME, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.PrimitiveMath.DoubleTanh.class)
 	public double tanh(final double a) {
 		final double result = (Double) ops().run(net.imagej.ops.Ops.Math.Tanh.class,
@@ -2093,6 +4537,54 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.TanhFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.TanhDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> tanh(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Tanh.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.TanhFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.TanhDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> tanh(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Tanh.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.TanhFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.TanhDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		tanh(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Tanh.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.TanhFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.TanhDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		tanh(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Tanh.NAME, out, in);
+		return result;
+	}
+
 	@OpMethod(op = net.imagej.ops.math.UnaryRealTypeMath.Ulp.class)
 	public <I extends RealType<I>, O extends RealType<O>> O ulp(final O out,
 		final I in)
@@ -2102,6 +4594,54 @@ public class MathNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.UlpFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.UlpDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> ulp(
+		final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Ulp.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryArrayImageP.UlpFloat.class,
+		net.imagej.ops.math.UnaryArrayImageP.UlpDouble.class })
+	public <T extends NativeType<T>, A> ArrayImg<T, A> ulp(
+		final ArrayImg<T, A> out, final ArrayImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final ArrayImg<T, A> result = (ArrayImg<T, A>) ops().run(
+			Ops.Math.Ulp.NAME, out, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.UlpFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.UlpDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		ulp(final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Ulp.NAME, in);
+		return result;
+	}
+
+	@OpMethod(ops = {
+		net.imagej.ops.math.UnaryPlanarImageP.UlpFloat.class,
+		net.imagej.ops.math.UnaryPlanarImageP.UlpDouble.class })
+	public <T extends NativeType<T>, A extends ArrayDataAccess<A>> PlanarImg<T, A>
+		ulp(final PlanarImg<T, A> out, final PlanarImg<T, A> in)
+	{
+		@SuppressWarnings("unchecked")
+		final PlanarImg<T, A> result = (PlanarImg<T, A>) ops().run(
+			Ops.Math.Ulp.NAME, out, in);
+		return result;
+	}
+
 	@OpMethod(
 		op = net.imagej.ops.math.PrimitiveMath.IntegerUnsignedRightShift.class)
 	public int unsignedRightShift(final int a, final int b) {
@@ -0,0 +1,334 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.morphology;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Ops;
+import net.imagej.ops.Parallel;
+import net.imagej.ops.special.function.Functions;
+import net.imagej.ops.special.function.UnaryFunctionOp;
+import net.imagej.ops.special.hybrid.AbstractBinaryHybridCF;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imglib2.EuclideanSpace;
+import net.imglib2.FinalInterval;
+import net.imglib2.Interval;
+import net.imglib2.IterableInterval;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessible;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.morphology.MorphologyUtils;
+import net.imglib2.algorithm.neighborhood.Neighborhood;
+import net.imglib2.algorithm.neighborhood.RectangleShape;
+import net.imglib2.algorithm.neighborhood.Shape;
+import net.imglib2.img.Img;
+import net.imglib2.outofbounds.OutOfBoundsConstantValueFactory;
+import net.imglib2.outofbounds.OutOfBoundsFactory;
+import net.imglib2.type.NativeType;
+import net.imglib2.type.logic.BitType;
+import net.imglib2.type.numeric.RealType;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.util.Fraction;
+import net.imglib2.util.Intervals;
+import net.imglib2.util.Util;
+import net.imglib2.view.Views;
+
+import org.scijava.plugin.Parameter;
+
+/**
+ * Abstract base class for dilations and erosions with rectangular
+ * {@link Shape}s, such as a {@link RectangleShape} without skipped center or a
+ * line. The rectangle is decomposed into one pass per dimension, and each pass
+ * computes the running maximum (or minimum) of its lines with the van Herk/Gil-
+ * Werman algorithm, which costs a constant number of comparisons per pixel
+ * regardless of the radius. Lines are processed in parallel.
+ * <p>
+ * Non-rectangular shapes given to an instance which was matched for a
+ * rectangular one are handled by {@link #computeDefault}.
+ * </p>
+ *
+ * @param <T> element type
+ */
+public abstract class AbstractRectangleMorphology<T extends RealType<T>>
+	extends
+	AbstractBinaryHybridCF<RandomAccessibleInterval<T>, Shape, IterableInterval<T>>
+	implements Contingent, Parallel
+{
+
+	@Parameter(required = false)
+	private boolean isFull;
+
+	@Parameter(required = false)
+	private OutOfBoundsFactory<T, RandomAccessibleInterval<T>> f;
+
+	private UnaryFunctionOp<Interval, Img<T>> imgCreator;
+
+	/** Whether to compute maxima (dilation) rather than minima (erosion). */
+	protected abstract boolean isMax();
+
+	/** Computes the operation with the general neighborhood implementation. */
+	protected abstract void computeDefault(RandomAccessibleInterval<T> in1,
+		Shape in2, IterableInterval<T> output, boolean full,
+		OutOfBoundsFactory<T, RandomAccessibleInterval<T>> outOfBounds);
+
+	@Override
+	public boolean conforms() {
+		// NB: Values are compared as doubles, which must represent them exactly.
+		final T type = Util.getTypeFromInterval(in());
+		if (type.getBitsPerPixel() > 32 && !(type instanceof DoubleType)) {
+			return false;
+		}
+		if (!isRectangle(in2(), in())) return false;
+		if (out() == null) return true;
+		if (!(out() instanceof RandomAccessibleInterval)) return false;
+		if (isFull) {
+			final long[] dims = MorphologyUtils.computeTargetImageDimensionsAndOffset(
+				in(), in2())[0];
+			for (int d = 0; d < dims.length; d++) {
+				if (dims[d] != out().dimension(d)) return false;
+			}
+			return true;
+		}
+		return Intervals.equalDimensions(in(), out());
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	@Override
+	public void initialize() {
+		final T border = Util.getTypeFromInterval(in()).createVariable();
+		border.setReal(isMax() ? border.getMinValue() : border.getMaxValue());
+
+		if (f == null) {
+			f = new OutOfBoundsConstantValueFactory<>(border);
+		}
+
+		imgCreator = (UnaryFunctionOp) Functions.unary(ops(), Ops.Create.Img.class,
+			Img.class, in(), border.createVariable());
+	}
+
+	@Override
+	public IterableInterval<T> createOutput(final RandomAccessibleInterval<T> in1,
+		final Shape in2)
+	{
+		if (isFull) {
+			final long[] dims = MorphologyUtils.computeTargetImageDimensionsAndOffset(
+				in1, in2)[0];
+			return imgCreator.calculate(new FinalInterval(dims));
+		}
+		return imgCreator.calculate(in1);
+	}
+
+	@Override
+	public void compute(final RandomAccessibleInterval<T> in1, final Shape in2,
+		final IterableInterval<T> output)
+	{
+		if (!isRectangle(in2, in1)) {
+			computeDefault(in1, in2, output, isFull, f);
+			return;
+		}
+
+		final RandomAccessible<T> extended = Views.extend(in1, f);
+		final RandomAccessible<T> shifted;
+		if (isFull) {
+			final long[] offset = MorphologyUtils
+				.computeTargetImageDimensionsAndOffset(in1, in2)[1];
+			shifted = Views.translate(extended, offset);
+		}
+		else {
+			shifted = extended;
+		}
+
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<T> target =
+			(RandomAccessibleInterval<T>) output;
+		final Neighborhood<BitType> nh = MorphologyUtils.getNeighborhood(in2, in1);
+
+		// one pass per dimension in which the rectangle extends
+		final List<Integer> dims = new ArrayList<>();
+		for (int d = 0; d < nh.numDimensions(); d++) {
+			if (nh.dimension(d) > 1) dims.add(d);
+		}
+		if (dims.isEmpty()) dims.add(0);
+
+		RandomAccessible<T> source = shifted;
+		for (int i = 0; i < dims.size(); i++) {
+			final RandomAccessibleInterval<T> pass;
+			if (i == dims.size() - 1) {
+				pass = target;
+			}
+			else {
+				// NB: The later passes read the partial result around the output.
+				final long[] min = Intervals.minAsLongArray(target);
+				final long[] max = Intervals.maxAsLongArray(target);
+				for (int j = i + 1; j < dims.size(); j++) {
+					final int d = dims.get(j);
+					min[d] += nh.min(d);
+					max[d] += nh.max(d);
+				}
+				pass = imgCreator.calculate(new FinalInterval(min, max));
+			}
+			final int d = dims.get(i);
+			runningExtremum(source, pass, d, nh.min(d), nh.max(d));
+			source = pass;
+		}
+	}
+
+	// -- Helper methods --
+
+	/**
+	 * Checks whether the neighborhoods of a {@link Shape} are full
+	 * hyperrectangles.
+	 */
+	private static boolean isRectangle(final Shape shape,
+		final EuclideanSpace space)
+	{
+		final Neighborhood<BitType> nh = MorphologyUtils.getNeighborhood(shape,
+			space);
+		return nh.size() == Intervals.numElements(nh);
+	}
+
+	/**
+	 * Sets each pixel of the target to the extremum of the source pixels from
+	 * {@code lo} to {@code hi} around it along dimension {@code d}.
+	 */
+	private void runningExtremum(final RandomAccessible<T> source,
+		final RandomAccessibleInterval<T> target, final int d, final long lo,
+		final long hi)
+	{
+		final int lineLength = (int) target.dimension(d);
+		final int window = (int) (hi - lo + 1);
+		final long numLines = Intervals.numElements(target) / lineLength;
+		// NB: Minima are computed as negated maxima of the negated values.
+		final double sign = isMax() ? 1 : -1;
+
+		final CursorBasedChunk chunk = new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				final RandomAccess<T> in = source.randomAccess();
+				final RandomAccess<T> out = target.randomAccess();
+				final long[] position = new long[target.numDimensions()];
+				final double[] line = new double[lineLength + window - 1];
+				final double[] forward = new double[line.length];
+				final double[] backward = new double[line.length];
+
+				long index = startIndex;
+				for (long step = 0; step < numSteps; step++) {
+					linePosition(target, d, index, position);
+
+					in.setPosition(position);
+					in.move(lo, d);
+					for (int j = 0; j < line.length; j++) {
+						line[j] = sign * in.get().getRealDouble();
+						in.fwd(d);
+					}
+
+					runningMax(line, window, forward, backward);
+
+					out.setPosition(position);
+					for (int j = 0; j < lineLength; j++) {
+						out.get().setReal(sign * line[j]);
+						out.fwd(d);
+					}
+					index += stepSize;
+				}
+			}
+		};
+
+		// NB: Types packing several pixels into one storage entity, such as
+		// BitType or Unsigned12BitType, share their storage words between lines.
+		final T type = Util.getTypeFromInterval(target);
+		if (type instanceof NativeType && isSubEntity(((NativeType<?>) type)
+			.getEntitiesPerPixel()))
+		{
+			chunk.execute(0, 1, numLines);
+		}
+		else {
+			ops().thread().chunker(chunk, numLines, 0, lineLength);
+		}
+	}
+
+	private static boolean isSubEntity(final Fraction entitiesPerPixel) {
+		return entitiesPerPixel.getNumerator() < entitiesPerPixel.getDenominator();
+	}
+
+	/**
+	 * Gets the start of a line along dimension {@code d}, lines being numbered
+	 * in flat iteration order of the other dimensions.
+	 */
+	private static void linePosition(final Interval interval, final int d,
+		final long index, final long[] position)
+	{
+		long remainder = index;
+		for (int e = 0; e < position.length; e++) {
+			if (e == d) {
+				position[e] = interval.min(e);
+				continue;
+			}
+			final long size = interval.dimension(e);
+			position[e] = interval.min(e) + remainder % size;
+			remainder /= size;
+		}
+	}
+
+	/**
+	 * Van Herk/Gil-Werman running maximum: replaces {@code line[i]} with the
+	 * maximum of {@code line[i .. i + window - 1]} for every window fully inside
+	 * the line. The line is cut into blocks of the window size; every window
+	 * covers the suffix of one block and the prefix of the next.
+	 */
+	private static void runningMax(final double[] line, final int window,
+		final double[] forward, final double[] backward)
+	{
+		final int length = line.length;
+		for (int start = 0; start < length; start += window) {
+			final int end = Math.min(start + window, length);
+			forward[start] = line[start];
+			for (int j = start + 1; j < end; j++) {
+				forward[j] = forward[j - 1] > line[j] ? forward[j - 1] : line[j];
+			}
+			backward[end - 1] = line[end - 1];
+			for (int j = end - 2; j >= start; j--) {
+				backward[j] = backward[j + 1] > line[j] ? backward[j + 1] : line[j];
+			}
+		}
+		for (int i = 0; i + window - 1 < length; i++) {
+			final double b = backward[i];
+			final double g = forward[i + window - 1];
+			line[i] = b > g ? b : g;
+		}
+	}
+
+}
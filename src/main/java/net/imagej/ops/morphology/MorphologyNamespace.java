@@ -99,7 +99,8 @@ public class MorphologyNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.dilate.DefaultDilate.class)
+	@OpMethod(ops = { net.imagej.ops.morphology.dilate.DefaultDilate.class,
+		net.imagej.ops.morphology.dilate.RectangleDilate.class })
 	public <T extends RealType<T>> IterableInterval<T> dilate(
 		final RandomAccessibleInterval<T> in1, final Shape in2)
 	{
@@ -109,7 +110,8 @@ public class MorphologyNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.dilate.DefaultDilate.class)
+	@OpMethod(ops = { net.imagej.ops.morphology.dilate.DefaultDilate.class,
+		net.imagej.ops.morphology.dilate.RectangleDilate.class })
 	public <T extends RealType<T>> IterableInterval<T> dilate(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in1,
 		final Shape in2)
@@ -120,7 +122,8 @@ public class MorphologyNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.dilate.DefaultDilate.class)
+	@OpMethod(ops = { net.imagej.ops.morphology.dilate.DefaultDilate.class,
+		net.imagej.ops.morphology.dilate.RectangleDilate.class })
 	public <T extends RealType<T>> IterableInterval<T> dilate(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in1,
 		final Shape in2, final boolean isFull)
@@ -131,7 +134,8 @@ public class MorphologyNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.dilate.DefaultDilate.class)
+	@OpMethod(ops = { net.imagej.ops.morphology.dilate.DefaultDilate.class,
+		net.imagej.ops.morphology.dilate.RectangleDilate.class })
 	public <T extends RealType<T>> IterableInterval<T> dilate(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in1,
 		final Shape in2, final boolean isFull,
@@ -175,7 +179,8 @@ public class MorphologyNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.erode.DefaultErode.class)
+	@OpMethod(ops = { net.imagej.ops.morphology.erode.DefaultErode.class,
+		net.imagej.ops.morphology.erode.RectangleErode.class })
 	public <T extends RealType<T>> IterableInterval<T> erode(
 		final RandomAccessibleInterval<T> in1, final Shape in2)
 	{
@@ -185,7 +190,8 @@ public class MorphologyNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.erode.DefaultErode.class)
+	@OpMethod(ops = { net.imagej.ops.morphology.erode.DefaultErode.class,
+		net.imagej.ops.morphology.erode.RectangleErode.class })
 	public <T extends RealType<T>> IterableInterval<T> erode(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in1,
 		final Shape in2)
@@ -196,7 +202,8 @@ public class MorphologyNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.erode.DefaultErode.class)
+	@OpMethod(ops = { net.imagej.ops.morphology.erode.DefaultErode.class,
+		net.imagej.ops.morphology.erode.RectangleErode.class })
 	public <T extends RealType<T>> IterableInterval<T> erode(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in1,
 		final Shape in2, final boolean isFull)
@@ -207,7 +214,8 @@ public class MorphologyNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.erode.DefaultErode.class)
+	@OpMethod(ops = { net.imagej.ops.morphology.erode.DefaultErode.class,
+		net.imagej.ops.morphology.erode.RectangleErode.class })
 	public <T extends RealType<T>> IterableInterval<T> erode(
 		final IterableInterval<T> out, final RandomAccessibleInterval<T> in1,
 		final Shape in2, final boolean isFull,
@@ -329,33 +337,41 @@ public class MorphologyNamespace extends AbstractNamespace {
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.fillHoles.DefaultFillHoles.class)
+	@OpMethod(ops = {
+		net.imagej.ops.morphology.fillHoles.DefaultFillHoles.class,
+		net.imagej.ops.morphology.fillHoles.ScanlineFillHoles.class })
 	public <T extends BooleanType<T>> RandomAccessibleInterval<T> fillHoles(final RandomAccessibleInterval<T> in) {
 		@SuppressWarnings("unchecked")
 		final RandomAccessibleInterval<T> result = (RandomAccessibleInterval<T>) ops()
-				.run(net.imagej.ops.morphology.fillHoles.DefaultFillHoles.class, in);
+				.run(net.imagej.ops.Ops.Morphology.FillHoles.class, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.fillHoles.DefaultFillHoles.class)
+	@OpMethod(ops = {
+		net.imagej.ops.morphology.fillHoles.DefaultFillHoles.class,
+		net.imagej.ops.morphology.fillHoles.ScanlineFillHoles.class })
 	public <T extends BooleanType<T>> RandomAccessibleInterval<T> fillHoles(final RandomAccessibleInterval<T> out,
 			final RandomAccessibleInterval<T> in) {
 		@SuppressWarnings("unchecked")
 		final RandomAccessibleInterval<T> result = (RandomAccessibleInterval<T>) ops()
-				.run(net.imagej.ops.morphology.fillHoles.DefaultFillHoles.class, out, in);
+				.run(net.imagej.ops.Ops.Morphology.FillHoles.class, out, in);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.fillHoles.DefaultFillHoles.class)
+	@OpMethod(ops = {
+		net.imagej.ops.morphology.fillHoles.DefaultFillHoles.class,
+		net.imagej.ops.morphology.fillHoles.ScanlineFillHoles.class })
 	public <T extends BooleanType<T>> RandomAccessibleInterval<T> fillHoles(final RandomAccessibleInterval<T> out,
 			final RandomAccessibleInterval<T> in, final StructuringElement structElement) {
 		@SuppressWarnings("unchecked")
 		final RandomAccessibleInterval<T> result = (RandomAccessibleInterval<T>) ops()
-				.run(net.imagej.ops.morphology.fillHoles.DefaultFillHoles.class, out, in, structElement);
+				.run(net.imagej.ops.Ops.Morphology.FillHoles.class, out, in, structElement);
 		return result;
 	}
 	
-	@OpMethod(op = net.imagej.ops.morphology.floodFill.DefaultFloodFill.class)
+	@OpMethod(ops = {
+		net.imagej.ops.morphology.floodFill.DefaultFloodFill.class,
+		net.imagej.ops.morphology.floodFill.ScanlineFloodFill.class })
 	public <T extends Type<T> & Comparable<T>> RandomAccessibleInterval<T>
 		floodFill(final RandomAccessibleInterval<T> out,
 			final RandomAccessibleInterval<T> in, final Localizable startPos,
@@ -364,12 +380,14 @@ public class MorphologyNamespace extends AbstractNamespace {
 		@SuppressWarnings("unchecked")
 		final RandomAccessibleInterval<T> result =
 			(RandomAccessibleInterval<T>) ops().run(
-				net.imagej.ops.morphology.floodFill.DefaultFloodFill.class, out, in, startPos,
+				net.imagej.ops.Ops.Morphology.FloodFill.class, out, in, startPos,
 				structElement);
 		return result;
 	}
 
-	@OpMethod(op = net.imagej.ops.morphology.floodFill.DefaultFloodFill.class)
+	@OpMethod(ops = {
+		net.imagej.ops.morphology.floodFill.DefaultFloodFill.class,
+		net.imagej.ops.morphology.floodFill.ScanlineFloodFill.class })
 	public <T extends Type<T> & Comparable<T>> RandomAccessibleInterval<T>
 		floodFill(final RandomAccessibleInterval<T> in1, final Localizable in2,
 			final StructuringElement structElement)
@@ -377,7 +395,7 @@ public class MorphologyNamespace extends AbstractNamespace {
 		@SuppressWarnings("unchecked")
 		final RandomAccessibleInterval<T> result =
 			(RandomAccessibleInterval<T>) ops().run(
-				net.imagej.ops.morphology.floodFill.DefaultFloodFill.class, in1, in2,
+				net.imagej.ops.Ops.Morphology.FloodFill.class, in1, in2,
 				structElement);
 		return result;
 	}
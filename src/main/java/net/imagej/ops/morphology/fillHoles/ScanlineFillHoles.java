@@ -0,0 +1,360 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.morphology.fillHoles;
+
+import net.imagej.ops.Ops;
+import net.imagej.ops.Parallel;
+import net.imagej.ops.create.img.CreateImgFromDimsAndType;
+import net.imagej.ops.morphology.floodFill.ScanlineFill;
+import net.imagej.ops.special.chain.RAIs;
+import net.imagej.ops.special.function.UnaryFunctionOp;
+import net.imagej.ops.special.hybrid.AbstractUnaryHybridCF;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imglib2.Cursor;
+import net.imglib2.FinalInterval;
+import net.imglib2.Interval;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.labeling.ConnectedComponents.StructuringElement;
+import net.imglib2.iterator.LocalizingIntervalIterator;
+import net.imglib2.type.BooleanType;
+import net.imglib2.type.NativeType;
+import net.imglib2.type.logic.BitType;
+import net.imglib2.util.Fraction;
+import net.imglib2.util.Util;
+import net.imglib2.view.Views;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Fills the holes of a BooleanType image by marking the background connected
+ * to the image border in a single {@link ScanlineFill} pass, instead of
+ * launching a flood fill from every background border pixel.
+ * <p>
+ * The image is cut into slabs along its last dimension, which are filled in
+ * parallel from their share of the border; then the fill is propagated across
+ * the slab boundaries, again in parallel, until no slab gains new seeds. The
+ * marks are kept in one bit set per slab, so that the slabs never share
+ * storage.
+ * </p>
+ */
+@Plugin(type = Ops.Morphology.FillHoles.class,
+	priority = Priority.HIGH_PRIORITY)
+public class ScanlineFillHoles<T extends BooleanType<T>> extends
+	AbstractUnaryHybridCF<RandomAccessibleInterval<T>, RandomAccessibleInterval<T>>
+	implements Ops.Morphology.FillHoles, Parallel
+{
+
+	@Parameter(required = false)
+	private StructuringElement structElement = StructuringElement.EIGHT_CONNECTED;
+
+	private UnaryFunctionOp<RandomAccessibleInterval<T>, RandomAccessibleInterval<T>> createFunc;
+
+	@Override
+	public void initialize() {
+		createFunc = RAIs.function(ops(), CreateImgFromDimsAndType.class, in(),
+			new BitType());
+	}
+
+	@Override
+	public void compute(final RandomAccessibleInterval<T> op,
+		final RandomAccessibleInterval<T> r)
+	{
+		final int n = op.numDimensions();
+		final int last = n - 1;
+		final int numSlabs = n < 2 ? 1 : (int) Math.min(op.dimension(last), Runtime
+			.getRuntime().availableProcessors());
+
+		final long[] min = new long[n];
+		final long[] max = new long[n];
+		op.min(min);
+		op.max(max);
+		final long depth = op.dimension(last);
+		@SuppressWarnings("unchecked")
+		final Slab[] slabs = new ScanlineFillHoles.Slab[numSlabs];
+		for (int s = 0; s < numSlabs; s++) {
+			min[last] = op.min(last) + depth * s / numSlabs;
+			max[last] = op.min(last) + depth * (s + 1) / numSlabs - 1;
+			slabs[s] = new Slab(op, new FinalInterval(min, max));
+		}
+
+		// fill the background connected to the border of each slab
+		forEachSlab(slabs, new SlabTask() {
+
+			@Override
+			public void run(final int s) {
+				slabs[s].fillFromBorder(op);
+			}
+		});
+
+		// propagate the fill across the slab boundaries
+		final boolean[] seeded = new boolean[1];
+		do {
+			seeded[0] = false;
+			forEachSlab(slabs, new SlabTask() {
+
+				@Override
+				public void run(final int s) {
+					final boolean hasSeeds = (s > 0 && slabs[s].seedFrom(slabs[s - 1],
+						slabs[s].region.min(last))) | (s < numSlabs - 1 && slabs[s]
+							.seedFrom(slabs[s + 1], slabs[s].region.max(last)));
+					if (hasSeeds) seeded[0] = true;
+				}
+			});
+			if (!seeded[0]) break;
+			forEachSlab(slabs, new SlabTask() {
+
+				@Override
+				public void run(final int s) {
+					slabs[s].run();
+				}
+			});
+		}
+		while (true);
+
+		// everything but the background connected to the border is foreground
+		final SlabTask write = new SlabTask() {
+
+			@Override
+			public void run(final int s) {
+				slabs[s].write(r);
+			}
+		};
+		final T type = Util.getTypeFromInterval(r);
+		if (type instanceof NativeType && isSubByte(((NativeType<?>) type)
+			.getEntitiesPerPixel()))
+		{
+			// NB: Sub-byte types share their storage words between slabs.
+			for (int s = 0; s < numSlabs; s++)
+				write.run(s);
+		}
+		else {
+			forEachSlab(slabs, write);
+		}
+	}
+
+	@Override
+	public RandomAccessibleInterval<T> createOutput(
+		final RandomAccessibleInterval<T> input)
+	{
+		return createFunc.calculate(input);
+	}
+
+	// -- Helper methods --
+
+	private void forEachSlab(final Slab[] slabs, final SlabTask task) {
+		ops().thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				long index = startIndex;
+				for (long step = 0; step < numSteps; step++) {
+					task.run((int) index);
+					index += stepSize;
+				}
+			}
+		}, slabs.length, 1);
+	}
+
+	private static boolean isSubByte(final Fraction entitiesPerPixel) {
+		return entitiesPerPixel.getNumerator() < entitiesPerPixel.getDenominator();
+	}
+
+	// -- Helper classes --
+
+	private interface SlabTask {
+
+		void run(int s);
+	}
+
+	/** Marks the background of a slab connected to the border. */
+	private class Slab extends ScanlineFill {
+
+		private final Interval region;
+
+		private final RandomAccess<T> access;
+
+		private final long[] marks;
+
+		public Slab(final RandomAccessibleInterval<T> op, final Interval region) {
+			super(region, structElement);
+			this.region = region;
+			access = op.randomAccess();
+			long size = 1;
+			for (int d = 0; d < region.numDimensions(); d++) {
+				size *= region.dimension(d);
+			}
+			marks = new long[(int) ((size + 63) >>> 6)];
+		}
+
+		@Override
+		protected void setPosition(final long[] pos) {
+			access.setPosition(pos);
+		}
+
+		@Override
+		protected void fwd() {
+			access.fwd(0);
+		}
+
+		@Override
+		protected void bck() {
+			access.bck(0);
+		}
+
+		@Override
+		protected boolean isFillable(final long index) {
+			return !isMarked(index) && !access.get().get();
+		}
+
+		@Override
+		protected void fill(final long index) {
+			marks[(int) (index >>> 6)] |= 1L << index;
+		}
+
+		private boolean isMarked(final long index) {
+			return (marks[(int) (index >>> 6)] & (1L << index)) != 0;
+		}
+
+		/** Fills from all pixels of the slab lying on the image border. */
+		private void fillFromBorder(final Interval image) {
+			final int n = region.numDimensions();
+			final long[] faceMin = new long[n];
+			final long[] faceMax = new long[n];
+			final long[] pos = new long[n];
+			for (int d = 0; d < n; d++) {
+				for (final boolean upper : new boolean[] { false, true }) {
+					final long face = upper ? image.max(d) : image.min(d);
+					if (face < region.min(d) || face > region.max(d)) continue;
+					region.min(faceMin);
+					region.max(faceMax);
+					faceMin[d] = faceMax[d] = face;
+					final LocalizingIntervalIterator it = new LocalizingIntervalIterator(
+						faceMin, faceMax);
+					while (it.hasNext()) {
+						it.fwd();
+						it.localize(pos);
+						addSeed(pos);
+						run();
+					}
+				}
+			}
+		}
+
+		/**
+		 * Queues the unmarked background pixels of the given boundary plane which
+		 * touch a marked pixel of the adjacent slab.
+		 *
+		 * @return whether any seed was queued
+		 */
+		private boolean seedFrom(final Slab other, final long plane) {
+			final int n = region.numDimensions();
+			final int last = n - 1;
+			final long otherPlane = plane < other.region.min(last) ? plane + 1
+				: plane - 1;
+			final long[] planeMin = new long[n];
+			final long[] planeMax = new long[n];
+			region.min(planeMin);
+			region.max(planeMax);
+			planeMin[last] = planeMax[last] = plane;
+			final long[] pos = new long[n];
+			final long[] adjacent = new long[n];
+			final boolean diagonal =
+				structElement == StructuringElement.EIGHT_CONNECTED;
+
+			boolean seeded = false;
+			final LocalizingIntervalIterator it = new LocalizingIntervalIterator(
+				planeMin, planeMax);
+			while (it.hasNext()) {
+				it.fwd();
+				it.localize(pos);
+				final long index = index(pos);
+				access.setPosition(pos);
+				if (!isFillable(index)) continue;
+				adjacent[last] = otherPlane;
+				if (diagonal ? other.anyMarkedAround(pos, adjacent) : other.isMarked(
+					other.index(withLast(pos, adjacent, otherPlane))))
+				{
+					addSeed(pos);
+					seeded = true;
+				}
+			}
+			return seeded;
+		}
+
+		/**
+		 * Checks whether any pixel of this slab's plane {@code adjacent[last]}
+		 * within one pixel of {@code pos} is marked.
+		 */
+		private boolean anyMarkedAround(final long[] pos, final long[] adjacent) {
+			final int last = pos.length - 1;
+			for (int d = 0; d < last; d++) {
+				adjacent[d] = Math.max(region.min(d), pos[d] - 1);
+			}
+			while (true) {
+				if (isMarked(index(adjacent))) return true;
+				// next position in the neighborhood
+				int d = 0;
+				while (d < last && (adjacent[d] == pos[d] + 1 || adjacent[d] == region
+					.max(d)))
+				{
+					adjacent[d] = Math.max(region.min(d), pos[d] - 1);
+					d++;
+				}
+				if (d == last) return false;
+				adjacent[d]++;
+			}
+		}
+
+		private long[] withLast(final long[] pos, final long[] target,
+			final long value)
+		{
+			System.arraycopy(pos, 0, target, 0, pos.length);
+			target[pos.length - 1] = value;
+			return target;
+		}
+
+		/** Writes the complement of the marks into the output. */
+		private void write(final RandomAccessibleInterval<T> r) {
+			final Cursor<T> c = Views.flatIterable(Views.interval(r, region))
+				.cursor();
+			long index = 0;
+			while (c.hasNext()) {
+				c.next().set(!isMarked(index++));
+			}
+		}
+	}
+
+}
@@ -0,0 +1,254 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.morphology.floodFill;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.imglib2.Interval;
+import net.imglib2.algorithm.labeling.ConnectedComponents.StructuringElement;
+
+/**
+ * Scanline flood fill over an {@link Interval}: every seed is grown into a
+ * maximal span along dimension 0, which is filled at once, and each
+ * neighboring line is scanned for fillable runs, of which only the first pixel
+ * is queued. Pending seeds are kept as flat indices in a primitive ring buffer,
+ * so that the fill allocates nothing per pixel.
+ * <p>
+ * Subclasses define what is fillable by moving their accessors along with the
+ * fill; the flat index of the current pixel is passed along for subclasses
+ * keeping their own per-pixel state.
+ * </p>
+ */
+public abstract class ScanlineFill {
+
+	private final long[] min;
+
+	private final long[] max;
+
+	private final long[] strides;
+
+	/** Offsets of the neighboring lines (dimension 0 is always 0). */
+	private final List<long[]> neighbors = new ArrayList<>();
+
+	private final boolean diagonal;
+
+	private final long[] position;
+
+	private final long[] neighbor;
+
+	private long[] queue = new long[64];
+
+	private int head;
+
+	private int size;
+
+	/**
+	 * @param region the pixels which may be filled
+	 * @param structElement {@link StructuringElement#FOUR_CONNECTED} for face
+	 *          neighbors only, {@link StructuringElement#EIGHT_CONNECTED} for all
+	 *          pixels of the surrounding hypercube
+	 */
+	public ScanlineFill(final Interval region,
+		final StructuringElement structElement)
+	{
+		final int n = region.numDimensions();
+		min = new long[n];
+		max = new long[n];
+		region.min(min);
+		region.max(max);
+		strides = new long[n];
+		long stride = 1;
+		for (int d = 0; d < n; d++) {
+			strides[d] = stride;
+			stride *= region.dimension(d);
+		}
+		position = new long[n];
+		neighbor = new long[n];
+
+		diagonal = structElement == StructuringElement.EIGHT_CONNECTED;
+		if (diagonal) {
+			final long[] offset = new long[n];
+			for (int d = 1; d < n; d++)
+				offset[d] = -1;
+			while (n > 1) {
+				boolean zero = true;
+				for (int d = 1; d < n; d++)
+					zero &= offset[d] == 0;
+				if (!zero) neighbors.add(offset.clone());
+				// next offset in {-1, 0, 1}^(n - 1)
+				int d = 1;
+				while (d < n && offset[d] == 1) {
+					offset[d++] = -1;
+				}
+				if (d == n) break;
+				offset[d]++;
+			}
+		}
+		else {
+			for (int d = 1; d < n; d++) {
+				for (final long step : new long[] { -1, 1 }) {
+					final long[] offset = new long[n];
+					offset[d] = step;
+					neighbors.add(offset);
+				}
+			}
+		}
+	}
+
+	// -- ScanlineFill methods --
+
+	/** Moves the accessors to the given position. */
+	protected abstract void setPosition(long[] pos);
+
+	/** Moves the accessors one pixel forward along dimension 0. */
+	protected abstract void fwd();
+
+	/** Moves the accessors one pixel backward along dimension 0. */
+	protected abstract void bck();
+
+	/** Checks whether the pixel at the accessors' position is to be filled. */
+	protected abstract boolean isFillable(long index);
+
+	/** Fills the pixel at the accessors' position. */
+	protected abstract void fill(long index);
+
+	/** Gets the flat index of a position inside the region. */
+	public long index(final long[] pos) {
+		long index = 0;
+		for (int d = 0; d < pos.length; d++) {
+			index += (pos[d] - min[d]) * strides[d];
+		}
+		return index;
+	}
+
+	/** Queues a seed inside the region, to be filled by the next {@link #run()}. */
+	public void addSeed(final long[] pos) {
+		push(index(pos));
+	}
+
+	public boolean hasSeeds() {
+		return size > 0;
+	}
+
+	/** Fills everything reachable from the queued seeds. */
+	public void run() {
+		while (size > 0) {
+			span(poll());
+		}
+	}
+
+	// -- Helper methods --
+
+	private void span(final long index) {
+		long remainder = index;
+		for (int d = position.length - 1; d >= 0; d--) {
+			position[d] = min[d] + remainder / strides[d];
+			remainder %= strides[d];
+		}
+		setPosition(position);
+		if (!isFillable(index)) return;
+
+		// find the start of the span
+		long left = position[0];
+		long leftIndex = index;
+		while (left > min[0]) {
+			bck();
+			if (!isFillable(leftIndex - 1)) break;
+			left--;
+			leftIndex--;
+		}
+
+		// fill up to its end
+		position[0] = left;
+		setPosition(position);
+		long right = left;
+		long rightIndex = leftIndex;
+		while (true) {
+			fill(rightIndex);
+			if (right == max[0]) break;
+			fwd();
+			if (!isFillable(rightIndex + 1)) break;
+			right++;
+			rightIndex++;
+		}
+
+		// queue the start of each fillable run in the neighboring lines
+		final long from = diagonal ? Math.max(min[0], left - 1) : left;
+		final long to = diagonal ? Math.min(max[0], right + 1) : right;
+		for (final long[] offset : neighbors) {
+			boolean inside = true;
+			for (int d = 1; d < position.length; d++) {
+				neighbor[d] = position[d] + offset[d];
+				if (neighbor[d] < min[d] || neighbor[d] > max[d]) {
+					inside = false;
+					break;
+				}
+			}
+			if (!inside) continue;
+			neighbor[0] = from;
+			setPosition(neighbor);
+			long neighborIndex = index(neighbor);
+			boolean inRun = false;
+			for (long x = from; x <= to; x++, neighborIndex++) {
+				if (isFillable(neighborIndex)) {
+					if (!inRun) push(neighborIndex);
+					inRun = true;
+				}
+				else {
+					inRun = false;
+				}
+				if (x < to) fwd();
+			}
+		}
+	}
+
+	private void push(final long index) {
+		if (size == queue.length) {
+			final long[] grown = new long[queue.length << 1];
+			for (int i = 0; i < size; i++) {
+				grown[i] = queue[(head + i) & (queue.length - 1)];
+			}
+			queue = grown;
+			head = 0;
+		}
+		queue[(head + size) & (queue.length - 1)] = index;
+		size++;
+	}
+
+	private long poll() {
+		final long index = queue[head];
+		head = (head + 1) & (queue.length - 1);
+		size--;
+		return index;
+	}
+
+}
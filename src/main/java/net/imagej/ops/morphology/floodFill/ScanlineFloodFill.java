@@ -0,0 +1,122 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.morphology.floodFill;
+
+import net.imagej.ops.Ops;
+import net.imagej.ops.create.img.CreateImgFromInterval;
+import net.imagej.ops.special.chain.RAIs;
+import net.imagej.ops.special.function.UnaryFunctionOp;
+import net.imagej.ops.special.hybrid.AbstractBinaryHybridCF;
+import net.imglib2.Localizable;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.labeling.ConnectedComponents.StructuringElement;
+import net.imglib2.type.Type;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Flood fill filling whole spans along dimension 0 at once, see
+ * {@link ScanlineFill}. Produces the same result as {@link DefaultFloodFill}.
+ */
+@Plugin(type = Ops.Morphology.FloodFill.class,
+	priority = Priority.HIGH_PRIORITY)
+public class ScanlineFloodFill<T extends Type<T> & Comparable<T>> extends
+	AbstractBinaryHybridCF<RandomAccessibleInterval<T>, Localizable, RandomAccessibleInterval<T>>
+	implements Ops.Morphology.FloodFill
+{
+
+	@Parameter()
+	private StructuringElement structElement = StructuringElement.EIGHT_CONNECTED;
+
+	private UnaryFunctionOp<RandomAccessibleInterval<T>, RandomAccessibleInterval<T>> createFunc;
+
+	@Override
+	public void initialize() {
+		createFunc = RAIs.function(ops(), CreateImgFromInterval.class, in());
+	}
+
+	@Override
+	public void compute(final RandomAccessibleInterval<T> op0,
+		final Localizable loc, final RandomAccessibleInterval<T> r)
+	{
+		final RandomAccess<T> op0c = op0.randomAccess();
+		final RandomAccess<T> rc = r.randomAccess();
+		op0c.setPosition(loc);
+		final T floodVal = op0c.get().copy();
+
+		final ScanlineFill fill = new ScanlineFill(r, structElement) {
+
+			@Override
+			protected void setPosition(final long[] pos) {
+				op0c.setPosition(pos);
+				rc.setPosition(pos);
+			}
+
+			@Override
+			protected void fwd() {
+				op0c.fwd(0);
+				rc.fwd(0);
+			}
+
+			@Override
+			protected void bck() {
+				op0c.bck(0);
+				rc.bck(0);
+			}
+
+			@Override
+			protected boolean isFillable(final long index) {
+				return rc.get().compareTo(floodVal) != 0 && op0c.get().compareTo(
+					floodVal) == 0;
+			}
+
+			@Override
+			protected void fill(final long index) {
+				rc.get().set(floodVal);
+			}
+		};
+
+		final long[] seed = new long[loc.numDimensions()];
+		loc.localize(seed);
+		fill.addSeed(seed);
+		fill.run();
+	}
+
+	@Override
+	public RandomAccessibleInterval<T> createOutput(
+		final RandomAccessibleInterval<T> input1, final Localizable input2)
+	{
+		return createFunc.calculate(input1);
+	}
+}
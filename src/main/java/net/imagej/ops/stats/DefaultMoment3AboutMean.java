@@ -32,46 +32,37 @@ package net.imagej.ops.stats;
 
 import net.imagej.ops.Op;
 import net.imagej.ops.Ops;
-import net.imagej.ops.special.chain.RTs;
+import net.imagej.ops.special.function.Functions;
 import net.imagej.ops.special.function.UnaryFunctionOp;
 import net.imglib2.type.numeric.RealType;
 
 import org.scijava.plugin.Plugin;
 
 /**
- * {@link Op} to calculate the {@code stats.moment3AboutMean} using
- * {@code stats.mean} and {@code stats.size}.
+ * {@link Op} to calculate the {@code stats.moment3AboutMean} from the
+ * {@code stats.summary} of the input.
  * 
  * @author Daniel Seebacher (University of Konstanz)
  * @author Christian Dietz (University of Konstanz)
  * @param <I> input type
  * @param <O> output type
+ * @see SummaryStatistics
  */
 @Plugin(type = Ops.Stats.Moment3AboutMean.class, label = "Statistics: Moment3AboutMean")
 public class DefaultMoment3AboutMean<I extends RealType<I>, O extends RealType<O>>
 	extends AbstractStatsOp<Iterable<I>, O> implements Ops.Stats.Moment3AboutMean
 {
 
-	private UnaryFunctionOp<Iterable<I>, O> meanFunc;
-	private UnaryFunctionOp<Iterable<I>, O> sizeFunc;
+	private UnaryFunctionOp<Iterable<I>, SummaryStatistics> summaryFunc;
 
 	@Override
 	public void initialize() {
-		meanFunc = RTs.function(ops(), Ops.Stats.Mean.class, in());
-		sizeFunc = RTs.function(ops(), Ops.Stats.Size.class, in());
+		summaryFunc = Functions.unary(ops(), Ops.Stats.Summary.class,
+			SummaryStatistics.class, in());
 	}
 
 	@Override
 	public void compute(final Iterable<I> input, final O output) {
-		final double mean = meanFunc.calculate(input).getRealDouble();
-		final double size = sizeFunc.calculate(input).getRealDouble();
-
-		double res = 0;
-		for (final I in : input) {
-			final double val = in.getRealDouble() - mean;
-			res += val * val * val;
-		}
-
-		output.setReal(res / size);
+		output.setReal(summaryFunc.calculate(input).getMoment3AboutMean());
 	}
 }
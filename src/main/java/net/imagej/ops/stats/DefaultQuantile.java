@@ -30,9 +30,7 @@
 
 package net.imagej.ops.stats;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import java.util.Arrays;
 
 import net.imagej.ops.Op;
 import net.imagej.ops.Ops;
@@ -43,6 +41,11 @@ import org.scijava.plugin.Plugin;
 
 /**
  * {@link Op} to calculate the n-th {@code stats.percentile}.
+ * <p>
+ * The values are selected in a primitive scratch buffer which is kept per
+ * thread and grown on demand, so repeated calls (e.g. once per neighborhood
+ * of a filter) do not allocate.
+ * </p>
  * 
  * @author Daniel Seebacher (University of Konstanz)
  * @author Christian Dietz (University of Konstanz)
@@ -55,27 +58,40 @@ public class DefaultQuantile<I extends RealType<I>, O extends RealType<O>>
 	extends AbstractStatsOp<Iterable<I>, O> implements Ops.Stats.Quantile
 {
 
+	private static final int INITIAL_BUFFER_SIZE = 128;
+
 	@Parameter(min = "0.0", max = "1.0")
 	private double quantile;
-	
+
+	private final ThreadLocal<double[]> buffer = ThreadLocal.withInitial(
+		() -> new double[INITIAL_BUFFER_SIZE]);
+
 	@Override
 	public void compute(final Iterable<I> input, final O output) {
-		final ArrayList<Double> statistics = new ArrayList<>();
-
-		final Iterator<I> it = input.iterator();
-		while (it.hasNext()) {
-			statistics.add(it.next().getRealDouble());
+		double[] values = buffer.get();
+		int size = 0;
+		for (final I value : input) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, 2 * size);
+				buffer.set(values);
+			}
+			values[size++] = value.getRealDouble();
 		}
 
-		output.setReal(select(statistics, 0, statistics.size() - 1, (int) (statistics
-			.size() * quantile)));
+		if (size == 0) {
+			output.setReal(Double.NaN);
+			return;
+		}
+		output.setReal(select(values, 0, size - 1, Math.min((int) (size *
+			quantile), size - 1)));
 	}
 
 	/**
-	 * Returns the value of the kth lowest element. Do note that for nth lowest
-	 * element, k = n - 1.
+	 * Returns the value of the kth lowest element in the given range of the
+	 * array, partially reordering it. Do note that for nth lowest element, k = n
+	 * - 1.
 	 */
-	private double select(final ArrayList<Double> array, final int inLeft,
+	public static double select(final double[] array, final int inLeft,
 		final int inRight, final int k)
 	{
 
@@ -86,39 +102,39 @@ public class DefaultQuantile<I extends RealType<I>, O extends RealType<O>>
 
 			if (right <= left + 1) {
 
-				if (right == left + 1 && array.get(right) < array.get(left)) {
+				if (right == left + 1 && array[right] < array[left]) {
 					swap(array, left, right);
 				}
 
-				return array.get(k);
+				return array[k];
 
 			}
 			final int middle = (left + right) >>> 1;
 			swap(array, middle, left + 1);
 
-			if (array.get(left) > array.get(right)) {
+			if (array[left] > array[right]) {
 				swap(array, left, right);
 			}
 
-			if (array.get(left + 1) > array.get(right)) {
+			if (array[left + 1] > array[right]) {
 				swap(array, left + 1, right);
 			}
 
-			if (array.get(left) > array.get(left + 1)) {
+			if (array[left] > array[left + 1]) {
 				swap(array, left, left + 1);
 			}
 
 			int i = left + 1;
 			int j = right;
-			final double pivot = array.get(left + 1);
+			final double pivot = array[left + 1];
 
 			while (true) {
 				do
 					++i;
-				while (array.get(i) < pivot);
+				while (array[i] < pivot);
 				do
 					--j;
-				while (array.get(j) > pivot);
+				while (array[j] > pivot);
 
 				if (j < i) {
 					break;
@@ -127,8 +143,8 @@ public class DefaultQuantile<I extends RealType<I>, O extends RealType<O>>
 				swap(array, i, j);
 			}
 
-			array.set(left + 1, array.get(j));
-			array.set(j, pivot);
+			array[left + 1] = array[j];
+			array[j] = pivot;
 
 			if (j >= k) {
 				right = j - 1;
@@ -141,9 +157,9 @@ public class DefaultQuantile<I extends RealType<I>, O extends RealType<O>>
 	}
 
 	/** Helper method for swapping array entries */
-	private void swap(final List<Double> array, final int a, final int b) {
-		final double temp = array.get(a);
-		array.set(a, array.get(b));
-		array.set(b, temp);
+	private static void swap(final double[] array, final int a, final int b) {
+		final double temp = array[a];
+		array[a] = array[b];
+		array[b] = temp;
 	}
 }
@@ -32,50 +32,38 @@ package net.imagej.ops.stats;
 
 import net.imagej.ops.Op;
 import net.imagej.ops.Ops;
-import net.imagej.ops.special.chain.RTs;
+import net.imagej.ops.special.function.Functions;
 import net.imagej.ops.special.function.UnaryFunctionOp;
 import net.imglib2.type.numeric.RealType;
 
 import org.scijava.plugin.Plugin;
 
 /**
- * {@link Op} to calculate the {@code stats.variance} using the
- * {@code stats.stdDev} using the two-pass algorithm.
+ * {@link Op} to calculate the {@code stats.variance} from the
+ * {@code stats.summary} of the input, which accumulates the central moments
+ * in a single, numerically stable pass.
  * 
  * @author Daniel Seebacher (University of Konstanz)
  * @author Christian Dietz (University of Konstanz)
  * @param <I> input type
  * @param <O> output type
- * @see <a href=
- *      "https://en.wikipedia.org/wiki/Algorithms_for_calculating_variance#Two-pass_algorithm">
- *      Wikipedia </a>
+ * @see SummaryStatistics
  */
 @Plugin(type = Ops.Stats.Variance.class, label = "Statistics: Variance")
 public class DefaultVariance<I extends RealType<I>, O extends RealType<O>>
 	extends AbstractStatsOp<Iterable<I>, O> implements Ops.Stats.Variance
 {
 	
-	private UnaryFunctionOp<Iterable<I>, O> meanOp;
+	private UnaryFunctionOp<Iterable<I>, SummaryStatistics> summaryFunc;
 
 	@Override
 	public void initialize() {
-		meanOp = RTs.function(ops(), Ops.Stats.Mean.class, in());
+		summaryFunc = Functions.unary(ops(), Ops.Stats.Summary.class,
+			SummaryStatistics.class, in());
 	}
 
 	@Override
 	public void compute(final Iterable<I> input, final O output) {
-
-		double mean = meanOp.calculate(input).getRealDouble();
-
-		int n = 0;
-		double sum = 0d;
-
-		for (I in : input) {
-			n++;
-			double x = in.getRealDouble();
-			sum += (x - mean) * (x - mean);
-		}
-
-		output.setReal(sum / (n - 1));
+		output.setReal(summaryFunc.calculate(input).getVariance());
 	}
 }
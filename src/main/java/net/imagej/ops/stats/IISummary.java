@@ -0,0 +1,121 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.stats;
+
+import net.imagej.ops.Contingent;
+import net.imagej.ops.Op;
+import net.imagej.ops.Ops;
+import net.imagej.ops.Parallel;
+import net.imagej.ops.special.function.AbstractUnaryFunctionOp;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imglib2.Cursor;
+import net.imglib2.IterableInterval;
+import net.imglib2.algorithm.neighborhood.Neighborhood;
+import net.imglib2.type.numeric.RealType;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * {@link Op} to calculate the {@code stats.summary} of an
+ * {@link IterableInterval}. Chunks of the input are summarized in parallel and
+ * the partial summaries are merged.
+ * <p>
+ * Small inputs, in particular the {@link Neighborhood}s of filters and local
+ * thresholds, are left to {@link DefaultSummary}: for them, setting up the
+ * chunks costs more than the summary itself.
+ * </p>
+ * 
+ * @param <I> input type
+ * @see SummaryStatistics
+ */
+@Plugin(type = Ops.Stats.Summary.class, label = "Statistics: Summary",
+	priority = Priority.HIGH_PRIORITY)
+public class IISummary<I extends RealType<I>> extends
+	AbstractUnaryFunctionOp<IterableInterval<I>, SummaryStatistics> implements
+	Ops.Stats.Summary, Parallel, Contingent
+{
+
+	/** Minimum number of elements for which the input is chunked. */
+	static final long MIN_PARALLEL_SIZE = 8192;
+
+	/** Whether to accumulate the sums of logarithms and of inverses. */
+	@Parameter(required = false)
+	private boolean logsAndInverses;
+
+	@Override
+	public boolean conforms() {
+		// NB: The input is null when matching against a type placeholder.
+		return in() == null || isLarge(in());
+	}
+
+	@Override
+	public SummaryStatistics calculate(final IterableInterval<I> input) {
+		final SummaryStatistics summary = new SummaryStatistics(
+			logsAndInverses);
+		// NB: An instance matched for a large input may be reused for small ones.
+		if (!isLarge(input)) {
+			for (final I in : input) {
+				summary.add(in.getRealDouble());
+			}
+			return summary;
+		}
+		ops().thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				final SummaryStatistics partial = new SummaryStatistics(
+					logsAndInverses);
+				final Cursor<I> cursor = input.cursor();
+				setToStart(cursor, startIndex);
+				for (long i = 0; i < numSteps; i++) {
+					partial.add(cursor.get().getRealDouble());
+					cursor.jumpFwd(stepSize);
+				}
+				synchronized (summary) {
+					summary.merge(partial);
+				}
+			}
+		}, input.size());
+		return summary;
+	}
+
+	// -- Helper methods --
+
+	private static boolean isLarge(final IterableInterval<?> input) {
+		return !(input instanceof Neighborhood) && input
+			.size() >= MIN_PARALLEL_SIZE;
+	}
+
+}
@@ -33,13 +33,11 @@ package net.imagej.ops.stats;
 import net.imagej.ops.Op;
 import net.imagej.ops.Ops;
 import net.imagej.ops.image.integral.IntegralCursor;
+import net.imagej.ops.image.integral.IntegralTable;
 import net.imagej.ops.special.computer.AbstractUnaryComputerOp;
 import net.imglib2.algorithm.neighborhood.RectangleNeighborhood;
-import net.imglib2.converter.Converter;
-import net.imglib2.converter.RealDoubleConverter;
 import net.imglib2.type.numeric.RealType;
 import net.imglib2.type.numeric.real.DoubleType;
-import net.imglib2.util.Intervals;
 import net.imglib2.view.composite.Composite;
 
 import org.scijava.plugin.Plugin;
@@ -67,36 +65,61 @@ public class IntegralMean<I extends RealType<I>> extends
 		final int dimensions = input.numDimensions();
 
 		// Compute \sum (-1)^{dim - ||cornerVector||_{1}} * I(x^{cornerVector})
-		final DoubleType sum = new DoubleType();
-		sum.setZero();
-
-		// Convert from input to return type
-		final Converter<I, DoubleType> conv = new RealDoubleConverter<>();
-		final DoubleType valueAsDoubleType = new DoubleType();
+		double sum = 0.0d;
 
 		while (cursor.hasNext()) {
-			final I value = cursor.next().get(0).copy();
-			conv.convert(value, valueAsDoubleType);
+			final double value = cursor.next().get(0).getRealDouble();
 
 			// Obtain the cursor position encoded as corner vector
 			final int cornerInteger = cursor.getCornerRepresentation();
 
 			// Determine if the value has to be added (factor==1) or subtracted
 			// (factor==-1)
-			final DoubleType factor = new DoubleType(Math.pow(-1.0d, dimensions -
-				IntegralMean.norm(cornerInteger)));
-			valueAsDoubleType.mul(factor);
-
-			sum.add(valueAsDoubleType);
+			sum += value * IntegralMean.sign(dimensions, cornerInteger);
 		}
 
-		final int area = (int) Intervals.numElements(Intervals.expand(input, -1l));
-
 		// Compute mean by dividing the sum divided by the number of elements
-		valueAsDoubleType.set(area); // NB: Reuse DoubleType
-		sum.div(valueAsDoubleType);
+		output.set(sum / IntegralMean.area(input));
+	}
+
+	/**
+	 * Computes the mean of the values in a box of an {@link IntegralTable}.
+	 *
+	 * @param box box accessor of the table
+	 * @param min minimum of the box
+	 * @return the mean of the box
+	 */
+	public static double mean(final IntegralTable.Box box, final long[] min) {
+		return box.sum(min) / box.size();
+	}
+
+	/**
+	 * Computes the sign (-1)^{dim - ||cornerVector||_{1}} with which the value
+	 * at a corner of a {@link RectangleNeighborhood} enters the sum over the
+	 * neighborhood.
+	 *
+	 * @param dimensions number of dimensions of the neighborhood
+	 * @param cornerPosition position vector of an {@code IntegralCursor} encoded
+	 *          as integer
+	 * @return {@code 1} or {@code -1}
+	 */
+	public static double sign(final int dimensions, final int cornerPosition) {
+		return ((dimensions - norm(cornerPosition)) & 1) == 0 ? 1.0d : -1.0d;
+	}
 
-		output.set(sum);
+	/**
+	 * Computes the number of elements covered by a {@link RectangleNeighborhood}
+	 * on an integral image, i.e. the neighborhood shrunk by one on each side.
+	 *
+	 * @param neighborhood neighborhood on an integral image
+	 * @return the number of elements summed by the neighborhood
+	 */
+	public static int area(final RectangleNeighborhood<?> neighborhood) {
+		long area = 1;
+		for (int d = 0; d < neighborhood.numDimensions(); d++) {
+			area *= neighborhood.dimension(d) - 2;
+		}
+		return (int) area;
 	}
 
 	/**
@@ -33,13 +33,11 @@ package net.imagej.ops.stats;
 import net.imagej.ops.Op;
 import net.imagej.ops.Ops;
 import net.imagej.ops.image.integral.IntegralCursor;
+import net.imagej.ops.image.integral.IntegralTable;
 import net.imagej.ops.special.computer.AbstractUnaryComputerOp;
 import net.imglib2.algorithm.neighborhood.RectangleNeighborhood;
-import net.imglib2.converter.Converter;
-import net.imglib2.converter.RealDoubleConverter;
 import net.imglib2.type.numeric.RealType;
 import net.imglib2.type.numeric.real.DoubleType;
-import net.imglib2.util.Intervals;
 import net.imglib2.view.composite.Composite;
 
 import org.scijava.plugin.Plugin;
@@ -67,54 +65,43 @@ public class IntegralVariance<I extends RealType<I>> extends
 		final int dimensions = input.numDimensions();
 
 		// Compute \sum (-1)^{dim - ||cornerVector||_{1}} * I(x^{cornerVector})
-		final DoubleType sum1 = new DoubleType();
-		sum1.setZero();
-
-		// Convert from input to return type
-		final Converter<I, DoubleType> conv = new RealDoubleConverter<>();
-
-		// Compute \sum (-1)^{dim - ||cornerVector||_{1}} * I(x^{cornerVector})
-		final DoubleType sum2 = new DoubleType();
-		sum2.setZero();
-
-		final DoubleType valueAsDoubleType = new DoubleType();
+		// for the integral image (sum1) and the squared integral image (sum2)
+		double sum1 = 0.0d;
+		double sum2 = 0.0d;
 
 		while (cursorS1.hasNext()) {
 			final Composite<I> compositeValue = cursorS1.next();
-			final I value1 = compositeValue.get(0).copy();
-			conv.convert(value1, valueAsDoubleType);
 
 			// Obtain the cursor position encoded as corner vector
 			final int cornerInteger1 = cursorS1.getCornerRepresentation();
 
 			// Determine if the value has to be added (factor==1) or subtracted
 			// (factor==-1)
-			final DoubleType factor = new DoubleType(Math.pow(-1.0d, dimensions -
-				IntegralMean.norm(cornerInteger1)));
-			valueAsDoubleType.mul(factor);
-
-			sum1.add(valueAsDoubleType);
-
-			final I value2 = compositeValue.get(1).copy();
-			conv.convert(value2, valueAsDoubleType);
-
-			// Determine if the value has to be added (factor==1) or subtracted
-			// (factor==-1)
-			valueAsDoubleType.mul(factor);
+			final double factor = IntegralMean.sign(dimensions, cornerInteger1);
 
-			sum2.add(valueAsDoubleType);
+			sum1 += compositeValue.get(0).getRealDouble() * factor;
+			sum2 += compositeValue.get(1).getRealDouble() * factor;
 		}
 
-		final int area = (int) Intervals.numElements(Intervals.expand(input, -1l));
+		final int area = IntegralMean.area(input);
 
-		valueAsDoubleType.set(area); // NB: Reuse available DoubleType
-		sum1.mul(sum1);
-		sum1.div(valueAsDoubleType); // NB
-
-		sum2.sub(sum1);
-		sum2.div(valueAsDoubleType); // NB
+		output.set((sum2 - sum1 * sum1 / area) / area);
+	}
 
-		output.set(sum2);
+	/**
+	 * Computes the variance of the values in a box of an {@link IntegralTable}.
+	 *
+	 * @param box box accessor of the table
+	 * @param min minimum of the box
+	 * @return the variance of the box
+	 */
+	public static double variance(final IntegralTable.Box box,
+		final long[] min)
+	{
+		final double sum1 = box.sum(min);
+		final double sum2 = box.sumOfSquares(min);
+		final double area = box.size();
+		return (sum2 - sum1 * sum1 / area) / area;
 	}
 
 }
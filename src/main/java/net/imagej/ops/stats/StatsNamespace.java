@@ -476,6 +476,52 @@ public class StatsNamespace extends AbstractNamespace {
 		return result;
 	}
 
+	/**
+	 * Executes the "summary" operation on the given arguments.
+	 * <p>
+	 * The skewness and kurtosis of the summary are the population values of
+	 * {@link SummaryStatistics#getPopulationSkewness()} and
+	 * {@link SummaryStatistics#getPopulationKurtosis()}; they differ from the
+	 * results of {@link #skewness} and {@link #kurtosis}, which are based on the
+	 * sample variance.
+	 * </p>
+	 */
+	@OpMethod(op = net.imagej.ops.stats.DefaultSummary.class)
+	public <T extends RealType<T>> SummaryStatistics summary(
+		final Iterable<T> in)
+	{
+		final SummaryStatistics result = (SummaryStatistics) ops().run(
+			net.imagej.ops.Ops.Stats.Summary.class, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.stats.IISummary.class)
+	public <T extends RealType<T>> SummaryStatistics summary(
+		final IterableInterval<T> in)
+	{
+		final SummaryStatistics result = (SummaryStatistics) ops().run(
+			net.imagej.ops.Ops.Stats.Summary.class, in);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.stats.DefaultSummary.class)
+	public <T extends RealType<T>> SummaryStatistics summary(
+		final Iterable<T> in, final boolean logsAndInverses)
+	{
+		final SummaryStatistics result = (SummaryStatistics) ops().run(
+			net.imagej.ops.Ops.Stats.Summary.class, in, logsAndInverses);
+		return result;
+	}
+
+	@OpMethod(op = net.imagej.ops.stats.IISummary.class)
+	public <T extends RealType<T>> SummaryStatistics summary(
+		final IterableInterval<T> in, final boolean logsAndInverses)
+	{
+		final SummaryStatistics result = (SummaryStatistics) ops().run(
+			net.imagej.ops.Ops.Stats.Summary.class, in, logsAndInverses);
+		return result;
+	}
+
 	@OpMethod(ops = { net.imagej.ops.stats.DefaultVariance.class,
 		net.imagej.ops.stats.IterableVariance.class })
 	public <T extends RealType<T>, O extends RealType<O>> O variance(
@@ -0,0 +1,263 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.stats;
+
+/**
+ * Moment-based and extremal statistics of a stream of values, accumulated in
+ * a single pass.
+ * <p>
+ * The central moments are updated with the numerically stable recurrences of
+ * Welford and Pébay. Two summaries of disjoint parts of the data can be
+ * {@link #merge merged}, which allows to accumulate the parts in parallel.
+ * </p>
+ * <p>
+ * The sums of logarithms and of inverses, needed for the geometric and
+ * harmonic means, cost a logarithm and a division per value. They are only
+ * accumulated if requested on construction; otherwise their getters return
+ * {@link Double#NaN}.
+ * </p>
+ * <p>
+ * Instances are not thread-safe.
+ * </p>
+ * 
+ * @see DefaultSummary
+ */
+public class SummaryStatistics {
+
+	private long n;
+	private double mean;
+
+	/** Sums of the 2nd, 3rd and 4th powers of the deviations from the mean. */
+	private double m2, m3, m4;
+
+	private double min = Double.POSITIVE_INFINITY;
+	private double max = Double.NEGATIVE_INFINITY;
+
+	private double sum;
+	private double sumOfSquares;
+	private double sumOfLogs;
+	private double sumOfInverses;
+
+	/** Whether {@link #sumOfLogs} and {@link #sumOfInverses} are accumulated. */
+	private final boolean logsAndInverses;
+
+	/**
+	 * Creates a summary of the moment-based and extremal statistics, without
+	 * the sums of logarithms and of inverses.
+	 */
+	public SummaryStatistics() {
+		this(false);
+	}
+
+	/**
+	 * Creates a summary which additionally accumulates the sums of logarithms
+	 * and of inverses, if requested.
+	 */
+	public SummaryStatistics(final boolean logsAndInverses) {
+		this.logsAndInverses = logsAndInverses;
+	}
+
+	/** Adds the given value to the summary. */
+	public void add(final double x) {
+		final long n1 = n;
+		n++;
+
+		final double delta = x - mean;
+		final double deltaN = delta / n;
+		final double deltaN2 = deltaN * deltaN;
+		final double term1 = delta * deltaN * n1;
+		mean += deltaN;
+		m4 += term1 * deltaN2 * ((double) n * n - 3 * n + 3) + 6 * deltaN2 * m2 -
+			4 * deltaN * m3;
+		m3 += term1 * deltaN * (n - 2) - 3 * deltaN * m2;
+		m2 += term1;
+
+		if (x < min) min = x;
+		if (x > max) max = x;
+
+		sum += x;
+		sumOfSquares += x * x;
+		if (logsAndInverses) {
+			sumOfLogs += Math.log(x);
+			sumOfInverses += 1d / x;
+		}
+	}
+
+	/**
+	 * Adds the values summarized by the given summary to this one.
+	 * 
+	 * @throws IllegalArgumentException if this summary accumulates the sums of
+	 *           logarithms and of inverses but the given one does not
+	 */
+	public void merge(final SummaryStatistics other) {
+		if (logsAndInverses && !other.logsAndInverses) {
+			throw new IllegalArgumentException(
+				"Cannot merge a summary without sums of logarithms and inverses");
+		}
+		if (other.n == 0) return;
+		if (n == 0) {
+			set(other);
+			return;
+		}
+
+		final double na = n;
+		final double nb = other.n;
+		final double nt = na + nb;
+		final double delta = other.mean - mean;
+		final double delta2 = delta * delta;
+		final double delta3 = delta * delta2;
+		final double delta4 = delta2 * delta2;
+
+		final double mergedM2 = m2 + other.m2 + delta2 * na * nb / nt;
+		final double mergedM3 = m3 + other.m3 + delta3 * na * nb * (na - nb) /
+			(nt * nt) + 3 * delta * (na * other.m2 - nb * m2) / nt;
+		final double mergedM4 = m4 + other.m4 + delta4 * na * nb * (na * na - na *
+			nb + nb * nb) / (nt * nt * nt) + 6 * delta2 * (na * na * other.m2 + nb *
+				nb * m2) / (nt * nt) + 4 * delta * (na * other.m3 - nb * m3) / nt;
+
+		n += other.n;
+		mean += delta * nb / nt;
+		m2 = mergedM2;
+		m3 = mergedM3;
+		m4 = mergedM4;
+
+		min = Math.min(min, other.min);
+		max = Math.max(max, other.max);
+
+		sum += other.sum;
+		sumOfSquares += other.sumOfSquares;
+		sumOfLogs += other.sumOfLogs;
+		sumOfInverses += other.sumOfInverses;
+	}
+
+	// -- Getters --
+
+	public long getSize() {
+		return n;
+	}
+
+	public double getMin() {
+		return n == 0 ? Double.NaN : min;
+	}
+
+	public double getMax() {
+		return n == 0 ? Double.NaN : max;
+	}
+
+	public double getSum() {
+		return sum;
+	}
+
+	public double getSumOfSquares() {
+		return sumOfSquares;
+	}
+
+	public double getSumOfLogs() {
+		return logsAndInverses ? sumOfLogs : Double.NaN;
+	}
+
+	public double getSumOfInverses() {
+		return logsAndInverses ? sumOfInverses : Double.NaN;
+	}
+
+	public double getMean() {
+		return n == 0 ? Double.NaN : mean;
+	}
+
+	public double getGeometricMean() {
+		return logsAndInverses ? Math.exp(sumOfLogs / n) : Double.NaN;
+	}
+
+	public double getHarmonicMean() {
+		return logsAndInverses ? n / sumOfInverses : Double.NaN;
+	}
+
+	public double getMoment1AboutMean() {
+		return n == 0 ? Double.NaN : 0;
+	}
+
+	public double getMoment2AboutMean() {
+		return m2 / n;
+	}
+
+	public double getMoment3AboutMean() {
+		return m3 / n;
+	}
+
+	public double getMoment4AboutMean() {
+		return m4 / n;
+	}
+
+	/** Gets the unbiased sample variance. */
+	public double getVariance() {
+		return n < 2 ? Double.NaN : m2 / (n - 1);
+	}
+
+	/** Gets the square root of the unbiased sample variance. */
+	public double getStandardDeviation() {
+		return Math.sqrt(getVariance());
+	}
+
+	/**
+	 * Gets the population skewness, i.e. m3 / m2^(3/2) of the moments about
+	 * the mean. Unlike {@link DefaultSkewness}, this does not divide by the
+	 * sample variance.
+	 */
+	public double getPopulationSkewness() {
+		return m2 == 0 ? Double.NaN : Math.sqrt(n) * m3 / Math.pow(m2, 1.5);
+	}
+
+	/**
+	 * Gets the population kurtosis, i.e. m4 / m2^2 of the moments about the
+	 * mean. Unlike {@link DefaultKurtosis}, this does not divide by the sample
+	 * variance.
+	 */
+	public double getPopulationKurtosis() {
+		return m2 == 0 ? Double.NaN : n * m4 / (m2 * m2);
+	}
+
+	// -- Helper methods --
+
+	private void set(final SummaryStatistics other) {
+		n = other.n;
+		mean = other.mean;
+		m2 = other.m2;
+		m3 = other.m3;
+		m4 = other.m4;
+		min = other.min;
+		max = other.max;
+		sum = other.sum;
+		sumOfSquares = other.sumOfSquares;
+		sumOfLogs = other.sumOfLogs;
+		sumOfInverses = other.sumOfInverses;
+	}
+
+}
@@ -0,0 +1,77 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+package net.imagej.ops.thread;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.scijava.plugin.Plugin;
+import org.scijava.service.AbstractService;
+import org.scijava.service.Service;
+
+/**
+ * Default service owning the {@link ForkJoinPool} of a context. The pool is
+ * created on first use, with one thread per available processor unless set
+ * otherwise, and shut down when the context is disposed.
+ */
+@Plugin(type = Service.class)
+public class DefaultForkJoinService extends AbstractService implements
+	ForkJoinService
+{
+
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+
+	private ForkJoinPool pool;
+
+	// -- ForkJoinService methods --
+
+	@Override
+	public synchronized ForkJoinPool getPool() {
+		if (pool == null) pool = new ForkJoinPool(parallelism);
+		return pool;
+	}
+
+	@Override
+	public synchronized void setParallelism(final int parallelism) {
+		if (parallelism <= 0) {
+			throw new IllegalArgumentException("Invalid parallelism: " +
+				parallelism);
+		}
+		this.parallelism = parallelism;
+	}
+
+	// -- Disposable methods --
+
+	@Override
+	public synchronized void dispose() {
+		if (pool != null) pool.shutdown();
+		pool = null;
+	}
+
+}
@@ -71,7 +71,7 @@ public abstract class AbstractChunker extends AbstractOp implements ChunkerOp {
 	}
 
 	@Override
-	public void setNumberOfElements(final int totalSize) {
+	public void setNumberOfElements(final long totalSize) {
 		this.numberOfElements = totalSize;
 	}
 
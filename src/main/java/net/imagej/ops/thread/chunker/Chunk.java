@@ -57,4 +57,31 @@ public interface Chunk {
 	 */
 	void execute(int startIndex, int stepSize, int numSteps);
 
+	/**
+	 * Solve the subproblem for the element at startIndex, increase the index by
+	 * the given stepSize and repeat numSteps. This variant is used by
+	 * {@link ChunkerOp}s for problems of more than {@link Integer#MAX_VALUE}
+	 * elements; {@link Chunk}s which can handle such problems should override
+	 * it.
+	 * 
+	 * @param startIndex zero based index that identifies the first element of
+	 *          this subproblem (w.r.t. the global problem enumeration)
+	 * @param stepSize the step-size between two consecutive elements
+	 * @param numSteps how many steps shall be taken
+	 * @throws IllegalArgumentException if the subproblem exceeds the range of
+	 *           {@link #execute(int, int, int)}
+	 */
+	default void execute(final long startIndex, final long stepSize,
+		final long numSteps)
+	{
+		final long lastIndex = startIndex + stepSize * Math.max(0, numSteps - 1);
+		if (lastIndex > Integer.MAX_VALUE || stepSize > Integer.MAX_VALUE ||
+			numSteps > Integer.MAX_VALUE)
+		{
+			throw new IllegalArgumentException("Chunk of " + numSteps +
+				" steps from index " + startIndex + " exceeds integer range");
+		}
+		execute((int) startIndex, (int) stepSize, (int) numSteps);
+	}
+
 }
@@ -0,0 +1,180 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.thread.chunker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+
+import net.imagej.ops.Ops;
+import net.imagej.ops.thread.ForkJoinService;
+
+import org.scijava.Priority;
+import org.scijava.plugin.Parameter;
+import org.scijava.plugin.Plugin;
+
+/**
+ * Work-stealing implementation of a {@link ChunkerOp}. The list of elements is
+ * split recursively into halves until a chunk holds no more than a grain size
+ * of consecutive elements. The chunks are processed by the {@link ForkJoinPool}
+ * of the context's {@link ForkJoinService}, so that idle threads steal work
+ * from busy ones; this balances the load when the cost per element varies,
+ * e.g. for neighborhood ops near the image borders.
+ * <p>
+ * Without a {@link ForkJoinService} in the context, the chunks are submitted
+ * to the {@link org.scijava.thread.ThreadService} instead, like those of
+ * {@link DefaultChunker}, which forgoes the work stealing. The JVM-wide common
+ * pool is never used, so that the parallelism is decided by the context.
+ * </p>
+ * <p>
+ * The grain size is derived from the number of elements, the parallelism of
+ * the pool and the optional cost hint, i.e. the relative cost of processing
+ * one element (1 being a cheap per-pixel operation). It can also be given
+ * explicitly. Without a cost hint, the cost of an element is unknown and the
+ * elements are split into at least as many chunks as there are threads, so
+ * that coarse units such as lines or planes are processed in parallel even
+ * if there are few of them. If the cost hint is given and the total cost of
+ * all elements is below the minimum cost of one chunk, the elements are
+ * processed on the calling thread, so parallel ops fall back to sequential
+ * execution for small inputs.
+ * </p>
+ */
+@Plugin(type = Ops.Thread.Chunker.class, priority = Priority.HIGH_PRIORITY)
+public class ChunkerForkJoin extends AbstractChunker {
+
+	/** Minimum total cost of the elements of one chunk. */
+	private static final long MIN_CHUNK_COST = 1 << 12;
+
+	/** Targeted number of chunks per thread of the pool. */
+	private static final int CHUNKS_PER_THREAD = 8;
+
+	/** Maximum number of consecutive elements processed as one chunk. */
+	@Parameter(required = false)
+	private long grainSize;
+
+	/** Relative cost of processing one element, or 0 if unknown. */
+	@Parameter(required = false)
+	private double costHint;
+
+	@Parameter(required = false)
+	private ForkJoinService forkJoinService;
+
+	@Override
+	public void run() {
+		if (numberOfElements <= 0) return;
+		final ForkJoinPool pool = forkJoinService == null ? null : forkJoinService
+			.getPool();
+		final int parallelism = pool == null ? Runtime.getRuntime()
+			.availableProcessors() : pool.getParallelism();
+		if (grainSize <= 0 && costHint > 0 && numberOfElements *
+			costHint < MIN_CHUNK_COST)
+		{
+			// NB: Not worth a task; process the elements on the calling thread.
+			chunkable.execute(0, 1, numberOfElements);
+			return;
+		}
+		final long grain = grainSize > 0 ? grainSize : grainSize(parallelism);
+		if (pool == null) runOnThreadService(grain);
+		else pool.invoke(new ChunkTask(0, numberOfElements, grain));
+	}
+
+	// -- Helper methods --
+
+	/** Processes the chunks as separate tasks of the thread service. */
+	private void runOnThreadService(final long grain) {
+		final List<Future<?>> futures = new ArrayList<>();
+		for (long start = 0; start < numberOfElements; start += grain) {
+			final long chunkStart = start;
+			final long count = Math.min(grain, numberOfElements - start);
+			futures.add(threadService.run(new Runnable() {
+
+				@Override
+				public void run() {
+					if (!isCanceled()) chunkable.execute(chunkStart, 1, count);
+				}
+			}));
+		}
+
+		for (final Future<?> future : futures) {
+			try {
+				future.get();
+			}
+			catch (final InterruptedException exc) {
+				throw new RuntimeException(exc);
+			}
+			catch (final ExecutionException exc) {
+				throw new RuntimeException(exc);
+			}
+		}
+	}
+
+	private long grainSize(final int parallelism) {
+		final long balancedGrain = Math.max(1, numberOfElements /
+			((long) parallelism * CHUNKS_PER_THREAD));
+		// NB: Never fewer chunks than threads if the cost is unknown.
+		if (costHint <= 0) return balancedGrain;
+		final long minGrain = Math.max(1, (long) Math.ceil(MIN_CHUNK_COST /
+			costHint));
+		return Math.max(minGrain, balancedGrain);
+	}
+
+	// -- Helper classes --
+
+	/** Processes the given range of elements, splitting it if too large. */
+	private class ChunkTask extends RecursiveAction {
+
+		private final long start;
+		private final long count;
+		private final long grain;
+
+		public ChunkTask(final long start, final long count, final long grain) {
+			this.start = start;
+			this.count = count;
+			this.grain = grain;
+		}
+
+		@Override
+		protected void compute() {
+			if (isCanceled()) return;
+			if (count <= grain) {
+				chunkable.execute(start, 1, count);
+				return;
+			}
+			final long half = count / 2;
+			invokeAll(new ChunkTask(start, half, grain), new ChunkTask(start + half,
+				count - half, grain));
+		}
+	}
+
+}
@@ -60,13 +60,13 @@ public class ChunkerInterleaved extends AbstractChunker {
 	public void run() {
 
 		final int numThreads = Runtime.getRuntime().availableProcessors();
-		final int numStepsFloor = (int) (numberOfElements / numThreads);
-		final int remainder = (int) numberOfElements - (numStepsFloor * numThreads);
+		final long numStepsFloor = numberOfElements / numThreads;
+		final long remainder = numberOfElements - (numStepsFloor * numThreads);
 
 		final ArrayList<Future<?>> futures = new ArrayList<>(numThreads);
 
 		for (int i = 0; i < numThreads; i++) {
-			final int j = i;
+			final long j = i;
 
 			futures.add(threadService.run(new Runnable() {
 
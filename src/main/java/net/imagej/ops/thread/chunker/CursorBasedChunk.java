@@ -31,11 +31,30 @@ package net.imagej.ops.thread.chunker;
 
 import net.imglib2.Cursor;
 
+/**
+ * A {@link Chunk} which iterates over its elements with {@link Cursor}s, and
+ * hence supports problems of more than {@link Integer#MAX_VALUE} elements.
+ * Subclasses implement {@link #execute(long, long, long)}.
+ */
 public abstract class CursorBasedChunk implements Chunk {
-	
+
 	public static void setToStart(final Cursor<?> c, int startIndex) {
+		setToStart(c, (long) startIndex);
+	}
+
+	public static void setToStart(final Cursor<?> c, long startIndex) {
 		c.reset();
 		c.jumpFwd(startIndex + 1);
 	}
 
+	@Override
+	public void execute(final int startIndex, final int stepSize,
+		final int numSteps)
+	{
+		execute((long) startIndex, (long) stepSize, (long) numSteps);
+	}
+
+	@Override
+	public abstract void execute(long startIndex, long stepSize, long numSteps);
+
 }
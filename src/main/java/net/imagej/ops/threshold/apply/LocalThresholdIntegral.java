@@ -30,42 +30,40 @@
 
 package net.imagej.ops.threshold.apply;
 
-import java.util.ArrayList;
-import java.util.List;
-
-import net.imagej.ops.Ops;
-import net.imagej.ops.Ops.Map;
-import net.imagej.ops.map.neighborhood.CenterAwareIntegralComputerOp;
+import net.imagej.ops.Parallel;
+import net.imagej.ops.image.integral.IntegralTable;
 import net.imagej.ops.special.computer.AbstractUnaryComputerOp;
-import net.imagej.ops.special.computer.BinaryComputerOp;
-import net.imagej.ops.special.hybrid.AbstractUnaryHybridCF;
 import net.imagej.ops.stats.IntegralMean;
-import net.imglib2.FinalInterval;
+import net.imagej.ops.stats.IntegralVariance;
+import net.imagej.ops.thread.chunker.CursorBasedChunk;
+import net.imglib2.Cursor;
 import net.imglib2.IterableInterval;
+import net.imglib2.RandomAccess;
 import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.algorithm.neighborhood.RectangleShape;
-import net.imglib2.algorithm.neighborhood.RectangleShape.NeighborhoodsIterableInterval;
 import net.imglib2.outofbounds.OutOfBoundsBorderFactory;
 import net.imglib2.outofbounds.OutOfBoundsFactory;
 import net.imglib2.type.logic.BitType;
 import net.imglib2.type.numeric.RealType;
 import net.imglib2.util.Intervals;
-import net.imglib2.util.Util;
-import net.imglib2.view.ExtendedRandomAccessibleInterval;
-import net.imglib2.view.IntervalView;
 import net.imglib2.view.Views;
-import net.imglib2.view.composite.Composite;
 
 import org.scijava.plugin.Parameter;
 
 /**
  * Apply a local thresholding method to an image using integral images for speed
  * up, optionally using a out of bounds strategy.
+ * <p>
+ * A single {@link IntegralTable} of the input, extended by the span of the
+ * shape, provides the sums (and sums of squares) of all windows; the pixels are
+ * then thresholded in parallel.
+ * </p>
  *
  * @author Stefan Helfrich (University of Konstanz)
  */
 public abstract class LocalThresholdIntegral<I extends RealType<I>> extends
 	AbstractUnaryComputerOp<RandomAccessibleInterval<I>, IterableInterval<BitType>>
+	implements Parallel
 {
 
 	@Parameter
@@ -75,145 +73,53 @@ public abstract class LocalThresholdIntegral<I extends RealType<I>> extends
 	private OutOfBoundsFactory<I, RandomAccessibleInterval<I>> outOfBoundsFactory =
 		new OutOfBoundsBorderFactory<>();
 
-	private CenterAwareIntegralComputerOp<I, BitType> filterOp;
-	private AbstractUnaryHybridCF<RandomAccessibleInterval<I>, RandomAccessibleInterval<RealType<?>>> integralImgOp;
-	private AbstractUnaryHybridCF<RandomAccessibleInterval<I>, RandomAccessibleInterval<RealType<?>>> squareIntegralImgOp;
-
-	@SuppressWarnings("rawtypes")
-	private BinaryComputerOp<RandomAccessibleInterval<I>, NeighborhoodsIterableInterval<? extends Composite<RealType>>, IterableInterval<BitType>> map;
-
-	@SuppressWarnings({ "rawtypes", "unchecked" })
-	@Override
-	public void initialize() {
-		// Increase span of shape by 1 to return correct values together with
-		// the integralSum operation
-		shape = new RectangleShape(shape.getSpan() + 1, false);
-
-		filterOp = unaryComputer();
-
-		integralImgOp = (AbstractUnaryHybridCF) ops().op(Ops.Image.Integral.class,
-			in());
-		squareIntegralImgOp = (AbstractUnaryHybridCF) ops().op(
-			Ops.Image.SquareIntegral.class, in());
-	}
-
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	@Override
 	public void compute(final RandomAccessibleInterval<I> input,
 		final IterableInterval<BitType> output)
 	{
+		final int span = shape.getSpan();
+		final int n = input.numDimensions();
 
-		final List<RandomAccessibleInterval<RealType>> listOfIntegralImages =
-			new ArrayList<>();
+		boolean squares = false;
 		for (final int order : requiredIntegralImages()) {
-			final RandomAccessibleInterval<RealType> requiredIntegralImg =
-				getIntegralImage(input, order);
-			listOfIntegralImages.add(requiredIntegralImg);
+			if (order == 2) squares = true;
 		}
-
-		// Composite image of integral images of order 1 and 2
-		final RandomAccessibleInterval<RealType> stacked = Views.stack(
-			listOfIntegralImages);
-		final RandomAccessibleInterval<? extends Composite<RealType>> compositeRAI =
-			Views.collapse(stacked);
-		final RandomAccessibleInterval<? extends Composite<RealType>> extendedCompositeRAI =
-			removeLeadingZeros(compositeRAI);
-
-		final NeighborhoodsIterableInterval<? extends Composite<RealType>> neighborhoods =
-			shape.neighborhoodsSafe(extendedCompositeRAI);
-
-		if (map == null) {
-			map = (BinaryComputerOp) ops().op(Map.class, out(), in(), neighborhoods,
-				filterOp);
+		final boolean withVariance = squares;
+
+		final IntegralTable table = new IntegralTable(ops(), Views.interval(
+			Views.extend(input, outOfBoundsFactory), Intervals.expand(input, span)),
+			withVariance);
+		final long[] size = new long[n];
+		for (int d = 0; d < n; d++) {
+			size[d] = 2 * span + 1;
 		}
-
-		map.compute(input, neighborhoods, output);
-	}
-
-	/**
-	 * Computes integral images of a given order and extends them such that
-	 * {@link IntegralMean} et al work with them.
-	 *
-	 * @param input The RAI for which an integral image is computed
-	 * @param order
-	 * @return An extended integral image for the input RAI
-	 */
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private RandomAccessibleInterval<RealType> getIntegralImage(
-		final RandomAccessibleInterval<I> input, final int order)
-	{
-		ExtendedRandomAccessibleInterval<I, RandomAccessibleInterval<I>> extendedInput =
-			Views.extend(input, outOfBoundsFactory);
-		FinalInterval expandedInterval = Intervals.expand(input, shape.getSpan()-1);
-		IntervalView<I> offsetInterval2 = Views.offsetInterval(extendedInput, expandedInterval);
-		
-		RandomAccessibleInterval<RealType> img = null;
-		switch (order) {
-			case 1:
-				img = (RandomAccessibleInterval) integralImgOp.calculate(offsetInterval2);
-				break;
-			case 2:
-				img = (RandomAccessibleInterval) squareIntegralImgOp.calculate(offsetInterval2);
-				break;
-		}
-
-		img = addLeadingZeros(img);
-
-		return img;
-	}
-
-	/**
-	 * Add 0s before axis minimum.
-	 * 
-	 * @param input Input RAI
-	 * @return An extended and cropped version of input
-	 */
-	private <T extends RealType<T>> RandomAccessibleInterval<T> addLeadingZeros(
-		RandomAccessibleInterval<T> input)
-	{
-		final long[] min = Intervals.minAsLongArray(input);
-		final long[] max = Intervals.maxAsLongArray(input);
-
-		for (int i = 0; i < max.length; i++) {
-			min[i]--;
-		}
-
-		final T realZero = Util.getTypeFromInterval(input).copy();
-		realZero.setZero();
-
-		final ExtendedRandomAccessibleInterval<T, RandomAccessibleInterval<T>> extendedImg = Views.extendValue(input,
-			realZero);
-		final IntervalView<T> offsetInterval = Views.interval(extendedImg,
-			min, max);
-		
-		return Views.zeroMin(offsetInterval);
-	}
-
-	/**
-	 * Removes leading 0s from integral image after composite creation.
-	 *
-	 * @param input Input RAI (can be a RAI of Composite)
-	 * @return An extended and cropped version of input
-	 */
-	private <T> RandomAccessibleInterval<T> removeLeadingZeros(
-		final RandomAccessibleInterval<T> input)
-	{
-		// Remove 0s from integralImg by shifting its interval by +1
-		final long[] min = Intervals.minAsLongArray(input);
-		final long[] max = Intervals.maxAsLongArray(input);
-
-		for (int d = 0; d < input.numDimensions(); ++d) {
-			int correctedSpan = getShape().getSpan() - 1;
-			min[d] += (1 + correctedSpan);
-			max[d] -= correctedSpan;
-		}
-
-		// Define the Interval on the infinite random accessibles
-		final FinalInterval interval = new FinalInterval(min, max);
-
-		final RandomAccessibleInterval<T> extendedImg = Views.offsetInterval(Views
-			.extendBorder(input), interval);
-		return extendedImg;
+		final IntegralTable.Box box = table.box(size);
+
+		ops().thread().chunker(new CursorBasedChunk() {
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				final Cursor<BitType> cursor = output.localizingCursor();
+				final RandomAccess<I> center = input.randomAccess();
+				final long[] position = new long[n];
+				setToStart(cursor, startIndex);
+				for (long step = 0; step < numSteps; step++) {
+					cursor.localize(position);
+					center.setPosition(position);
+					for (int d = 0; d < n; d++) {
+						position[d] -= span;
+					}
+					final double mean = IntegralMean.mean(box, position);
+					final double variance = withVariance ? IntegralVariance.variance(
+						box, position) : 0;
+					cursor.get().set(center.get().getRealDouble() > threshold(mean,
+						variance));
+					cursor.jumpFwd(stepSize);
+				}
+			}
+		}, output.size());
 	}
 
 	/**
@@ -226,9 +132,15 @@ public abstract class LocalThresholdIntegral<I extends RealType<I>> extends
 	}
 
 	/**
-	 * @return the Computer to map to all neighborhoods of input to output.
+	 * Computes the threshold of a pixel from the statistics of its window. The
+	 * pixel is foreground if its value is greater than the threshold.
+	 *
+	 * @param mean mean of the window
+	 * @param variance variance of the window, or 0 if the squared integral image
+	 *          is not required
+	 * @return the threshold
 	 */
-	protected abstract CenterAwareIntegralComputerOp<I, BitType> unaryComputer();
+	protected abstract double threshold(double mean, double variance);
 
 	/**
 	 * @return the orders of integral images that are required for a local
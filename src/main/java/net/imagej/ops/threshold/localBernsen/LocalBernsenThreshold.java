@@ -95,6 +95,11 @@ public class LocalBernsenThreshold<T extends RealType<T>> extends
 				}
 			}
 
+			@Override
+			public CenterAwareComputerOp<T, BitType> getIndependentInstance() {
+				return unaryComputer(inClass, outClass);
+			}
+
 			};
 		
 		op.setEnvironment(ops());	
@@ -81,6 +81,11 @@ public class LocalContrastThreshold<T extends RealType<T>> extends
 				// If diffMin and diffMax are equal, output will be set to fg.
 				output.set(diffMin <= diffMax);
 			}
+
+			@Override
+			public CenterAwareComputerOp<T, BitType> getIndependentInstance() {
+				return unaryComputer(inClass, outClass);
+			}
 		};
 
 		op.setEnvironment(ops());
@@ -68,6 +68,7 @@ public class LocalMeanThreshold<T extends RealType<T>> extends
 		final LocalThresholdMethod<T> op = new LocalThresholdMethod<T>() {
 
 			private UnaryComputerOp<Iterable<T>, DoubleType> meanOp;
+			private final DoubleType m = new DoubleType();
 
 			@Override
 			public void compute(final Iterable<T> neighborhood, final T center, final BitType output) {
@@ -76,11 +77,14 @@ public class LocalMeanThreshold<T extends RealType<T>> extends
 					meanOp = Computers.unary(ops(),	Ops.Stats.Mean.class, DoubleType.class, neighborhood);
 				}
 
-				final DoubleType m = new DoubleType();
-
 				meanOp.compute(neighborhood, m);
 				output.set(center.getRealDouble() > m.getRealDouble() - c);
 			}
+
+			@Override
+			public CenterAwareComputerOp<T, BitType> getIndependentInstance() {
+				return unaryComputer(inClass, outClass);
+			}
 		};
 
 		op.setEnvironment(ops());
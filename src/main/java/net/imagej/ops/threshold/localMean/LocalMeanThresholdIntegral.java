@@ -31,18 +31,9 @@
 package net.imagej.ops.threshold.localMean;
 
 import net.imagej.ops.Ops;
-import net.imagej.ops.map.neighborhood.CenterAwareIntegralComputerOp;
-import net.imagej.ops.special.computer.AbstractBinaryComputerOp;
-import net.imagej.ops.stats.IntegralMean;
 import net.imagej.ops.threshold.apply.LocalThresholdIntegral;
 import net.imglib2.RandomAccessibleInterval;
-import net.imglib2.algorithm.neighborhood.RectangleNeighborhood;
-import net.imglib2.converter.Converter;
-import net.imglib2.converter.RealDoubleConverter;
-import net.imglib2.type.logic.BitType;
 import net.imglib2.type.numeric.RealType;
-import net.imglib2.type.numeric.real.DoubleType;
-import net.imglib2.view.composite.Composite;
 
 import org.scijava.Priority;
 import org.scijava.plugin.Parameter;
@@ -75,50 +66,10 @@ public class LocalMeanThresholdIntegral<T extends RealType<T>> extends
 	@Parameter
 	private double c;
 
-	@SuppressWarnings("unchecked")
 	@Override
-	protected CenterAwareIntegralComputerOp<T, BitType> unaryComputer() {
-		final CenterAwareIntegralComputerOp<T, BitType> op =
-			new LocalMeanThresholdComputer<>(ops().op(IntegralMean.class,
-				DoubleType.class, RectangleNeighborhood.class));
-
-		op.setEnvironment(ops());
-		return op;
-	}
-
-	private class LocalMeanThresholdComputer<I extends RealType<I>> extends
-		AbstractBinaryComputerOp<I, RectangleNeighborhood<Composite<DoubleType>>, BitType>
-		implements CenterAwareIntegralComputerOp<I, BitType>
-	{
-
-		private final IntegralMean<DoubleType> integralMean;
-
-		public LocalMeanThresholdComputer(final IntegralMean<DoubleType> integralMean)
-		{
-			super();
-			this.integralMean = integralMean;
-		}
-
-		@Override
-		public void compute(final I center,
-			final RectangleNeighborhood<Composite<DoubleType>> neighborhood,
-			final BitType output)
-		{
-
-			final DoubleType sum = new DoubleType();
-			integralMean.compute(neighborhood, sum);
-
-			// Subtract the contrast
-			sum.sub(new DoubleType(c));
-
-			// Set value
-			final Converter<I, DoubleType> conv = new RealDoubleConverter<>();
-			final DoubleType centerPixelAsDoubleType = new DoubleType();
-			conv.convert(center, centerPixelAsDoubleType);
-
-			output.set(centerPixelAsDoubleType.compareTo(sum) > 0);
-		}
-
+	protected double threshold(final double mean, final double variance) {
+		// Subtract the contrast
+		return mean - c;
 	}
 
 	@Override
@@ -64,6 +64,7 @@ public class LocalMedianThreshold<T extends RealType<T>> extends LocalThreshold<
 		final LocalThresholdMethod<T> op = new LocalThresholdMethod<T>() {
 
 			private UnaryComputerOp<Iterable<T>, DoubleType> median;
+			private final DoubleType m = new DoubleType();
 
 			@Override
 			public void compute(final Iterable<T> neighborhood, final T center, final BitType output) {
@@ -73,10 +74,14 @@ public class LocalMedianThreshold<T extends RealType<T>> extends LocalThreshold<
 							.unary(ops(), Ops.Stats.Median.class, DoubleType.class, neighborhood);
 				}
 
-				final DoubleType m = new DoubleType();
 				median.compute(neighborhood, m);
 				output.set(center.getRealDouble() > m.getRealDouble() - c);
 			}
+
+			@Override
+			public CenterAwareComputerOp<T, BitType> getIndependentInstance() {
+				return unaryComputer(inClass, outClass);
+			}
 		};
 
 		op.setEnvironment(ops());
@@ -82,6 +82,11 @@ public class LocalMidGreyThreshold<T extends RealType<T>> extends
 
 				output.set(center.getRealDouble() > ((maxValue + minValue) / 2.0) - c);
 			}
+
+			@Override
+			public CenterAwareComputerOp<T, BitType> getIndependentInstance() {
+				return unaryComputer(inClass, outClass);
+			}
 		};
 
 		op.setEnvironment(ops());
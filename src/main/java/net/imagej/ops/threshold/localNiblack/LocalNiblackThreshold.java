@@ -71,6 +71,8 @@ public class LocalNiblackThreshold<T extends RealType<T>> extends LocalThreshold
 
 			private UnaryComputerOp<Iterable<T>, DoubleType> mean;
 			private UnaryComputerOp<Iterable<T>, DoubleType> stdDeviation;
+			private final DoubleType m = new DoubleType();
+			private final DoubleType stdDev = new DoubleType();
 
 			@Override
 			public void compute(final Iterable<T> neighborhood, final T center, final BitType output) {
@@ -85,15 +87,18 @@ public class LocalNiblackThreshold<T extends RealType<T>> extends LocalThreshold
 						new DoubleType(), neighborhood);
 				}
 
-				final DoubleType m = new DoubleType();
 				mean.compute(neighborhood, m);
 
-				final DoubleType stdDev = new DoubleType();
 				stdDeviation.compute(neighborhood, stdDev);
 
 				output.set(center.getRealDouble() > m.getRealDouble() + k * stdDev
 					.getRealDouble() - c);
 			}
+
+			@Override
+			public CenterAwareComputerOp<T, BitType> getIndependentInstance() {
+				return unaryComputer(inClass, outClass);
+			}
 		};
 
 		op.setEnvironment(ops());
@@ -94,6 +94,8 @@ public class LocalPhansalkarThreshold<T extends RealType<T>> extends
 
 			private UnaryComputerOp<Iterable<T>, DoubleType> mean;
 			private UnaryComputerOp<Iterable<T>, DoubleType> stdDeviation;
+			private final DoubleType meanValue = new DoubleType();
+			private final DoubleType stdDevValue = new DoubleType();
 
 			@Override
 			public void compute(final Iterable<T> neighborhood, final T center, final BitType output) {
@@ -108,10 +110,8 @@ public class LocalPhansalkarThreshold<T extends RealType<T>> extends
 						new DoubleType(), neighborhood);
 				}
 
-				final DoubleType meanValue = new DoubleType();
 				mean.compute(neighborhood, meanValue);
 
-				final DoubleType stdDevValue = new DoubleType();
 				stdDeviation.compute(neighborhood, stdDevValue);
 
 				double threshold = meanValue.get() * (1.0d + p * Math.exp(-q * meanValue
@@ -119,6 +119,11 @@ public class LocalPhansalkarThreshold<T extends RealType<T>> extends
 
 				output.set(center.getRealDouble() >= threshold);
 			}
+
+			@Override
+			public CenterAwareComputerOp<T, BitType> getIndependentInstance() {
+				return unaryComputer(inClass, outClass);
+			}
 		};
 
 		op.setEnvironment(ops());
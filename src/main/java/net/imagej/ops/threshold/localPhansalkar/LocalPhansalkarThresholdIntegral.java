@@ -31,19 +31,9 @@
 package net.imagej.ops.threshold.localPhansalkar;
 
 import net.imagej.ops.Ops;
-import net.imagej.ops.map.neighborhood.CenterAwareIntegralComputerOp;
-import net.imagej.ops.special.computer.AbstractBinaryComputerOp;
-import net.imagej.ops.stats.IntegralMean;
-import net.imagej.ops.stats.IntegralVariance;
 import net.imagej.ops.threshold.apply.LocalThresholdIntegral;
 import net.imglib2.RandomAccessibleInterval;
-import net.imglib2.algorithm.neighborhood.RectangleNeighborhood;
-import net.imglib2.converter.Converter;
-import net.imglib2.converter.RealDoubleConverter;
-import net.imglib2.type.logic.BitType;
 import net.imglib2.type.numeric.RealType;
-import net.imglib2.type.numeric.real.DoubleType;
-import net.imglib2.view.composite.Composite;
 
 import org.scijava.Priority;
 import org.scijava.plugin.Parameter;
@@ -81,63 +71,12 @@ public class LocalPhansalkarThresholdIntegral<T extends RealType<T>> extends
 	private final double p = 2.0;
 	private final double q = 10.0;
 
-	@SuppressWarnings("unchecked")
 	@Override
-	protected CenterAwareIntegralComputerOp<T, BitType> unaryComputer() {
-		final CenterAwareIntegralComputerOp<T, BitType> op =
-			new LocalPhansalkarThresholdComputer<>(ops().op(IntegralMean.class,
-				DoubleType.class, RectangleNeighborhood.class), ops()
-					.op(IntegralVariance.class, DoubleType.class,
-						RectangleNeighborhood.class));
-
-		op.setEnvironment(ops());
-		return op;
-	}
-
-	private class LocalPhansalkarThresholdComputer<I extends RealType<I>> extends
-		AbstractBinaryComputerOp<I, RectangleNeighborhood<Composite<DoubleType>>, BitType>
-		implements CenterAwareIntegralComputerOp<I, BitType>
-	{
-
-		private final IntegralMean<DoubleType> integralMean;
-		private final IntegralVariance<DoubleType> integralVariance;
-
-		public LocalPhansalkarThresholdComputer(
-			final IntegralMean<DoubleType> integralMean,
-			final IntegralVariance<DoubleType> integralVariance)
-		{
-			super();
-			this.integralMean = integralMean;
-			this.integralVariance = integralVariance;
-		}
-
-		@Override
-		public void compute(final I center,
-			final RectangleNeighborhood<Composite<DoubleType>> neighborhood,
-			final BitType output)
-		{
-
-			final DoubleType mean = new DoubleType();
-			integralMean.compute(neighborhood, mean);
-
-			final DoubleType variance = new DoubleType();
-			integralVariance.compute(neighborhood, variance);
-
-			final DoubleType stdDev = new DoubleType(Math.sqrt(variance.get()));
-
-			final DoubleType threshold = new DoubleType(mean.getRealDouble() * (1.0d +
-				p * Math.exp(-q * mean.getRealDouble()) + k * ((stdDev.getRealDouble() /
-					r) - 1.0)));
-
-			// Set value
-			final Converter<I, DoubleType> conv = new RealDoubleConverter<>();
-			final DoubleType centerPixelAsDoubleType = variance; // NB: Reuse
-			// DoubleType
-			conv.convert(center, centerPixelAsDoubleType);
-
-			output.set(centerPixelAsDoubleType.compareTo(threshold) > 0);
-		}
+	protected double threshold(final double mean, final double variance) {
+		final double stdDev = Math.sqrt(variance);
 
+		return mean * (1.0d + p * Math.exp(-q * mean) + k * ((stdDev / r) -
+			1.0));
 	}
 
 	@Override
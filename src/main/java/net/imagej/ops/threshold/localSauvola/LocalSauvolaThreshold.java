@@ -83,6 +83,8 @@ public class LocalSauvolaThreshold<T extends RealType<T>> extends LocalThreshold
 
 			private UnaryComputerOp<Iterable<T>, DoubleType> mean;
 			private UnaryComputerOp<Iterable<T>, DoubleType> stdDeviation;
+			private final DoubleType meanValue = new DoubleType();
+			private final DoubleType stdDevValue = new DoubleType();
 
 			@Override
 			public void compute(final Iterable<T> neighborhood, final T center, final BitType output) {
@@ -97,10 +99,8 @@ public class LocalSauvolaThreshold<T extends RealType<T>> extends LocalThreshold
 						new DoubleType(), neighborhood);
 				}
 
-				final DoubleType meanValue = new DoubleType();
 				mean.compute(neighborhood, meanValue);
 
-				final DoubleType stdDevValue = new DoubleType();
 				stdDeviation.compute(neighborhood, stdDevValue);
 
 				double threshold = meanValue.get() * (1.0d + k * ((Math.sqrt(stdDevValue
@@ -108,6 +108,11 @@ public class LocalSauvolaThreshold<T extends RealType<T>> extends LocalThreshold
 
 				output.set(center.getRealDouble() >= threshold);
 			}
+
+			@Override
+			public CenterAwareComputerOp<T, BitType> getIndependentInstance() {
+				return unaryComputer(inClass, outClass);
+			}
 		};
 
 		op.setEnvironment(ops());
@@ -32,6 +32,7 @@ package net.imagej.ops;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -42,6 +43,7 @@ import net.imglib2.type.numeric.real.DoubleType;
 
 import org.junit.Test;
 import org.scijava.ItemIO;
+import org.scijava.Priority;
 import org.scijava.module.Module;
 import org.scijava.plugin.Attr;
 import org.scijava.plugin.Parameter;
@@ -156,6 +158,35 @@ public class OpMatchingServiceTest extends AbstractOpTest {
 		}
 	}
 	
+	/** Tests that repeated matches of the same signature yield fresh ops. */
+	@Test
+	public void testResolvedMatch() {
+		final Module m1 = matcher.findMatch(ops, OpRef.create("test.nan",
+			new DoubleType(1))).getModule();
+		final Module m2 = matcher.findMatch(ops, OpRef.create("test.nan",
+			new DoubleType(2))).getModule();
+		assertSame(NaNOp.class, m1.getDelegateObject().getClass());
+		assertSame(NaNOp.class, m2.getDelegateObject().getClass());
+		assertNotSame(m1.getDelegateObject(), m2.getDelegateObject());
+		assertEquals(2.0, ((DoubleType) m2.getInput("arg")).get(), 0.0);
+	}
+
+	/**
+	 * Tests that matches which depend on the values of the arguments are not
+	 * reused for later arguments of the same class.
+	 */
+	@Test
+	public void testContingentMatch() {
+		assertSame(PositiveOp.class, ops.op("test.sign", new DoubleType(1))
+			.getClass());
+		assertSame(AnyOp.class, ops.op("test.sign", new DoubleType(-1))
+			.getClass());
+		assertSame(PositiveOp.class, ops.op("test.sign", new DoubleType(1))
+			.getClass());
+		assertSame(AnyOp.class, ops.op("test.sign", new DoubleType(-1))
+			.getClass());
+	}
+
 	@Test
 	public void testLosslessMatch() {
 		// Not implemented yet
@@ -210,6 +241,25 @@ public class OpMatchingServiceTest extends AbstractOpTest {
 		}
 	}
 
+	@Plugin(type = Op.class, name = "test.sign", priority = Priority.HIGH_PRIORITY)
+	public static class PositiveOp extends NoOp implements Contingent {
+
+		@Parameter
+		private DoubleType arg;
+
+		@Override
+		public boolean conforms() {
+			return arg.get() > 0;
+		}
+	}
+
+	@Plugin(type = Op.class, name = "test.sign")
+	public static class AnyOp extends NoOp {
+
+		@Parameter
+		private DoubleType arg;
+	}
+
 	@Plugin(type = Op.class)
 	public static class OptionalParams extends AbstractOp {
 
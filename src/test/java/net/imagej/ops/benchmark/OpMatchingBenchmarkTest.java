@@ -0,0 +1,125 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.benchmark;
+
+import static org.junit.Assert.assertEquals;
+
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.imagej.ops.OpCandidate;
+import net.imagej.ops.OpInfo;
+import net.imagej.ops.OpMatchingService;
+import net.imagej.ops.OpRef;
+import net.imagej.ops.Ops;
+import net.imglib2.img.Img;
+import net.imglib2.type.numeric.integer.ByteType;
+import net.imglib2.type.numeric.real.DoubleType;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.scijava.InstantiableException;
+
+/**
+ * Benchmarks {@link OpMatchingService#findMatch} against a linear scan over
+ * all available ops, reporting matches per second for both.
+ */
+@BenchmarkOptions(benchmarkRounds = 20, warmupRounds = 1)
+public class OpMatchingBenchmarkTest extends AbstractOpBenchmark {
+
+	private static final int MATCHES = 2000;
+
+	private List<OpRef> refs;
+
+	/** Needed for JUnit-Benchmarks */
+	@Rule
+	public TestRule benchmarkRun = new BenchmarkRule();
+
+	@Before
+	public void initRefs() {
+		final Img<ByteType> img = generateByteArrayTestImg(true, 16, 16);
+		refs = Arrays.asList( //
+			OpRef.create("math.add", new DoubleType(1), new DoubleType(2)), //
+			OpRef.create(Ops.Stats.Mean.class, img), //
+			OpRef.create("stats.max", img), //
+			OpRef.create(Ops.Create.Img.class, img));
+	}
+
+	@Test
+	public void testLinearScanMatching() {
+		final long time = System.nanoTime();
+		for (int i = 0; i < MATCHES; i++) {
+			final OpRef ref = refs.get(i % refs.size());
+			assertEquals(1, scanMatches(ref).size());
+		}
+		print("linear scan", System.nanoTime() - time);
+	}
+
+	@Test
+	public void testIndexedMatching() {
+		final long time = System.nanoTime();
+		for (int i = 0; i < MATCHES; i++) {
+			matcher.findMatch(ops, refs.get(i % refs.size()));
+		}
+		print("indexed", System.nanoTime() - time);
+	}
+
+	// -- Helper methods --
+
+	/** Matches the given ref the way it was done before ops were indexed. */
+	private List<OpCandidate> scanMatches(final OpRef ref) {
+		final ArrayList<OpCandidate> candidates = new ArrayList<>();
+		for (final OpInfo info : ops.infos()) {
+			if (!info.nameMatches(ref.getName())) continue;
+			try {
+				if (!ref.typesMatch(info.cInfo().loadClass())) continue;
+			}
+			catch (final InstantiableException exc) {
+				continue;
+			}
+			candidates.add(new OpCandidate(ops, ref, info));
+		}
+		return matcher.filterMatches(candidates);
+	}
+
+	private void print(final String name, final long nanoTime) {
+		final double perSecond = MATCHES / (nanoTime / 1e9);
+		System.out.println("[" + name + "]: " + Math.round(perSecond) +
+			" matches/s (" + asMilliSeconds(nanoTime) + "ms)");
+	}
+
+}
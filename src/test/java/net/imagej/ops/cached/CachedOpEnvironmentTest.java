@@ -31,20 +31,36 @@
 package net.imagej.ops.cached;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import java.util.ArrayList;
 
 import net.imagej.ops.AbstractOpTest;
 import net.imagej.ops.OpInfo;
 import net.imagej.ops.Ops;
+import net.imagej.ops.map.neighborhood.DefaultMapNeighborhood;
+import net.imagej.ops.special.computer.Computers;
+import net.imagej.ops.special.computer.UnaryComputerOp;
+import net.imagej.ops.special.function.AbstractBinaryFunctionOp;
+import net.imagej.ops.special.function.BinaryFunctionOp;
 import net.imagej.ops.special.function.Functions;
+import net.imagej.ops.special.function.NullaryFunctionOp;
 import net.imagej.ops.special.function.UnaryFunctionOp;
 import net.imagej.ops.special.hybrid.AbstractUnaryHybridCF;
 import net.imagej.ops.special.hybrid.Hybrids;
 import net.imagej.ops.special.hybrid.UnaryHybridCF;
+import net.imglib2.Cursor;
+import net.imglib2.Dimensions;
+import net.imglib2.FinalDimensions;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.algorithm.neighborhood.RectangleShape;
 import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.type.numeric.RealType;
 import net.imglib2.type.numeric.integer.ByteType;
 import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.type.numeric.real.FloatType;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -72,6 +88,7 @@ public class CachedOpEnvironmentTest extends AbstractOpTest {
 	public void initCustomOps() {
 		final ArrayList<OpInfo> customOps = new ArrayList<>();
 		customOps.add(new OpInfo(MyMin.class));
+		customOps.add(new OpInfo(MyAdd.class));
 
 		env = new CachedOpEnvironment(ops, customOps);
 
@@ -106,6 +123,121 @@ public class CachedOpEnvironmentTest extends AbstractOpTest {
 		assertEquals(2.0, hybrid.calculate(imgB).getRealDouble(), 0.0);
 	}
 
+	@Test
+	public void testCachingComputer() {
+		ctr = 0;
+		env.memoizeComputers(Ops.Stats.Min.class);
+		final UnaryComputerOp<Img<ByteType>, DoubleType> computer = Computers
+			.unary(env, Ops.Stats.Min.class, DoubleType.class, imgA);
+
+		// Computing it twice should copy the cached result into the output
+		final DoubleType out1 = new DoubleType();
+		final DoubleType out2 = new DoubleType();
+		computer.compute(imgA, out1);
+		computer.compute(imgA, out2);
+		assertEquals(1.0, out1.get(), 0.0);
+		assertEquals(1.0, out2.get(), 0.0);
+
+		// Should be increased
+		computer.compute(imgB, out1);
+		assertEquals(2.0, out1.get(), 0.0);
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void testFailedRestoreNoHit() {
+		env.memoizeComputers(Ops.Stats.Max.class);
+		final UnaryComputerOp max = Computers.unary(env, Ops.Stats.Max.class,
+			RealType.class, imgA);
+
+		// NB: A cached DoubleType cannot be restored into a FloatType.
+		max.compute(imgA, new DoubleType());
+		max.compute(imgA, new FloatType());
+		assertEquals(0, env.cache().getHitCount());
+
+		max.compute(imgA, new FloatType());
+		assertEquals(1, env.cache().getHitCount());
+	}
+
+	@Test
+	public void testComputerNotMemoizedByDefault() {
+		ctr = 0;
+		final UnaryComputerOp<Img<ByteType>, DoubleType> computer = Computers
+			.unary(env, Ops.Stats.Min.class, DoubleType.class, imgA);
+
+		// The input may have changed in place, so it must be recomputed
+		final DoubleType out = new DoubleType();
+		computer.compute(imgA, out);
+		assertEquals(1.0, out.get(), 0.0);
+		computer.compute(imgA, out);
+		assertEquals(2.0, out.get(), 0.0);
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void testNeighborhoodMap() {
+		// NB: Neighborhood cursors recycle their neighborhoods, so results for
+		// them must never be memoized, even if asked for.
+		env.memoizeComputers(Ops.Stats.Max.class);
+		final RectangleShape shape = new RectangleShape(1, false);
+
+		final Img<DoubleType> expected = ArrayImgs.doubles(10, 10);
+		final UnaryComputerOp max = Computers.unary(ops, Ops.Stats.Max.class,
+			DoubleType.class, Iterable.class);
+		ops.run(DefaultMapNeighborhood.class, expected, imgA, shape, max);
+
+		final Img<DoubleType> actual = ArrayImgs.doubles(10, 10);
+		final UnaryComputerOp cachedMax = Computers.unary(env,
+			Ops.Stats.Max.class, DoubleType.class, Iterable.class);
+		env.run(DefaultMapNeighborhood.class, actual, imgA, shape, cachedMax);
+
+		final Cursor<DoubleType> e = expected.cursor();
+		final Cursor<DoubleType> a = actual.cursor();
+		while (e.hasNext()) {
+			assertEquals(e.next().get(), a.next().get(), 0.0);
+		}
+	}
+
+	@Test
+	public void testCachingBinaryFunctionOp() {
+		ctr = 0;
+		final BinaryFunctionOp<Img<ByteType>, Img<ByteType>, DoubleType> binary =
+			Functions.binary(env, Ops.Math.Add.class, DoubleType.class, imgA, imgB);
+
+		// Calling it twice should result in the same result
+		assertEquals(1.0, binary.calculate(imgA, imgB).get(), 0.0);
+		assertEquals(1.0, binary.calculate(imgA, imgB).get(), 0.0);
+
+		// Should be increased
+		assertEquals(2.0, binary.calculate(imgB, imgA).get(), 0.0);
+	}
+
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void testCreateOpsNotCached() {
+		// NB: Callers fill created outputs, so they must never be shared.
+		final NullaryFunctionOp<DoubleType> createType = Functions.nullary(env,
+			Ops.Create.NativeType.class, DoubleType.class);
+		assertNotSame(createType.calculate(), createType.calculate());
+
+		final Dimensions dims = new FinalDimensions(10, 10);
+		final DoubleType type = new DoubleType();
+		final BinaryFunctionOp<Dimensions, DoubleType, Img> createImg = Functions
+			.binary(env, Ops.Create.Img.class, Img.class, dims, type);
+		assertNotSame(createImg.calculate(dims, type), createImg.calculate(dims,
+			type));
+	}
+
+	@Test
+	@SuppressWarnings("rawtypes")
+	public void testKernelsCached() {
+		final UnaryFunctionOp<double[], RandomAccessibleInterval> kernel =
+			Functions.unary(env, Ops.Create.KernelGauss.class,
+				RandomAccessibleInterval.class, double[].class, new DoubleType());
+		final double[] sigmas = { 2, 2 };
+		assertSame(kernel.calculate(sigmas), kernel.calculate(sigmas));
+	}
+
 	// some specialized ops to track number of counts
 	public static class MyMin extends AbstractUnaryHybridCF<Img<ByteType>, DoubleType>
 		implements Ops.Stats.Min
@@ -124,4 +256,19 @@ public class CachedOpEnvironmentTest extends AbstractOpTest {
 
 	}
 
+	public static class MyAdd extends
+		AbstractBinaryFunctionOp<Img<ByteType>, Img<ByteType>, DoubleType>
+		implements Ops.Math.Add
+	{
+
+		@Override
+		public DoubleType calculate(final Img<ByteType> input1,
+			final Img<ByteType> input2)
+		{
+			ctr++;
+			return new DoubleType(ctr);
+		}
+
+	}
+
 }
@@ -0,0 +1,135 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.cached;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import net.imagej.ops.cached.OpCache.EvictionPolicy;
+import net.imglib2.FinalInterval;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.view.Views;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link OpCache}.
+ */
+public class OpCacheTest {
+
+	private static final Object[] NO_ARGS = {};
+
+	@Test
+	public void testKeys() {
+		final OpCache cache = new OpCache();
+		final Img<DoubleType> in1 = ArrayImgs.doubles(10, 10);
+		final Img<DoubleType> in2 = ArrayImgs.doubles(10, 10);
+		final DoubleType out = new DoubleType(1);
+
+		cache.put(String.class, new Object[] { in1 }, new Object[] { 5,
+			new double[] { 1, 2 } }, out);
+
+		// inputs are compared by identity, arguments by value
+		assertSame(out, cache.get(String.class, new Object[] { in1 },
+			new Object[] { 5, new double[] { 1, 2 } }));
+		assertNull(cache.get(String.class, new Object[] { in2 }, new Object[] {
+			5, new double[] { 1, 2 } }));
+		assertNull(cache.get(String.class, new Object[] { in1 }, new Object[] {
+			5, new double[] { 1, 3 } }));
+		assertNull(cache.get(Integer.class, new Object[] { in1 }, new Object[] {
+			5, new double[] { 1, 2 } }));
+
+		assertEquals(1, cache.getHitCount());
+		assertEquals(3, cache.getMissCount());
+	}
+
+	@Test
+	public void testWeight() {
+		assertEquals(8 * 100, OpCache.weigh(ArrayImgs.doubles(10, 10)));
+		assertEquals(2 * 100, OpCache.weigh(ArrayImgs.unsignedShorts(10, 10)));
+		assertEquals(4 * 7, OpCache.weigh(new float[7]));
+		assertEquals(0, OpCache.weigh(Views.interval(ArrayImgs.doubles(10, 10),
+			new FinalInterval(new long[] { 5, 5 }, new long[] { 4, 4 }))));
+	}
+
+	@Test
+	public void testLRUEviction() {
+		// room for two 10x10 double images
+		final OpCache cache = new OpCache(1600, EvictionPolicy.LRU);
+		final Object[] in = { new Object(), new Object(), new Object() };
+		for (int i = 0; i < 2; i++) {
+			cache.put(String.class, new Object[] { in[i] }, NO_ARGS, ArrayImgs
+				.doubles(10, 10));
+		}
+		assertEquals(1600, cache.getWeight());
+
+		// touch the first entry, then add a third one
+		cache.get(String.class, new Object[] { in[0] }, NO_ARGS);
+		cache.put(String.class, new Object[] { in[2] }, NO_ARGS, ArrayImgs
+			.doubles(10, 10));
+
+		assertEquals(2, cache.size());
+		assertEquals(1, cache.getEvictionCount());
+		assertNull(cache.get(String.class, new Object[] { in[1] }, NO_ARGS));
+	}
+
+	@Test
+	public void testLFUEviction() {
+		final OpCache cache = new OpCache(1600, EvictionPolicy.LFU);
+		final Object[] in = { new Object(), new Object(), new Object() };
+		for (int i = 0; i < 2; i++) {
+			cache.put(String.class, new Object[] { in[i] }, NO_ARGS, ArrayImgs
+				.doubles(10, 10));
+		}
+
+		// use the first entry twice and the second one once
+		cache.get(String.class, new Object[] { in[0] }, NO_ARGS);
+		cache.get(String.class, new Object[] { in[0] }, NO_ARGS);
+		cache.get(String.class, new Object[] { in[1] }, NO_ARGS);
+		cache.put(String.class, new Object[] { in[2] }, NO_ARGS, ArrayImgs
+			.doubles(10, 10));
+
+		assertEquals(1, cache.getEvictionCount());
+		assertNull(cache.get(String.class, new Object[] { in[1] }, NO_ARGS));
+	}
+
+	@Test
+	public void testOversizedOutput() {
+		final OpCache cache = new OpCache(100, EvictionPolicy.LRU);
+		cache.put(String.class, new Object[] { this }, NO_ARGS, ArrayImgs.doubles(
+			10, 10));
+		assertEquals(0, cache.size());
+	}
+
+}
@@ -37,6 +37,7 @@ import net.imagej.ops.Ops;
 import net.imagej.ops.convert.clip.ClipRealTypes;
 import net.imagej.ops.convert.copy.CopyRealTypes;
 import net.imagej.ops.convert.imageType.ConvertIIs;
+import net.imagej.ops.convert.imageType.ConvertNativeImgs;
 import net.imagej.ops.convert.scale.ScaleRealTypes;
 import net.imagej.ops.special.inplace.Inplaces;
 import net.imagej.ops.special.inplace.UnaryInplaceOp;
@@ -45,8 +46,12 @@ import net.imglib2.FinalDimensions;
 import net.imglib2.IterableInterval;
 import net.imglib2.RandomAccess;
 import net.imglib2.img.Img;
+import net.imglib2.img.cell.CellImgFactory;
+import net.imglib2.img.planar.PlanarImgFactory;
 import net.imglib2.type.numeric.integer.ByteType;
 import net.imglib2.type.numeric.integer.ShortType;
+import net.imglib2.type.numeric.integer.UnsignedShortType;
+import net.imglib2.type.numeric.real.FloatType;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -111,8 +116,53 @@ public class ConvertIIsTest extends AbstractOpTest {
 		}
 	}
 
+	@Test
+	public void testScaleNativeImgs() {
+		final long[] dims = { 70, 50, 4 };
+
+		final Img<UnsignedShortType> planar =
+			new PlanarImgFactory<UnsignedShortType>().create(dims,
+				new UnsignedShortType());
+		final Img<UnsignedShortType> cell =
+			new CellImgFactory<UnsignedShortType>(16).create(dims,
+				new UnsignedShortType());
+		int i = 0;
+		final Cursor<UnsignedShortType> planarCursor = planar.localizingCursor();
+		final RandomAccess<UnsignedShortType> cellAccess = cell.randomAccess();
+		while (planarCursor.hasNext()) {
+			final int value = (i++ * 7919) % 65536;
+			planarCursor.next().set(value);
+			cellAccess.setPosition(planarCursor);
+			cellAccess.get().set(value);
+		}
+
+		assertScaledLikeConvertIIs(planar, new PlanarImgFactory<FloatType>()
+			.create(dims, new FloatType()));
+		assertScaledLikeConvertIIs(cell, new CellImgFactory<FloatType>(16).create(
+			dims, new FloatType()));
+	}
+
 	// -- Helper methods --
 
+	private void assertScaledLikeConvertIIs(final Img<UnsignedShortType> input,
+		final Img<FloatType> output)
+	{
+		ops.run(ConvertNativeImgs.class, output, input,
+			new ScaleRealTypes<UnsignedShortType, FloatType>());
+
+		final Img<FloatType> expected = ops.create().img(input, new FloatType());
+		ops.run(ConvertIIs.class, expected, input,
+			new ScaleRealTypes<UnsignedShortType, FloatType>());
+
+		final Cursor<FloatType> c = expected.localizingCursor();
+		final RandomAccess<FloatType> ra = output.randomAccess();
+		while (c.hasNext()) {
+			final float value = c.next().get();
+			ra.setPosition(c);
+			assertEquals(value, ra.get().get(), 0.0f);
+		}
+	}
+
 	private byte scale(final short value) {
 		final double norm = (value + 32768) / 65535.0;
 		return (byte) Math.round((255 * norm) - 128);
@@ -0,0 +1,101 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.copy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imglib2.Cursor;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.img.Img;
+import net.imglib2.img.cell.CellImgFactory;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test {@link CopyCellImg}
+ */
+public class CopyCellImgTest extends AbstractOpTest {
+
+	private Img<UnsignedByteType> input;
+
+	@Before
+	public void createData() {
+		input = new CellImgFactory<UnsignedByteType>(32).create(new long[] {
+			120, 100, 3 }, new UnsignedByteType());
+
+		final Random r = new Random(0xdeadbeefL);
+
+		final Cursor<UnsignedByteType> inc = input.cursor();
+
+		while (inc.hasNext()) {
+			inc.next().setReal(r.nextDouble() * 255);
+		}
+	}
+
+	@Test
+	public void copyCellImgNoOutputTest() {
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<UnsignedByteType> output =
+			(RandomAccessibleInterval<UnsignedByteType>) ops.run(CopyCellImg.class,
+				input);
+
+		final Cursor<UnsignedByteType> inc = input.localizingCursor();
+		final RandomAccess<UnsignedByteType> outRA = output.randomAccess();
+
+		while (inc.hasNext()) {
+			inc.fwd();
+			outRA.setPosition(inc);
+			assertEquals(inc.get().get(), outRA.get().get());
+		}
+	}
+
+	@Test
+	public void copyCellImgWithOutputTest() {
+		final Img<UnsignedByteType> output = input.factory().create(input, input
+			.firstElement());
+
+		ops.run(CopyCellImg.class, output, input);
+
+		final Cursor<UnsignedByteType> inc = input.cursor();
+		final Cursor<UnsignedByteType> outc = output.cursor();
+
+		while (inc.hasNext()) {
+			assertTrue(outc.next().equals(inc.next()));
+		}
+	}
+}
@@ -32,18 +32,30 @@ package net.imagej.ops.create;
 
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.Random;
 
 import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.OpMatchingService;
+import net.imagej.ops.OpService;
 import net.imagej.ops.create.img.CreateImgFromDimsAndType;
 import net.imagej.ops.create.img.CreateImgFromImg;
 import net.imagej.ops.create.img.CreateImgFromInterval;
+import net.imagej.ops.create.imgFactory.BufferImgFactory;
+import net.imagej.ops.create.imgFactory.DefaultImgStorageService;
+import net.imagej.ops.create.imgFactory.ImgStorageService;
 import net.imglib2.Dimensions;
 import net.imglib2.FinalDimensions;
 import net.imglib2.FinalInterval;
 import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImg;
 import net.imglib2.img.array.ArrayImgFactory;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.img.basictypeaccess.array.ArrayDataAccess;
 import net.imglib2.img.cell.CellImgFactory;
 import net.imglib2.img.planar.PlanarImgs;
 import net.imglib2.type.logic.BitType;
@@ -57,7 +69,11 @@ import net.imglib2.util.Intervals;
 import net.imglib2.view.IntervalView;
 import net.imglib2.view.Views;
 
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.scijava.Context;
+import org.scijava.cache.CacheService;
 
 /**
  * Tests several ways to create an image
@@ -70,6 +86,15 @@ public class CreateImgTest extends AbstractOpTest {
 
 	private static final int TEST_SIZE = 100;
 
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Override
+	protected Context createContext() {
+		return new Context(OpService.class, OpMatchingService.class,
+			CacheService.class, ImgStorageService.class);
+	}
+
 	@Test
 	public void testImageMinimum() {
 
@@ -258,4 +283,76 @@ public class CreateImgTest extends AbstractOpTest {
 		}
 	}
 
+	@Test
+	public void testOffHeapStorage() throws IOException {
+		final File directory = temporaryFolder.newFolder();
+		final ImgStorageService storage = context.service(
+			ImgStorageService.class);
+		storage.setThreshold(1000);
+		storage.setDirectory(directory);
+		for (final ImgStorageService.Mode m : ImgStorageService.Mode.values()) {
+			storage.setMode(m);
+
+			final Img<FloatType> small = ops.create().img(new FinalDimensions(10,
+				10), new FloatType());
+			assertTrue(((ArrayImg<?, ?>) small)
+				.update(null) instanceof ArrayDataAccess);
+
+			final Img<FloatType> large = ops.create().img(new FinalDimensions(20,
+				30, 4), new FloatType());
+			assertEquals(m == ImgStorageService.Mode.HEAP, ((ArrayImg<?, ?>) large)
+				.update(null) instanceof ArrayDataAccess);
+
+			// values are kept, and copies honor the policy as well
+			float value = 0;
+			for (final FloatType t : large) {
+				assertEquals(0, t.get(), 0);
+				t.set(value++);
+			}
+			final Img<FloatType> copy = ops.copy().img(large);
+			assertEquals(m == ImgStorageService.Mode.HEAP, ((ArrayImg<?, ?>) copy)
+				.update(null) instanceof ArrayDataAccess);
+			value = 0;
+			for (final FloatType t : copy) {
+				assertEquals(value++, t.get(), 0);
+			}
+
+			// no temporary file survives the image creation
+			assertEquals(0, directory.listFiles().length);
+		}
+	}
+
+	@Test
+	public void testInvalidImgStorageProperties() {
+		System.setProperty(DefaultImgStorageService.MODE_PROPERTY, "disk");
+		System.setProperty(DefaultImgStorageService.THRESHOLD_PROPERTY, "1k");
+		final Context c = new Context(ImgStorageService.class);
+		try {
+			final ImgStorageService storage = c.service(ImgStorageService.class);
+			assertEquals(ImgStorageService.Mode.HEAP, storage.getMode());
+			assertEquals(1L << 26, storage.getThreshold());
+		}
+		finally {
+			c.dispose();
+			System.clearProperty(DefaultImgStorageService.MODE_PROPERTY);
+			System.clearProperty(DefaultImgStorageService.THRESHOLD_PROPERTY);
+		}
+	}
+
+	@Test
+	public void testCloseOffHeapStorage() throws IOException {
+		final File directory = temporaryFolder.newFolder();
+		for (final File d : new File[] { null, directory }) {
+			final Img<FloatType> img = new BufferImgFactory<FloatType>(d).create(
+				new long[] { 10, 10 }, new FloatType());
+			for (final FloatType t : img) {
+				t.set(1);
+			}
+			assertTrue(BufferImgFactory.close(img));
+			assertTrue(BufferImgFactory.close(img));
+			assertEquals(0, directory.listFiles().length);
+		}
+		assertFalse(BufferImgFactory.close(ArrayImgs.floats(10, 10)));
+	}
+
 }
@@ -31,15 +31,25 @@
 package net.imagej.ops.deconvolve;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
 
 import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.deconvolve.accelerate.VectorAccelerator;
 import net.imagej.ops.filter.convolve.ConvolveFFTF;
+import net.imagej.ops.special.inplace.Inplaces;
+import net.imagej.ops.special.inplace.UnaryInplaceOp;
 import net.imglib2.Cursor;
 import net.imglib2.Point;
 import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.algorithm.region.hypersphere.HyperSphere;
 import net.imglib2.img.Img;
 import net.imglib2.img.array.ArrayImgFactory;
+import net.imglib2.img.cell.CellImg;
+import net.imglib2.img.cell.CellImgFactory;
+import net.imglib2.img.planar.PlanarImgFactory;
 import net.imglib2.outofbounds.OutOfBoundsConstantValueFactory;
 import net.imglib2.type.numeric.real.FloatType;
 import net.imglib2.util.Util;
@@ -92,6 +102,139 @@ public class DeconvolveTest extends AbstractOpTest {
 		}
 	}
 
+	@Test
+	public void testDeconvolveTiled() {
+		int[] size = new int[] { 225, 167 };
+		int[] kernelSize = new int[] { 27, 39 };
+
+		Img<FloatType> in = new ArrayImgFactory<FloatType>().create(size,
+			new FloatType());
+		placeSphereInCenter(in);
+
+		Img<FloatType> kernel = new ArrayImgFactory<FloatType>().create(kernelSize,
+			new FloatType());
+		placeSphereInCenter(kernel);
+
+		@SuppressWarnings("unchecked")
+		final Img<FloatType> convolved = (Img<FloatType>) ops.run(
+			ConvolveFFTF.class, in, kernel);
+
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<FloatType> whole =
+			(RandomAccessibleInterval<FloatType>) ops.run(RichardsonLucyF.class,
+				convolved, kernel, 10);
+
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<FloatType> tiled =
+			(RandomAccessibleInterval<FloatType>) ops.run(RichardsonLucyTiled.class,
+				convolved, kernel, 10, new long[] { 128, 128 });
+
+		assertTrue(tiled instanceof CellImg);
+		assertEquals(size[0], tiled.dimension(0));
+		assertEquals(size[1], tiled.dimension(1));
+
+		float max = 0;
+		float maxDifference = 0;
+		final Cursor<FloatType> wholeCursor = Views.flatIterable(whole).cursor();
+		final Cursor<FloatType> tiledCursor = Views.flatIterable(tiled).cursor();
+		while (wholeCursor.hasNext()) {
+			final float w = wholeCursor.next().get();
+			max = Math.max(max, Math.abs(w));
+			maxDifference = Math.max(maxDifference, Math.abs(w - tiledCursor.next()
+				.get()));
+		}
+
+		// documented tolerance: 1% of the maximum of the whole-image result
+		assertTrue(max > 0);
+		assertTrue(maxDifference <= 0.01f * max);
+	}
+
+	@Test
+	public void testDeconvolveTiledIntoGivenOutput() {
+		int[] size = new int[] { 225, 167 };
+		int[] kernelSize = new int[] { 27, 39 };
+
+		Img<FloatType> in = new ArrayImgFactory<FloatType>().create(size,
+			new FloatType());
+		placeSphereInCenter(in);
+
+		Img<FloatType> kernel = new ArrayImgFactory<FloatType>().create(kernelSize,
+			new FloatType());
+		placeSphereInCenter(kernel);
+
+		@SuppressWarnings("unchecked")
+		final Img<FloatType> convolved = (Img<FloatType>) ops.run(
+			ConvolveFFTF.class, in, kernel);
+
+		@SuppressWarnings("unchecked")
+		final RandomAccessibleInterval<FloatType> whole =
+			(RandomAccessibleInterval<FloatType>) ops.run(RichardsonLucyF.class,
+				convolved, kernel, 10);
+
+		// blocks are enlarged to whole cells of the given output
+		final Img<FloatType> out = new CellImgFactory<FloatType>(50).create(size,
+			new FloatType());
+		final Object result = ops.run(RichardsonLucyTiled.class, convolved, kernel,
+			10, new long[] { 128, 128 }, null, Runtime.getRuntime().maxMemory() / 2,
+			null, null, false, false, out);
+		assertSame(out, result);
+
+		float max = 0;
+		float maxDifference = 0;
+		final Cursor<FloatType> wholeCursor = Views.flatIterable(whole).cursor();
+		final Cursor<FloatType> outCursor = Views.flatIterable(out).cursor();
+		while (wholeCursor.hasNext()) {
+			final float w = wholeCursor.next().get();
+			max = Math.max(max, Math.abs(w));
+			maxDifference = Math.max(maxDifference, Math.abs(w - outCursor.next()
+				.get()));
+		}
+		assertTrue(max > 0);
+		assertTrue(maxDifference <= 0.01f * max);
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void testVectorAcceleratorPrimitivePath() {
+		final long[] size = new long[] { 64, 48 };
+
+		// the array image is swept over its float[], the planar one via cursors
+		final Img<FloatType> array = new ArrayImgFactory<FloatType>().create(size,
+			new FloatType());
+		final Img<FloatType> planar = new PlanarImgFactory<FloatType>().create(
+			size, new FloatType());
+
+		final UnaryInplaceOp<Img<FloatType>, Img<FloatType>> arrayAccelerator =
+			(UnaryInplaceOp) Inplaces.unary(ops, VectorAccelerator.class, array);
+		final UnaryInplaceOp<Img<FloatType>, Img<FloatType>> planarAccelerator =
+			(UnaryInplaceOp) Inplaces.unary(ops, VectorAccelerator.class, planar);
+
+		final Random random = new Random(0xdeadbeefL);
+		for (int iteration = 0; iteration < 6; iteration++) {
+			// a slowly converging sequence of estimates
+			final Cursor<FloatType> arrayCursor = Views.flatIterable(array).cursor();
+			final Cursor<FloatType> planarCursor = Views.flatIterable(planar)
+				.cursor();
+			while (arrayCursor.hasNext()) {
+				arrayCursor.fwd();
+				final float value = 1f + (float) arrayCursor.getIntPosition(0) /
+					(iteration + 1) + 0.01f * random.nextFloat();
+				arrayCursor.get().set(value);
+				planarCursor.next().set(value);
+			}
+
+			arrayAccelerator.mutate(array);
+			planarAccelerator.mutate(planar);
+
+			final Cursor<FloatType> expected = Views.flatIterable(planar).cursor();
+			for (final FloatType actual : Views.flatIterable(array)) {
+				final float value = expected.next().get();
+				assertTrue(actual.get() >= 0.0001f);
+				assertEquals(value, actual.get(), 1e-4f * Math.abs(value));
+			}
+		}
+	}
+
 	// utility to place a small sphere at the center of the image
 	private void placeSphereInCenter(Img<FloatType> img) {
 
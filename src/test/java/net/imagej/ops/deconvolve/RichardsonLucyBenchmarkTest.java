@@ -0,0 +1,103 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.deconvolve;
+
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+
+import net.imagej.ops.benchmark.AbstractOpBenchmark;
+import net.imagej.ops.filter.convolve.ConvolveFFTF;
+import net.imglib2.Point;
+import net.imglib2.algorithm.region.hypersphere.HyperSphere;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgFactory;
+import net.imglib2.type.numeric.real.FloatType;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Benchmarks 100 iterations of Richardson-Lucy deconvolution on a 512x512
+ * image.
+ *
+ * @see RichardsonLucyF
+ */
+@BenchmarkOptions(benchmarkRounds = 5, warmupRounds = 1)
+public class RichardsonLucyBenchmarkTest extends AbstractOpBenchmark {
+
+	private Img<FloatType> in;
+	private Img<FloatType> kernel;
+
+	/** Needed for JUnit-Benchmarks */
+	@Rule
+	public TestRule benchmarkRun = new BenchmarkRule();
+
+	/** Sets up test images */
+	@Before
+	@SuppressWarnings("unchecked")
+	public void initImg() {
+		final Img<FloatType> spheres = new ArrayImgFactory<FloatType>().create(
+			new long[] { 512, 512 }, new FloatType());
+		for (int i = 1; i < 8; i++) {
+			placeSphere(spheres, 64 * i, 64 * i, 3 + i);
+		}
+
+		kernel = new ArrayImgFactory<FloatType>().create(new long[] { 31, 31 },
+			new FloatType());
+		placeSphere(kernel, 15, 15, 5);
+
+		in = (Img<FloatType>) ops.run(ConvolveFFTF.class, spheres, kernel);
+	}
+
+	@Test
+	public void richardsonLucy100() {
+		ops.run(RichardsonLucyF.class, in, kernel, 100);
+	}
+
+	@Test
+	public void richardsonLucyAccelerated100() {
+		ops.run(RichardsonLucyF.class, in, kernel, null, null, null, null, null,
+			100, false, true);
+	}
+
+	private void placeSphere(final Img<FloatType> img, final long x,
+		final long y, final long radius)
+	{
+		final HyperSphere<FloatType> hyperSphere = new HyperSphere<>(img,
+			new Point(x, y), radius);
+		for (final FloatType value : hyperSphere) {
+			value.setReal(1);
+		}
+	}
+
+}
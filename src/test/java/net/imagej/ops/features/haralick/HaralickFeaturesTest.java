@@ -0,0 +1,104 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.features.haralick;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+
+import net.imagej.ops.Ops;
+import net.imagej.ops.features.AbstractFeatureTest;
+import net.imagej.ops.image.cooccurrenceMatrix.MatrixOrientation2D;
+import net.imglib2.type.numeric.real.DoubleType;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link DefaultHaralickFeatures}.
+ */
+public class HaralickFeaturesTest extends AbstractFeatureTest {
+
+	@Test
+	public void testFeaturesMatchSingleFeatures() {
+		final int numGreyLevels = 8;
+		final int distance = 1;
+		final MatrixOrientation2D orientation = MatrixOrientation2D.HORIZONTAL;
+
+		final Map<String, DoubleType> features = ops.haralick().features(random,
+			numGreyLevels, distance, orientation);
+		assertEquals(17, features.size());
+
+		final HaralickNamespace haralick = ops.haralick();
+		assertFeature(features, Ops.Haralick.ASM.NAME, haralick.asm(random,
+			numGreyLevels, distance, orientation));
+		assertFeature(features, Ops.Haralick.ClusterPromenence.NAME, haralick
+			.clusterPromenence(random, numGreyLevels, distance, orientation));
+		assertFeature(features, Ops.Haralick.ClusterShade.NAME, haralick
+			.clusterShade(random, numGreyLevels, distance, orientation));
+		assertFeature(features, Ops.Haralick.Contrast.NAME, haralick.contrast(
+			random, numGreyLevels, distance, orientation));
+		assertFeature(features, Ops.Haralick.Correlation.NAME, haralick
+			.correlation(random, numGreyLevels, distance, orientation));
+		assertFeature(features, Ops.Haralick.DifferenceEntropy.NAME, haralick
+			.differenceEntropy(random, numGreyLevels, distance, orientation));
+		assertFeature(features, Ops.Haralick.DifferenceVariance.NAME, haralick
+			.differenceVariance(random, numGreyLevels, distance, orientation));
+		assertFeature(features, Ops.Haralick.Entropy.NAME, haralick.entropy(
+			random, numGreyLevels, distance, orientation));
+		assertFeature(features, Ops.Haralick.ICM1.NAME, haralick.icm1(random,
+			numGreyLevels, distance, orientation));
+		assertFeature(features, Ops.Haralick.ICM2.NAME, haralick.icm2(random,
+			numGreyLevels, distance, orientation));
+		assertFeature(features, Ops.Haralick.IFDM.NAME, haralick.ifdm(random,
+			numGreyLevels, distance, orientation));
+		assertFeature(features, Ops.Haralick.MaxProbability.NAME, haralick
+			.maxProbability(random, numGreyLevels, distance, orientation));
+		assertFeature(features, Ops.Haralick.SumAverage.NAME, haralick.sumAverage(
+			random, numGreyLevels, distance, orientation));
+		assertFeature(features, Ops.Haralick.SumEntropy.NAME, haralick.sumEntropy(
+			random, numGreyLevels, distance, orientation));
+		assertFeature(features, Ops.Haralick.SumVariance.NAME, haralick
+			.sumVariance(random, numGreyLevels, distance, orientation));
+		assertFeature(features, Ops.Haralick.TextureHomogeneity.NAME, haralick
+			.textureHomogeneity(random, numGreyLevels, distance, orientation));
+		assertFeature(features, Ops.Haralick.Variance.NAME, haralick.variance(
+			random, numGreyLevels, distance, orientation));
+	}
+
+	// -- Helper methods --
+
+	private static void assertFeature(final Map<String, DoubleType> features,
+		final String name, final DoubleType expected)
+	{
+		assertEquals(name, expected.get(), features.get(name).get(), SMALL_DELTA);
+	}
+
+}
@@ -31,16 +31,19 @@
 package net.imagej.ops.filter;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.util.ArrayList;
 import java.util.Collections;
 
 import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Op;
 import net.imagej.ops.filter.max.DefaultMaxFilter;
 import net.imagej.ops.filter.max.MaxFilterOp;
 import net.imagej.ops.filter.mean.DefaultMeanFilter;
 import net.imagej.ops.filter.mean.MeanFilterOp;
 import net.imagej.ops.filter.median.DefaultMedianFilter;
+import net.imagej.ops.filter.median.HistogramMedianFilter;
 import net.imagej.ops.filter.median.MedianFilterOp;
 import net.imagej.ops.filter.min.DefaultMinFilter;
 import net.imagej.ops.filter.min.MinFilterOp;
@@ -48,12 +51,15 @@ import net.imagej.ops.filter.sigma.DefaultSigmaFilter;
 import net.imagej.ops.filter.sigma.SigmaFilterOp;
 import net.imagej.ops.filter.variance.DefaultVarianceFilter;
 import net.imagej.ops.filter.variance.VarianceFilterOp;
+import net.imglib2.Cursor;
 import net.imglib2.algorithm.neighborhood.RectangleShape;
 import net.imglib2.algorithm.neighborhood.RectangleShape.NeighborhoodsIterableInterval;
 import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
 import net.imglib2.outofbounds.OutOfBoundsMirrorFactory;
 import net.imglib2.outofbounds.OutOfBoundsMirrorFactory.Boundary;
 import net.imglib2.type.numeric.integer.ByteType;
+import net.imglib2.type.numeric.real.FloatType;
 import net.imglib2.util.Util;
 import net.imglib2.view.Views;
 
@@ -144,6 +150,45 @@ public class NonLinearFiltersTest extends AbstractOpTest {
 		assertEquals(items.get(5).get(), out.firstElement().get());
 	}
 
+	/**
+	 * @see HistogramMedianFilter
+	 * @see DefaultMedianFilter
+	 */
+	@Test
+	public void testHistogramMedianFilter() {
+		final Img<ByteType> in3d = generateByteArrayTestImg(true, 13, 9, 7);
+		final Img<ByteType> expected = generateByteArrayTestImg(false, 13, 9, 7);
+		final Img<ByteType> actual = generateByteArrayTestImg(false, 13, 9, 7);
+		final RectangleShape shape3d = new RectangleShape(2, false);
+
+		ops.run(DefaultMedianFilter.class, expected, in3d, shape3d, oobFactory);
+		ops.run(HistogramMedianFilter.class, actual, in3d, shape3d, oobFactory);
+
+		final Cursor<ByteType> e = expected.cursor();
+		final Cursor<ByteType> a = actual.cursor();
+		while (e.hasNext()) {
+			assertEquals(e.next().get(), a.next().get());
+		}
+	}
+
+	/**
+	 * @see HistogramMedianFilter
+	 * @see DefaultMedianFilter
+	 */
+	@Test
+	public void testMedianFilterFloatFallback() {
+		final Img<FloatType> inFloat = ArrayImgs.floats(10, 10);
+		final Img<FloatType> outFloat = ArrayImgs.floats(10, 10);
+		final OutOfBoundsMirrorFactory<FloatType, Img<FloatType>> floatFactory =
+			new OutOfBoundsMirrorFactory<>(Boundary.SINGLE);
+
+		final Op op = ops.op(MedianFilterOp.class, outFloat, inFloat, shape,
+			floatFactory);
+		assertSame(DefaultMedianFilter.class, op.getClass());
+
+		ops.filter().median(outFloat, inFloat, shape);
+	}
+
 	/**
 	 * @see MinFilterOp
 	 * @see DefaultMinFilter
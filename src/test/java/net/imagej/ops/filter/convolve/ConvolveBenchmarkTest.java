@@ -0,0 +1,102 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.filter.convolve;
+
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.imagej.ops.OpMatchingService;
+import net.imagej.ops.OpService;
+import net.imagej.ops.benchmark.AbstractOpBenchmark;
+import net.imagej.ops.filter.fft.FFTCacheService;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.img.Img;
+import net.imglib2.type.numeric.real.FloatType;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+import org.scijava.Context;
+import org.scijava.cache.CacheService;
+
+/**
+ * Benchmarks convolving a stream of 64 same-sized 256x256 tiles with the same
+ * Gaussian kernel, with and without reusing the cached kernel FFT.
+ *
+ * @see FFTCacheService
+ */
+@BenchmarkOptions(benchmarkRounds = 10, warmupRounds = 1)
+public class ConvolveBenchmarkTest extends AbstractOpBenchmark {
+
+	private List<Img<FloatType>> tiles;
+	private RandomAccessibleInterval<FloatType> kernel;
+
+	/** Needed for JUnit-Benchmarks */
+	@Rule
+	public TestRule benchmarkRun = new BenchmarkRule();
+
+	@Override
+	protected Context createContext() {
+		return new Context(OpService.class, OpMatchingService.class,
+			CacheService.class, FFTCacheService.class);
+	}
+
+	/** Sets up test images */
+	@Before
+	public void initImg() {
+		tiles = new ArrayList<>();
+		for (int i = 0; i < 64; i++) {
+			tiles.add(ops.convert().float32(generateByteArrayTestImg(true, 256,
+				256)));
+		}
+		kernel = ops.create().kernelGauss(new double[] { 5, 5 }, new FloatType());
+	}
+
+	@Test
+	public void tileStreamCached() {
+		for (final Img<FloatType> tile : tiles) {
+			ops.run(ConvolveFFTF.class, tile, kernel);
+		}
+	}
+
+	@Test
+	public void tileStreamUncached() {
+		for (final Img<FloatType> tile : tiles) {
+			ops.run(ConvolveFFTF.class, tile, kernel, null, null, null, null, null,
+				false);
+		}
+	}
+
+}
@@ -35,13 +35,17 @@ import static org.junit.Assert.assertSame;
 
 import net.imagej.ops.AbstractOpTest;
 import net.imagej.ops.Op;
+import net.imagej.ops.OpMatchingService;
+import net.imagej.ops.OpService;
 import net.imagej.ops.Ops;
 import net.imagej.ops.filter.fft.CreateOutputFFTMethods;
+import net.imagej.ops.filter.fft.FFTCacheService;
 import net.imagej.ops.filter.pad.PadInputFFTMethods;
 import net.imagej.ops.filter.pad.PadShiftKernelFFTMethods;
 import net.imagej.ops.special.function.BinaryFunctionOp;
 import net.imagej.ops.special.function.Functions;
 import net.imagej.ops.special.function.UnaryFunctionOp;
+import net.imglib2.Cursor;
 import net.imglib2.Dimensions;
 import net.imglib2.FinalDimensions;
 import net.imglib2.Point;
@@ -57,12 +61,20 @@ import net.imglib2.type.numeric.real.FloatType;
 import net.imglib2.view.Views;
 
 import org.junit.Test;
+import org.scijava.Context;
+import org.scijava.cache.CacheService;
 
 /**
  * Tests involving convolvers.
  */
 public class ConvolveTest extends AbstractOpTest {
 
+	@Override
+	protected Context createContext() {
+		return new Context(OpService.class, OpMatchingService.class,
+			CacheService.class, FFTCacheService.class);
+	}
+
 	/** Tests that the correct convolver is selected when using a small kernel. */
 	@Test
 	public void testConvolveMethodSelection() {
@@ -214,6 +226,52 @@ public class ConvolveTest extends AbstractOpTest {
 		assertEquals(size[0], out2.dimension(0));
 	}
 
+	/** tests that repeated convolutions with the same kernel share its FFT */
+	@Test
+	public void testConvolveKernelFFTCache() {
+		final FFTCacheService fftCache = context.service(FFTCacheService.class);
+
+		final Img<FloatType> in = new ArrayImgFactory<FloatType>().create(
+			new int[] { 100, 80 }, new FloatType());
+		placeSphereInCenter(in);
+
+		final Img<FloatType> kernel = new ArrayImgFactory<FloatType>().create(
+			new int[] { 15, 15 }, new FloatType());
+		placeSphereInCenter(kernel);
+
+		@SuppressWarnings("unchecked")
+		final Img<FloatType> first = (Img<FloatType>) ops.run(ConvolveFFTF.class,
+			in, kernel);
+
+		final long hits = fftCache.kernelFFTs().getHitCount();
+		assertEquals(1, fftCache.kernelFFTs().size());
+
+		// the same kernel hits the cache and gives the same result
+		@SuppressWarnings("unchecked")
+		final Img<FloatType> second = (Img<FloatType>) ops.run(ConvolveFFTF.class,
+			in, kernel);
+
+		assertEquals(hits + 1, fftCache.kernelFFTs().getHitCount());
+		final Cursor<FloatType> firstCursor = first.cursor();
+		final Cursor<FloatType> secondCursor = second.cursor();
+		while (firstCursor.hasNext()) {
+			assertEquals(firstCursor.next().get(), secondCursor.next().get(), 0.0f);
+		}
+
+		// the cache can be bypassed
+		ops.run(ConvolveFFTF.class, in, kernel, null, null, null, null, null,
+			false);
+
+		assertEquals(hits + 1, fftCache.kernelFFTs().getHitCount());
+
+		// a kernel modified in place does not hit
+		kernel.firstElement().set(1);
+		ops.run(ConvolveFFTF.class, in, kernel);
+
+		assertEquals(hits + 1, fftCache.kernelFFTs().getHitCount());
+		assertEquals(2, fftCache.kernelFFTs().size());
+	}
+
 	// utility to place a small sphere at the center of the image
 	private void placeSphereInCenter(Img<FloatType> img) {
 
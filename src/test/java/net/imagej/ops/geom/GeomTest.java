@@ -31,6 +31,7 @@
 package net.imagej.ops.geom;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import net.imagej.ops.Ops;
 import net.imagej.ops.features.AbstractFeatureTest;
@@ -45,13 +46,20 @@ import net.imagej.ops.geom.geom3d.DefaultSpareness;
 import net.imagej.ops.geom.geom3d.DefaultSphericity;
 import net.imagej.ops.geom.geom3d.DefaultSurfaceArea;
 import net.imagej.ops.geom.geom3d.DefaultSurfacePixelCount;
+import net.imagej.ops.geom.geom3d.IndexedMarchingCubes;
 import net.imagej.ops.geom.geom3d.RugosityMesh;
 import net.imagej.ops.geom.geom3d.SizeConvexHullMesh;
 import net.imagej.ops.geom.geom3d.SolidityMesh;
+import net.imagej.ops.geom.geom3d.mesh.DefaultVolume;
+import net.imagej.ops.geom.geom3d.mesh.IndexedMesh;
 import net.imagej.ops.geom.geom3d.mesh.Mesh;
+import net.imglib2.Cursor;
+import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.RealPoint;
 import net.imglib2.roi.labeling.LabelRegion;
+import net.imglib2.type.logic.BitType;
 import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.view.Views;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -235,4 +243,42 @@ public class GeomTest extends AbstractFeatureTest {
 			DefaultSpareness.class, region3D)).get(), AbstractFeatureTest.BIG_DELTA);
 	}
 
+	@Test
+	public void testIndexedMarchingCubes() {
+		final Mesh indexed = (Mesh) ops.run(IndexedMarchingCubes.class, region3D);
+		assertEquals(mesh.getFacets().size(), indexed.getFacets().size());
+		assertEquals(mesh.getVertices().size(), indexed.getVertices().size());
+		assertEquals(((DoubleType) ops.run(DefaultSurfacePixelCount.class, mesh))
+			.get(), ((DoubleType) ops.run(DefaultSurfacePixelCount.class, indexed))
+				.get(), 0);
+		assertEquals(((DoubleType) ops.run(DefaultSurfaceArea.class, mesh)).get(),
+			((DoubleType) ops.run(DefaultSurfaceArea.class, indexed)).get(),
+			AbstractFeatureTest.BIG_DELTA);
+		assertEquals(((DoubleType) ops.run(DefaultVolume.class, mesh)).get(),
+			((DoubleType) ops.run(DefaultVolume.class, indexed)).get(),
+			AbstractFeatureTest.BIG_DELTA);
+	}
+
+	@Test
+	public void testVoxelizationOfMarchingCubes() {
+		final Mesh indexed = ops.geom().marchingCubes(region3D);
+		assertTrue(indexed instanceof IndexedMesh);
+		final RandomAccessibleInterval<BitType> expected = ops.geom()
+			.voxelization(mesh, 20, 20, 20);
+		final RandomAccessibleInterval<BitType> actual = ops.geom().voxelization(
+			indexed, 20, 20, 20);
+		final Cursor<BitType> e = Views.flatIterable(expected).cursor();
+		final Cursor<BitType> a = Views.flatIterable(actual).cursor();
+		// the indexed mesh keeps its vertices in single precision, so voxels
+		// touched by a facet at the very edge may differ
+		long count = 0;
+		long differences = 0;
+		while (e.hasNext()) {
+			if (e.next().get()) count++;
+			if (e.get().get() != a.next().get()) differences++;
+		}
+		assertTrue(count > 0);
+		assertTrue(differences <= count / 100);
+	}
+
 }
@@ -3,10 +3,13 @@ package net.imagej.ops.geom;
 import static org.junit.Assert.assertEquals;
 
 import java.util.List;
+import java.util.Random;
 
 import net.imagej.ops.Ops;
 import net.imagej.ops.Ops.Geometric.BoundarySizeConvexHull;
 import net.imagej.ops.features.AbstractFeatureTest;
+import net.imagej.ops.geom.geom2d.Calipers;
+import net.imagej.ops.geom.geom2d.CalipersSmallestEnclosingRectangle;
 import net.imagej.ops.geom.geom2d.DefaultBoundingBox;
 import net.imagej.ops.geom.geom2d.DefaultBoxivityPolygon;
 import net.imagej.ops.geom.geom2d.DefaultCircularity;
@@ -17,8 +20,10 @@ import net.imagej.ops.geom.geom2d.DefaultEccentricity;
 import net.imagej.ops.geom.geom2d.DefaultElongation;
 import net.imagej.ops.geom.geom2d.DefaultFeretsDiameterForAngle;
 import net.imagej.ops.geom.geom2d.DefaultMajorAxis;
+import net.imagej.ops.geom.geom2d.DefaultMaximumFeret;
 import net.imagej.ops.geom.geom2d.DefaultMaximumFeretAngle;
 import net.imagej.ops.geom.geom2d.DefaultMaximumFeretDiameter;
+import net.imagej.ops.geom.geom2d.DefaultMinimumFeret;
 import net.imagej.ops.geom.geom2d.DefaultMinimumFeretAngle;
 import net.imagej.ops.geom.geom2d.DefaultMinimumFeretDiameter;
 import net.imagej.ops.geom.geom2d.DefaultMinorAxis;
@@ -32,11 +37,19 @@ import net.imagej.ops.geom.geom2d.DefaultSizeConvexHullPolygon;
 import net.imagej.ops.geom.geom2d.DefaultSolidityPolygon;
 import net.imagej.ops.geom.geom2d.DefaultVerticesCountConvexHullPolygon;
 import net.imagej.ops.geom.geom2d.DefaultVerticesCountPolygon;
+import net.imagej.ops.geom.geom2d.LabelingContours;
+import net.imglib2.RandomAccess;
 import net.imglib2.RealLocalizable;
 import net.imglib2.RealPoint;
+import net.imglib2.img.array.ArrayImgs;
 import net.imglib2.roi.geometric.Polygon;
+import net.imglib2.roi.labeling.ImgLabeling;
 import net.imglib2.roi.labeling.LabelRegion;
+import net.imglib2.roi.labeling.LabelRegions;
+import net.imglib2.roi.labeling.LabelingType;
+import net.imglib2.type.numeric.integer.IntType;
 import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.util.Pair;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -114,6 +127,38 @@ public class PolygonFeatureTests extends AbstractFeatureTest {
 		}
 	}
 
+	@Test
+	public void contours() {
+		final ImgLabeling<String, IntType> labeling = new ImgLabeling<>(ArrayImgs.ints(40, 30));
+		final RandomAccess<LabelingType<String>> ra = labeling.randomAccess();
+		final Random random = new Random(42);
+		for (int i = 0; i < 600; i++) {
+			ra.setPosition(new long[] { random.nextInt(40), random.nextInt(30) });
+			ra.get().add("" + random.nextInt(4));
+		}
+		// a region touching the border
+		for (int x = 0; x < 10; x++) {
+			ra.setPosition(new long[] { x, 29 });
+			ra.get().add("border");
+		}
+
+		final LabelingContours<String> contours = ops.geom().contours(labeling);
+		final LabelRegions<String> regions = new LabelRegions<>(labeling);
+		assertEquals(regions.getExistingLabels().size(), contours.getLabels().size());
+		for (final String label : contours.getLabels()) {
+			final List<? extends RealLocalizable> expected = ((Polygon) ops.run(DefaultContour.class,
+					regions.getLabelRegion(label), true)).getVertices();
+			final List<? extends RealLocalizable> received = contours.getPolygon(label).getVertices();
+			assertEquals("Number of polygon points differs.", expected.size(), received.size());
+			for (int i = 0; i < expected.size(); i++) {
+				assertEquals("Polygon point " + i + " differs in x-coordinate.", expected.get(i).getDoublePosition(0),
+						received.get(i).getDoublePosition(0), EPSILON);
+				assertEquals("Polygon point " + i + " differs in y-coordinate.", expected.get(i).getDoublePosition(1),
+						received.get(i).getDoublePosition(1), EPSILON);
+			}
+		}
+	}
+
 	@Test
 	public void convexHull2D() {
 		// ground truth computed with matlab
@@ -248,6 +293,38 @@ public class PolygonFeatureTests extends AbstractFeatureTest {
 		}
 	}
 
+	@Test
+	public void smallestEnclosingRectangleCalipers() {
+		final List<? extends RealLocalizable> expected = ((Polygon) ops.run(
+			DefaultSmallestEnclosingRectangle.class, contour)).getVertices();
+		final List<? extends RealLocalizable> received = ((Polygon) ops.run(
+			CalipersSmallestEnclosingRectangle.class, contour)).getVertices();
+		assertEquals("Number of polygon points differs.", expected.size(), received.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals("Polygon point " + i + " differs in x-coordinate.", expected.get(i).getDoublePosition(0),
+					received.get(i).getDoublePosition(0), EPSILON);
+			assertEquals("Polygon point " + i + " differs in y-coordinate.", expected.get(i).getDoublePosition(1),
+					received.get(i).getDoublePosition(1), EPSILON);
+		}
+	}
+
+	@Test
+	public void rotatingCalipers() {
+		final Calipers calipers = ops.geom().rotatingCalipers(contour);
+		assertFeret(ops.run(DefaultMaximumFeret.class, contour), calipers.getMaximumFeret());
+		assertFeret(ops.run(DefaultMinimumFeret.class, contour), calipers.getMinimumFeret());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void assertFeret(final Object expected, final Pair<RealLocalizable, RealLocalizable> received) {
+		assertEquals(length((Pair<RealLocalizable, RealLocalizable>) expected), length(received), EPSILON);
+	}
+
+	private static double length(final Pair<RealLocalizable, RealLocalizable> pair) {
+		return Math.hypot(pair.getA().getDoublePosition(0) - pair.getB().getDoublePosition(0),
+				pair.getA().getDoublePosition(1) - pair.getB().getDoublePosition(1));
+	}
+
 	@Test
 	public void rugosity() {
 		assertEquals(Ops.Geometric.Rugosity.NAME, 0.773585391928,
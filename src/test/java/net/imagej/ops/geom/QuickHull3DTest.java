@@ -39,8 +39,10 @@ import java.util.Random;
 
 import net.imagej.ops.AbstractOpTest;
 import net.imagej.ops.geom.geom3d.DefaultConvexHull3D;
+import net.imagej.ops.geom.geom3d.QuickHull3D;
 import net.imagej.ops.geom.geom3d.mesh.DefaultMesh;
 import net.imagej.ops.geom.geom3d.mesh.Facet;
+import net.imagej.ops.geom.geom3d.mesh.IndexedMesh;
 import net.imagej.ops.geom.geom3d.mesh.TriangularFacet;
 import net.imagej.ops.geom.geom3d.mesh.Vertex;
 import net.imglib2.RealLocalizable;
@@ -227,6 +229,32 @@ public class QuickHull3DTest extends AbstractOpTest {
 		assertEquals(20, convexHull.getVertices().size());
 	}
 
+	@Test
+	public void quickhull_indexed_100_000_Test() {
+		final Random r = new Random(20150818);
+		final float[] vertices = new float[3 * 100000];
+		for (int i = 0; i < vertices.length; i++) {
+			vertices[i] = (float) r.nextDouble();
+		}
+
+		final IndexedMesh convexHull = (IndexedMesh) ops.run(QuickHull3D.class,
+			new IndexedMesh(vertices, new int[0]));
+		assertTrue(isConvex(convexHull.getFacets(), 1e-10));
+		assertEquals(175, convexHull.getVertexCount());
+		assertEquals(2 * 175 - 4, convexHull.getTriangleCount());
+	}
+
+	@Test
+	public void quickhull_indexed_4_Test() {
+		final float[] vertices = { 0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 1, 0 };
+
+		final IndexedMesh convexHull = (IndexedMesh) ops.run(QuickHull3D.class,
+			new IndexedMesh(vertices, new int[0]));
+		assertTrue(isConvex(convexHull.getFacets(), 1e-10));
+		assertEquals(4, convexHull.getVertexCount());
+		assertEquals(1 / 6.0, convexHull.getVolume(), 1e-10);
+	}
+
 	/**
 	 * Checks for each centroid of each facet if the centroid is behind all other
 	 * facets.
@@ -0,0 +1,106 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.image.cooccurrenceMatrix;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imglib2.img.Img;
+import net.imglib2.type.numeric.integer.ByteType;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link DefaultCooccurrenceMatrix} and
+ * {@link DefaultSparseCooccurrenceMatrix}.
+ */
+public class CooccurrenceMatrixTest extends AbstractOpTest {
+
+	@Test
+	public void testDefault2D() {
+		final Img<ByteType> img = generateByteArrayTestImg(true, 23, 17);
+		for (final MatrixOrientation2D orientation : MatrixOrientation2D
+			.values())
+		{
+			final double[][] expected = (double[][]) ops.run(
+				CooccurrenceMatrix2D.class, img, 8, 2, orientation);
+			final double[][] actual = (double[][]) ops.run(
+				DefaultCooccurrenceMatrix.class, img, 8, 2, orientation);
+			assertMatrixEquals(expected, actual);
+		}
+	}
+
+	@Test
+	public void testDefault3D() {
+		final Img<ByteType> img = generateByteArrayTestImg(true, 13, 11, 7);
+		for (final MatrixOrientation3D orientation : MatrixOrientation3D
+			.values())
+		{
+			final double[][] expected = (double[][]) ops.run(
+				CooccurrenceMatrix3D.class, img, 8, 1, orientation);
+			final double[][] actual = (double[][]) ops.run(
+				DefaultCooccurrenceMatrix.class, img, 8, 1, orientation);
+			assertMatrixEquals(expected, actual);
+		}
+	}
+
+	@Test
+	public void testSparse() {
+		final Img<ByteType> img = generateByteArrayTestImg(true, 13, 11, 7);
+		final double[][] dense = ops.image().cooccurrenceMatrix(img, 32, 1,
+			MatrixOrientation3D.HORIZONTAL_VERTICAL);
+		final SparseMatrix sparse = ops.image().sparseCooccurrenceMatrix(img, 32,
+			1, MatrixOrientation3D.HORIZONTAL_VERTICAL);
+
+		assertEquals(32, sparse.getNrGreyLevels());
+		int nonZeros = 0;
+		for (int row = 0; row < dense.length; row++) {
+			for (int col = 0; col < dense.length; col++) {
+				assertEquals(dense[row][col], sparse.get(row, col), 1e-12);
+				if (dense[row][col] != 0) nonZeros++;
+			}
+		}
+		assertEquals(nonZeros, sparse.size());
+	}
+
+	// -- Helper methods --
+
+	private static void assertMatrixEquals(final double[][] expected,
+		final double[][] actual)
+	{
+		assertEquals(expected.length, actual.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertArrayEquals(expected[i], actual[i], 0);
+		}
+	}
+
+}
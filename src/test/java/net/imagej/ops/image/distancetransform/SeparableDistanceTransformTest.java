@@ -0,0 +1,181 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+package net.imagej.ops.image.distancetransform;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imglib2.Cursor;
+import net.imglib2.FinalInterval;
+import net.imglib2.RandomAccess;
+import net.imglib2.RandomAccessibleInterval;
+import net.imglib2.img.Img;
+import net.imglib2.type.logic.BitType;
+import net.imglib2.type.numeric.integer.LongType;
+import net.imglib2.type.numeric.real.FloatType;
+import net.imglib2.util.IntervalIndexer;
+import net.imglib2.view.Views;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link ParallelDistanceTransform}, {@link SignedDistanceTransform} and
+ * {@link FeatureTransform} against a brute force search.
+ */
+public class SeparableDistanceTransformTest extends AbstractOpTest {
+
+	private static final double EPSILON = 0.0001;
+
+	private static final double[] CALIBRATION = { 3.74, 5.19, 1.21 };
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testDistanceTransform() {
+		final Img<BitType> in = randomImg(0.7);
+
+		RandomAccessibleInterval<FloatType> out =
+			(RandomAccessibleInterval<FloatType>) ops.run(
+				ParallelDistanceTransform.class, null, in);
+		compareDistances(out, in, new double[] { 1, 1, 1 }, false);
+
+		out = (RandomAccessibleInterval<FloatType>) ops.run(
+			ParallelDistanceTransform.class, null, in, CALIBRATION);
+		compareDistances(out, in, CALIBRATION, false);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testSignedDistanceTransform() {
+		final Img<BitType> in = randomImg(0.5);
+
+		final RandomAccessibleInterval<FloatType> out =
+			(RandomAccessibleInterval<FloatType>) ops.run(
+				SignedDistanceTransform.class, null, in, CALIBRATION);
+		compareDistances(out, in, CALIBRATION, true);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testFeatureTransform() {
+		final Img<BitType> in = randomImg(0.9);
+
+		final RandomAccessibleInterval<LongType> out =
+			(RandomAccessibleInterval<LongType>) ops.run(FeatureTransform.class,
+				null, in, CALIBRATION);
+		final RandomAccessibleInterval<FloatType> distances =
+			(RandomAccessibleInterval<FloatType>) ops.run(
+				ParallelDistanceTransform.class, null, in, CALIBRATION);
+
+		// the feature is a background pixel at the distance of the transform
+		final Cursor<BitType> cursor = in.localizingCursor();
+		final RandomAccess<LongType> raOut = out.randomAccess();
+		final RandomAccess<FloatType> raDistances = distances.randomAccess();
+		final RandomAccess<BitType> raIn = in.randomAccess();
+		final long[] dims = new long[in.numDimensions()];
+		in.dimensions(dims);
+		final long[] feature = new long[dims.length];
+		while (cursor.hasNext()) {
+			cursor.fwd();
+			raOut.setPosition(cursor);
+			raDistances.setPosition(cursor);
+			IntervalIndexer.indexToPosition(raOut.get().get(), dims, feature);
+			raIn.setPosition(feature);
+			assertEquals(false, raIn.get().get());
+			double dist = 0;
+			for (int d = 0; d < dims.length; d++) {
+				final double diff = CALIBRATION[d] * (cursor.getLongPosition(d) -
+					feature[d]);
+				dist += diff * diff;
+			}
+			assertEquals(raDistances.get().get(), Math.sqrt(dist), EPSILON);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void testNoBackground() {
+		final Img<BitType> in = ops.create().img(new FinalInterval(7, 5),
+			new BitType());
+		for (final BitType b : in) {
+			b.set(true);
+		}
+
+		final RandomAccessibleInterval<LongType> out =
+			(RandomAccessibleInterval<LongType>) ops.run(FeatureTransform.class,
+				null, in);
+		for (final LongType l : Views.iterable(out)) {
+			assertEquals(-1, l.get());
+		}
+	}
+
+	private Img<BitType> randomImg(final double foreground) {
+		final Img<BitType> in = ops.create().img(new FinalInterval(15, 12, 7),
+			new BitType());
+		final Random random = new Random(0xbeefL);
+		for (final BitType b : in) {
+			b.set(random.nextDouble() < foreground);
+		}
+		return in;
+	}
+
+	/*
+	 * brute force distance to the nearest pixel of the other value
+	 */
+	private void compareDistances(final RandomAccessibleInterval<FloatType> out,
+		final Img<BitType> in, final double[] calibration, final boolean signed)
+	{
+		final Cursor<BitType> cursor = in.localizingCursor();
+		final RandomAccess<FloatType> raOut = out.randomAccess();
+		while (cursor.hasNext()) {
+			final boolean value = cursor.next().get();
+			raOut.setPosition(cursor);
+			if (!value && !signed) {
+				assertEquals(0, raOut.get().get(), EPSILON);
+				continue;
+			}
+			double min = Double.POSITIVE_INFINITY;
+			final Cursor<BitType> other = in.localizingCursor();
+			while (other.hasNext()) {
+				if (other.next().get() == value) continue;
+				double dist = 0;
+				for (int d = 0; d < calibration.length; d++) {
+					final double diff = calibration[d] * (cursor.getLongPosition(d) -
+						other.getLongPosition(d));
+					dist += diff * diff;
+				}
+				min = Math.min(min, dist);
+			}
+			assertEquals(value ? Math.sqrt(min) : -Math.sqrt(min), raOut.get()
+				.get(), EPSILON);
+		}
+	}
+}
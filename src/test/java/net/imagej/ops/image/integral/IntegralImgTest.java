@@ -29,10 +29,16 @@
  */
 package net.imagej.ops.image.integral;
 
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
 import net.imagej.ops.AbstractOpTest;
 import net.imagej.ops.Ops;
 import net.imagej.ops.threshold.apply.LocalThresholdTest;
+import net.imglib2.Cursor;
 import net.imglib2.FinalInterval;
+import net.imglib2.RandomAccess;
 import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.img.Img;
 import net.imglib2.img.array.ArrayImg;
@@ -102,6 +108,63 @@ public class IntegralImgTest extends AbstractOpTest  {
 		LocalThresholdTest.testIterableIntervalSimilarity(Views.iterable(out1), Views.iterable(Views.offsetInterval(out2, interval)));
 	}
 
+	/**
+	 * @see SquareIntegralImg
+	 */
+	@SuppressWarnings({ "unchecked" })
+	@Test
+	public void testSquareIntegralImage() {
+		final RandomAccessibleInterval<LongType> out1 =
+			(RandomAccessibleInterval<LongType>) ops.run(SquareIntegralImg.class,
+				generateKnownByteArrayTestImgLarge());
+
+		final RandomAccess<LongType> ra = out1.randomAccess();
+		ra.setPosition(new long[] { 1, 1 });
+		assertEquals(4 * 40 * 40, ra.get().get());
+		ra.setPosition(new long[] { 2, 2 });
+		assertEquals(4 * 40 * 40 + 4 * 20 * 20 + 100 * 100, ra.get().get());
+	}
+
+	/**
+	 * @see IntegralTable
+	 */
+	@Test
+	public void testIntegralTable() {
+		final long[] dims = new long[] { 11, 7, 5 };
+		final Img<DoubleType> img = ArrayImgs.doubles(dims);
+		final Random random = new Random(0xdeadbeef);
+		for (final DoubleType t : img) {
+			t.set(random.nextInt(200) - 100);
+		}
+		final RandomAccessibleInterval<DoubleType> translated = Views.translate(
+			img, -3, 2, 5);
+
+		final IntegralTable table = new IntegralTable(ops, translated, false);
+		final long[] boxMin = new long[3];
+		final long[] boxMax = new long[3];
+		for (int i = 0; i < 50; i++) {
+			for (int d = 0; d < 3; d++) {
+				final long a = random.nextInt((int) dims[d]);
+				final long b = random.nextInt((int) dims[d]);
+				boxMin[d] = translated.min(d) + Math.min(a, b);
+				boxMax[d] = translated.min(d) + Math.max(a, b);
+			}
+
+			double sum = 0;
+			double sumOfSquares = 0;
+			final Cursor<DoubleType> cursor = Views.interval(translated,
+				new FinalInterval(boxMin, boxMax)).cursor();
+			while (cursor.hasNext()) {
+				final double v = cursor.next().get();
+				sum += v;
+				sumOfSquares += v * v;
+			}
+
+			assertEquals(sum, table.sum(boxMin, boxMax), 0);
+			assertEquals(sumOfSquares, table.sumOfSquares(boxMin, boxMax), 0);
+		}
+	}
+
 	public ArrayImg<ByteType, ByteArray> generateKnownByteArrayTestImgLarge() {
 		final long[] dims = new long[] { 3, 3 };
 		final byte[] array = new byte[9];
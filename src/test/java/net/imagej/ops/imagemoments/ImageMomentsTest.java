@@ -186,4 +186,62 @@ public class ImageMomentsTest extends AbstractOpTest {
 			.run(DefaultHuMoment7.class, img)).getRealDouble(), 1e-3);
 	}
 
+	/**
+	 * Test the single-pass {@link RawMoments} against the per-moment values.
+	 */
+	@Test
+	public void testRawMoments() {
+		final RawMoments moments = (RawMoments) ops.run(
+			Ops.ImageMoments.RawMoments.class, img);
+
+		assertEquals(Ops.ImageMoments.Moment00.NAME, 1277534.0, moments
+			.getMoment00(), 1e-3);
+		assertEquals(Ops.ImageMoments.Moment10.NAME, 6.3018047E7, moments
+			.getMoment10(), 1e-3);
+		assertEquals(Ops.ImageMoments.Moment01.NAME, 6.3535172E7, moments
+			.getMoment01(), 1e-3);
+		assertEquals(Ops.ImageMoments.Moment11.NAME, 3.12877962E9, moments
+			.getMoment11(), 1e-3);
+		assertEquals(Ops.ImageMoments.CentralMoment11.NAME, -5275876.956702232,
+			moments.getCentralMoment11(), 1e-3);
+		assertEquals(Ops.ImageMoments.CentralMoment02.NAME, 1.0694469880269928E9,
+			moments.getCentralMoment02(), 1e-3);
+		assertEquals(Ops.ImageMoments.CentralMoment20.NAME, 1.0585772432642083E9,
+			moments.getCentralMoment20(), 1e-3);
+		assertEquals(Ops.ImageMoments.CentralMoment12.NAME, 5478324.271270752,
+			moments.getCentralMoment12(), 1e-3);
+		assertEquals(Ops.ImageMoments.CentralMoment21.NAME, -2.1636455685491943E8,
+			moments.getCentralMoment21(), 1e-3);
+		assertEquals(Ops.ImageMoments.CentralMoment30.NAME, 1.735560232991333E8,
+			moments.getCentralMoment30(), 1e-3);
+		assertEquals(Ops.ImageMoments.CentralMoment03.NAME, -4.0994213161157227E8,
+			moments.getCentralMoment03(), 1e-3);
+	}
+
+	/**
+	 * Test that partial {@link RawMoments} merge to the moments of the whole.
+	 */
+	@Test
+	public void testRawMomentsMerge() {
+		final RawMoments whole = new RawMoments(49.5, 49.5);
+		final RawMoments first = new RawMoments(49.5, 49.5);
+		final RawMoments second = new RawMoments(49.5, 49.5);
+
+		final Cursor<UnsignedByteType> cursor = img.localizingCursor();
+		int i = 0;
+		while (cursor.hasNext()) {
+			cursor.fwd();
+			final double x = cursor.getDoublePosition(0);
+			final double y = cursor.getDoublePosition(1);
+			final double val = cursor.get().getRealDouble();
+			whole.add(x, y, val);
+			(i++ % 3 == 0 ? first : second).add(x, y, val);
+		}
+		first.merge(second);
+
+		assertEquals(whole.getMoment11(), first.getMoment11(), 1e-3);
+		assertEquals(whole.getCentralMoment21(), first.getCentralMoment21(), 1e-3);
+		assertEquals(whole.getHuMoment1(), first.getHuMoment1(), 1e-12);
+	}
+
 }
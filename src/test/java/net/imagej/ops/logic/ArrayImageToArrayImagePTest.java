@@ -0,0 +1,80 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Ops;
+import net.imglib2.Cursor;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.img.basictypeaccess.array.ByteArray;
+import net.imglib2.img.basictypeaccess.array.LongArray;
+import net.imglib2.type.logic.BitType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link ArrayImageToArrayImageP}.
+ */
+public class ArrayImageToArrayImagePTest extends AbstractOpTest {
+
+	@Test
+	public void testGreaterThanUnsignedByte() {
+		// NB: Not a multiple of 64, so that the last word is only partially used.
+		final int size = 1000;
+		final Random random = new Random(0xdeadbeef);
+		final byte[] a = new byte[size];
+		final byte[] b = new byte[size];
+		random.nextBytes(a);
+		random.nextBytes(b);
+		final ArrayImg<UnsignedByteType, ByteArray> in1 = ArrayImgs.unsignedBytes(
+			a, size);
+		final ArrayImg<UnsignedByteType, ByteArray> in2 = ArrayImgs.unsignedBytes(
+			b, size);
+		final ArrayImg<BitType, LongArray> out = ArrayImgs.bits(size);
+
+		assertTrue(ops.op(Ops.Logic.GreaterThan.class, out, in1,
+			in2) instanceof ArrayImageToArrayImageP.GreaterThanUnsignedByte);
+		ops.run(Ops.Logic.GreaterThan.class, out, in1, in2);
+
+		final Cursor<BitType> cursor = out.cursor();
+		for (int i = 0; i < size; i++) {
+			assertEquals((a[i] & 0xff) > (b[i] & 0xff), cursor.next().get());
+		}
+	}
+
+}
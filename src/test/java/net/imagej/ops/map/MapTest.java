@@ -81,6 +81,29 @@ public class MapTest extends AbstractOpTest {
 			assertEquals(ps.get(), 0);
 	}
 
+	@Test
+	public void testIILarge() {
+		final Img<ByteType> in = generateByteArrayTestImg(true, 512, 512);
+
+		Op nullary = Computers.nullary(ops, Ops.Math.Zero.class, ByteType.class);
+		ops.run(MapNullaryII.class, in, nullary);
+
+		for (ByteType ps : in)
+			assertEquals(ps.get(), 0);
+	}
+
+	@Test
+	public void testIIToIIParallelLarge() {
+		final Img<ByteType> in = generateByteArrayTestImg(true, 512, 512);
+		final Img<ByteType> out = generateByteArrayTestImg(false, 512, 512);
+
+		sub = Computers.unary(ops, Ops.Math.Subtract.class, ByteType.class,
+			new ByteType((byte) 1));
+		ops.run(MapUnaryComputers.IIToIIParallel.class, out, in, sub);
+
+		assertImgSubOneEquals(in, out);
+	}
+
 	@Test
 	public void testIIAndIIInplace() {
 		final Img<ByteType> first = generateByteArrayTestImg(true, 10, 10);
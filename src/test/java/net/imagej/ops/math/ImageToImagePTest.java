@@ -0,0 +1,191 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.math;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Ops;
+import net.imglib2.Cursor;
+import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImg;
+import net.imglib2.img.array.ArrayImgs;
+import net.imglib2.img.basictypeaccess.array.DoubleArray;
+import net.imglib2.img.basictypeaccess.array.FloatArray;
+import net.imglib2.img.basictypeaccess.array.ShortArray;
+import net.imglib2.img.planar.PlanarImgs;
+import net.imglib2.type.numeric.integer.IntType;
+import net.imglib2.type.numeric.integer.UnsignedShortType;
+import net.imglib2.type.numeric.real.DoubleType;
+import net.imglib2.type.numeric.real.FloatType;
+
+import org.junit.Test;
+
+/**
+ * Tests {@link ArrayImageToArrayImageP}, {@link PlanarImageToPlanarImageP},
+ * {@link UnaryArrayImageP} and {@link UnaryPlanarImageP}.
+ */
+public class ImageToImagePTest extends AbstractOpTest {
+
+	@Test
+	public void testDivideUnsignedShortToFloat() {
+		final ArrayImg<UnsignedShortType, ShortArray> in1 = ArrayImgs
+			.unsignedShorts(new short[] { 1000, (short) 65535, 3 }, 3);
+		final ArrayImg<UnsignedShortType, ShortArray> in2 = ArrayImgs
+			.unsignedShorts(new short[] { 3, 2, 4 }, 3);
+		final ArrayImg<FloatType, FloatArray> out = ArrayImgs.floats(3);
+
+		assertTrue(ops.op(Ops.Math.Divide.class, out, in1,
+			in2) instanceof ArrayImageToArrayImageP.DivideUnsignedShortToFloat);
+		ops.run(Ops.Math.Divide.class, out, in1, in2);
+
+		final float[] quotients = out.update(null).getCurrentStorageArray();
+		assertEquals(1000f / 3, quotients[0], 0);
+		assertEquals(32767.5f, quotients[1], 0);
+		assertEquals(0.75f, quotients[2], 0);
+	}
+
+	@Test
+	public void testSubtractUnsignedShort() {
+		final ArrayImg<UnsignedShortType, ShortArray> in1 = ArrayImgs
+			.unsignedShorts(new short[] { 1000, (short) 65535, 3 }, 3);
+		final ArrayImg<UnsignedShortType, ShortArray> in2 = ArrayImgs
+			.unsignedShorts(new short[] { 3, 2, 4 }, 3);
+
+		@SuppressWarnings("unchecked")
+		final Img<UnsignedShortType> out = (Img<UnsignedShortType>) ops.run(
+			Ops.Math.Subtract.class, in1, in2);
+
+		final Cursor<UnsignedShortType> cursor = out.cursor();
+		assertEquals(997, cursor.next().get());
+		assertEquals(65533, cursor.next().get());
+		assertEquals(65535, cursor.next().get());
+	}
+
+	@Test
+	public void testAddPlanarImg() {
+		final Random random = new Random(0xdeadbeef);
+		final Img<IntType> in1 = PlanarImgs.ints(7, 5, 3);
+		final Img<IntType> in2 = PlanarImgs.ints(7, 5, 3);
+		for (final IntType t : in1) {
+			t.set(random.nextInt());
+		}
+		for (final IntType t : in2) {
+			t.set(random.nextInt());
+		}
+
+		assertTrue(ops.op(Ops.Math.Add.class, in1,
+			in2) instanceof PlanarImageToPlanarImageP.AddInt);
+		@SuppressWarnings("unchecked")
+		final Img<IntType> out = (Img<IntType>) ops.run(Ops.Math.Add.class, in1,
+			in2);
+
+		final Cursor<IntType> c1 = in1.cursor();
+		final Cursor<IntType> c2 = in2.cursor();
+		final Cursor<IntType> cOut = out.cursor();
+		while (cOut.hasNext()) {
+			assertEquals(c1.next().get() + c2.next().get(), cOut.next().get());
+		}
+	}
+
+	@Test
+	public void testSqrtArrayImg() {
+		final ArrayImg<DoubleType, DoubleArray> in = ArrayImgs.doubles(new double[] {
+			0, 2, 16, 1e10 }, 4);
+
+		@SuppressWarnings("unchecked")
+		final Img<DoubleType> out = (Img<DoubleType>) ops.run(Ops.Math.Sqrt.class,
+			in);
+
+		final Cursor<DoubleType> cIn = in.cursor();
+		final Cursor<DoubleType> cOut = out.cursor();
+		while (cOut.hasNext()) {
+			assertEquals(Math.sqrt(cIn.next().get()), cOut.next().get(), 0);
+		}
+	}
+
+	@Test
+	public void testExpPlanarImg() {
+		final Img<FloatType> in = PlanarImgs.floats(4, 3, 2);
+		float value = -2;
+		for (final FloatType t : in) {
+			t.set(value);
+			value += 0.25f;
+		}
+		final Img<FloatType> out = PlanarImgs.floats(4, 3, 2);
+
+		ops.run(Ops.Math.Exp.class, out, in);
+
+		final Cursor<FloatType> cIn = in.cursor();
+		final Cursor<FloatType> cOut = out.cursor();
+		while (cOut.hasNext()) {
+			assertEquals((float) Math.exp(cIn.next().get()), cOut.next().get(), 0);
+		}
+	}
+
+	@Test
+	public void testUnaryArrayImgMatchesRealTypeMath() {
+		final Class<?>[][] opTypes = { //
+			{ Ops.Math.Arccosh.class, UnaryRealTypeMath.Arccosh.class }, //
+			{ Ops.Math.Arccot.class, UnaryRealTypeMath.Arccot.class }, //
+			{ Ops.Math.Arccoth.class, UnaryRealTypeMath.Arccoth.class }, //
+			{ Ops.Math.Arccsc.class, UnaryRealTypeMath.Arccsc.class }, //
+			{ Ops.Math.Arccsch.class, UnaryRealTypeMath.Arccsch.class }, //
+			{ Ops.Math.Arcsec.class, UnaryRealTypeMath.Arcsec.class }, //
+			{ Ops.Math.Arcsech.class, UnaryRealTypeMath.Arcsech.class }, //
+			{ Ops.Math.Arcsinh.class, UnaryRealTypeMath.Arcsinh.class }, //
+			{ Ops.Math.Arctanh.class, UnaryRealTypeMath.Arctanh.class }, //
+			{ Ops.Math.Sinc.class, UnaryRealTypeMath.Sinc.class }, //
+			{ Ops.Math.SincPi.class, UnaryRealTypeMath.SincPi.class }, //
+			{ Ops.Math.Step.class, UnaryRealTypeMath.Step.class } };
+		final double[] values = { -3, -1.5, -1, 1, 1.5, 3 };
+
+		for (final Class<?>[] opType : opTypes) {
+			final ArrayImg<DoubleType, DoubleArray> in = ArrayImgs.doubles(values,
+				values.length);
+			@SuppressWarnings("unchecked")
+			final Img<DoubleType> out = (Img<DoubleType>) ops.run(opType[0], in);
+
+			final Cursor<DoubleType> cIn = in.cursor();
+			final Cursor<DoubleType> cOut = out.cursor();
+			while (cOut.hasNext()) {
+				final DoubleType expected = new DoubleType();
+				ops.run(opType[1], expected, cIn.next());
+				assertEquals(opType[0].getSimpleName(), expected.get(), cOut.next()
+					.get(), 1e-12);
+			}
+		}
+	}
+
+}
@@ -33,13 +33,22 @@ package net.imagej.ops.morphology;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import java.util.Random;
+
 import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.morphology.fillHoles.DefaultFillHoles;
+import net.imagej.ops.morphology.fillHoles.ScanlineFillHoles;
+import net.imagej.ops.morphology.floodFill.DefaultFloodFill;
+import net.imagej.ops.morphology.floodFill.ScanlineFloodFill;
 import net.imglib2.Cursor;
+import net.imglib2.Point;
 import net.imglib2.RandomAccess;
 import net.imglib2.RandomAccessibleInterval;
 import net.imglib2.algorithm.labeling.ConnectedComponents.StructuringElement;
 import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgs;
 import net.imglib2.type.logic.BitType;
+import net.imglib2.type.numeric.integer.UnsignedByteType;
 import net.imglib2.type.numeric.real.FloatType;
 
 import org.junit.Before;
@@ -140,4 +149,40 @@ public class MorphologyOpsTest extends AbstractOpTest {
 			assertEquals(r, resultRA.get().get());
 		}
 	}
+
+	@Test
+	public void testScanlineFillHoles() {
+		final Img<BitType> in = ArrayImgs.bits(24, 20, 16);
+		final Random rnd = new Random(0xf111L);
+		for (final BitType b : in) {
+			b.set(rnd.nextDouble() < 0.6);
+		}
+		for (final StructuringElement se : StructuringElement.values()) {
+			final Img<BitType> expected = ArrayImgs.bits(24, 20, 16);
+			ops.run(DefaultFillHoles.class, expected, in, se);
+			final Img<BitType> actual = ArrayImgs.bits(24, 20, 16);
+			ops.run(ScanlineFillHoles.class, actual, in, se);
+			assertIterationsEqual(expected, actual);
+		}
+	}
+
+	@Test
+	public void testScanlineFloodFill() {
+		final Img<UnsignedByteType> in = ArrayImgs.unsignedBytes(40, 30, 5);
+		final Random rnd = new Random(0xf100dL);
+		for (final UnsignedByteType t : in) {
+			t.set(rnd.nextDouble() < 0.7 ? 1 : 2);
+		}
+		final Point seed = new Point(new long[] { 5, 5, 2 });
+		final RandomAccess<UnsignedByteType> ra = in.randomAccess();
+		ra.setPosition(seed);
+		ra.get().set(1);
+		for (final StructuringElement se : StructuringElement.values()) {
+			final Img<UnsignedByteType> expected = ArrayImgs.unsignedBytes(40, 30, 5);
+			ops.run(DefaultFloodFill.class, expected, in, seed, se);
+			final Img<UnsignedByteType> actual = ArrayImgs.unsignedBytes(40, 30, 5);
+			ops.run(ScanlineFloodFill.class, actual, in, seed, se);
+			assertIterationsEqual(expected, actual);
+		}
+	}
 }
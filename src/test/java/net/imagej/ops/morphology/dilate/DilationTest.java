@@ -45,9 +45,11 @@ import net.imglib2.algorithm.neighborhood.HorizontalLineShape;
 import net.imglib2.algorithm.neighborhood.RectangleShape;
 import net.imglib2.algorithm.neighborhood.Shape;
 import net.imglib2.img.Img;
+import net.imglib2.img.array.ArrayImgFactory;
 import net.imglib2.img.array.ArrayImgs;
 import net.imglib2.type.logic.BitType;
 import net.imglib2.type.numeric.integer.ByteType;
+import net.imglib2.type.numeric.integer.Unsigned12BitType;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -143,4 +145,70 @@ public class DilationTest extends AbstractOpTest {
 		while (c1.hasNext())
 			assertEquals(c1.next().get(), c2.next().get());
 	}
+
+	@Test
+	public void testRectangleDilate() {
+		final Img<ByteType> bigIn = generateByteArrayTestImg(true, 40, 30);
+		final Shape[] shapes = { new RectangleShape(4, false),
+			new HorizontalLineShape(3, 1, false) };
+		for (final Shape shape : shapes) {
+			for (final boolean isFull : new boolean[] { false, true }) {
+				@SuppressWarnings("unchecked")
+				final IterableInterval<ByteType> out1 = (IterableInterval<ByteType>) ops
+					.run(RectangleDilate.class, IterableInterval.class, bigIn, shape,
+						isFull);
+				@SuppressWarnings("unchecked")
+				final IterableInterval<ByteType> out2 = (IterableInterval<ByteType>) ops
+					.run(DefaultDilate.class, IterableInterval.class, bigIn, shape,
+						isFull);
+				assertIterationsEqual(out2, out1);
+			}
+		}
+	}
+
+	@Test
+	public void testRectangleDilateBitType() {
+		final Shape shape = new RectangleShape(2, false);
+		@SuppressWarnings("unchecked")
+		final IterableInterval<BitType> out1 = (IterableInterval<BitType>) ops.run(
+			RectangleDilate.class, IterableInterval.class, bitIn, shape, false);
+		@SuppressWarnings("unchecked")
+		final IterableInterval<BitType> out2 = (IterableInterval<BitType>) ops.run(
+			DefaultDilate.class, IterableInterval.class, bitIn, shape, false);
+		assertIterationsEqual(out2, out1);
+	}
+
+	@Test
+	public void testRectangleDilateUnsigned12BitType() {
+		// NB: Pixels of neighboring lines share their storage words.
+		final Img<Unsigned12BitType> packedIn =
+			new ArrayImgFactory<Unsigned12BitType>().create(new long[] { 200, 150 },
+				new Unsigned12BitType());
+		final Random rnd = new Random(0x123456789caffee1L);
+		for (final Unsigned12BitType px : packedIn)
+			px.set(rnd.nextInt(4096));
+		final Shape shape = new RectangleShape(3, false);
+		@SuppressWarnings("unchecked")
+		final IterableInterval<Unsigned12BitType> out1 =
+			(IterableInterval<Unsigned12BitType>) ops.run(RectangleDilate.class,
+				IterableInterval.class, packedIn, shape, false);
+		@SuppressWarnings("unchecked")
+		final IterableInterval<Unsigned12BitType> out2 =
+			(IterableInterval<Unsigned12BitType>) ops.run(DefaultDilate.class,
+				IterableInterval.class, packedIn, shape, false);
+		assertIterationsEqual(out2, out1);
+	}
+
+	@Test
+	public void testListDilateRectangleFirst() {
+		// NB: The shapes after the first one are not rectangular.
+		final List<Shape> shapes = new ArrayList<>();
+		shapes.add(new RectangleShape(2, false));
+		shapes.add(new DiamondShape(1));
+		@SuppressWarnings("unchecked")
+		final IterableInterval<ByteType> out1 = (IterableInterval<ByteType>) ops
+			.run(ListDilate.class, IterableInterval.class, in, shapes, false);
+		final Img<ByteType> out2 = Dilation.dilate(in, shapes, 1);
+		assertIterationsEqual(out2, out1);
+	}
 }
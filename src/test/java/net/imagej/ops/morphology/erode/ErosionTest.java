@@ -134,4 +134,49 @@ public class ErosionTest extends AbstractOpTest {
 			.run(ListErode.class, IterableInterval.class, in, shapes, true);
 		assertIterationsEqual(out1, out2);
 	}
+
+	@Test
+	public void testRectangleErode() {
+		final Img<ByteType> bigIn = generateByteArrayTestImg(true, 40, 30);
+		final Shape[] shapes = { new RectangleShape(4, false),
+			new HorizontalLineShape(3, 1, false) };
+		for (final Shape shape : shapes) {
+			for (final boolean isFull : new boolean[] { false, true }) {
+				@SuppressWarnings("unchecked")
+				final IterableInterval<ByteType> out1 = (IterableInterval<ByteType>) ops
+					.run(RectangleErode.class, IterableInterval.class, bigIn, shape,
+						isFull);
+				@SuppressWarnings("unchecked")
+				final IterableInterval<ByteType> out2 = (IterableInterval<ByteType>) ops
+					.run(DefaultErode.class, IterableInterval.class, bigIn, shape,
+						isFull);
+				assertIterationsEqual(out2, out1);
+			}
+		}
+	}
+
+	@Test
+	public void testRectangleErodeBitType() {
+		final Shape shape = new RectangleShape(2, false);
+		@SuppressWarnings("unchecked")
+		final IterableInterval<BitType> out1 = (IterableInterval<BitType>) ops.run(
+			RectangleErode.class, IterableInterval.class, bitIn, shape, false);
+		@SuppressWarnings("unchecked")
+		final IterableInterval<BitType> out2 = (IterableInterval<BitType>) ops.run(
+			DefaultErode.class, IterableInterval.class, bitIn, shape, false);
+		assertIterationsEqual(out2, out1);
+	}
+
+	@Test
+	public void testListErodeRectangleFirst() {
+		// NB: The shapes after the first one are not rectangular.
+		final List<Shape> shapes = new ArrayList<>();
+		shapes.add(new RectangleShape(2, false));
+		shapes.add(new DiamondShape(1));
+		@SuppressWarnings("unchecked")
+		final IterableInterval<ByteType> out1 = (IterableInterval<ByteType>) ops
+			.run(ListErode.class, IterableInterval.class, in, shapes, true);
+		final Img<ByteType> out2 = Erosion.erodeFull(in, shapes, 1);
+		assertIterationsEqual(out2, out1);
+	}
 }
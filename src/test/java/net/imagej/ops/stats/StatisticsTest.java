@@ -30,7 +30,10 @@
 
 package net.imagej.ops.stats;
 
+import java.util.Arrays;
+
 import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.Ops;
 import net.imglib2.img.Img;
 import net.imglib2.img.array.ArrayImg;
 import net.imglib2.img.array.ArrayImgs;
@@ -257,6 +260,112 @@ public class StatisticsTest extends AbstractOpTest {
 			0.00001d);
 	}
 
+	@Test
+	public void testQuantileBounds() {
+		double min = Double.MAX_VALUE;
+		double max = -Double.MAX_VALUE;
+		for (final UnsignedByteType t : randomlyFilledImg) {
+			min = Math.min(min, t.getRealDouble());
+			max = Math.max(max, t.getRealDouble());
+		}
+		Assert.assertEquals("0-th Quantile", min, ((DoubleType) ops.run(
+			DefaultQuantile.class, randomlyFilledImg, 0d)).getRealDouble(), 0d);
+		Assert.assertEquals("1-th Quantile", max, ((DoubleType) ops.run(
+			DefaultQuantile.class, randomlyFilledImg, 1d)).getRealDouble(), 0d);
+	}
+
+	@Test
+	public void testSummary() {
+		final SummaryStatistics summary = ops.stats().summary(randomlyFilledImg);
+
+		Assert.assertEquals("Size", 10000, summary.getSize());
+		Assert.assertEquals("Mean", ((DoubleType) ops.run(DefaultMean.class,
+			randomlyFilledImg)).getRealDouble(), summary.getMean(), 0.00001d);
+		Assert.assertEquals("Variance", 5438.4780362436, summary.getVariance(),
+			0.00001d);
+		Assert.assertEquals("Moment 2 About Mean", 5437.93418843998, summary
+			.getMoment2AboutMean(), 0.00001d);
+		Assert.assertEquals("Moment 3 About Mean", -507.810691261427, summary
+			.getMoment3AboutMean(), 0.00001d);
+		Assert.assertEquals("Moment 4 About Mean", 53069780.9168701, summary
+			.getMoment4AboutMean(), 0.00001d);
+		Assert.assertEquals("Sum Of Squares", ((DoubleType) ops.run(
+			DefaultSumOfSquares.class, randomlyFilledImg)).getRealDouble(), summary
+				.getSumOfSquares(), 0.00001d);
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void testSummaryOfSmallInputs() {
+		// NB: Chunking does not pay off for small inputs such as neighborhoods.
+		final Img<FloatType> small = ArrayImgs.floats(10, 10);
+		Assert.assertTrue(ops.op(Ops.Stats.Summary.class,
+			small) instanceof DefaultSummary);
+
+		// an instance matched for a large input also serves small ones
+		final IISummary summary = (IISummary) ops.op(Ops.Stats.Summary.class, img);
+		Assert.assertEquals(100, ((SummaryStatistics) summary.calculate(small))
+			.getSize());
+	}
+
+	@Test
+	public void testSummaryMerge() {
+		final SummaryStatistics all = new SummaryStatistics();
+		final SummaryStatistics first = new SummaryStatistics();
+		final SummaryStatistics second = new SummaryStatistics();
+		int i = 0;
+		for (final UnsignedByteType t : randomlyFilledImg) {
+			all.add(t.getRealDouble());
+			(i++ < 3000 ? first : second).add(t.getRealDouble());
+		}
+		first.merge(second);
+
+		Assert.assertEquals(all.getSize(), first.getSize());
+		Assert.assertEquals(all.getMin(), first.getMin(), 0d);
+		Assert.assertEquals(all.getMax(), first.getMax(), 0d);
+		Assert.assertEquals(all.getMean(), first.getMean(), 1e-9);
+		Assert.assertEquals(all.getVariance(), first.getVariance(), 1e-6);
+		Assert.assertEquals(all.getMoment3AboutMean(), first
+			.getMoment3AboutMean(), 1e-6);
+		Assert.assertEquals(all.getMoment4AboutMean(), first
+			.getMoment4AboutMean(), 1e-3);
+	}
+
+	@Test
+	public void testSummaryLogsAndInverses() {
+		final SummaryStatistics moments = new SummaryStatistics();
+		final SummaryStatistics all = new SummaryStatistics(true);
+		for (final double x : new double[] { 1, 2, 4 }) {
+			moments.add(x);
+			all.add(x);
+		}
+
+		Assert.assertTrue(Double.isNaN(moments.getGeometricMean()));
+		Assert.assertTrue(Double.isNaN(moments.getHarmonicMean()));
+		Assert.assertEquals(2, all.getGeometricMean(), 1e-12);
+		Assert.assertEquals(12d / 7, all.getHarmonicMean(), 1e-12);
+	}
+
+	@Test
+	public void testSummaryGeometricMean() {
+		// 1, 2, 4 repeated: large enough to be summarized in chunks
+		final Img<DoubleType> large = ArrayImgs.doubles(3, 4096);
+		int i = 0;
+		for (final DoubleType t : large) {
+			t.set(1 << (i++ % 3));
+		}
+		final Img<DoubleType> small = ArrayImgs.doubles(new double[] { 1, 2, 4 },
+			3);
+
+		for (final Img<DoubleType> in : Arrays.asList(small, large)) {
+			final SummaryStatistics summary = ops.stats().summary(in, true);
+			Assert.assertEquals(2, summary.getGeometricMean(), 1e-9);
+			Assert.assertEquals(12d / 7, summary.getHarmonicMean(), 1e-9);
+			Assert.assertTrue(Double.isNaN(ops.stats().summary(in)
+				.getGeometricMean()));
+		}
+	}
+
 	@Test
 	public void testSkewness() {
 		Assert.assertEquals("Skewness", -0.0012661517853476312, ((DoubleType) ops
@@ -0,0 +1,185 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.thread;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.imagej.ops.AbstractOpTest;
+import net.imagej.ops.OpService;
+import net.imagej.ops.thread.chunker.Chunk;
+import net.imagej.ops.thread.chunker.ChunkerForkJoin;
+
+import org.junit.Test;
+import org.scijava.Context;
+
+/**
+ * Tests {@link ChunkerForkJoin}.
+ */
+public class ChunkerForkJoinTest extends AbstractOpTest {
+
+	@Test
+	public void testAllElementsVisitedOnce() {
+		final int size = 100003;
+		final AtomicIntegerArray visits = new AtomicIntegerArray(size);
+		ops.run(ChunkerForkJoin.class, new Chunk() {
+
+			@Override
+			public void execute(final int startIndex, final int stepSize,
+				final int numSteps)
+			{
+				for (int i = 0; i < numSteps; i++) {
+					visits.incrementAndGet(startIndex + i * stepSize);
+				}
+			}
+		}, size);
+
+		for (int i = 0; i < size; i++) {
+			assertEquals(1, visits.get(i));
+		}
+	}
+
+	@Test
+	public void testGrainSize() {
+		final long size = 1000;
+		final long grainSize = 10;
+		final AtomicLong maxChunk = new AtomicLong();
+		final AtomicLong total = new AtomicLong();
+		ops.thread().chunker(new Chunk() {
+
+			@Override
+			public void execute(final int startIndex, final int stepSize,
+				final int numSteps)
+			{
+				maxChunk.accumulateAndGet(numSteps, Math::max);
+				total.addAndGet(numSteps);
+			}
+		}, size, grainSize);
+
+		assertEquals(size, total.get());
+		assertTrue(maxChunk.get() <= grainSize);
+	}
+
+	@Test
+	public void testFewElementsInParallel() {
+		final Set<Thread> threads = Collections.newSetFromMap(
+			new ConcurrentHashMap<Thread, Boolean>());
+		// NB: Each chunk waits for a second thread to show up.
+		final CountDownLatch latch = new CountDownLatch(2);
+		ops.thread().chunker(new Chunk() {
+
+			@Override
+			public void execute(final int startIndex, final int stepSize,
+				final int numSteps)
+			{
+				if (threads.add(Thread.currentThread())) latch.countDown();
+				try {
+					latch.await(5, TimeUnit.SECONDS);
+				}
+				catch (final InterruptedException exc) {
+					throw new RuntimeException(exc);
+				}
+			}
+		}, 8, 1);
+
+		assertTrue(threads.size() > 1);
+	}
+
+	@Test
+	public void testLongIndices() {
+		// the elements are never touched, only the indices are checked
+		final long size = 3L * Integer.MAX_VALUE;
+		final AtomicLong total = new AtomicLong();
+		final AtomicLong last = new AtomicLong();
+		ops.run(ChunkerForkJoin.class, new Chunk() {
+
+			@Override
+			public void execute(final int startIndex, final int stepSize,
+				final int numSteps)
+			{
+				throw new IllegalStateException("int indices used");
+			}
+
+			@Override
+			public void execute(final long startIndex, final long stepSize,
+				final long numSteps)
+			{
+				total.addAndGet(numSteps);
+				last.accumulateAndGet(startIndex + numSteps - 1, Math::max);
+			}
+		}, size, size / 16);
+
+		assertEquals(size, total.get());
+		assertEquals(size - 1, last.get());
+	}
+
+	@Test
+	public void testContextPool() {
+		final Context context = new Context(OpService.class,
+			ForkJoinService.class);
+		try {
+			final ForkJoinService service = context.getService(
+				ForkJoinService.class);
+			service.setParallelism(2);
+			final Set<ForkJoinPool> pools = Collections.newSetFromMap(
+				new ConcurrentHashMap<ForkJoinPool, Boolean>());
+			context.getService(OpService.class).thread().chunker(new Chunk() {
+
+				@Override
+				public void execute(final int startIndex, final int stepSize,
+					final int numSteps)
+				{
+					final Thread thread = Thread.currentThread();
+					pools.add(thread instanceof ForkJoinWorkerThread
+						? ((ForkJoinWorkerThread) thread).getPool() : ForkJoinPool
+							.commonPool());
+				}
+			}, 1000, 10);
+
+			assertEquals(Collections.singleton(service.getPool()), pools);
+			assertEquals(2, service.getPool().getParallelism());
+		}
+		finally {
+			context.dispose();
+		}
+	}
+
+}
@@ -0,0 +1,119 @@
+/*
+ * #%L
+ * ImageJ software for multidimensional image processing and analysis.
+ * %%
+ * Copyright (C) 2014 - 2016 Board of Regents of the University of
+ * Wisconsin-Madison, University of Konstanz and Brian Northan.
+ * %%
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDERS OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * #L%
+ */
+
+package net.imagej.ops.threshold.apply;
+
+import com.carrotsearch.junitbenchmarks.BenchmarkOptions;
+import com.carrotsearch.junitbenchmarks.BenchmarkRule;
+
+import net.imagej.ops.benchmark.AbstractOpBenchmark;
+import net.imagej.ops.threshold.localMean.LocalMeanThreshold;
+import net.imagej.ops.threshold.localMean.LocalMeanThresholdIntegral;
+import net.imagej.ops.threshold.localNiblack.LocalNiblackThreshold;
+import net.imagej.ops.threshold.localNiblack.LocalNiblackThresholdIntegral;
+import net.imagej.ops.threshold.localSauvola.LocalSauvolaThresholdIntegral;
+import net.imglib2.algorithm.neighborhood.RectangleShape;
+import net.imglib2.img.Img;
+import net.imglib2.outofbounds.OutOfBoundsMirrorFactory;
+import net.imglib2.outofbounds.OutOfBoundsMirrorFactory.Boundary;
+import net.imglib2.type.logic.BitType;
+import net.imglib2.type.numeric.integer.ByteType;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestRule;
+
+/**
+ * Benchmarks the local threshold methods on 2048x2048 images.
+ *
+ * @see LocalThreshold
+ * @see LocalThresholdIntegral
+ */
+@BenchmarkOptions(benchmarkRounds = 10, warmupRounds = 1)
+public class LocalThresholdBenchmarkTest extends AbstractOpBenchmark {
+
+	private Img<ByteType> in;
+	private Img<BitType> out;
+
+	/** Needed for JUnit-Benchmarks */
+	@Rule
+	public TestRule benchmarkRun = new BenchmarkRule();
+
+	/** Sets up test images */
+	@Before
+	public void initImg() throws Exception {
+		in = generateByteArrayTestImg(true, 2048, 2048);
+		out = in.factory().imgFactory(new BitType()).create(in, new BitType());
+	}
+
+	@Test
+	public void localMeanSpan2() {
+		ops.run(LocalMeanThreshold.class, out, in, new RectangleShape(2, false),
+			new OutOfBoundsMirrorFactory<ByteType, Img<ByteType>>(Boundary.SINGLE),
+			0.0);
+	}
+
+	@Test
+	public void localMeanIntegralSpan2() {
+		ops.run(LocalMeanThresholdIntegral.class, out, in, new RectangleShape(2,
+			false), new OutOfBoundsMirrorFactory<ByteType, Img<ByteType>>(
+				Boundary.SINGLE), 0.0);
+	}
+
+	@Test
+	public void localMeanIntegralSpan15() {
+		ops.run(LocalMeanThresholdIntegral.class, out, in, new RectangleShape(15,
+			false), new OutOfBoundsMirrorFactory<ByteType, Img<ByteType>>(
+				Boundary.SINGLE), 0.0);
+	}
+
+	@Test
+	public void localNiblackSpan2() {
+		ops.run(LocalNiblackThreshold.class, out, in, new RectangleShape(2, false),
+			new OutOfBoundsMirrorFactory<ByteType, Img<ByteType>>(Boundary.SINGLE),
+			0.2, 0.0);
+	}
+
+	@Test
+	public void localNiblackIntegralSpan15() {
+		ops.run(LocalNiblackThresholdIntegral.class, out, in, new RectangleShape(15,
+			false), new OutOfBoundsMirrorFactory<ByteType, Img<ByteType>>(
+				Boundary.SINGLE), 0.2, 0.0);
+	}
+
+	@Test
+	public void localSauvolaIntegralSpan15() {
+		ops.run(LocalSauvolaThresholdIntegral.class, out, in, new RectangleShape(15,
+			false), new OutOfBoundsMirrorFactory<ByteType, Img<ByteType>>(
+				Boundary.SINGLE), 0.5, 0.5);
+	}
+
+}
@@ -411,6 +411,31 @@ public class LocalThresholdTest extends AbstractOpTest {
 		testIterableIntervalSimilarity(out2, out3);
 	}
 
+	/**
+	 * Checks that the parallel map over an image large enough to be split into
+	 * several chunks yields the same results for both implementations.
+	 *
+	 * @see LocalMeanThresholdIntegral
+	 * @see LocalMeanThreshold
+	 */
+	@Test
+	public void testLocalMeanResultsConsistencyLarge() throws Exception {
+		final Img<ByteType> large = generateByteArrayTestImg(true, 300, 300);
+		final Img<BitType> out2 = large.factory().imgFactory(new BitType()).create(
+			large, new BitType());
+		final Img<BitType> out3 = large.factory().imgFactory(new BitType()).create(
+			large, new BitType());
+
+		ops.run(LocalMeanThreshold.class, out2, large, new RectangleShape(2, false),
+			new OutOfBoundsMirrorFactory<ByteType, Img<ByteType>>(Boundary.SINGLE),
+			0.0);
+		ops.run(LocalMeanThresholdIntegral.class, out3, large, new RectangleShape(2,
+			false), new OutOfBoundsMirrorFactory<ByteType, Img<ByteType>>(
+				Boundary.SINGLE), 0.0);
+
+		testIterableIntervalSimilarity(out2, out3);
+	}
+
 	/**
 	 * @see LocalMedianThreshold
 	 */